@@ -0,0 +1,91 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.logic.Scorer;
+import upo.yacht.logic.batch.BatchScorer;
+import upo.yacht.logic.batch.RollBatch;
+
+import java.util.concurrent.TimeUnit;
+
+/// Batch scoring with the Vector API against scoring one roll at a time.
+///
+/// The forked JVM is started with `--add-modules jdk.incubator.vector`, so
+/// `BatchScorer` runs its SIMD path; the per-roll `Scorer` loops are the
+/// scalar fallback it would use otherwise. Each invocation scores one full
+/// data set of `Rolls.COUNT` rolls.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchScorerBenchmark {
+    @Param({"uniform", "played", "all"})
+    private String distribution;
+
+    private int[][] rolls;
+    private RollBatch batch;
+    private final int[] scores = new int[Scorer.NUM_CATEGORIES];
+    private final int[] column = new int[Rolls.COUNT];
+    private final int[][] columns = new int[Scorer.NUM_CATEGORIES][Rolls.COUNT];
+
+    @Setup
+    public void setup() {
+        rolls = Rolls.create(distribution, 42);
+        batch = new RollBatch(Rolls.COUNT);
+        for (int r = 0; r < Rolls.COUNT; r++) {
+            batch.setRoll(r, rolls[r]);
+        }
+        if (!BatchScorer.isVectorized()) {
+            throw new IllegalStateException("The Vector API module is not available");
+        }
+    }
+
+    /// Scores the Full House category of the whole batch.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public int[] batchScore() {
+        return BatchScorer.score(6, batch, column);
+    }
+
+    /// Scores the Full House category one roll at a time.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public int[] scalarScore() {
+        for (int r = 0; r < Rolls.COUNT; r++) {
+            column[r] = Scorer.getScore(6, rolls[r]);
+        }
+        return column;
+    }
+
+    /// Scores all 12 categories of the whole batch.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public int[][] batchScoreAll() {
+        return BatchScorer.scoreAll(batch, columns);
+    }
+
+    /// Scores all 12 categories one roll at a time.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public int[][] scalarScoreAll() {
+        for (int r = 0; r < Rolls.COUNT; r++) {
+            Scorer.getAllScores(rolls[r], scores);
+            for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+                columns[c][r] = scores[c];
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,39 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/// Entry point of the benchmark jar.
+///
+/// Accepts the usual JMH command-line options (for example a benchmark
+/// name filter or `-p distribution=all`) and always enables the GC
+/// profiler, so every result reports the allocation rate next to the
+/// throughput (`gc.alloc.rate.norm` is bytes allocated per operation).
+///
+/// ```bash
+/// mvn -Pbench package
+/// java -jar target/benchmarks.jar ScoringRuleBenchmark
+/// ```
+public final class BenchmarkRunner {
+    /// Private constructor to prevent instantiation of this entry point.
+    private BenchmarkRunner() {
+    }
+
+    /// Runs the selected benchmarks with the GC profiler enabled.
+    ///
+    /// @param args JMH command-line options
+    /// @throws RunnerException           if a benchmark fails
+    /// @throws CommandLineOptionException if the options cannot be parsed
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,58 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.Scorer;
+import upo.yacht.logic.solver.CategoryOdds;
+import upo.yacht.model.Scoreboard;
+import upo.yacht.util.ConsoleRenderer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/// Cost of the category odds shown next to a reroll prompt.
+///
+/// `openOdds` is the table lookup of every open category; `renderOdds`
+/// adds drawing them to a `PrintStream` that discards its output.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryOddsBenchmark {
+    private final PrintStream out = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+    private final ConsoleRenderer renderer = new ConsoleRenderer(out, false, true);
+    private final Scoreboard board = new Scoreboard();
+    private final int[] dice = {4, 1, 3, 1, 2};
+    private final double[] odds = new double[Scorer.NUM_CATEGORIES];
+
+    @Setup
+    public void setup() throws YachtGameException {
+        board.registerScore(0, 2);
+        board.registerScore(10, 24);
+    }
+
+    /// Looks up the odds of the open categories.
+    @Benchmark
+    public double[] openOdds() {
+        return CategoryOdds.getOpenOdds(board, dice, 2, odds);
+    }
+
+    /// Looks up and draws the odds of the open categories.
+    @Benchmark
+    public void renderOdds() {
+        renderer.renderOdds(board, dice, 2, -1);
+    }
+}
@@ -0,0 +1,79 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.logic.ChoiceParser;
+import upo.yacht.logic.Scorer;
+
+import java.util.concurrent.TimeUnit;
+
+/// Parsing player choices with `ChoiceParser` against the regular expressions it replaced.
+///
+/// `legacyMask` and `legacyIndex` reproduce the former console parsing:
+/// `split` and `matches` for the reroll choices, `Integer.parseInt` with an
+/// exception for invalid category numbers.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChoiceParserBenchmark {
+    @Param({"0, 2 4", "x"})
+    public String reroll;
+
+    @Param({"7", "seven"})
+    public String category;
+
+    /// Parses the reroll choices in a single pass.
+    @Benchmark
+    public int parserMask() {
+        return ChoiceParser.parseRerollMask(reroll);
+    }
+
+    /// Parses the reroll choices with `split` and `matches`.
+    @Benchmark
+    public int legacyMask() {
+        String[] choices = reroll.toUpperCase().trim().split("[\\s,]+");
+        for (String s : choices) {
+            if (!s.matches("[0-4]") && !s.equals("X")) {
+                return ChoiceParser.INVALID;
+            }
+        }
+        if (choices[0].equals("X")) {
+            return 0;
+        }
+        int rerollMask = 0;
+        for (String s : choices) {
+            if (s.matches("[0-4]")) {
+                rerollMask |= 1 << Integer.parseInt(s);
+            }
+        }
+        return rerollMask;
+    }
+
+    /// Parses the category number in a single pass.
+    @Benchmark
+    public int parserIndex() {
+        return ChoiceParser.parseIndex(category, Scorer.NUM_CATEGORIES);
+    }
+
+    /// Parses the category number with `Integer.parseInt`.
+    @Benchmark
+    public int legacyIndex() {
+        try {
+            int idx = Integer.parseInt(category);
+            return (idx >= 0 && idx < Scorer.NUM_CATEGORIES) ? idx : ChoiceParser.OUT_OF_RANGE;
+        } catch (NumberFormatException e) {
+            return ChoiceParser.INVALID;
+        }
+    }
+}
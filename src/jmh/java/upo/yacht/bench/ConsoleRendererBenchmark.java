@@ -0,0 +1,86 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Scoreboard;
+import upo.yacht.util.ConsoleRenderer;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/// Drawing a scoreboard frame with `ConsoleRenderer` against one `printf` per line.
+///
+/// Both write to a `PrintStream` that discards its output, so the
+/// benchmark measures formatting, encoding and the stream's locking, not
+/// the terminal. `legacyBoard` reproduces the per-line printing the
+/// renderer replaced.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsoleRendererBenchmark {
+    private final PrintStream out = new PrintStream(OutputStream.nullOutputStream(), true, StandardCharsets.UTF_8);
+    private final ConsoleRenderer renderer = new ConsoleRenderer(out, false);
+    private final ConsoleRenderer quiet = new ConsoleRenderer(out, true);
+    private final Scoreboard board = new Scoreboard();
+    private final int[] dice = {3, 3, 5, 5, 5};
+
+    @Setup
+    public void setup() throws YachtGameException {
+        board.registerScore(0, 2);
+        board.registerScore(5, 18);
+        board.registerScore(10, 24);
+    }
+
+    /// Draws the board and the dice with the renderer, one write each.
+    @Benchmark
+    public void rendererBoard() {
+        renderer.renderBoard(board, dice);
+        renderer.renderDice(dice);
+    }
+
+    /// Skips both frames with a quiet renderer.
+    @Benchmark
+    public void quietBoard() {
+        quiet.renderBoard(board, dice);
+        quiet.renderDice(dice);
+    }
+
+    /// Draws the board and the dice with one print per line or value.
+    @Benchmark
+    public void legacyBoard() {
+        out.println("\n|| ========== SCOREBOARD ==========");
+        int[] potential = Scorer.getAllScores(dice, new int[Scorer.NUM_CATEGORIES]);
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            String categoryName = Scorer.getCategoryName(i);
+            if (board.isCategoryUsed(i)) {
+                out.printf("[%2d] %-20s (Points: %3d) : %3d ✓\n", i, categoryName, 0, board.getScore(i));
+            } else {
+                out.printf("[%2d] %-20s (Points: %3d) : ---\n", i, categoryName, potential[i]);
+            }
+        }
+        out.println("|| --------------------------------");
+        out.printf("|| TOTAL                    : %3d\n", board.getTotalScore());
+        out.println("|| ================================\n");
+
+        out.print("\n------------------CURRENT DICE TABLE-------------------\n            ((   ");
+        for (int value : dice) {
+            out.print(value + "    ");
+        }
+        out.println("))\n-------------------------------------------------------");
+    }
+}
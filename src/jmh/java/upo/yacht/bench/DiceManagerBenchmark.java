@@ -0,0 +1,78 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.util.DiceManager;
+import upo.yacht.util.DiceRoll;
+import upo.yacht.util.RandomGenerators;
+
+import java.util.concurrent.TimeUnit;
+
+/// Throughput of rolling and reading the dice of a `DiceManager`.
+///
+/// The `locked` parameter sets how many of the 5 dice are locked before
+/// rolling, from a full first roll (0) to a single rerolled die (4).
+/// `rng` selects the random algorithm and `bulk` whether the unlocked
+/// dice are rolled one draw per die or all from a single draw.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceManagerBenchmark {
+    @Param({"0", "2", "4"})
+    private int locked;
+
+    @Param({"Random", "SplittableRandom", "L64X128MixRandom", "Xoshiro256PlusPlus"})
+    private String rng;
+
+    @Param({"false", "true"})
+    private boolean bulk;
+
+    private DiceManager diceManager;
+    private final int[] values = new int[5];
+
+    @Setup
+    public void setup() {
+        diceManager = new DiceManager(RandomGenerators.create(rng, 42L), bulk);
+        diceManager.unlockAll();
+        for (int i = 0; i < locked; i++) {
+            diceManager.getDie(i).setLocked(true);
+        }
+    }
+
+    /// Rolls every unlocked die.
+    @Benchmark
+    public DiceManager rollAvailableDice() {
+        diceManager.rollAvailableDice();
+        return diceManager;
+    }
+
+    /// Reads the dice into a newly allocated array.
+    @Benchmark
+    public int[] getDiceValues() {
+        return diceManager.getDiceValues();
+    }
+
+    /// Reads the dice into a reused array.
+    @Benchmark
+    public int[] getDiceValuesIntoBuffer() {
+        return diceManager.getDiceValues(values);
+    }
+
+    /// Reads the dice as an interned roll.
+    @Benchmark
+    public DiceRoll getRoll() {
+        return diceManager.getRoll();
+    }
+}
@@ -0,0 +1,93 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameSnapshot;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.model.Player;
+import upo.yacht.util.RandomGenerators;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/// Latency of saving and restoring a game halfway through.
+///
+/// `saveToBuffer` reuses one buffer, the way a server checkpointing many
+/// tables would; `saveToArray` allocates the snapshot. `restore` rebuilds
+/// the engine, its players and the random generator, skipping the draws
+/// already made for the counting generators of the non-legacy algorithms.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameSnapshotBenchmark {
+    @Param({"1", "4", "8"})
+    private int players;
+
+    @Param({"Random", "L64X128MixRandom"})
+    private String rng;
+
+    private GameEngine game;
+    private byte[] snapshot;
+    private final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+    @Setup
+    public void setup() throws YachtGameException {
+        RandomGenerator random = RandomGenerators.create(rng, 42L);
+        Player[] table = new Player[players];
+        for (int i = 0; i < players; i++) {
+            table[i] = new Player("Bot " + (i + 1));
+        }
+        game = new GameEngine(false, table, greedy(random), random, null);
+        for (int turn = 0; turn < GameEngine.NUM_ROUNDS / 2 * players; turn++) {
+            game.playTurn();
+        }
+        snapshot = GameSnapshot.save(game);
+    }
+
+    /// Saves the game into the reused buffer.
+    @Benchmark
+    public int saveToBuffer() {
+        buffer.clear();
+        return GameSnapshot.save(game, buffer);
+    }
+
+    /// Saves the game into a new array.
+    @Benchmark
+    public byte[] saveToArray() {
+        return GameSnapshot.save(game);
+    }
+
+    /// Restores the game from its snapshot.
+    @Benchmark
+    public GameEngine restore() {
+        return GameSnapshot.restore(snapshot, this::greedy, null);
+    }
+
+    /// Creates a greedy strategy for every player.
+    ///
+    /// @param random the random generator of the game
+    /// @return the strategies
+    private PlayerStrategy[] greedy(RandomGenerator random) {
+        PlayerStrategy[] strategies = new PlayerStrategy[players];
+        for (int i = 0; i < players; i++) {
+            strategies[i] = Strategies.create("greedy", random);
+        }
+        return strategies;
+    }
+}
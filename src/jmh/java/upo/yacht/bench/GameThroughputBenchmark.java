@@ -0,0 +1,99 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.model.Player;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// End-to-end throughput of complete headless games.
+///
+/// Every combination of mode, automated strategy and table size is
+/// measured twice:
+/// - `playGame` plays whole games and reports games per second; the GC
+///   profiler's `gc.alloc.rate.norm` is then the bytes allocated per game,
+///   and divided by the 12 turns of each player it is the bytes per turn
+/// - `playTurn` samples single turns and reports the mean and the p50/p99
+///   latency of one turn
+///
+/// `playTurn` starts the next game itself, in the sample following the
+/// last turn of a game: a per-invocation setup would add its timestamps
+/// to every sub-microsecond sample. That sample lands in the tail for a
+/// single player (one in 12), and the game's allocations count towards
+/// the GC profiler's figures for `playTurn`, which is why the bytes per
+/// turn are read from `playGame`.
+///
+/// The strategy tables of the `optimal` players are solved during setup
+/// and are not part of the measurement.
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameThroughputBenchmark {
+    @Param({"classic", "extended"})
+    private String mode;
+
+    @Param({"random", "greedy", "optimal"})
+    private String strategy;
+
+    @Param({"1", "4", "64"})
+    private int players;
+
+    private long nextSeed;
+    private GameEngine turnGame;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        Strategies.create(strategy, new Random(0)); // Solve the tables of optimal players up front
+        nextSeed = 42;
+        turnGame = newGame();
+    }
+
+    /// Plays one complete game.
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public Player[] playGame() throws YachtGameException {
+        return newGame().play();
+    }
+
+    /// Plays one turn of the current game, starting a new game when it is over.
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean playTurn() throws YachtGameException {
+        if (turnGame.isFinished()) {
+            turnGame = newGame();
+        }
+        return turnGame.playTurn();
+    }
+
+    /// Creates a new seeded game with fresh players and strategies.
+    ///
+    /// @return a headless game ready to play
+    private GameEngine newGame() {
+        Random random = new Random(nextSeed++);
+        Player[] table = new Player[players];
+        PlayerStrategy[] strategies = new PlayerStrategy[players];
+        for (int i = 0; i < players; i++) {
+            table[i] = new Player("Bot " + (i + 1));
+            strategies[i] = Strategies.create(strategy, random);
+        }
+        return new GameEngine(mode.equals("extended"), table, strategies, random, null);
+    }
+}
@@ -0,0 +1,98 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.logic.rules.ScoringRule;
+import upo.yacht.util.DiceRoll;
+import upo.yacht.util.RollIndex;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Scoring a user-defined rule directly and through its memoizing decorator.
+///
+/// The rule scores the best two pairs of a roll by sorting a copy of the
+/// dice and trying every pair of positions, a stand-in for a custom
+/// category that is costly to compute. Each invocation scores the next
+/// roll of a fixed sequence of 1024 random rolls.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemoizedRuleBenchmark {
+    private static final int ROLLS = 1024;
+
+    private final ScoringRule twoPairs = new TwoPairs();
+    private final ScoringRule memoized = ScoringRule.memoized(new TwoPairs());
+    private final int[][] dice = new int[ROLLS][];
+    private final DiceRoll[] rolls = new DiceRoll[ROLLS];
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < ROLLS; i++) {
+            dice[i] = random.ints(RollIndex.DICE, 1, RollIndex.FACES + 1).toArray();
+            rolls[i] = DiceRoll.of(dice[i]);
+        }
+    }
+
+    /// Computes the rule on the dice values.
+    @Benchmark
+    public int direct() {
+        return twoPairs.calculate(dice[next++ & (ROLLS - 1)]);
+    }
+
+    /// Looks the dice values up in the cache.
+    @Benchmark
+    public int memoizedValues() {
+        return memoized.calculate(dice[next++ & (ROLLS - 1)]);
+    }
+
+    /// Looks the interned roll up in the cache.
+    @Benchmark
+    public int memoizedRoll() {
+        return memoized.calculate(rolls[next++ & (ROLLS - 1)]);
+    }
+
+    /// Sum of the two highest distinct pairs, or 0 without two pairs.
+    static final class TwoPairs implements ScoringRule {
+        @Override
+        public int calculate(int[] values) {
+            int[] sorted = values.clone();
+            Arrays.sort(sorted);
+            int best = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                for (int j = i + 1; j < sorted.length; j++) {
+                    if (sorted[i] != sorted[j]) {
+                        continue;
+                    }
+                    for (int k = j + 1; k < sorted.length; k++) {
+                        for (int l = k + 1; l < sorted.length; l++) {
+                            if (sorted[k] == sorted[l] && sorted[k] != sorted[i]) {
+                                best = Math.max(best, 2 * (sorted[i] + sorted[k]));
+                            }
+                        }
+                    }
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public String getName() {
+            return "Two Pairs";
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.model.PackedScoreboard;
+import upo.yacht.model.Scoreboard;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Converting scoreboards to and from their packed form, and reading totals.
+///
+/// Each invocation works on the next board of a fixed sequence of 1024
+/// random boards, half filled on average.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedScoreboardBenchmark {
+    private static final int BOARDS = 1024;
+
+    private final Scoreboard[] boards = new Scoreboard[BOARDS];
+    private final PackedScoreboard[] packed = new PackedScoreboard[BOARDS];
+    private int next;
+
+    @Setup
+    public void setup() throws YachtGameException {
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < BOARDS; i++) {
+            boards[i] = new Scoreboard();
+            for (int c = 0; c < 12; c++) {
+                if (random.nextBoolean()) {
+                    boards[i].registerScore(c, random.nextInt(51));
+                }
+            }
+            packed[i] = boards[i].toPacked();
+        }
+    }
+
+    /// Packs a scoreboard.
+    @Benchmark
+    public PackedScoreboard pack() {
+        return boards[next++ & (BOARDS - 1)].toPacked();
+    }
+
+    /// Unpacks a board into a new scoreboard.
+    @Benchmark
+    public Scoreboard unpack() {
+        return packed[next++ & (BOARDS - 1)].toScoreboard();
+    }
+
+    /// Reads the total of a scoreboard.
+    @Benchmark
+    public int totalScore() {
+        return boards[next++ & (BOARDS - 1)].getTotalScore();
+    }
+
+    /// Hashes the two words of a packed board.
+    @Benchmark
+    public int hashPacked() {
+        PackedScoreboard board = packed[next++ & (BOARDS - 1)];
+        return PackedScoreboard.hash(board.getLow(), board.getHigh());
+    }
+}
@@ -0,0 +1,103 @@
+package upo.yacht.bench;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.GreedyStrategy;
+import upo.yacht.model.Player;
+import upo.yacht.util.RollIndex;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/// Input data sets of dice rolls shared by the benchmarks.
+///
+/// Every data set holds exactly `COUNT` rolls so that benchmarks can
+/// declare a fixed number of operations per invocation:
+/// - `uniform`: independent random rolls, as produced by a first roll
+/// - `played`: every roll seen while greedy bots play complete games,
+///   which is skewed towards pairs and n-of-a-kind
+/// - `all`: each of the 7776 ordered rolls exactly once, an adversarial
+///   input that defeats branch prediction and value caching
+final class Rolls {
+    /// Number of rolls in every data set.
+    static final int COUNT = RollIndex.NUM_ROLLS;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private Rolls() {
+    }
+
+    /// Builds a data set by name.
+    ///
+    /// @param distribution `uniform`, `played` or `all`
+    /// @param seed         seed of the random data sets
+    /// @return `COUNT` rolls of 5 dice
+    static int[][] create(String distribution, long seed) {
+        return switch (distribution) {
+            case "uniform" -> uniform(seed);
+            case "played" -> played(seed);
+            case "all" -> all();
+            default -> throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        };
+    }
+
+    /// Builds independent uniformly random rolls.
+    ///
+    /// @param seed the random seed
+    /// @return `COUNT` random rolls
+    private static int[][] uniform(long seed) {
+        Random random = new Random(seed);
+        int[][] rolls = new int[COUNT][RollIndex.DICE];
+        for (int[] roll : rolls) {
+            for (int i = 0; i < roll.length; i++) {
+                roll[i] = random.nextInt(RollIndex.FACES) + 1;
+            }
+        }
+        return rolls;
+    }
+
+    /// Records the rolls seen during greedy games until `COUNT` are collected.
+    ///
+    /// @param seed the random seed of the games
+    /// @return `COUNT` rolls in the order they were seen
+    private static int[][] played(long seed) {
+        int[][] rolls = new int[COUNT][];
+        int[] size = {0};
+        GameEventListener recorder = new GameEventListener() {
+            @Override
+            public void onRoll(Player player, int[] dice, int rollsLeft) {
+                if (size[0] < COUNT) {
+                    rolls[size[0]++] = Arrays.copyOf(dice, dice.length);
+                }
+            }
+        };
+
+        Random random = new Random(seed);
+        while (size[0] < COUNT) {
+            Player[] players = {new Player("Bot")};
+            PlayerStrategy[] strategies = {new GreedyStrategy()};
+            try {
+                new GameEngine(false, players, strategies, random, recorder).play();
+            } catch (YachtGameException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return rolls;
+    }
+
+    /// Builds every ordered roll once, in ordered-index order.
+    ///
+    /// @return all 7776 rolls
+    private static int[][] all() {
+        int[][] rolls = new int[COUNT][RollIndex.DICE];
+        for (int index = 0; index < COUNT; index++) {
+            int rest = index;
+            for (int i = 0; i < RollIndex.DICE; i++) {
+                rolls[index][i] = rest % RollIndex.FACES + 1;
+                rest /= RollIndex.FACES;
+            }
+        }
+        return rolls;
+    }
+}
@@ -0,0 +1,89 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.DiceUtils;
+import upo.yacht.util.RollIndex;
+
+import java.util.concurrent.TimeUnit;
+
+/// Throughput of the all-category scoring and of the roll indexing.
+///
+/// Each invocation processes one full data set of `Rolls.COUNT` rolls.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScorerBenchmark {
+    @Param({"uniform", "played", "all"})
+    private String distribution;
+
+    private int[][] rolls;
+    private final int[] scores = new int[Scorer.NUM_CATEGORIES];
+
+    @Setup
+    public void setup() {
+        rolls = Rolls.create(distribution, 42);
+    }
+
+    /// Scores all 12 categories of a roll into a reused array.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void getAllScores(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(Scorer.getAllScores(roll, scores));
+        }
+    }
+
+    /// Scores all 12 categories with one getScore call each.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void getScoreEveryCategory(Blackhole bh) {
+        for (int[] roll : rolls) {
+            for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+                bh.consume(Scorer.getScore(c, roll));
+            }
+        }
+    }
+
+    /// Maps a roll to its sorted id, the key of every lookup table.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void sortedIdOf(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(RollIndex.sortedIdOf(roll));
+        }
+    }
+
+    /// Builds the frequency array of a roll.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void getDiceFrequency(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(DiceUtils.getDiceFrequency(roll));
+        }
+    }
+
+    /// Sums the values of a roll.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void sumDice(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(DiceUtils.sumDice(roll));
+        }
+    }
+}
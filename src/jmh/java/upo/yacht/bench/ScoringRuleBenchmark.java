@@ -0,0 +1,97 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import upo.yacht.logic.Scorer;
+import upo.yacht.logic.rules.*;
+import upo.yacht.util.DiceUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/// Throughput of every scoring rule, alone and through `Scorer.getScore`.
+///
+/// Each invocation scores one full data set of `Rolls.COUNT` rolls, so the
+/// reported figure is rolls scored per microsecond.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringRuleBenchmark {
+    private static final ScoringRule[] RULES = {
+            new Ones(),
+            new Twos(),
+            new Threes(),
+            new Fours(),
+            new Fives(),
+            new Sixes(),
+            new FullHouse(),
+            new FourOfAKind(),
+            new SmallStraight(),
+            new BigStraight(),
+            new Choice(),
+            new YachtRule()
+    };
+
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11"})
+    private int category;
+
+    @Param({"uniform", "played", "all"})
+    private String distribution;
+
+    private ScoringRule rule;
+    private int[][] rolls;
+    private int[][] frequencies;
+    private int[] sums;
+
+    @Setup
+    public void setup() {
+        rule = RULES[category];
+        rolls = Rolls.create(distribution, 42);
+        frequencies = new int[rolls.length][];
+        sums = new int[rolls.length];
+        for (int i = 0; i < rolls.length; i++) {
+            frequencies[i] = DiceUtils.getDiceFrequency(rolls[i]);
+            sums[i] = DiceUtils.sumDice(rolls[i]);
+        }
+    }
+
+    /// The reference rule, building the frequency array on every call.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void ruleCalculate(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(rule.calculate(roll));
+        }
+    }
+
+    /// The rule on a frequency array that was built beforehand.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void ruleFromFrequency(Blackhole bh) {
+        for (int i = 0; i < frequencies.length; i++) {
+            bh.consume(rule.calculateFromFrequency(frequencies[i], sums[i]));
+        }
+    }
+
+    /// The table-driven scorer used by the game.
+    @Benchmark
+    @OperationsPerInvocation(Rolls.COUNT)
+    public void scorerGetScore(Blackhole bh) {
+        for (int[] roll : rolls) {
+            bh.consume(Scorer.getScore(category, roll));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.logic.solver.ClassicSolver;
+import upo.yacht.logic.solver.ClassicStrategyTable;
+import upo.yacht.logic.solver.Tablebase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Opening the Classic tablebase, and optimal decisions from it versus the solved table.
+///
+/// The tablebase is built once into a temporary file. Each decision works
+/// on the next state of a fixed sequence of 1024 random open subsets and
+/// uniform rolls, with two rolls left for the rerolls.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TablebaseBenchmark {
+    private static final int STATES = 1024;
+
+    private final int[] masks = new int[STATES];
+    private final int[][] rolls = Rolls.create("uniform", 42);
+    private Path file;
+    private Tablebase tablebase;
+    private ClassicStrategyTable table;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        int threads = Runtime.getRuntime().availableProcessors();
+        file = Files.createTempFile("classic", ".ytb");
+        Tablebase.build(file, threads);
+        tablebase = Tablebase.open(file);
+        table = ClassicSolver.solve(threads);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < STATES; i++) {
+            masks[i] = random.nextInt(ClassicSolver.FULL_MASK);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /// Maps the tablebase file and checks its header.
+    ///
+    /// Measured one call at a time: a mapping is only released when it is
+    /// garbage collected, so opening in a tight loop would exhaust them.
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public Tablebase open() throws IOException {
+        return Tablebase.open(file);
+    }
+
+    /// Finds the best reroll with the solved table, evaluating every keep of the roll.
+    @Benchmark
+    public int solvedReroll() {
+        int i = next++ & (STATES - 1);
+        return table.bestRerollMask(masks[i], rolls[i], 2);
+    }
+
+    /// Finds the best reroll with a lookup in the tablebase.
+    @Benchmark
+    public int tablebaseReroll() {
+        int i = next++ & (STATES - 1);
+        return tablebase.bestRerollMask(masks[i], rolls[i], 2);
+    }
+
+    /// Finds the best category with the solved table.
+    @Benchmark
+    public int solvedCategory() {
+        int i = next++ & (STATES - 1);
+        return table.bestCategory(masks[i], rolls[i]);
+    }
+
+    /// Finds the best category with a lookup in the tablebase.
+    @Benchmark
+    public int tablebaseCategory() {
+        int i = next++ & (STATES - 1);
+        return tablebase.bestCategory(masks[i], rolls[i]);
+    }
+}
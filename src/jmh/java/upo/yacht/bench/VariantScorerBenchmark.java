@@ -0,0 +1,70 @@
+package upo.yacht.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import upo.yacht.logic.Scorer;
+import upo.yacht.variant.Variant;
+import upo.yacht.variant.VariantScorer;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/// Scoring every category of a roll with the built-in game and with a variant.
+///
+/// `builtIn` scores through the `Scorer` of the built-in game; `variant`
+/// through the compiled tables of the selected variant. Each invocation
+/// scores the next roll of a fixed sequence of 1024 random rolls of the
+/// dice of the variant.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantScorerBenchmark {
+    private static final int ROLLS = 1024;
+
+    @Param({"yacht", "yahtzee", "maxi"})
+    public String variantName;
+
+    private final int[][] dice = new int[ROLLS][];
+    private final int[][] classicDice = new int[ROLLS][];
+    private final int[] builtInScores = new int[Scorer.NUM_CATEGORIES];
+    private VariantScorer scorer;
+    private int[] variantScores;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        Variant variant = Variant.forName(variantName);
+        scorer = variant.getScorer();
+        variantScores = new int[variant.getNumCategories()];
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < ROLLS; i++) {
+            dice[i] = random.ints(variant.getDice(), 1, variant.getFaces() + 1).toArray();
+            classicDice[i] = random.ints(5, 1, 7).toArray();
+        }
+    }
+
+    /// Scores a 5-dice roll with the built-in game.
+    @Benchmark
+    public int[] builtIn() {
+        return Scorer.getAllScores(classicDice[next++ & (ROLLS - 1)], builtInScores);
+    }
+
+    /// Scores a roll of the variant with its compiled tables.
+    @Benchmark
+    public int[] variant() {
+        return scorer.getScores(dice[next++ & (ROLLS - 1)], variantScores);
+    }
+}
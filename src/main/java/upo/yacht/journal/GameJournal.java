@@ -0,0 +1,156 @@
+package upo.yacht.journal;
+
+import upo.yacht.logic.GameEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/// Append-only binary journal of complete games.
+///
+/// Each game is recorded by its own listener from `newGame()`, which keeps
+/// the events of the game in memory and appends them in one piece when the
+/// game ends. Games played on different threads can therefore share one
+/// journal: their records never interleave, and a crash loses at most the
+/// games still in progress and the last unflushed batch.
+///
+/// Appended games are gathered in a direct buffer and written to the
+/// `FileChannel` when it is full, on `flush()` and on `close()`. The format
+/// is described in `JournalFormat`; `JournalReplayer` reads it back.
+public class GameJournal implements Closeable {
+    private static final int BATCH_SIZE = 256 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private long games;
+
+    /// Opens a journal for appending, creating it if it does not exist.
+    ///
+    /// A game left incomplete at the end of an existing journal, for example
+    /// by a crash in the middle of a write, is cut off first.
+    ///
+    /// @param path the journal file
+    /// @throws IOException if the file cannot be opened or is not a journal
+    public GameJournal(Path path) throws IOException {
+        Path parentDir = path.toAbsolutePath().getParent();
+        if (parentDir != null) {
+            Files.createDirectories(parentDir);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.batch = ByteBuffer.allocateDirect(BATCH_SIZE);
+        try {
+            if (channel.size() == 0) {
+                batch.putInt(JournalFormat.MAGIC).put(JournalFormat.VERSION);
+            } else {
+                JournalReplayer.checkHeader(channel, path);
+                channel.truncate(endOfCompleteGames(channel));
+            }
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /// Creates the listener recording one game.
+    ///
+    /// Pass it to the `GameEngine` of the game; it appends the game to this
+    /// journal when the game ends. A listener records a single game.
+    ///
+    /// @return a new recording listener
+    public GameEventListener newGame() {
+        return new JournalRecorder(this);
+    }
+
+    /// Returns the number of games appended since the journal was opened.
+    ///
+    /// @return the number of recorded games
+    public synchronized long getGames() {
+        return games;
+    }
+
+    /// Appends the records of one complete game.
+    ///
+    /// @param records the encoded records
+    /// @param length  the number of bytes to append
+    /// @throws UncheckedIOException if writing to the file fails
+    synchronized void append(byte[] records, int length) {
+        try {
+            if (batch.remaining() < JournalFormat.FRAME_HEADER_SIZE) {
+                writeBatch();
+            }
+            batch.putInt(length);
+            int offset = 0;
+            while (offset < length) {
+                if (!batch.hasRemaining()) {
+                    writeBatch();
+                }
+                int chunk = Math.min(batch.remaining(), length - offset);
+                batch.put(records, offset, chunk);
+                offset += chunk;
+            }
+            games++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Writes every appended game to the file.
+    ///
+    /// @throws IOException if writing fails
+    public synchronized void flush() throws IOException {
+        writeBatch();
+    }
+
+    /// Flushes the appended games and closes the file.
+    ///
+    /// @throws IOException if writing fails
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writeBatch();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /// Finds the end of the last complete game by walking the game frames.
+    ///
+    /// @param channel the open journal, after a valid header
+    /// @return the file offset just after the last complete game
+    /// @throws IOException if reading fails
+    private static long endOfCompleteGames(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long position = JournalFormat.HEADER_SIZE;
+        ByteBuffer frameHeader = ByteBuffer.allocate(JournalFormat.FRAME_HEADER_SIZE);
+        while (position + JournalFormat.FRAME_HEADER_SIZE <= size) {
+            frameHeader.clear();
+            while (frameHeader.hasRemaining()) {
+                channel.read(frameHeader, position + frameHeader.position());
+            }
+            long next = position + JournalFormat.FRAME_HEADER_SIZE + frameHeader.getInt(0);
+            if (next > size || next <= position + JournalFormat.FRAME_HEADER_SIZE) {
+                break;
+            }
+            position = next;
+        }
+        return position;
+    }
+
+    /// Writes the batch buffer to the channel and empties it.
+    ///
+    /// @throws IOException if writing fails
+    private void writeBatch() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,42 @@
+package upo.yacht.journal;
+
+/// Constants of the binary journal format.
+///
+/// A journal starts with a 5-byte header, the magic number `YJNL` and the
+/// format version, followed by one frame per complete game: the length of
+/// the game's records (4 bytes) and the records themselves, from
+/// `GAME_START` to `GAME_END`. The length lets readers detect a game that
+/// was only partly written. Every record is a one-byte tag and a fixed
+/// payload, big-endian:
+///
+/// | Tag | Record       | Payload                                                        |
+/// |-----|--------------|----------------------------------------------------------------|
+/// | 1   | `GAME_START` | flags (1 = Extended), player count (2), then per player in turn order a name length (2) and its UTF-8 bytes |
+/// | 2   | `TURN`       | seat of the player in turn order (2)                           |
+/// | 3   | `ROLL`       | ordered index of the dice (2), see `RollIndex.orderedIndex`    |
+/// | 4   | `REROLL`     | reroll mask (1); 0 keeps the dice                              |
+/// | 5   | `SCORE`      | category (1), with bit 7 set if forced, and points (2)         |
+/// | 6   | `GAME_END`   | none                                                           |
+///
+/// A typical turn takes about 12 bytes. This class is final and cannot be
+/// instantiated.
+final class JournalFormat {
+    static final int MAGIC = 0x594A4E4C; // "YJNL"
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 5;
+    static final int FRAME_HEADER_SIZE = 4;
+
+    static final byte GAME_START = 1;
+    static final byte TURN = 2;
+    static final byte ROLL = 3;
+    static final byte REROLL = 4;
+    static final byte SCORE = 5;
+    static final byte GAME_END = 6;
+
+    static final int FLAG_EXTENDED = 1;
+    static final int FORCED_BIT = 0x80;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private JournalFormat() {
+    }
+}
@@ -0,0 +1,115 @@
+package upo.yacht.journal;
+
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.model.Player;
+import upo.yacht.util.RollIndex;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/// Listener encoding the events of one game for a `GameJournal`.
+///
+/// Players are recorded by their seat in turn order. The records are
+/// built in a growable byte array and handed to the journal in one call
+/// when the game ends.
+class JournalRecorder implements GameEventListener {
+    private final GameJournal journal;
+    private byte[] records = new byte[1024];
+    private int length;
+    private Player[] seats;
+
+    /// Creates a recorder appending to the given journal.
+    ///
+    /// @param journal the journal receiving the finished game
+    JournalRecorder(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public void onGameStart(Player[] turnOrder, boolean isExtended) {
+        seats = turnOrder.clone();
+        putByte(JournalFormat.GAME_START);
+        putByte(isExtended ? JournalFormat.FLAG_EXTENDED : 0);
+        putShort(turnOrder.length);
+        for (Player player : turnOrder) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            int nameLength = Math.min(name.length, 0xFFFF);
+            putShort(nameLength);
+            ensure(nameLength);
+            System.arraycopy(name, 0, records, length, nameLength);
+            length += nameLength;
+        }
+    }
+
+    @Override
+    public void onTurnStart(Player player, int round) {
+        putByte(JournalFormat.TURN);
+        putShort(seatOf(player));
+    }
+
+    @Override
+    public void onRoll(Player player, int[] dice, int rollsLeft) {
+        putByte(JournalFormat.ROLL);
+        putShort(RollIndex.orderedIndex(dice));
+    }
+
+    @Override
+    public void onReroll(Player player, int rerollMask) {
+        putByte(JournalFormat.REROLL);
+        putByte(rerollMask);
+    }
+
+    @Override
+    public void onScore(Player player, int round, int categoryIndex, int points, boolean forced) {
+        putByte(JournalFormat.SCORE);
+        putByte(forced ? categoryIndex | JournalFormat.FORCED_BIT : categoryIndex);
+        putShort(points);
+    }
+
+    @Override
+    public void onGameEnd(Player[] ranking) {
+        putByte(JournalFormat.GAME_END);
+        journal.append(records, length);
+        length = 0;
+    }
+
+    /// Returns the seat of a player in turn order.
+    ///
+    /// @param player the player
+    /// @return the seat index
+    /// @throws IllegalStateException if the player is not part of the game
+    private int seatOf(Player player) {
+        for (int i = 0; i < seats.length; i++) {
+            if (seats[i] == player) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown player: " + player.getName());
+    }
+
+    /// Appends one byte.
+    ///
+    /// @param value the byte to append (low 8 bits)
+    private void putByte(int value) {
+        ensure(1);
+        records[length++] = (byte) value;
+    }
+
+    /// Appends two bytes, big-endian.
+    ///
+    /// @param value the value to append (low 16 bits)
+    private void putShort(int value) {
+        ensure(2);
+        records[length++] = (byte) (value >>> 8);
+        records[length++] = (byte) value;
+    }
+
+    /// Grows the record array so that it can take more bytes.
+    ///
+    /// @param extra the number of bytes about to be appended
+    private void ensure(int extra) {
+        if (length + extra > records.length) {
+            records = Arrays.copyOf(records, Math.max(length + extra, records.length * 2));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package upo.yacht.journal;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+import upo.yacht.util.RollIndex;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/// Reads a journal written by `GameJournal` and rebuilds its games.
+///
+/// The replay does not run the games again: it decodes the recorded
+/// events and applies every score to a fresh `Scoreboard`. Along the way
+/// it audits the journal, checking that kept dice never change between
+/// rolls, that every score matches the rules for the last roll, and that
+/// no category is filled twice. A violation stops the replay with a
+/// `StreamCorruptedException` giving the offset of the bad record.
+///
+/// The file is read through a large direct buffer in one sequential
+/// pass, so the cost per event is a few bytes of decoding.
+public class JournalReplayer {
+    private static final int READ_SIZE = 1024 * 1024;
+
+    private final Path path;
+    private long games;
+    private long events;
+
+    /// Creates a replayer for the given journal.
+    ///
+    /// @param path the journal file
+    public JournalReplayer(Path path) {
+        this.path = path;
+    }
+
+    /// Returns the number of games replayed by the last `replay` call.
+    ///
+    /// @return the number of complete games
+    public long getGames() {
+        return games;
+    }
+
+    /// Returns the number of events replayed by the last `replay` call.
+    ///
+    /// @return the number of records, including game starts and ends
+    public long getEvents() {
+        return events;
+    }
+
+    /// Replays every complete game of the journal.
+    ///
+    /// A game frame cut short at the end of the file, such as one whose
+    /// batch was only partly written before a crash, is ignored.
+    ///
+    /// @param consumer receives each game once its last record has been read
+    /// @throws IOException if the file cannot be read or fails the audit
+    public void replay(Consumer<ReplayedGame> consumer) throws IOException {
+        games = 0;
+        events = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            checkHeader(channel, path);
+            new Decoder(channel, consumer).run();
+        }
+    }
+
+    /// Checks that a file starts with a journal header of a supported version.
+    ///
+    /// Leaves the channel positioned after the header.
+    ///
+    /// @param channel the open file
+    /// @param path    the file path, for error messages
+    /// @throws IOException if the header is missing or unsupported
+    static void checkHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(JournalFormat.HEADER_SIZE);
+        channel.position(0);
+        while (header.hasRemaining() && channel.read(header) >= 0) {
+            // Keep reading until the header is complete or the file ends
+        }
+        header.flip();
+        if (header.remaining() < JournalFormat.HEADER_SIZE || header.getInt() != JournalFormat.MAGIC) {
+            throw new StreamCorruptedException(path + " is not a game journal");
+        }
+        byte version = header.get();
+        if (version != JournalFormat.VERSION) {
+            throw new StreamCorruptedException("Unsupported journal version " + version + " in " + path);
+        }
+    }
+
+    /// Single pass over the game frames of one journal.
+    private class Decoder {
+        private final FileChannel channel;
+        private final Consumer<ReplayedGame> consumer;
+        private final long fileSize;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(READ_SIZE);
+        private final int[] dice = new int[RollIndex.DICE];
+        private long bufferOffset = JournalFormat.HEADER_SIZE;
+
+        private Player[] players;
+        private boolean isExtended;
+        private int seat;
+        private boolean rolled;
+        private int pendingReroll;
+
+        /// Creates a decoder reading from the current position of the channel.
+        ///
+        /// @param channel  the open journal, positioned after the header
+        /// @param consumer receives each replayed game
+        /// @throws IOException if the file size cannot be read
+        Decoder(FileChannel channel, Consumer<ReplayedGame> consumer) throws IOException {
+            this.channel = channel;
+            this.consumer = consumer;
+            this.fileSize = channel.size();
+            buffer.limit(0);
+        }
+
+        /// Decodes every complete game frame.
+        ///
+        /// @throws IOException if reading fails or a record fails the audit
+        void run() throws IOException {
+            while (ensure(JournalFormat.FRAME_HEADER_SIZE)) {
+                long frameStart = offset();
+                int length = buffer.getInt();
+                long frameEnd = frameStart + JournalFormat.FRAME_HEADER_SIZE + length;
+                if (length <= 0 || frameEnd > fileSize) {
+                    return; // The last game was only partly written
+                }
+                readGame(frameEnd);
+            }
+        }
+
+        /// Decodes the records of one game frame.
+        ///
+        /// @param frameEnd the file offset just after the frame
+        /// @throws IOException if reading fails or a record fails the audit
+        private void readGame(long frameEnd) throws IOException {
+            require(1);
+            if (buffer.get() != JournalFormat.GAME_START) {
+                throw corrupt(offset() - 1, "game frame without a game start");
+            }
+            readGameStart();
+            events++;
+            while (players != null) {
+                long offset = offset();
+                if (offset >= frameEnd) {
+                    throw corrupt(offset, "game frame ends before the end of the game");
+                }
+                require(1);
+                byte tag = buffer.get();
+                switch (tag) {
+                    case JournalFormat.TURN -> readTurn(offset);
+                    case JournalFormat.ROLL -> readRoll(offset);
+                    case JournalFormat.REROLL -> readReroll(offset);
+                    case JournalFormat.SCORE -> readScore(offset);
+                    case JournalFormat.GAME_END -> readGameEnd(offset);
+                    default -> throw corrupt(offset, "unexpected record tag " + tag);
+                }
+                events++;
+            }
+            if (offset() != frameEnd) {
+                throw corrupt(offset(), "game frame continues after the end of the game");
+            }
+        }
+
+        private void readGameStart() throws IOException {
+            require(3);
+            isExtended = (buffer.get() & JournalFormat.FLAG_EXTENDED) != 0;
+            int count = buffer.getShort() & 0xFFFF;
+            if (count == 0) {
+                throw corrupt(offset() - 3, "game without players");
+            }
+            players = new Player[count];
+            for (int i = 0; i < count; i++) {
+                require(2);
+                int nameLength = buffer.getShort() & 0xFFFF;
+                require(nameLength);
+                byte[] name = new byte[nameLength];
+                buffer.get(name);
+                players[i] = new Player(new String(name, StandardCharsets.UTF_8));
+            }
+            seat = -1;
+        }
+
+        private void readTurn(long offset) throws IOException {
+            require(2);
+            int next = buffer.getShort() & 0xFFFF;
+            if (seat >= 0 || next >= players.length) {
+                throw corrupt(offset, "unexpected turn of seat " + next);
+            }
+            seat = next;
+            rolled = false;
+            pendingReroll = -1;
+        }
+
+        private void readRoll(long offset) throws IOException {
+            require(2);
+            int orderedIndex = buffer.getShort() & 0xFFFF;
+            if (seat < 0 || (rolled && pendingReroll <= 0) || orderedIndex >= RollIndex.NUM_ROLLS) {
+                throw corrupt(offset, "unexpected roll");
+            }
+            for (int i = 0; i < RollIndex.DICE; i++) {
+                int value = orderedIndex % RollIndex.FACES + 1;
+                orderedIndex /= RollIndex.FACES;
+                if (rolled && (pendingReroll & (1 << i)) == 0 && dice[i] != value) {
+                    throw corrupt(offset, "kept die " + i + " changed from " + dice[i] + " to " + value);
+                }
+                dice[i] = value;
+            }
+            rolled = true;
+            pendingReroll = -1;
+        }
+
+        private void readReroll(long offset) throws IOException {
+            require(1);
+            int mask = buffer.get();
+            if (!rolled || pendingReroll >= 0 || mask < 0 || mask > 31) {
+                throw corrupt(offset, "unexpected reroll");
+            }
+            pendingReroll = mask;
+        }
+
+        private void readScore(long offset) throws IOException {
+            require(3);
+            int category = buffer.get() & ~JournalFormat.FORCED_BIT & 0xFF;
+            int points = buffer.getShort() & 0xFFFF;
+            if (!rolled || pendingReroll > 0 || category >= Scorer.NUM_CATEGORIES) {
+                throw corrupt(offset, "unexpected score");
+            }
+            int expected = Scorer.getScore(category, dice);
+            if (points != expected) {
+                throw corrupt(offset, "score of " + points + " in " + Scorer.getCategoryName(category) +
+                        " should be " + expected);
+            }
+            try {
+                players[seat].getScoreboard().registerScore(category, points);
+            } catch (YachtGameException e) {
+                throw corrupt(offset, e.getMessage());
+            }
+            seat = -1;
+        }
+
+        private void readGameEnd(long offset) throws IOException {
+            if (seat >= 0) {
+                throw corrupt(offset, "game ended in the middle of a turn");
+            }
+            consumer.accept(new ReplayedGame(games++, isExtended, players));
+            players = null;
+        }
+
+        /// Returns the file offset of the next byte to decode.
+        ///
+        /// @return the current offset in the file
+        private long offset() {
+            return bufferOffset + buffer.position();
+        }
+
+        /// Makes sure the buffer holds the given number of bytes of a game frame.
+        ///
+        /// @param bytes the number of bytes needed
+        /// @throws IOException if reading fails or the frame is shorter than its records
+        private void require(int bytes) throws IOException {
+            if (!ensure(bytes)) {
+                throw corrupt(offset(), "record cut short");
+            }
+        }
+
+        /// Makes sure the buffer holds at least the given number of bytes.
+        ///
+        /// @param bytes the number of bytes needed
+        /// @return false if the file ends before that many bytes
+        /// @throws IOException if reading fails
+        private boolean ensure(int bytes) throws IOException {
+            while (buffer.remaining() < bytes) {
+                bufferOffset += buffer.position();
+                buffer.compact();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read < 0) {
+                    return buffer.remaining() >= bytes;
+                }
+            }
+            return true;
+        }
+
+        /// Creates the exception reporting a record that fails the audit.
+        ///
+        /// @param offset the file offset of the record
+        /// @param reason what is wrong with it
+        /// @return the exception to throw
+        private StreamCorruptedException corrupt(long offset, String reason) {
+            return new StreamCorruptedException("Corrupt journal " + path + " at offset " + offset + ": " + reason);
+        }
+    }
+}
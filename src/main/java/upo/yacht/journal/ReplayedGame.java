@@ -0,0 +1,45 @@
+package upo.yacht.journal;
+
+import upo.yacht.model.Player;
+
+/// A game reconstructed from a journal by the `JournalReplayer`.
+///
+/// The players hold the final scoreboards rebuilt from the recorded
+/// scores, in turn order.
+public class ReplayedGame {
+    private final long index;
+    private final boolean isExtended;
+    private final Player[] players;
+
+    /// Creates a replayed game.
+    ///
+    /// @param index      position of the game in the journal, starting at 0
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param players    the players in turn order, with their final scoreboards
+    ReplayedGame(long index, boolean isExtended, Player[] players) {
+        this.index = index;
+        this.isExtended = isExtended;
+        this.players = players;
+    }
+
+    /// Returns the position of the game in the journal.
+    ///
+    /// @return the game index, starting at 0
+    public long getIndex() {
+        return index;
+    }
+
+    /// Returns whether the game was played in Extended mode.
+    ///
+    /// @return true for Extended mode, false for Classic mode
+    public boolean isExtended() {
+        return isExtended;
+    }
+
+    /// Returns the players with their final scoreboards.
+    ///
+    /// @return a copy of the players array, in turn order
+    public Player[] getPlayers() {
+        return players.clone();
+    }
+}
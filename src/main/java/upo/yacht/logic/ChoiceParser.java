@@ -0,0 +1,152 @@
+package upo.yacht.logic;
+
+/// Single-pass parsers for the choices typed by players.
+///
+/// Each parser walks the input once, character by character, and returns
+/// the reroll mask or category index directly: no regular expressions, no
+/// intermediate strings or arrays, and no exceptions for invalid input.
+/// Invalid input is reported with negative codes, so callers keep full
+/// control of their error messages. This class is final and cannot be
+/// instantiated.
+public final class ChoiceParser {
+    /// Code returned for input made only of whitespace.
+    public static final int BLANK = -1;
+    /// Code returned for input that is not a valid choice.
+    public static final int INVALID = -2;
+    /// Code returned for a number outside the allowed range.
+    public static final int OUT_OF_RANGE = -3;
+
+    private static final int DICE = 5;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private ChoiceParser() {
+    }
+
+    /// Parses the dice a player wants to reroll.
+    ///
+    /// The input lists die numbers from 0 to 4, separated by whitespace or
+    /// commas, or `X` (in either case) to keep the current values. Leading
+    /// and trailing whitespace and trailing separators are ignored. When the
+    /// first choice is `X` the dice are kept, whatever follows; otherwise
+    /// every listed die is rerolled and any `X` is ignored.
+    ///
+    /// @param input the line typed by the player
+    /// @return the reroll mask (bit i set means die i is rerolled; 0 keeps the dice),
+    ///         `BLANK` if the line is blank, or `INVALID` if a choice is not 0-4 or X
+    public static int parseRerollMask(CharSequence input) {
+        return parseRerollMask(input, DICE);
+    }
+
+    /// Parses the dice a player wants to reroll, for a game with any number of dice.
+    ///
+    /// Accepts the same input as `parseRerollMask(CharSequence)`, with die
+    /// numbers from 0 to `dice - 1`.
+    ///
+    /// @param input the line typed by the player
+    /// @param dice  the number of dice (1-10)
+    /// @return the reroll mask, `BLANK` if the line is blank, or `INVALID`
+    ///         if a choice is not a die number or X
+    public static int parseRerollMask(CharSequence input, int dice) {
+        int start = 0;
+        int end = input.length();
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return BLANK;
+        }
+
+        int rerollMask = 0;
+        boolean keep = false;
+        int choices = 0;
+        int i = start;
+        while (i < end) {
+            char c = input.charAt(i);
+            if (isSeparator(c)) {
+                if (choices == 0) {
+                    return INVALID; // An empty first choice, as in ",1"
+                }
+                i++;
+                continue;
+            }
+            // A choice is exactly one character followed by a separator or the end
+            if (i + 1 < end && !isSeparator(input.charAt(i + 1))) {
+                return INVALID;
+            }
+            if (c >= '0' && c < '0' + dice) {
+                rerollMask |= 1 << (c - '0');
+            } else if (c == 'x' || c == 'X') {
+                keep |= choices == 0;
+            } else {
+                return INVALID;
+            }
+            choices++;
+            i++;
+        }
+        return keep ? 0 : rerollMask;
+    }
+
+    /// Parses an index typed by a player, such as a category.
+    ///
+    /// Accepts the same text as `Integer.parseInt`: an optional sign
+    /// followed by decimal digits, with no surrounding whitespace.
+    ///
+    /// @param input the text typed by the player
+    /// @param limit the exclusive upper bound of the index
+    /// @return the index (0 to limit - 1), `OUT_OF_RANGE` for any other `int`,
+    ///         or `INVALID` if the text is not an `int`
+    public static int parseIndex(CharSequence input, int limit) {
+        int length = input.length();
+        if (length == 0) {
+            return INVALID;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+            if (length == 1) {
+                return INVALID;
+            }
+        }
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+            if (digit < 0) {
+                return INVALID;
+            }
+            value = value * 10 + digit;
+            if (value > -(long) Integer.MIN_VALUE) {
+                return INVALID; // Overflows an int
+            }
+        }
+        if (negative) {
+            return (value == 0) ? checkRange(0, limit) : OUT_OF_RANGE;
+        }
+        if (value > Integer.MAX_VALUE) {
+            return INVALID;
+        }
+        return checkRange((int) value, limit);
+    }
+
+    /// Checks that a parsed index is within bounds.
+    ///
+    /// @param value the parsed index, non-negative
+    /// @param limit the exclusive upper bound
+    /// @return the index, or `OUT_OF_RANGE`
+    private static int checkRange(int value, int limit) {
+        return (value < limit) ? value : OUT_OF_RANGE;
+    }
+
+    /// Returns whether a character separates two reroll choices.
+    ///
+    /// @param c the character
+    /// @return true for a comma or a whitespace character of regular expressions (`\s`)
+    private static boolean isSeparator(char c) {
+        return c == ',' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,52 @@
+package upo.yacht.logic;
+
+import upo.yacht.model.Player;
+import upo.yacht.util.ConsoleRenderer;
+
+/// Listener that prints the progress of a game to the console.
+///
+/// Used by the interactive `GameEngine` to show round headers, the dice
+/// table after every roll and the points registered at the end of a turn.
+/// Everything is drawn by a `ConsoleRenderer`, so a quiet renderer
+/// silences the listener.
+class ConsoleGameListener implements GameEventListener {
+    private final ConsoleRenderer renderer;
+
+    /// Creates a console listener drawing with the given renderer.
+    ///
+    /// @param renderer the renderer of the dice table and messages
+    ConsoleGameListener(ConsoleRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    @Override
+    public void onGameStart(Player[] turnOrder, boolean isExtended) {
+        renderer.renderLine("\n--- The players were shuffled !! ---");
+    }
+
+    @Override
+    public void onRoundStart(int round) {
+        renderer.renderLine("\n=== ROUND " + (round + 1) + " ===");
+    }
+
+    @Override
+    public void onTurnStart(Player player, int round) {
+        renderer.renderLine("\nIt is: " + player.getName() + " turn.");
+    }
+
+    @Override
+    public void onRoll(Player player, int[] dice, int rollsLeft) {
+        renderer.renderDice(dice);
+    }
+
+    @Override
+    public void onScore(Player player, int round, int categoryIndex, int points, boolean forced) {
+        if (forced) {
+            renderer.renderLine("Downward Phase: Scoring automatically in category " + categoryIndex);
+        }
+        if (points == 0) {
+            renderer.renderLine("ATTENTION: These dice scored 0 in " + Scorer.getCategoryName(categoryIndex));
+        }
+        renderer.renderLine("Points registered: " + points);
+    }
+}
@@ -0,0 +1,115 @@
+package upo.yacht.logic;
+
+import upo.yacht.metrics.GameMetrics;
+import upo.yacht.model.Player;
+import upo.yacht.util.ConsoleRenderer;
+
+import java.util.Scanner;
+
+/// Strategy for a human player typing decisions on the console.
+///
+/// Prompts for the dice to reroll and the category to score, validating
+/// the input until it is acceptable. All players of a console game share
+/// one instance and therefore one Scanner. Prompts are always printed;
+/// the scoreboard is drawn by a `ConsoleRenderer`.
+class ConsolePlayerStrategy implements PlayerStrategy {
+    private final Scanner scanner;
+    private final ConsoleRenderer renderer;
+
+    /// Creates a console strategy reading from the given scanner.
+    ///
+    /// @param scanner  the scanner to read player input from
+    /// @param renderer the renderer of the scoreboard
+    ConsolePlayerStrategy(Scanner scanner, ConsoleRenderer renderer) {
+        this.scanner = scanner;
+        this.renderer = renderer;
+    }
+
+    /// Asks the player which dice to reroll.
+    ///
+    /// Accepts the dice numbers from 0 to 4 separated by spaces or commas,
+    /// or X to keep the current values.
+    ///
+    /// @return the reroll mask, or 0 if the player keeps the dice
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        if (isExtended) {
+            printPhaseHeader(round);
+        }
+
+        renderer.renderOdds(player.getScoreboard(), dice, rollsLeft,
+                GameEngine.getForcedCategory(isExtended, round));
+        System.out.println("Rolls left: " + rollsLeft);
+        System.out.print("Which dice do you want to REROLL?\n" +
+                "type the dice numbers from 0 to 4 or x to keep the values:   ");
+
+        while (true) {
+            long start = GameMetrics.start();
+            String input = scanner.nextLine();
+            GameMetrics.recordInputWait(start);
+            int rerollMask = ChoiceParser.parseRerollMask(input);
+            if (rerollMask >= 0) {
+                return rerollMask;
+            }
+            if (rerollMask == ChoiceParser.INVALID) {
+                System.out.print("Invalid! Use 0-4 or X: ");
+            }
+        }
+    }
+
+    /// Shows the scoreboard with the potential points and asks for a category.
+    ///
+    /// Asks again if the player picks a category that is already filled.
+    ///
+    /// @return the index of an unused category
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        while (true) {
+            renderer.renderBoard(player.getScoreboard(), dice);
+            int categoryIndex = askForCategory();
+            if (!player.getScoreboard().isCategoryUsed(categoryIndex)) {
+                return categoryIndex;
+            }
+            System.out.println("Error: Category already filled! Choose another one.");
+        }
+    }
+
+    /// Displays the current phase header for Extended mode.
+    ///
+    /// Shows which phase of Extended mode is active based on the current round:
+    /// - Rounds 1-4: Downward (3 rolls, fixed category)
+    /// - Rounds 5-8: 1st Roll (1 roll, choice category)
+    /// - Rounds 9-12: Free (3 rolls, choice category)
+    ///
+    /// @param round the current round (0-11)
+    private void printPhaseHeader(int round) {
+        if (round <= 3) {
+            System.out.println(">>> MODE: DOWNWARD (3 Rolls, Fixed Category)");
+        } else if (round <= 7) {
+            System.out.println(">>> MODE: 1ST ROLL (1 Roll, Choice Category)");
+        } else {
+            System.out.println(">>> MODE: FREE (3 Rolls, Choice Category)");
+        }
+    }
+
+    /// Prompts the player to select a scoring category.
+    ///
+    /// Validates input to ensure a valid category index (0-11) is selected.
+    ///
+    /// @return the selected category index
+    private int askForCategory() {
+        while (true) {
+            System.out.print("Choose a category index (0-11): ");
+            long start = GameMetrics.start();
+            String input = scanner.nextLine();
+            GameMetrics.recordInputWait(start);
+            int idx = ChoiceParser.parseIndex(input, Scorer.NUM_CATEGORIES);
+            if (idx >= 0) return idx;
+            if (idx == ChoiceParser.OUT_OF_RANGE) {
+                System.out.println("Error: Number must be between 0 and 11.");
+            } else {
+                System.out.println("Error: '" + input + "' is not a valid number.");
+            }
+        }
+    }
+}
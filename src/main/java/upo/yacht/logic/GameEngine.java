@@ -1,11 +1,20 @@
 package upo.yacht.logic;
 
 import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.metrics.GameFinishEvent;
+import upo.yacht.metrics.GameMetrics;
+import upo.yacht.metrics.GameStartEvent;
+import upo.yacht.metrics.RerollDecisionEvent;
+import upo.yacht.metrics.RollEvent;
+import upo.yacht.metrics.SaveEvent;
+import upo.yacht.metrics.ScoreEvent;
+import upo.yacht.metrics.TurnEvent;
 import upo.yacht.model.Player;
+import upo.yacht.model.Scoreboard;
+import upo.yacht.util.ConsoleRenderer;
 import upo.yacht.util.DiceManager;
+import upo.yacht.util.RandomGenerators;
 
-import java.util.Collections;
-import java.util.ArrayList;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -14,6 +23,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Scanner;
+import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 /// Main game engine that controls the flow of the Yacht dice game.
 ///
@@ -21,212 +32,566 @@ import java.util.Scanner;
 /// scoring, and game phases. Supports both Classic and Extended game modes,
 /// with Extended mode featuring three distinct phases: Downward (rounds 1-4),
 /// 1st Roll (rounds 5-8), and Free (rounds 9-12).
+///
+/// Every decision is delegated to the `PlayerStrategy` of the current player
+/// and every event is reported to a `GameEventListener`. The interactive
+/// engine uses console implementations of both; the headless engine runs
+/// automated strategies with no console I/O at all.
 public class GameEngine {
+    /// Number of rounds in a game, one per scoring category.
+    public static final int NUM_ROUNDS = 12;
+    private static final int ALL_DICE_MASK = (1 << 5) - 1;
+
     private final Player[] players;
+    private final PlayerStrategy[] strategies;
     private final DiceManager diceManager;
     private final boolean isExtended;
+    private final RandomGenerator random;
     private final Scanner scanner;
+    private final ConsoleRenderer renderer;
+    private final GameEventListener listener;
+    private final int[] diceValues;
+    private int[] turnOrder;
+    private int turnIndex;
     private int currentRound;
+    private boolean turnInProgress;
+    private GameFinishEvent finishEvent;
 
-    /// Constructs a new game engine with specified settings.
+    /// Constructs a new interactive game engine with specified settings.
+    ///
+    /// Player names and all decisions are read from the console.
     ///
     /// @param isExtended true for Extended mode, false for Classic mode
     /// @param numPlayers number of players in the game (minimum 1)
     /// @param seed       optional seed for deterministic random number generation; null for random gameplay
     public GameEngine(boolean isExtended, int numPlayers, Long seed) {
+        this(isExtended, numPlayers, seed, RandomGenerators.DEFAULT_ALGORITHM);
+    }
+
+    /// Constructs a new interactive game engine using the given random algorithm.
+    ///
+    /// Player names and all decisions are read from the console.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in the game (minimum 1)
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameEngine(boolean isExtended, int numPlayers, Long seed, String rngAlgorithm) {
+        this(isExtended, numPlayers, seed, rngAlgorithm, null);
+    }
+
+    /// Constructs a new interactive game engine that also reports its events to a listener.
+    ///
+    /// The listener receives every event after the console has shown it,
+    /// for example to record the finished game.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in the game (minimum 1)
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @param recorder     extra listener receiving game events; null for none
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameEngine(boolean isExtended, int numPlayers, Long seed, String rngAlgorithm,
+                      GameEventListener recorder) {
+        this(isExtended, numPlayers, seed, rngAlgorithm, recorder, ConsoleRenderer.standard());
+    }
+
+    /// Constructs a new interactive game engine drawing the game with the given renderer.
+    ///
+    /// A quiet renderer hides the dice, the scoreboards and the progress
+    /// messages; the prompts and the final results are still printed.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in the game (minimum 1)
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @param recorder     extra listener receiving game events; null for none
+    /// @param renderer     the renderer of the dice, scoreboards and progress messages
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameEngine(boolean isExtended, int numPlayers, Long seed, String rngAlgorithm,
+                      GameEventListener recorder, ConsoleRenderer renderer) {
+        this(isExtended, numPlayers, seed, rngAlgorithm, recorder, renderer, new Scanner(System.in));
+    }
+
+    /// Constructs a new interactive game engine reading the players' input from the given scanner.
+    ///
+    /// A `Scanner` buffers what it reads ahead, so a caller that already
+    /// reads the console, such as `ConsoleUI`, must share its scanner with
+    /// the engine; two scanners on `System.in` lose each other's input when
+    /// it is piped.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in the game (minimum 1)
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @param recorder     extra listener receiving game events; null for none
+    /// @param renderer     the renderer of the dice, scoreboards and progress messages
+    /// @param scanner      the scanner of the players' input
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameEngine(boolean isExtended, int numPlayers, Long seed, String rngAlgorithm,
+                      GameEventListener recorder, ConsoleRenderer renderer, Scanner scanner) {
         this.players = new Player[numPlayers];
+        this.strategies = new PlayerStrategy[numPlayers];
+        this.isExtended = isExtended;
+        this.scanner = scanner;
+        this.renderer = renderer;
+        this.currentRound = 0;
+        this.random = RandomGenerators.create(rngAlgorithm, seed);
+        this.diceManager = new DiceManager(random, !RandomGenerators.isLegacy(random));
+        GameEventListener console = new ConsoleGameListener(renderer);
+        this.listener = (recorder != null) ? console.andThen(recorder) : console;
+        this.diceValues = new int[5];
+    }
+
+    /// Constructs a new headless game engine.
+    ///
+    /// Each player is driven by the strategy at the same index and no
+    /// console input or output is performed. The random generator is used
+    /// both to shuffle the turn order and to roll the dice, so a seeded
+    /// generator makes the whole game reproducible. A legacy
+    /// `java.util.Random` rolls each die with its own draw, so its seeds
+    /// replay the games they always produced; any other generator rolls
+    /// all unlocked dice from a single draw.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param players    the players taking part in the game (minimum 1)
+    /// @param strategies the strategy driving each player, in the same order
+    /// @param random     the random number generator for the game
+    /// @param listener   the listener receiving game events; null for none
+    /// @throws IllegalArgumentException if there are no players or the arrays differ in length
+    public GameEngine(boolean isExtended, Player[] players, PlayerStrategy[] strategies,
+                      RandomGenerator random, GameEventListener listener) {
+        if (players.length < 1) {
+            throw new IllegalArgumentException("The game requires at least 1 player to start.");
+        }
+        if (strategies.length != players.length) {
+            throw new IllegalArgumentException("Expected " + players.length + " strategies, got " +
+                    strategies.length);
+        }
+        this.players = Arrays.copyOf(players, players.length);
+        this.strategies = Arrays.copyOf(strategies, strategies.length);
         this.isExtended = isExtended;
-        this.scanner = new Scanner(System.in);
+        this.scanner = null;
+        this.renderer = null;
         this.currentRound = 0;
-        this.diceManager = new DiceManager(seed);
+        this.random = random;
+        this.diceManager = new DiceManager(random, !RandomGenerators.isLegacy(random));
+        this.listener = (listener != null) ? listener : GameEventListener.NONE;
+        this.diceValues = new int[5];
+    }
+
+    /// Returns how many rolls a turn allows.
+    ///
+    /// Classic mode always allows 3 rolls. Extended mode allows a single
+    /// roll during the 1st Roll phase (rounds 5-8) and 3 rolls otherwise.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param round      the round (0-11)
+    /// @return the maximum number of rolls in a turn of that round
+    public static int getMaxRolls(boolean isExtended, int round) {
+        if (isExtended) {
+            return (round >= 4 && round <= 7) ? 1 : 3;
+        }
+        return 3;
+    }
+
+    /// Returns the category a round forces the players to score.
+    ///
+    /// In the Extended Downward phase (rounds 1-4) the category equals the
+    /// round index. In every other case the player chooses freely.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param round      the round (0-11)
+    /// @return the forced category index, or -1 if the player chooses
+    public static int getForcedCategory(boolean isExtended, int round) {
+        return (isExtended && round <= 3) ? round : -1;
     }
 
-    /// Starts and runs the complete game loop.
+    /// Returns the name of the phase a round belongs to.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param round      the round (0-11)
+    /// @return `Classic`, or the Extended phase: `Downward`, `1st Roll` or `Free`
+    public static String getPhaseName(boolean isExtended, int round) {
+        if (!isExtended) {
+            return "Classic";
+        }
+        if (round <= 3) {
+            return "Downward";
+        }
+        return (round <= 7) ? "1st Roll" : "Free";
+    }
+
+    /// Starts and runs the complete interactive game loop.
     ///
     /// Initializes players, shuffles turn order, and executes all 12 rounds
     /// of gameplay. Each round consists of turns for all players, followed
     /// by scoring. After all rounds complete, displays final results.
+    ///
+    /// @throws IllegalStateException if the engine was created headless
     public void startGame() {
+        if (scanner == null) {
+            throw new IllegalStateException("A headless game must be started with play()");
+        }
         setupPlayer();
-        ArrayList<Player> playerList = new ArrayList<>(Arrays.asList(players));
-        Collections.shuffle(playerList);
-        System.out.println("\n--- The players were shuffled !! ---");
-
-        for (; currentRound <= 11; currentRound++) {
-            System.out.println("\n=== ROUND " + (currentRound + 1) + " ===");
-            for (Player p : playerList) {
-                System.out.println("\nIt is: " + p.getName() + " turn.");
-                executeTurn(p);
+        try {
+            while (playTurn()) {
+                // Every turn is reported by the console listener
             }
+        } catch (YachtGameException e) {
+            System.out.println("Error: " + e.getMessage());
+            return;
         }
         finishGame();
     }
 
+    /// Plays a complete game without any console interaction.
+    ///
+    /// Shuffles the turn order, executes all 12 rounds asking each player's
+    /// strategy for its decisions, and reports the final ranking to the
+    /// listener. If some turns were already played with `playTurn()`, only
+    /// the remaining ones are played.
+    ///
+    /// @return the players sorted by total score (descending)
+    /// @throws YachtGameException if a strategy breaks the rules, for example
+    ///                            by choosing a category that is already filled
+    public Player[] play() throws YachtGameException {
+        while (playTurn()) {
+            // Keep playing until the last turn of the last round
+        }
+        return rankPlayers();
+    }
+
+    /// Plays the next turn of the game.
+    ///
+    /// The first call shuffles the turn order. The call that plays the last
+    /// turn of the last round reports the final ranking to the listener.
+    /// Calling it on a finished game does nothing.
+    ///
+    /// @return true if more turns remain, false if the game is over
+    /// @throws YachtGameException if a strategy breaks the rules
+    public boolean playTurn() throws YachtGameException {
+        if (turnOrder == null) {
+            startRounds();
+        }
+        if (isFinished()) {
+            return false;
+        }
+
+        if (turnIndex == 0) {
+            listener.onRoundStart(currentRound);
+        }
+        int playerIndex = turnOrder[turnIndex];
+        listener.onTurnStart(players[playerIndex], currentRound);
+        turnInProgress = true;
+        executeTurn(playerIndex);
+        turnInProgress = false;
+
+        if (++turnIndex == turnOrder.length) {
+            turnIndex = 0;
+            currentRound++;
+        }
+        if (isFinished()) {
+            Player[] ranking = rankPlayers();
+            commitFinishEvent(ranking);
+            listener.onGameEnd(ranking);
+            return false;
+        }
+        return true;
+    }
+
+    /// Returns whether every round has been played.
+    ///
+    /// @return true once the last turn of the last round is over
+    public boolean isFinished() {
+        return currentRound >= NUM_ROUNDS;
+    }
+
+    /// Returns whether the game is in the middle of a turn.
+    ///
+    /// True while a strategy or listener called from `playTurn()` runs, and
+    /// after a strategy broke the rules in the middle of a turn.
+    ///
+    /// @return true if a turn has started and not finished
+    boolean isTurnInProgress() {
+        return turnInProgress;
+    }
+
+    /// Returns whether the game is played in Extended mode.
+    ///
+    /// @return true for Extended mode, false for Classic mode
+    boolean isExtended() {
+        return isExtended;
+    }
+
+    /// Returns the players, in the order they were given to the constructor.
+    ///
+    /// @return the internal array of players
+    Player[] getPlayers() {
+        return players;
+    }
+
+    /// Returns the turn order, or null if the game has not started.
+    ///
+    /// @return the internal array of player indices in turn order
+    int[] getTurnOrder() {
+        return turnOrder;
+    }
+
+    /// Returns the position in the turn order of the next player.
+    ///
+    /// @return the turn index within the current round
+    int getTurnIndex() {
+        return turnIndex;
+    }
+
+    /// Returns the current round.
+    ///
+    /// @return the round (0-11), or 12 once the game is over
+    int getCurrentRound() {
+        return currentRound;
+    }
+
+    /// Returns the random generator of the game.
+    ///
+    /// @return the generator shared by the dice and the turn order shuffle
+    RandomGenerator getRandom() {
+        return random;
+    }
+
+    /// Returns the dice of the game.
+    ///
+    /// @return the dice manager
+    DiceManager getDiceManager() {
+        return diceManager;
+    }
+
+    /// Moves a new game to a saved point between two turns.
+    ///
+    /// Announces the game start to the listener with the saved turn order,
+    /// so recorders learn the seats and the mode of the restored game.
+    ///
+    /// @param turnOrder    the player indices in turn order
+    /// @param turnIndex    the position in the turn order of the next player
+    /// @param currentRound the current round
+    void resume(int[] turnOrder, int turnIndex, int currentRound) {
+        this.turnOrder = turnOrder;
+        this.turnIndex = turnIndex;
+        this.currentRound = currentRound;
+        listener.onGameStart(playersInTurnOrder(), isExtended);
+    }
+
     /// Prompts for and sets up player names.
     ///
     /// Collects names from console input and initializes Player objects
-    /// for each participant in the game.
+    /// for each participant in the game, all driven by the console.
     private void setupPlayer() {
+        PlayerStrategy console = new ConsolePlayerStrategy(scanner, renderer);
         for (int i = 0; i < players.length; i++) {
             System.out.print("Type player " + (i + 1) + "'s name: ");
             String name = scanner.nextLine();
             this.players[i] = new Player(name);
+            this.strategies[i] = console;
+        }
+    }
+
+    /// Shuffles the turn order and announces the start of the game.
+    private void startRounds() {
+        turnOrder = shuffleTurnOrder(players.length, random);
+        Player[] orderedPlayers = playersInTurnOrder();
+        finishEvent = new GameFinishEvent();
+        finishEvent.begin();
+        GameStartEvent event = new GameStartEvent();
+        if (event.isEnabled()) {
+            event.mode = isExtended ? "Extended" : "Classic";
+            event.players = Arrays.stream(orderedPlayers).map(Player::getName).collect(Collectors.joining(", "));
+            event.playerCount = orderedPlayers.length;
+            event.commit();
         }
+        listener.onGameStart(orderedPlayers, isExtended);
     }
 
-    /// Displays the current phase header for Extended mode.
+    /// Returns the players in turn order.
     ///
-    /// Shows which phase of Extended mode is active based on the current round:
-    /// - Rounds 1-4: Downward (3 rolls, fixed category)
-    /// - Rounds 5-8: 1st Roll (1 roll, choice category)
-    /// - Rounds 9-12: Free (3 rolls, choice category)
-    private void printPhaseHeader() {
-        if (currentRound <= 3) {
-            System.out.println(">>> MODE: DOWNWARD (3 Rolls, Fixed Category)");
-        } else if (currentRound <= 7) {
-            System.out.println(">>> MODE: 1ST ROLL (1 Roll, Choice Category)");
-        } else {
-            System.out.println(">>> MODE: FREE (3 Rolls, Choice Category)");
+    /// @return a new array of the players, first player first
+    private Player[] playersInTurnOrder() {
+        Player[] orderedPlayers = new Player[turnOrder.length];
+        for (int i = 0; i < turnOrder.length; i++) {
+            orderedPlayers[i] = players[turnOrder[i]];
         }
+        return orderedPlayers;
+    }
+
+    /// Commits the flight recorder event of a finished game.
+    ///
+    /// @param ranking the players sorted by total score (descending)
+    private void commitFinishEvent(Player[] ranking) {
+        GameFinishEvent event = (finishEvent != null) ? finishEvent : new GameFinishEvent();
+        finishEvent = null;
+        if (event.isEnabled()) {
+            event.end();
+            event.mode = isExtended ? "Extended" : "Classic";
+            event.playerCount = ranking.length;
+            event.winner = ranking[0].getName();
+            event.winningScore = ranking[0].getTotalScore();
+            event.commit();
+        }
+    }
+
+    /// Shuffles the player indices with a game's random generator.
+    ///
+    /// Draws one number per player but the first, before the first roll,
+    /// so that house variants seat their players the same way.
+    ///
+    /// @param numPlayers the number of players
+    /// @param random     the random generator of the game
+    /// @return the player indices in turn order
+    public static int[] shuffleTurnOrder(int numPlayers, RandomGenerator random) {
+        int[] order = new int[numPlayers];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = order[i];
+            order[i] = order[j];
+            order[j] = tmp;
+        }
+        return order;
     }
 
     /// Executes a complete turn for the specified player.
     ///
     /// Manages the rolling phase with appropriate number of rolls based on
-    /// game mode and phase. Allows players to lock/unlock dice between rolls.
-    /// Concludes with scoring the final dice configuration.
+    /// game mode and phase. Asks the player's strategy which dice to reroll
+    /// between rolls. Concludes with scoring the final dice configuration.
     ///
-    /// @param p the player taking their turn
-    public void executeTurn(Player p) {
+    /// @param playerIndex the index of the player taking their turn
+    /// @throws YachtGameException if the strategy returns an invalid reroll mask
+    private void executeTurn(int playerIndex) throws YachtGameException {
+        long start = GameMetrics.sampleTurn();
+        TurnEvent turnEvent = new TurnEvent();
+        turnEvent.begin();
+        Player p = players[playerIndex];
+        PlayerStrategy strategy = strategies[playerIndex];
         diceManager.unlockAll();
-        int maxRolls;
-
-        if (isExtended) {
-            maxRolls = (currentRound >= 4 && currentRound <= 7) ? 1 : 3;
-        } else {
-            maxRolls = 3;
-        }
+        int maxRolls = getMaxRolls(isExtended, currentRound);
+        int rolls = 0;
 
         for (int j = 0; j < maxRolls; j++) {
+            rolls++;
             diceManager.rollAvailableDice();
-            diceManager.displayDice();
+            diceManager.getDiceValues(diceValues);
             int rollsLeft = (maxRolls - 1) - j;
+            RollEvent rollEvent = new RollEvent();
+            if (rollEvent.isEnabled()) {
+                rollEvent.player = p.getName();
+                rollEvent.round = currentRound + 1;
+                rollEvent.dice = Arrays.toString(diceValues);
+                rollEvent.rollsLeft = rollsLeft;
+                rollEvent.commit();
+            }
+            listener.onRoll(p, diceValues, rollsLeft);
 
             if (rollsLeft == 0) {
                 break;
             }
 
-            if (isExtended) {
-                printPhaseHeader();
+            RerollDecisionEvent rerollEvent = new RerollDecisionEvent();
+            rerollEvent.begin();
+            int rerollMask = strategy.chooseRerollMask(p, diceValues, rollsLeft, currentRound, isExtended);
+            if (rerollMask < 0 || rerollMask > ALL_DICE_MASK) {
+                throw new YachtGameException("Invalid reroll mask " + rerollMask + " from " + p.getName());
             }
-
-            System.out.println("Rolls left: " + rollsLeft);
-            System.out.print("Which dice do you want to REROLL?\n" +
-                    "type the dice numbers from 0 to 4 or x to keep the values:   ");
-
-            String input;
-            String[] choices;
-
-            while (true) {
-                input = scanner.nextLine().toUpperCase().trim();
-                if (input.isEmpty()) {
-                    continue;
-                }
-
-                choices = input.split("[\\s,]+");
-                boolean inputOK = true;
-
-                for (String s : choices) {
-                    if (!s.matches("[0-4]") && !s.equals("X")) {
-                        System.out.print("Invalid! Use 0-4 or X: ");
-                        inputOK = false;
-                        break;
-                    }
-                }
-
-                if (inputOK) break;
+            if (rerollEvent.isEnabled()) {
+                rerollEvent.end();
+                rerollEvent.player = p.getName();
+                rerollEvent.round = currentRound + 1;
+                rerollEvent.dice = Arrays.toString(diceValues);
+                rerollEvent.rerollMask = rerollMask;
+                rerollEvent.rerolled = Integer.bitCount(rerollMask);
+                rerollEvent.commit();
             }
+            listener.onReroll(p, rerollMask);
 
-            if (choices[0].equals("X")) {
+            if (rerollMask == 0) {
                 break;
             }
 
-            diceManager.lockAll();
-            for (String s : choices) {
-                if (s.matches("[0-4]")) {
-                    int index = Integer.parseInt(s);
-                    diceManager.getDie(index).setLocked(false);
-                }
+            for (int i = 0; i < diceValues.length; i++) {
+                diceManager.getDie(i).setLocked((rerollMask & (1 << i)) == 0);
             }
         }
-        handleScoring(p);
-    }
-
-    /// Prompts the player to select a scoring category.
-    ///
-    /// Validates input to ensure a valid category index (0-11) is selected.
-    ///
-    /// @return the selected category index
-    private int askForCategory() {
-        while (true) {
-            System.out.print("Choose a category index (0-11): ");
-            String input = scanner.nextLine();
-            try {
-                int idx = Integer.parseInt(input);
-                if (idx >= 0 && idx <= 11) return idx;
-                System.out.println("Error: Number must be between 0 and 11.");
-            } catch (NumberFormatException e) {
-                System.out.println("Error: '" + input + "' is not a valid number.");
-            }
+        int category = handleScoring(playerIndex, start);
+        GameMetrics.recordTurn(start, rolls);
+        if (turnEvent.isEnabled()) {
+            turnEvent.end();
+            turnEvent.player = p.getName();
+            turnEvent.round = currentRound + 1;
+            turnEvent.phase = getPhaseName(isExtended, currentRound);
+            turnEvent.rolls = rolls;
+            turnEvent.category = Scorer.getCategoryName(category);
+            turnEvent.points = p.getScoreboard().getScore(category);
+            turnEvent.commit();
         }
     }
 
     /// Handles scoring for the player's current turn.
     ///
     /// In Extended Downward phase, automatically assigns the category based on
-    /// the current round. Otherwise, prompts the player to choose a category.
-    /// Calculates and registers the score, handling already-filled categories
-    /// appropriately.
-    ///
-    /// @param p the player whose turn is being scored
-    private void handleScoring(Player p) {
-        int[] finalDice = diceManager.getDiceValues();
-        int categoryIndex;
-
-        if (isExtended && currentRound <= 3) {
-            categoryIndex = currentRound;
-            System.out.println("Downward Phase: Scoring automatically in category " + categoryIndex);
-        } else {
-            p.getScoreboard().displayBoard(finalDice);
-            categoryIndex = askForCategory();
+    /// the current round. Otherwise, asks the player's strategy to choose a
+    /// category. Calculates and registers the score.
+    ///
+    /// @param playerIndex the index of the player whose turn is being scored
+    /// @param start       the value of `GameMetrics.sampleTurn()` when the turn began
+    /// @return the category index that was scored
+    /// @throws YachtGameException if the chosen category is already filled
+    private int handleScoring(int playerIndex, long start) throws YachtGameException {
+        Player p = players[playerIndex];
+        int categoryIndex = getForcedCategory(isExtended, currentRound);
+        boolean forced = categoryIndex >= 0;
+
+        if (!forced) {
+            categoryIndex = strategies[playerIndex].chooseCategory(p, diceValues, currentRound, isExtended);
+            if (categoryIndex < 0 || categoryIndex >= Scorer.NUM_CATEGORIES) {
+                throw new YachtGameException("Invalid category index " + categoryIndex + " from " + p.getName());
+            }
         }
 
-        int points = Scorer.getScore(categoryIndex, finalDice);
-
-        if (points == 0) {
-            System.out.println("ATTENTION: These dice scored 0 in " + Scorer.getCategoryName(categoryIndex));
+        long scoringStart = GameMetrics.lap(start);
+        int points = Scorer.getScore(categoryIndex, diceManager.getRoll());
+        p.getScoreboard().registerScore(categoryIndex, points);
+        GameMetrics.recordScoring(scoringStart);
+        ScoreEvent scoreEvent = new ScoreEvent();
+        if (scoreEvent.isEnabled()) {
+            scoreEvent.player = p.getName();
+            scoreEvent.round = currentRound + 1;
+            scoreEvent.category = Scorer.getCategoryName(categoryIndex);
+            scoreEvent.points = points;
+            scoreEvent.totalScore = p.getScoreboard().getTotalScore();
+            scoreEvent.commit();
         }
+        listener.onScore(p, currentRound, categoryIndex, points, forced);
+        return categoryIndex;
+    }
 
-        try {
-            p.getScoreboard().registerScore(categoryIndex, points);
-            System.out.println("Points registered: " + points);
-        } catch (YachtGameException e) {
-            if (isExtended && currentRound <= 3) {
-                System.out.println("ERROR: Downward category already filled.");
-            } else {
-                System.out.println("Error: Category already filled! Choose another one.");
-                handleScoring(p);
-            }
-        }
+    /// Returns the players sorted by total score (descending).
+    ///
+    /// @return a new array with the players ranked by total score
+    private Player[] rankPlayers() {
+        Player[] sortedPlayers = Arrays.copyOf(players, players.length);
+        Arrays.sort(sortedPlayers, Comparator.comparingInt(Player::getTotalScore).reversed());
+        return sortedPlayers;
     }
 
     /// Concludes the game and displays final results.
     ///
     /// Sorts players by total score, generates the final scoreboard,
     /// displays it to console, and offers to save results to a file.
+    /// Only available for interactive games; headless games finish in `play()`.
     public void finishGame() {
-        Player[] sortedPlayers = Arrays.copyOf(players, players.length);
-        Arrays.sort(sortedPlayers, Comparator.comparingInt(Player::getTotalScore).reversed());
+        Player[] sortedPlayers = rankPlayers();
 
         String output = generateScoreboardOutput(sortedPlayers);
         System.out.print(output);
@@ -236,55 +601,19 @@ public class GameEngine {
     /// Generates a formatted string containing final game results.
     ///
     /// Creates a detailed scoreboard showing all players sorted by score,
-    /// their individual category scores, and announces the winner(s).
+    /// their individual category scores, and announces the winner(s),
+    /// through the same `ConsoleRenderer` layout as the house variants.
     ///
     /// @param sortedPlayers array of players sorted by total score (descending)
     /// @return formatted scoreboard string
     private String generateScoreboardOutput(Player[] sortedPlayers) {
-        StringBuilder sb = new StringBuilder();
-
-        sb.append("\n").append("=".repeat(50)).append("\n");
-        sb.append("GAME OVER - FINAL RESULTS\n");
-        sb.append("=".repeat(50)).append("\n");
-
-        sb.append("\nFINAL SCOREBOARD:\n");
-        sb.append("-".repeat(40)).append("\n");
-
+        String[] names = new String[sortedPlayers.length];
+        Scoreboard[] boards = new Scoreboard[sortedPlayers.length];
         for (int i = 0; i < sortedPlayers.length; i++) {
-            Player player = sortedPlayers[i];
-            String rankLabel = player.getTotalScore() == sortedPlayers[0].getTotalScore() ? "#1 " : "   ";
-
-            sb.append(String.format("%s%-20s: %5d points%n", rankLabel, player.getName(), player.getTotalScore()));
-            sb.append("  Categories:\n");
-
-            for (int cat = 0; cat < 12; cat++) {
-                if (player.getScoreboard().isCategoryUsed(cat)) {
-                    sb.append(String.format("    %-18s: %3d%n", Scorer.getCategoryName(cat), player.getScoreboard().getScore(cat)));
-                }
-            }
-            sb.append("\n");
+            names[i] = sortedPlayers[i].getName();
+            boards[i] = sortedPlayers[i].getScoreboard();
         }
-
-        sb.append("\n").append("*".repeat(20)).append("\n");
-
-        int topScore = sortedPlayers[0].getTotalScore();
-        boolean multiWinners = sortedPlayers.length > 1 && sortedPlayers[1].getTotalScore() == topScore;
-
-        if (multiWinners) {
-            sb.append("CONGRATULATIONS: ");
-            for (Player p : sortedPlayers) {
-                if (p.getTotalScore() == topScore) {
-                    sb.append(p.getName()).append(" ");
-                }
-            }
-            sb.append("\nYOU ARE ALL YACHT CHAMPIONS!\n");
-        } else {
-            sb.append("CONGRATULATIONS ").append(sortedPlayers[0].getName()).append("! \n");
-            sb.append("YOU ARE THE YACHT CHAMPION!\n");
-        }
-        sb.append("*".repeat(20)).append("\n");
-
-        return sb.toString();
+        return ConsoleRenderer.formatResults("GAME OVER - FINAL RESULTS", names, boards);
     }
 
     /// Prompts the user to save game results to a file.
@@ -333,6 +662,20 @@ public class GameEngine {
             Files.createDirectories(parentDir);
         }
 
-        Files.writeString(path, content, StandardCharsets.UTF_8);
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        boolean succeeded = false;
+        try {
+            Files.writeString(path, content, StandardCharsets.UTF_8);
+            succeeded = true;
+        } finally {
+            if (event.isEnabled()) {
+                event.end();
+                event.path = path.toAbsolutePath().toString();
+                event.bytes = content.getBytes(StandardCharsets.UTF_8).length;
+                event.succeeded = succeeded;
+                event.commit();
+            }
+        }
     }
 }
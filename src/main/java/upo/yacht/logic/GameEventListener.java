@@ -0,0 +1,119 @@
+package upo.yacht.logic;
+
+import upo.yacht.model.Player;
+
+/// Receives the events of a game run by the `GameEngine`.
+///
+/// Every method has an empty default implementation, so listeners only
+/// override the events they care about. The console listener prints the
+/// game as it happens; headless games usually run with `NONE`.
+///
+/// Arrays passed to a listener are owned by the engine and are reused
+/// between calls; implementations must not modify or keep them.
+public interface GameEventListener {
+    /// Listener that ignores every event.
+    GameEventListener NONE = new GameEventListener() {
+    };
+
+    /// Called once after the turn order has been shuffled.
+    ///
+    /// @param turnOrder  the players in the order they will play
+    /// @param isExtended true for Extended mode, false for Classic mode
+    default void onGameStart(Player[] turnOrder, boolean isExtended) {
+    }
+
+    /// Called at the start of every round.
+    ///
+    /// @param round the round that starts (0-11)
+    default void onRoundStart(int round) {
+    }
+
+    /// Called when a player's turn starts.
+    ///
+    /// @param player the player taking the turn
+    /// @param round  the current round (0-11)
+    default void onTurnStart(Player player, int round) {
+    }
+
+    /// Called after every roll of the dice.
+    ///
+    /// @param player    the player taking the turn
+    /// @param dice      the dice values after the roll
+    /// @param rollsLeft how many rolls are still allowed in this turn
+    default void onRoll(Player player, int[] dice, int rollsLeft) {
+    }
+
+    /// Called after the player decided which dice to reroll.
+    ///
+    /// @param player     the player taking the turn
+    /// @param rerollMask bit i set means die i is rerolled; 0 keeps all dice
+    default void onReroll(Player player, int rerollMask) {
+    }
+
+    /// Called after a score has been registered on the player's scoreboard.
+    ///
+    /// @param player        the player taking the turn
+    /// @param round         the current round (0-11)
+    /// @param categoryIndex the category that was filled (0-11)
+    /// @param points        the points registered
+    /// @param forced        true if the category was assigned by the Downward phase
+    default void onScore(Player player, int round, int categoryIndex, int points, boolean forced) {
+    }
+
+    /// Called once after the last round.
+    ///
+    /// @param ranking the players sorted by total score (descending)
+    default void onGameEnd(Player[] ranking) {
+    }
+
+    /// Returns a listener that passes every event to this listener, then to another one.
+    ///
+    /// @param next the listener receiving each event second
+    /// @return the combined listener
+    default GameEventListener andThen(GameEventListener next) {
+        GameEventListener first = this;
+        return new GameEventListener() {
+            @Override
+            public void onGameStart(Player[] turnOrder, boolean isExtended) {
+                first.onGameStart(turnOrder, isExtended);
+                next.onGameStart(turnOrder, isExtended);
+            }
+
+            @Override
+            public void onRoundStart(int round) {
+                first.onRoundStart(round);
+                next.onRoundStart(round);
+            }
+
+            @Override
+            public void onTurnStart(Player player, int round) {
+                first.onTurnStart(player, round);
+                next.onTurnStart(player, round);
+            }
+
+            @Override
+            public void onRoll(Player player, int[] dice, int rollsLeft) {
+                first.onRoll(player, dice, rollsLeft);
+                next.onRoll(player, dice, rollsLeft);
+            }
+
+            @Override
+            public void onReroll(Player player, int rerollMask) {
+                first.onReroll(player, rerollMask);
+                next.onReroll(player, rerollMask);
+            }
+
+            @Override
+            public void onScore(Player player, int round, int categoryIndex, int points, boolean forced) {
+                first.onScore(player, round, categoryIndex, points, forced);
+                next.onScore(player, round, categoryIndex, points, forced);
+            }
+
+            @Override
+            public void onGameEnd(Player[] ranking) {
+                first.onGameEnd(ranking);
+                next.onGameEnd(ranking);
+            }
+        };
+    }
+}
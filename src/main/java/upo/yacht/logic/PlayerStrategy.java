@@ -0,0 +1,41 @@
+package upo.yacht.logic;
+
+import upo.yacht.model.Player;
+
+/// Decision maker for a player in the Yacht game.
+///
+/// The `GameEngine` asks the strategy of the current player which dice
+/// to reroll after each roll and which category to score at the end of
+/// the turn. Human players are driven by a console strategy, while
+/// automated players implement the same interface and let the engine
+/// run without any console I/O.
+///
+/// The dice array passed to a strategy is owned by the engine and is
+/// reused between calls; implementations must not modify or keep it.
+public interface PlayerStrategy {
+    /// Chooses which dice to reroll.
+    ///
+    /// Bit i of the returned mask set means die i is rerolled; every other
+    /// die keeps its value. A mask of 0 keeps all dice and ends the rolling
+    /// phase of the turn.
+    ///
+    /// @param player     the player taking the turn
+    /// @param dice       the current dice values (5 values, 1-6)
+    /// @param rollsLeft  how many rolls are still allowed in this turn (at least 1)
+    /// @param round      the current round (0-11)
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @return the reroll mask (0-31)
+    int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended);
+
+    /// Chooses the category to score the final dice in.
+    ///
+    /// Only called when the player is free to choose; the forced categories
+    /// of the Extended Downward phase are assigned by the engine.
+    ///
+    /// @param player     the player taking the turn
+    /// @param dice       the final dice values (5 values, 1-6)
+    /// @param round      the current round (0-11)
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @return the index of a category (0-11) not yet used by the player
+    int chooseCategory(Player player, int[] dice, int round, boolean isExtended);
+}
@@ -0,0 +1,64 @@
+package upo.yacht.logic;
+
+import upo.yacht.util.RollIndex;
+
+import java.util.Objects;
+
+/// Precomputed scores of every category for every distinct roll.
+///
+/// The table holds one row per sorted roll (see `RollIndex`) with the
+/// score of each of the 12 categories. It is filled once at class
+/// initialization by running the reference `ScoringRule` implementations
+/// held by `Scorer`, so it always agrees with them. After that, scoring
+/// a roll is an allocation-free array lookup.
+///
+/// This class is final and cannot be instantiated.
+public final class ScoreTable {
+    private static final int NUM_CATEGORIES = Scorer.NUM_CATEGORIES;
+    private static final byte[] SCORES = buildTable();
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private ScoreTable() {
+    }
+
+    /// Returns the precomputed score of a category for a sorted roll.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @param sortedId      the sorted id of the roll (0-251)
+    /// @return the score of the roll in that category
+    /// @throws IndexOutOfBoundsException if the category index is invalid
+    public static int getScore(int categoryIndex, int sortedId) {
+        Objects.checkIndex(categoryIndex, NUM_CATEGORIES);
+        return SCORES[sortedId * NUM_CATEGORIES + categoryIndex];
+    }
+
+    /// Copies the scores of all categories for a sorted roll.
+    ///
+    /// @param sortedId the sorted id of the roll (0-251)
+    /// @param scores   destination array; index i receives the score of category i
+    public static void getScores(int sortedId, int[] scores) {
+        int row = sortedId * NUM_CATEGORIES;
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            scores[i] = SCORES[row + i];
+        }
+    }
+
+    /// Scores every sorted roll in every category using the reference rules.
+    ///
+    /// @return the flattened table, indexed by `sortedId * 12 + categoryIndex`
+    private static byte[] buildTable() {
+        byte[] table = new byte[RollIndex.NUM_SORTED * NUM_CATEGORIES];
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            int[] faces = RollIndex.getFaces(id);
+            for (int category = 0; category < NUM_CATEGORIES; category++) {
+                int points = Scorer.getRule(category).calculate(faces);
+                if (points < Byte.MIN_VALUE || points > Byte.MAX_VALUE) {
+                    throw new IllegalStateException("Score " + points + " of " +
+                            Scorer.getCategoryName(category) + " does not fit the score table");
+                }
+                table[id * NUM_CATEGORIES + category] = (byte) points;
+            }
+        }
+        return table;
+    }
+}
@@ -1,6 +1,9 @@
 package upo.yacht.logic;
 
 import upo.yacht.logic.rules.*;
+import upo.yacht.util.DiceRoll;
+import upo.yacht.util.DiceUtils;
+import upo.yacht.util.RollIndex;
 
 /// Central scoring utility for calculating points in the Yacht game.
 ///
@@ -11,7 +14,13 @@ import upo.yacht.logic.rules.*;
 /// The rules are organized as follows:
 /// - Indices 0-5: Ones, Twos, Threes, Fours, Fives, Sixes
 /// - Indices 6-11: Full House, Four of a Kind, Small Straight, Big Straight, Choice, Yacht
+///
+/// Regular five-dice rolls are scored through the precomputed `ScoreTable`;
+/// the rule objects remain the reference implementation used to build it.
 public class Scorer {
+    /// Number of scoring categories in the game.
+    public static final int NUM_CATEGORIES = 12;
+
     private static final ScoringRule[] RULES = {
             new Ones(),
             new Twos(),
@@ -29,16 +38,74 @@ public class Scorer {
 
     /// Calculates the score for a given category and dice values.
     ///
-    /// Retrieves the scoring rule at the specified index and applies
-    /// its calculation logic to the provided dice values. This method
-    /// uses polymorphism to call the appropriate calculate() implementation
-    /// without knowing the specific rule class.
+    /// A roll of 5 dice with values 1-6 is looked up in the `ScoreTable`
+    /// without allocating. Any other array is passed to the calculate()
+    /// implementation of the scoring rule at the specified index.
     ///
     /// @param categoryIndex the category index (0-11)
     /// @param diceValues    array of dice values to score
     /// @return the calculated score for the specified category
     public static int getScore(int categoryIndex, int[] diceValues) {
-        return RULES[categoryIndex].calculate(diceValues);
+        int sortedId = RollIndex.sortedIdOf(diceValues);
+        if (sortedId < 0) {
+            return RULES[categoryIndex].calculate(diceValues);
+        }
+        return ScoreTable.getScore(categoryIndex, sortedId);
+    }
+
+    /// Calculates the score for a given category and interned roll.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @param roll          the roll to score
+    /// @return the score of the roll in that category
+    /// @throws IndexOutOfBoundsException if the category index is invalid
+    public static int getScore(int categoryIndex, DiceRoll roll) {
+        return ScoreTable.getScore(categoryIndex, roll.getSortedId());
+    }
+
+    /// Calculates the score of every category for the given dice values.
+    ///
+    /// A roll of 5 dice with values 1-6 is copied from one row of the
+    /// `ScoreTable`. Any other array is scored by building its frequency
+    /// array once and passing it to every rule's calculateFromFrequency().
+    ///
+    /// @param diceValues array of dice values to score
+    /// @param scores     destination array with room for at least 12 scores;
+    ///                   index i receives the score of category i
+    /// @return the `scores` array, for convenience
+    /// @throws IllegalArgumentException if `scores` is shorter than 12
+    public static int[] getAllScores(int[] diceValues, int[] scores) {
+        if (scores.length < NUM_CATEGORIES) {
+            throw new IllegalArgumentException("Score array must have room for " + NUM_CATEGORIES +
+                    " categories, got " + scores.length);
+        }
+        int sortedId = RollIndex.sortedIdOf(diceValues);
+        if (sortedId >= 0) {
+            ScoreTable.getScores(sortedId, scores);
+            return scores;
+        }
+        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        int diceSum = DiceUtils.sumDice(diceValues);
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            scores[i] = RULES[i].calculateFromFrequency(freq, diceSum);
+        }
+        return scores;
+    }
+
+    /// Calculates the score of every category for an interned roll.
+    ///
+    /// @param roll   the roll to score
+    /// @param scores destination array with room for at least 12 scores;
+    ///               index i receives the score of category i
+    /// @return the `scores` array, for convenience
+    /// @throws IllegalArgumentException if `scores` is shorter than 12
+    public static int[] getAllScores(DiceRoll roll, int[] scores) {
+        if (scores.length < NUM_CATEGORIES) {
+            throw new IllegalArgumentException("Score array must have room for " + NUM_CATEGORIES +
+                    " categories, got " + scores.length);
+        }
+        ScoreTable.getScores(roll.getSortedId(), scores);
+        return scores;
     }
 
     /// Returns the name of the category at the specified index.
@@ -48,4 +115,12 @@ public class Scorer {
     public static String getCategoryName(int index) {
         return RULES[index].getName();
     }
+
+    /// Returns the reference scoring rule at the specified index.
+    ///
+    /// @param index the category index (0-11)
+    /// @return the memoized scoring rule for that category
+    static ScoringRule getRule(int index) {
+        return RULES[index];
+    }
 }
@@ -0,0 +1,93 @@
+package upo.yacht.logic.batch;
+
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+import java.util.Objects;
+
+/// Scores whole batches of rolls at once.
+///
+/// When the `jdk.incubator.vector` module is present at runtime (start the
+/// JVM with `--add-modules jdk.incubator.vector`), the bulk of each batch
+/// is scored by `VectorKernel`, many rolls per SIMD instruction. Otherwise,
+/// and for the few rolls left over after the last full vector, every roll
+/// is scored by `Scorer`. Both paths give exactly the scores of
+/// `Scorer.getScore`, including for values outside 1-6.
+///
+/// This class is final and cannot be instantiated.
+public final class BatchScorer {
+    private static final boolean VECTORIZED =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private BatchScorer() {
+    }
+
+    /// Returns whether batches are scored with the Vector API.
+    ///
+    /// @return true if the `jdk.incubator.vector` module is available
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /// Scores one category for every roll of a batch.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @param batch         the rolls to score
+    /// @param out           destination array; index r receives the score of roll r
+    /// @return the `out` array, for convenience
+    /// @throws IllegalArgumentException  if `out` is shorter than the batch
+    /// @throws IndexOutOfBoundsException if the category index is out of range
+    public static int[] score(int categoryIndex, RollBatch batch, int[] out) {
+        Objects.checkIndex(categoryIndex, Scorer.NUM_CATEGORIES);
+        checkLength(out, batch.getSize());
+        int done = VECTORIZED ? VectorKernel.score(categoryIndex, batch, out) : 0;
+
+        int[] roll = new int[RollIndex.DICE];
+        for (int r = done; r < batch.getSize(); r++) {
+            out[r] = Scorer.getScore(categoryIndex, batch.getRoll(r, roll));
+        }
+        return out;
+    }
+
+    /// Scores all 12 categories for every roll of a batch.
+    ///
+    /// @param batch the rolls to score
+    /// @param out   destination arrays; `out[c][r]` receives the score of
+    ///              category c for roll r
+    /// @return the `out` array, for convenience
+    /// @throws IllegalArgumentException if `out` has fewer than 12 rows or
+    ///                                  a row is shorter than the batch
+    public static int[][] scoreAll(RollBatch batch, int[][] out) {
+        if (out.length < Scorer.NUM_CATEGORIES) {
+            throw new IllegalArgumentException("Score arrays must have room for " + Scorer.NUM_CATEGORIES +
+                    " categories, got " + out.length);
+        }
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            checkLength(out[c], batch.getSize());
+        }
+        int done = VECTORIZED ? VectorKernel.scoreAll(batch, out) : 0;
+
+        int[] roll = new int[RollIndex.DICE];
+        int[] scores = new int[Scorer.NUM_CATEGORIES];
+        for (int r = done; r < batch.getSize(); r++) {
+            Scorer.getAllScores(batch.getRoll(r, roll), scores);
+            for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+                out[c][r] = scores[c];
+            }
+        }
+        return out;
+    }
+
+    /// Checks that a destination array can hold one score per roll.
+    ///
+    /// @param out  the destination array
+    /// @param size the number of rolls in the batch
+    /// @throws IllegalArgumentException if the array is too short
+    private static void checkLength(int[] out, int size) {
+        if (out.length < size) {
+            throw new IllegalArgumentException("Score array must have room for " + size +
+                    " rolls, got " + out.length);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package upo.yacht.logic.batch;
+
+import upo.yacht.util.RollIndex;
+
+import java.util.Objects;
+
+/// A batch of five-dice rolls stored as one column per die.
+///
+/// Column k holds the value of die k of every roll, so the same die of
+/// consecutive rolls is contiguous in memory. This structure-of-arrays
+/// layout lets `BatchScorer` load many rolls into vector lanes at once.
+/// Values are stored as given and are not validated, exactly like the
+/// arrays accepted by `Scorer.getScore`.
+public class RollBatch {
+    private final int[][] columns;
+    private int size;
+
+    /// Creates an empty batch with room for the given number of rolls.
+    ///
+    /// @param capacity the maximum number of rolls
+    /// @throws IllegalArgumentException if the capacity is negative
+    public RollBatch(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+        }
+        this.columns = new int[RollIndex.DICE][capacity];
+    }
+
+    /// Creates a full batch from five existing columns, without copying them.
+    ///
+    /// @param columns five arrays of the same length; `columns[k][r]` is die k of roll r
+    /// @throws IllegalArgumentException if there are not five columns of equal length
+    public RollBatch(int[]... columns) {
+        if (columns.length != RollIndex.DICE) {
+            throw new IllegalArgumentException("Expected " + RollIndex.DICE + " columns, got " + columns.length);
+        }
+        for (int[] column : columns) {
+            if (column.length != columns[0].length) {
+                throw new IllegalArgumentException("All columns must have the same length");
+            }
+        }
+        this.columns = columns.clone();
+        this.size = columns[0].length;
+    }
+
+    /// Returns the maximum number of rolls.
+    ///
+    /// @return the capacity of the batch
+    public int getCapacity() {
+        return columns[0].length;
+    }
+
+    /// Returns the number of rolls in the batch.
+    ///
+    /// @return the number of rolls scored by `BatchScorer`
+    public int getSize() {
+        return size;
+    }
+
+    /// Sets the number of rolls in the batch.
+    ///
+    /// @param size the number of rolls (0 to the capacity)
+    /// @throws IndexOutOfBoundsException if the size exceeds the capacity
+    public void setSize(int size) {
+        this.size = Objects.checkIndex(size, getCapacity() + 1);
+    }
+
+    /// Stores one roll, growing the size to include it if needed.
+    ///
+    /// @param index the roll index (0 to the capacity - 1)
+    /// @param dice  the five dice values of the roll
+    /// @throws IllegalArgumentException  if `dice` does not hold five values
+    /// @throws IndexOutOfBoundsException if the index is outside the capacity
+    public void setRoll(int index, int[] dice) {
+        if (dice.length != RollIndex.DICE) {
+            throw new IllegalArgumentException("A roll has " + RollIndex.DICE + " dice, got " + dice.length);
+        }
+        Objects.checkIndex(index, getCapacity());
+        for (int k = 0; k < RollIndex.DICE; k++) {
+            columns[k][index] = dice[k];
+        }
+        size = Math.max(size, index + 1);
+    }
+
+    /// Copies one roll into a buffer.
+    ///
+    /// @param index  the roll index
+    /// @param buffer destination array of at least 5 elements
+    /// @return the `buffer` array, for convenience
+    public int[] getRoll(int index, int[] buffer) {
+        Objects.checkIndex(index, size);
+        for (int k = 0; k < RollIndex.DICE; k++) {
+            buffer[k] = columns[k][index];
+        }
+        return buffer;
+    }
+
+    /// Returns the backing column of one die.
+    ///
+    /// Writing to the returned array changes the batch; this is the
+    /// fastest way to fill a large batch.
+    ///
+    /// @param die the die index (0-4)
+    /// @return the values of that die for every roll
+    public int[] getColumn(int die) {
+        return columns[die];
+    }
+}
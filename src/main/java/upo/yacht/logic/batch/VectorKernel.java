@@ -0,0 +1,153 @@
+package upo.yacht.logic.batch;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+/// SIMD implementation of the scoring rules over a `RollBatch`.
+///
+/// Each lane holds one roll. The kernel counts how many dice of the lane
+/// show each face and sums the dice, then derives every category from
+/// those counts with the same logic as the rules' calculateFromFrequency():
+/// values outside 1-6 are not counted for any face but still add to the
+/// sum, and the straights only count the faces that appear exactly once.
+///
+/// This class references `jdk.incubator.vector` and must only be loaded
+/// when that module is present; `BatchScorer` takes care of this.
+final class VectorKernel {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+    private static final int ROWS = RollIndex.FACES + 1;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private VectorKernel() {
+    }
+
+    /// Scores one category for the rolls that fill whole vectors.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @param batch         the rolls to score
+    /// @param out           destination array, at least as long as the batch
+    /// @return the number of leading rolls scored; the caller scores the rest
+    static int score(int categoryIndex, RollBatch batch, int[] out) {
+        int bound = SPECIES.loopBound(batch.getSize());
+        int[] counts = new int[ROWS * LANES];
+        for (int r = 0; r < bound; r += LANES) {
+            countFaces(batch, r, counts);
+            if (categoryIndex < 6) {
+                upperSection(categoryIndex + 1, counts, out, r);
+            } else {
+                combination(categoryIndex, counts, out, r);
+            }
+        }
+        return bound;
+    }
+
+    /// Scores all 12 categories for the rolls that fill whole vectors.
+    ///
+    /// @param batch the rolls to score
+    /// @param out   12 destination arrays, each at least as long as the batch
+    /// @return the number of leading rolls scored; the caller scores the rest
+    static int scoreAll(RollBatch batch, int[][] out) {
+        int bound = SPECIES.loopBound(batch.getSize());
+        int[] counts = new int[ROWS * LANES];
+        for (int r = 0; r < bound; r += LANES) {
+            countFaces(batch, r, counts);
+            for (int face = 1; face <= RollIndex.FACES; face++) {
+                upperSection(face, counts, out[face - 1], r);
+            }
+            for (int category = 6; category < Scorer.NUM_CATEGORIES; category++) {
+                combination(category, counts, out[category], r);
+            }
+        }
+        return bound;
+    }
+
+    /// Counts the faces and sums the dice of the rolls in one vector of lanes.
+    ///
+    /// The results go through a small array instead of being returned as
+    /// vectors: the scoring methods then stay small enough for the JIT to
+    /// compile without boxing any vector, and the array stays in L1 cache.
+    ///
+    /// @param batch  the rolls to score
+    /// @param offset index of the roll in the first lane
+    /// @param counts array receiving the sum in row 0 and the count of face f in row f
+    private static void countFaces(RollBatch batch, int offset, int[] counts) {
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        IntVector c1 = IntVector.zero(SPECIES);
+        IntVector c2 = c1, c3 = c1, c4 = c1, c5 = c1, c6 = c1, sum = c1;
+        for (int die = 0; die < RollIndex.DICE; die++) {
+            IntVector values = IntVector.fromArray(SPECIES, batch.getColumn(die), offset);
+            sum = sum.add(values);
+            c1 = c1.add(one, values.compare(VectorOperators.EQ, 1));
+            c2 = c2.add(one, values.compare(VectorOperators.EQ, 2));
+            c3 = c3.add(one, values.compare(VectorOperators.EQ, 3));
+            c4 = c4.add(one, values.compare(VectorOperators.EQ, 4));
+            c5 = c5.add(one, values.compare(VectorOperators.EQ, 5));
+            c6 = c6.add(one, values.compare(VectorOperators.EQ, 6));
+        }
+        sum.intoArray(counts, 0);
+        c1.intoArray(counts, LANES);
+        c2.intoArray(counts, 2 * LANES);
+        c3.intoArray(counts, 3 * LANES);
+        c4.intoArray(counts, 4 * LANES);
+        c5.intoArray(counts, 5 * LANES);
+        c6.intoArray(counts, 6 * LANES);
+    }
+
+    /// Scores one category of the upper section: the face times its count.
+    ///
+    /// @param face   the face value (1-6)
+    /// @param counts the sums and face counts written by `countFaces`
+    /// @param out    destination array
+    /// @param offset index of the roll in the first lane
+    private static void upperSection(int face, int[] counts, int[] out, int offset) {
+        IntVector.fromArray(SPECIES, counts, face * LANES).mul(face).intoArray(out, offset);
+    }
+
+    /// Scores one category of the lower section (6-11).
+    ///
+    /// Mirrors the rules' calculateFromFrequency(): only the counts of the
+    /// faces 1-6 are looked at, and the straights count the faces that
+    /// appear exactly once.
+    ///
+    /// @param categoryIndex the category index (6-11)
+    /// @param counts        the sums and face counts written by `countFaces`
+    /// @param out           destination array
+    /// @param offset        index of the roll in the first lane
+    private static void combination(int categoryIndex, int[] counts, int[] out, int offset) {
+        IntVector sum = IntVector.fromArray(SPECIES, counts, 0);
+        if (categoryIndex == 10) { // Choice
+            sum.intoArray(out, offset);
+            return;
+        }
+        IntVector one = IntVector.broadcast(SPECIES, 1);
+        IntVector score = IntVector.zero(SPECIES);
+        IntVector singles = score;
+        VectorMask<Integer> hasThree = SPECIES.maskAll(false);
+        VectorMask<Integer> hasTwo = hasThree;
+        VectorMask<Integer> hasFive = hasThree;
+        for (int face = 1; face <= RollIndex.FACES; face++) {
+            IntVector count = IntVector.fromArray(SPECIES, counts, face * LANES);
+            singles = singles.add(one, count.compare(VectorOperators.EQ, 1));
+            hasTwo = hasTwo.or(count.compare(VectorOperators.EQ, 2));
+            hasThree = hasThree.or(count.compare(VectorOperators.EQ, 3));
+            hasFive = hasFive.or(count.compare(VectorOperators.EQ, 5));
+            if (categoryIndex == 7) { // Four of a Kind: four times the face seen at least four times
+                score = score.blend(4 * face, count.compare(VectorOperators.GE, 4));
+            }
+        }
+        switch (categoryIndex) {
+            case 6 -> score = score.blend(sum, hasThree.and(hasTwo)); // Full House
+            case 8 -> score = score.blend(30, singles.compare(VectorOperators.GE, 4)); // Small Straight
+            case 9 -> score = score.blend(40, singles.compare(VectorOperators.GE, 5)); // Big Straight
+            case 11 -> score = score.blend(50, hasFive); // Yacht
+            default -> {
+            }
+        }
+        score.intoArray(out, offset);
+    }
+}
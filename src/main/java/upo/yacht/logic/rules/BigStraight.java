@@ -29,7 +29,16 @@ public class BigStraight implements ScoringRule {
     /// @return **40** if the dice form a Big Straight, otherwise **0**.
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return **40** if the dice form a Big Straight, otherwise **0**.
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         int sumFreq = 0;
         for (int i = 1; i < freq.length; i++) {
             if (freq[i] == 1) {
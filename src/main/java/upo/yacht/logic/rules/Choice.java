@@ -31,4 +31,14 @@ public class Choice implements ScoringRule {
     public int calculate(int[] diceValues) {
         return DiceUtils.sumDice(diceValues);
     }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the sum of all dice values
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
+        return diceSum;
+    }
 }
@@ -31,7 +31,16 @@ public class Fives implements ScoringRule {
     /// @return the sum of all 5's (frequency of 5's multiplied by 5)
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the sum of all 5's (frequency of 5's multiplied by 5)
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         return freq[5] * 5;
     }
 }
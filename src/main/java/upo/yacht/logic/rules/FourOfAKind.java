@@ -32,7 +32,16 @@ public class FourOfAKind implements ScoringRule {
     /// @return the sum of four matching dice, or 0 if no value appears at least 4 times
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the sum of four matching dice, or 0 if no value appears at least 4 times
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         for (int i = 1; i < freq.length; i++) {
             if (freq[i] >= 4) {
                 return i * 4;
@@ -31,7 +31,16 @@ public class Fours implements ScoringRule {
     /// @return the sum of all 4's (frequency of 4's multiplied by 4)
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the sum of all 4's (frequency of 4's multiplied by 4)
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         return freq[4] * 4;
     }
 }
@@ -32,7 +32,16 @@ public class FullHouse implements ScoringRule {
     /// @return the sum of all dice if Full House pattern is present, otherwise 0
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the sum of all dice if Full House pattern is present, otherwise 0
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         boolean haveThree = false;
         boolean haveTwo = false;
 
@@ -45,7 +54,7 @@ public class FullHouse implements ScoringRule {
         }
 
         if (haveThree && haveTwo) {
-            return DiceUtils.sumDice(diceValues);
+            return diceSum;
         }
         return 0;
     }
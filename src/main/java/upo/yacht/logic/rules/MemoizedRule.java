@@ -0,0 +1,216 @@
+package upo.yacht.logic.rules;
+
+import upo.yacht.util.DiceRoll;
+import upo.yacht.util.RollIndex;
+
+import java.util.Arrays;
+
+/// Decorator caching the scores of a `ScoringRule` for every distinct roll.
+///
+/// The cache holds one score per sorted roll of a number of dice and faces
+/// and is filled lazily: the first time a roll is scored, whether from its
+/// values or its frequency array, the wrapped rule is called and its score
+/// kept, so an expensive rule costs one computation per distinct roll.
+/// Five six-sided dice have 252 sorted rolls, keyed by their `RollIndex`
+/// sorted id; other shapes, such as the dice of a house variant, key a
+/// sorted roll by its rank among the multisets of faces. Rolls that do not
+/// fit the shape are passed to the wrapped rule every time.
+///
+/// The wrapped rule must score a roll from its faces only, whatever their
+/// order, as every category of the game does. Threads may share a memoized
+/// rule without locking: two threads scoring a new roll at the same time
+/// both compute it and store the same score.
+public final class MemoizedRule implements ScoringRule {
+    private static final int NOT_CACHED = Integer.MIN_VALUE;
+
+    private final ScoringRule rule;
+    private final int dice;
+    private final int faces;
+    private final boolean standard;
+    private final int[] binomials;
+    private final int[] scores;
+
+    /// Creates a cache in front of a rule.
+    ///
+    /// @param rule  the rule to cache
+    /// @param dice  the number of dice of a cached roll
+    /// @param faces the number of faces of every die
+    private MemoizedRule(ScoringRule rule, int dice, int faces) {
+        this.rule = rule;
+        this.dice = dice;
+        this.faces = faces;
+        this.standard = dice == RollIndex.DICE && faces == RollIndex.FACES;
+        // Pascal's triangle up to C(faces + dice - 1, dice), the number of sorted rolls
+        int rows = faces + dice;
+        this.binomials = new int[rows * (dice + 1)];
+        for (int n = 0; n < rows; n++) {
+            binomials[n * (dice + 1)] = 1;
+            for (int r = 1; r <= Math.min(n, dice); r++) {
+                binomials[n * (dice + 1) + r] = binomials[(n - 1) * (dice + 1) + r - 1] +
+                        binomials[(n - 1) * (dice + 1) + r];
+            }
+        }
+        this.scores = new int[binomial(faces + dice - 1, dice)];
+        Arrays.fill(scores, NOT_CACHED);
+    }
+
+    /// Wraps a rule in a cache for five six-sided dice, unless it is already cached.
+    ///
+    /// @param rule the rule to cache
+    /// @return the memoized rule
+    public static MemoizedRule of(ScoringRule rule) {
+        return of(rule, RollIndex.DICE, RollIndex.FACES);
+    }
+
+    /// Wraps a rule in a cache for the given dice, unless it is already cached for them.
+    ///
+    /// @param rule  the rule to cache
+    /// @param dice  the number of dice of a cached roll (at least 1)
+    /// @param faces the number of faces of every die (at least 2)
+    /// @return the memoized rule
+    /// @throws IllegalArgumentException if there are fewer than 1 die or 2 faces
+    public static MemoizedRule of(ScoringRule rule, int dice, int faces) {
+        if (dice < 1 || faces < 2) {
+            throw new IllegalArgumentException("Expected at least 1 die of 2 faces, got " + dice + " dice of " +
+                    faces + " faces");
+        }
+        if (rule instanceof MemoizedRule memoized) {
+            if (memoized.dice == dice && memoized.faces == faces) {
+                return memoized;
+            }
+            rule = memoized.rule;
+        }
+        return new MemoizedRule(rule, dice, faces);
+    }
+
+    /// Returns the rule this cache is in front of.
+    ///
+    /// @return the wrapped rule
+    public ScoringRule getRule() {
+        return rule;
+    }
+
+    /// Calculates the score for the given dice values, from the cache when possible.
+    ///
+    /// @param dice array of dice values to score
+    /// @return the score of the wrapped rule
+    @Override
+    public int calculate(int[] dice) {
+        int key = keyOf(dice);
+        if (key < 0) {
+            return rule.calculate(dice);
+        }
+        int score = scores[key];
+        if (score == NOT_CACHED) {
+            score = rule.calculate(dice);
+            scores[key] = score;
+        }
+        return score;
+    }
+
+    /// Calculates the score of a roll from the cache, computing it on first use.
+    ///
+    /// @param roll the roll to score
+    /// @return the score of the wrapped rule
+    @Override
+    public int calculate(DiceRoll roll) {
+        if (!standard) {
+            return rule.calculate(roll);
+        }
+        int score = scores[roll.getSortedId()];
+        if (score == NOT_CACHED) {
+            score = rule.calculate(roll);
+            scores[roll.getSortedId()] = score;
+        }
+        return score;
+    }
+
+    /// Calculates the score from a frequency array, from the cache when possible.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the score of the wrapped rule
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
+        int key = keyOfFrequency(freq);
+        if (key < 0) {
+            return rule.calculateFromFrequency(freq, diceSum);
+        }
+        int score = scores[key];
+        if (score == NOT_CACHED) {
+            score = rule.calculateFromFrequency(freq, diceSum);
+            scores[key] = score;
+        }
+        return score;
+    }
+
+    /// Returns the name of the wrapped category.
+    ///
+    /// @return the category name
+    @Override
+    public String getName() {
+        return rule.getName();
+    }
+
+    /// Returns the cache slot of dice values.
+    ///
+    /// @param values the dice values, in any order
+    /// @return the sorted id or rank of the roll, or -1 if the values do not fit the dice and faces
+    private int keyOf(int[] values) {
+        if (standard) {
+            return RollIndex.sortedIdOf(values);
+        }
+        if (values.length != dice) {
+            return -1;
+        }
+        int key = 0;
+        int position = 0;
+        for (int face = 1; face <= faces; face++) {
+            for (int value : values) {
+                if (value == face) {
+                    key += binomial(face - 1 + position, position + 1);
+                    position++;
+                }
+            }
+        }
+        return (position == dice) ? key : -1;
+    }
+
+    /// Returns the cache slot of a frequency array.
+    ///
+    /// @param freq the count of dice showing each face, index 0 unused
+    /// @return the sorted id or rank of the roll, or -1 if the counts do not fit the dice and faces
+    private int keyOfFrequency(int[] freq) {
+        if (freq.length != faces + 1) {
+            return -1;
+        }
+        int key = 0;
+        int position = 0;
+        int weight = 1;
+        for (int face = 1; face <= faces; face++) {
+            int count = freq[face];
+            if (count < 0 || count > dice - position) {
+                return -1;
+            }
+            for (int j = 0; j < count; j++) {
+                // The ordered index of the sorted dice for RollIndex, the multiset rank otherwise
+                key += standard ? (face - 1) * weight : binomial(face - 1 + position, position + 1);
+                weight *= faces;
+                position++;
+            }
+        }
+        if (position != dice) {
+            return -1;
+        }
+        return standard ? RollIndex.sortedId(key) : key;
+    }
+
+    /// Returns a binomial coefficient from the precomputed triangle.
+    ///
+    /// @param n the size of the set, below `faces + dice`
+    /// @param r the size of the subsets, at most `dice`
+    /// @return C(n, r)
+    private int binomial(int n, int r) {
+        return binomials[n * (dice + 1) + r];
+    }
+}
@@ -31,7 +31,16 @@ public class Ones implements ScoringRule {
     /// @return the count of all 1's (frequency of 1's, no multiplication needed)
     @Override
     public int calculate(int[] diceValues) {
-        int[] freq = DiceUtils.getDiceFrequency(diceValues);
+        return calculateFromFrequency(DiceUtils.getDiceFrequency(diceValues), DiceUtils.sumDice(diceValues));
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the count of all 1's (frequency of 1's, no multiplication needed)
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
         return freq[1]; // Multiplication by 1 is implicit
     }
 }
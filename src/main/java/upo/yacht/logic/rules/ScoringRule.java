@@ -1,5 +1,7 @@
 package upo.yacht.logic.rules;
 
+import upo.yacht.util.DiceRoll;
+
 /// Scoring rule interface for Yacht dice game categories.
 ///
 /// Each scoring rule represents a specific category in the game
@@ -9,6 +11,12 @@ package upo.yacht.logic.rules;
 /// Implementing classes must provide:
 /// - A calculation method that processes dice values
 /// - A name identifier for the category
+///
+/// Rules may also override `calculateFromFrequency` so that callers
+/// scoring several categories can build the frequency array only once.
+///
+/// A rule can be wrapped in a cache of its scores with `memoized`; a
+/// `Variant` does so for every rule class its definition names.
 public interface ScoringRule {
     /// Calculates the score for the given dice values.
     ///
@@ -19,8 +27,65 @@ public interface ScoringRule {
     /// @return the calculated score for this rule
     int calculate(int[] dice);
 
+    /// Calculates the score for an interned roll.
+    ///
+    /// The default implementation passes a copy of the faces to
+    /// `calculate(int[])`; a `MemoizedRule` answers from its cache instead.
+    ///
+    /// @param roll the roll to score
+    /// @return the calculated score for this rule
+    default int calculate(DiceRoll roll) {
+        return calculate(roll.toArray());
+    }
+
+    /// Calculates the score from a frequency array of the dice.
+    ///
+    /// The frequency array has the layout returned by
+    /// `DiceUtils.getDiceFrequency()`: index i holds the number of dice
+    /// showing face value i, and index 0 is unused. The default
+    /// implementation rebuilds the dice from the frequencies and calls
+    /// `calculate(int[])`, so rules that only depend on the faces work
+    /// unchanged; the built-in rules override it to avoid that step.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the calculated score for this rule
+    default int calculateFromFrequency(int[] freq, int diceSum) {
+        int count = 0;
+        for (int i = 1; i < freq.length; i++) {
+            count += freq[i];
+        }
+        int[] dice = new int[count];
+        int position = 0;
+        for (int i = 1; i < freq.length; i++) {
+            for (int j = 0; j < freq[i]; j++) {
+                dice[position++] = i;
+            }
+        }
+        return calculate(dice);
+    }
+
     /// Returns the name of this scoring category.
     ///
     /// @return the category name (e.g., "Full House", "Ones", "Choice")
     String getName();
+
+    /// Wraps a rule in a cache of its scores for every distinct roll of five six-sided dice.
+    ///
+    /// @param rule the rule to cache; its score must depend only on the faces, not their order
+    /// @return the memoized rule (the same object if it is already memoized)
+    static ScoringRule memoized(ScoringRule rule) {
+        return MemoizedRule.of(rule);
+    }
+
+    /// Wraps a rule in a cache of its scores for every distinct roll of the given dice.
+    ///
+    /// @param rule  the rule to cache; its score must depend only on the faces, not their order
+    /// @param dice  the number of dice of a roll
+    /// @param faces the number of faces of every die
+    /// @return the memoized rule (the same object if it is already memoized for these dice)
+    /// @throws IllegalArgumentException if there are fewer than 1 die or 2 faces
+    static ScoringRule memoized(ScoringRule rule, int dice, int faces) {
+        return MemoizedRule.of(rule, dice, faces);
+    }
 }
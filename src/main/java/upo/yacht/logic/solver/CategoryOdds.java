@@ -0,0 +1,120 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Scoreboard;
+import upo.yacht.util.RollIndex;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/// Exact odds of completing each category within the rerolls left in a turn.
+///
+/// A category is *completed* when the final dice score at least its
+/// target: three dice of the face for the upper section (Ones to Sixes),
+/// any points for the other categories. For every category, number of
+/// rerolls left and sorted roll, the odds assume the player keeps the
+/// dice that maximize the chance of completing that category, computed
+/// with the same backward pass over `KeepTransitions` as the solvers.
+///
+/// The odds of the 12 categories, 3 reroll counts and 252 rolls are built
+/// once at class initialization into one flat `float` array (36 KB), so a
+/// query is a table lookup. This class is final and cannot be instantiated.
+public final class CategoryOdds {
+    /// Largest number of rerolls a turn allows.
+    public static final int MAX_REROLLS = 2;
+
+    private static final int STAGE = RollIndex.NUM_SORTED;
+    private static final int CATEGORY = (MAX_REROLLS + 1) * STAGE;
+    private static final int[] TARGET = new int[Scorer.NUM_CATEGORIES];
+    private static final float[] ODDS = new float[Scorer.NUM_CATEGORIES * CATEGORY];
+
+    static {
+        TurnSolver solver = new TurnSolver();
+        double[] values = new double[RollIndex.NUM_SORTED];
+        double[] earlier = new double[RollIndex.NUM_SORTED];
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            TARGET[c] = (c < 6) ? 3 * (c + 1) : 1;
+            for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                values[id] = (Scorer.getScore(c, RollIndex.getFaces(id)) >= TARGET[c]) ? 1 : 0;
+            }
+            for (int rerolls = 0; rerolls <= MAX_REROLLS; rerolls++) {
+                if (rerolls > 0) {
+                    solver.rerollStage(values, earlier);
+                    double[] tmp = values;
+                    values = earlier;
+                    earlier = tmp;
+                }
+                int offset = c * CATEGORY + rerolls * STAGE;
+                for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                    ODDS[offset + id] = (float) values[id];
+                }
+            }
+        }
+    }
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private CategoryOdds() {
+    }
+
+    /// Returns the score a category must reach to count as completed.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @return three times the face for the upper section, 1 for the other categories
+    public static int getTarget(int categoryIndex) {
+        return TARGET[categoryIndex];
+    }
+
+    /// Returns the odds of completing a category from the current dice.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @param dice          the current dice values (5 values, 1-6)
+    /// @param rerollsLeft   how many rerolls are still allowed (0-2)
+    /// @return the probability of completing the category with the best play
+    /// @throws IllegalArgumentException  if the dice are not 5 values between 1 and 6
+    /// @throws IndexOutOfBoundsException if the category or the number of rerolls is out of range
+    public static double getProbability(int categoryIndex, int[] dice, int rerollsLeft) {
+        Objects.checkIndex(categoryIndex, Scorer.NUM_CATEGORIES);
+        Objects.checkIndex(rerollsLeft, MAX_REROLLS + 1);
+        return ODDS[categoryIndex * CATEGORY + rerollsLeft * STAGE + sortedIdOf(dice)];
+    }
+
+    /// Returns the odds of completing every open category of a scoreboard.
+    ///
+    /// @param board       the scoreboard of the player
+    /// @param dice        the current dice values (5 values, 1-6)
+    /// @param rerollsLeft how many rerolls are still allowed (0-2)
+    /// @param out         array of at least 12 elements receiving the probability of each
+    ///                    category, `NaN` for the filled ones
+    /// @return the `out` array, for convenience
+    /// @throws IllegalArgumentException  if the dice are not 5 values between 1 and 6,
+    ///                                   or `out` is too short
+    /// @throws IndexOutOfBoundsException if the number of rerolls is out of range
+    public static double[] getOpenOdds(Scoreboard board, int[] dice, int rerollsLeft, double[] out) {
+        if (out.length < Scorer.NUM_CATEGORIES) {
+            throw new IllegalArgumentException("Odds array must have room for " + Scorer.NUM_CATEGORIES +
+                    " categories, got " + out.length);
+        }
+        Objects.checkIndex(rerollsLeft, MAX_REROLLS + 1);
+        int offset = rerollsLeft * STAGE + sortedIdOf(dice);
+        Arrays.fill(out, 0, Scorer.NUM_CATEGORIES, Double.NaN);
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            if (!board.isCategoryUsed(c)) {
+                out[c] = ODDS[c * CATEGORY + offset];
+            }
+        }
+        return out;
+    }
+
+    /// Returns the sorted id of valid dice.
+    ///
+    /// @param dice the dice values
+    /// @return the sorted id (0-251)
+    /// @throws IllegalArgumentException if the dice are not 5 values between 1 and 6
+    private static int sortedIdOf(int[] dice) {
+        int id = RollIndex.sortedIdOf(dice);
+        if (id < 0) {
+            throw new IllegalArgumentException("Expected 5 dice between 1 and 6, got " + Arrays.toString(dice));
+        }
+        return id;
+    }
+}
@@ -0,0 +1,109 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.ScoreTable;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/// Exact expected-value solver for solitaire play in Classic mode.
+///
+/// Classic scores are additive and have no bonus, so the value of the rest
+/// of a game depends only on the set of categories already used. The
+/// solver runs a backward induction over the 4096 subsets of the 12
+/// categories. For each subset it evaluates one turn over the 252 sorted
+/// rolls, every distinct keep of each roll and the 3 rolls of the turn.
+///
+/// Subsets with the same number of used categories only depend on larger
+/// subsets, so each such layer is solved in parallel on a fork/join pool.
+/// This class is final and cannot be instantiated.
+public final class ClassicSolver {
+    /// Number of subsets of used categories.
+    public static final int NUM_MASKS = 1 << Scorer.NUM_CATEGORIES;
+    /// Bit mask with every category used.
+    public static final int FULL_MASK = NUM_MASKS - 1;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private ClassicSolver() {
+    }
+
+    /// Solves Classic mode and returns the optimal strategy table.
+    ///
+    /// @param threads number of worker threads (minimum 1)
+    /// @return the table with the expected values and the optimal policy
+    /// @throws IllegalArgumentException if the number of threads is not positive
+    public static ClassicStrategyTable solve(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least 1 thread is required, got " + threads);
+        }
+        double[] expected = new double[NUM_MASKS];
+        float[] noRollLeft = new float[NUM_MASKS * RollIndex.NUM_SORTED];
+        float[] oneRollLeft = new float[NUM_MASKS * RollIndex.NUM_SORTED];
+
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            for (int used = Scorer.NUM_CATEGORIES - 1; used >= 0; used--) {
+                int[] layer = masksWithBitCount(used);
+                pool.submit(() -> IntStream.of(layer).parallel()
+                        .forEach(mask -> solveMask(mask, expected, noRollLeft, oneRollLeft))).join();
+            }
+        }
+        return new ClassicStrategyTable(expected, noRollLeft, oneRollLeft);
+    }
+
+    /// Solves the turn played with the given categories already used.
+    ///
+    /// Stores the expected rest-of-game value of the subset and the value
+    /// of every roll seen with no roll and with one roll left.
+    ///
+    /// @param usedMask    the categories already used (bit i set means category i)
+    /// @param expected    expected values by subset; read for larger subsets, written for this one
+    /// @param noRollLeft  values of final rolls, written for this subset
+    /// @param oneRollLeft values of rolls with one roll left, written for this subset
+    private static void solveMask(int usedMask, double[] expected, float[] noRollLeft, float[] oneRollLeft) {
+        TurnSolver solver = new TurnSolver();
+        double[] finalValues = new double[RollIndex.NUM_SORTED];
+        double[] oneLeft = new double[RollIndex.NUM_SORTED];
+        double[] twoLeft = new double[RollIndex.NUM_SORTED];
+
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            finalValues[id] = finalValue(usedMask, id, expected);
+        }
+        solver.rerollStage(finalValues, oneLeft);
+        solver.rerollStage(oneLeft, twoLeft);
+
+        int offset = usedMask * RollIndex.NUM_SORTED;
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            noRollLeft[offset + id] = (float) finalValues[id];
+            oneRollLeft[offset + id] = (float) oneLeft[id];
+        }
+        expected[usedMask] = TurnSolver.firstRoll(twoLeft);
+    }
+
+    /// Returns the value of scoring a final roll in its best open category.
+    ///
+    /// @param usedMask the categories already used
+    /// @param sortedId the final roll (0-251)
+    /// @param expected expected rest-of-game values by subset
+    /// @return the points of the best category plus the value of the rest of the game
+    static double finalValue(int usedMask, int sortedId, double[] expected) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            int bit = 1 << c;
+            if ((usedMask & bit) == 0) {
+                best = Math.max(best, ScoreTable.getScore(c, sortedId) + expected[usedMask | bit]);
+            }
+        }
+        return best;
+    }
+
+    /// Lists the subsets with the given number of used categories.
+    ///
+    /// @param bitCount the number of used categories
+    /// @return the masks with exactly that many bits set
+    private static int[] masksWithBitCount(int bitCount) {
+        return IntStream.range(0, NUM_MASKS)
+                .filter(mask -> Integer.bitCount(mask) == bitCount)
+                .toArray();
+    }
+}
@@ -0,0 +1,150 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.ScoreTable;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+/// Optimal Classic-mode policy produced by `ClassicSolver`.
+///
+/// Stores the expected rest-of-game score of every subset of used
+/// categories and the value of every roll seen with no roll and with one
+/// roll left. A policy query only has to combine the outcomes of the
+/// distinct keeps of one roll, so it runs in microseconds without
+/// allocating.
+///
+/// Instances are immutable and safe to share between threads.
+public class ClassicStrategyTable implements StrategyTable {
+    private final double[] expected;
+    private final float[] noRollLeft;
+    private final float[] oneRollLeft;
+
+    /// Creates a table from the solver's results.
+    ///
+    /// @param expected    expected rest-of-game score by subset of used categories
+    /// @param noRollLeft  value of every final roll, by subset then sorted id
+    /// @param oneRollLeft value of every roll with one roll left, by subset then sorted id
+    ClassicStrategyTable(double[] expected, float[] noRollLeft, float[] oneRollLeft) {
+        this.expected = expected;
+        this.noRollLeft = noRollLeft;
+        this.oneRollLeft = oneRollLeft;
+    }
+
+    /// Returns the expected final score of a game played optimally.
+    ///
+    /// @return the expected score from an empty scoreboard
+    @Override
+    public double getExpectedScore() {
+        return expected[0];
+    }
+
+    /// Returns the expected score still to be made from a scoreboard.
+    ///
+    /// @param usedMask the categories already used (bit i set means category i)
+    /// @return the expected points of the remaining turns under optimal play
+    @Override
+    public double getExpectedRemaining(int usedMask) {
+        checkMask(usedMask);
+        return expected[usedMask];
+    }
+
+    /// Returns the best category to score a final roll in.
+    ///
+    /// @param usedMask the categories already used; at least one must be open
+    /// @param dice     the final dice values (5 values, 1-6)
+    /// @return the index of the open category maximizing points plus expected rest of game
+    /// @throws IllegalArgumentException if the mask is full or the dice are invalid
+    @Override
+    public int bestCategory(int usedMask, int[] dice) {
+        checkOpenMask(usedMask);
+        int sortedId = checkDice(dice);
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            int bit = 1 << c;
+            if ((usedMask & bit) == 0) {
+                double value = ScoreTable.getScore(c, sortedId) + expected[usedMask | bit];
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = c;
+                }
+            }
+        }
+        return best;
+    }
+
+    /// Returns the best dice to reroll.
+    ///
+    /// Evaluates every distinct keep of the roll and picks the one with
+    /// the highest expected value, preferring to hold all dice on ties.
+    ///
+    /// @param usedMask  the categories already used; at least one must be open
+    /// @param dice      the current dice values (5 values, 1-6)
+    /// @param rollsLeft the rolls still allowed in the turn (1 or 2)
+    /// @return the reroll mask (bit i set means die i is rerolled; 0 keeps all dice)
+    /// @throws IllegalArgumentException if an argument is out of range
+    @Override
+    public int bestRerollMask(int usedMask, int[] dice, int rollsLeft) {
+        checkOpenMask(usedMask);
+        int sortedId = checkDice(dice);
+        if (rollsLeft < 1 || rollsLeft > 2) {
+            throw new IllegalArgumentException("Rolls left must be 1 or 2, got " + rollsLeft);
+        }
+
+        int bestKeep = KeepTransitions.fullKeep(sortedId);
+        double bestValue = keepValue(usedMask, bestKeep, rollsLeft);
+        for (int j = KeepTransitions.getDistinctStart(sortedId); j < KeepTransitions.getDistinctStart(sortedId + 1); j++) {
+            int keep = KeepTransitions.getDistinctKeep(j);
+            double value = keepValue(usedMask, keep, rollsLeft);
+            if (value > bestValue) {
+                bestValue = value;
+                bestKeep = keep;
+            }
+        }
+        return KeepTransitions.rerollMaskFor(dice, bestKeep);
+    }
+
+    /// Returns the expected value of holding a keep and rerolling the rest.
+    ///
+    /// @param usedMask  the categories already used
+    /// @param keep      the keep id (0-461)
+    /// @param rollsLeft the rolls still allowed before the reroll (1 or 2)
+    /// @return the expected points of the rest of the game after the reroll
+    private double keepValue(int usedMask, int keep, int rollsLeft) {
+        float[] values = (rollsLeft == 2) ? oneRollLeft : noRollLeft;
+        return KeepTransitions.expectation(keep, values, usedMask * RollIndex.NUM_SORTED);
+    }
+
+    /// Validates a subset mask.
+    ///
+    /// @param usedMask the mask to check
+    /// @throws IllegalArgumentException if the mask is not a subset of the 12 categories
+    private static void checkMask(int usedMask) {
+        if (usedMask < 0 || usedMask > ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Invalid category mask: " + usedMask);
+        }
+    }
+
+    /// Validates a subset mask with at least one open category.
+    ///
+    /// @param usedMask the mask to check
+    /// @throws IllegalArgumentException if the mask is invalid or full
+    private static void checkOpenMask(int usedMask) {
+        checkMask(usedMask);
+        if (usedMask == ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Every category is already used");
+        }
+    }
+
+    /// Validates dice values and returns their sorted id.
+    ///
+    /// @param dice the dice to check
+    /// @return the sorted id of the dice
+    /// @throws IllegalArgumentException if the dice are not 5 values between 1 and 6
+    private static int checkDice(int[] dice) {
+        int sortedId = RollIndex.sortedIdOf(dice);
+        if (sortedId < 0) {
+            throw new IllegalArgumentException("Dice must be 5 values between 1 and 6");
+        }
+        return sortedId;
+    }
+}
@@ -0,0 +1,152 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.ScoreTable;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+/// Exact expected-value solver for solitaire play in Extended mode.
+///
+/// Extended mode fills one category per round, so the round always equals
+/// the number of used categories and never has to be stored:
+/// - Rounds 1-4 (Downward) force categories 0-3 in order. The rest of the
+///   game does not depend on their outcome, so each of these turns simply
+///   maximizes the expected score of its forced category over 3 rolls.
+/// - Rounds 5-12 always start with categories 0-3 used. A state is
+///   therefore encoded as the 8-bit mask of the used categories 4-11,
+///   giving 256 states. Rounds 5-8 allow a single roll and rounds 9-12
+///   allow 3 rolls.
+///
+/// The 256 states are solved layer by layer in parallel, like
+/// `ClassicSolver`, and the 4 Downward turns run concurrently with them.
+/// This class is final and cannot be instantiated.
+public final class ExtendedSolver {
+    /// Number of Downward rounds with a forced category.
+    public static final int DOWNWARD_ROUNDS = 4;
+    /// Number of categories that can be chosen freely.
+    public static final int FREE_CATEGORIES = Scorer.NUM_CATEGORIES - DOWNWARD_ROUNDS;
+    /// Number of compact states after the Downward phase.
+    public static final int NUM_STATES = 1 << FREE_CATEGORIES;
+    /// Compact state with every free category used.
+    public static final int FULL_STATE = NUM_STATES - 1;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private ExtendedSolver() {
+    }
+
+    /// Solves Extended mode and returns the optimal strategy table.
+    ///
+    /// @param threads number of worker threads (minimum 1)
+    /// @return the table with the expected values and the optimal policy
+    /// @throws IllegalArgumentException if the number of threads is not positive
+    public static ExtendedStrategyTable solve(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least 1 thread is required, got " + threads);
+        }
+        double[] expected = new double[NUM_STATES];
+        float[] noRollLeft = new float[NUM_STATES * RollIndex.NUM_SORTED];
+        float[] oneRollLeft = new float[NUM_STATES * RollIndex.NUM_SORTED];
+        double[] downwardExpected = new double[DOWNWARD_ROUNDS];
+        float[] downwardOneRollLeft = new float[DOWNWARD_ROUNDS * RollIndex.NUM_SORTED];
+
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            ForkJoinTask<?> downward = pool.submit(() -> IntStream.range(0, DOWNWARD_ROUNDS).parallel()
+                    .forEach(round -> solveDownward(round, downwardExpected, downwardOneRollLeft)));
+            for (int used = FREE_CATEGORIES - 1; used >= 0; used--) {
+                int[] layer = statesWithBitCount(used);
+                pool.submit(() -> IntStream.of(layer).parallel()
+                        .forEach(state -> solveState(state, expected, noRollLeft, oneRollLeft))).join();
+            }
+            downward.join();
+        }
+        return new ExtendedStrategyTable(expected, noRollLeft, oneRollLeft, downwardExpected, downwardOneRollLeft);
+    }
+
+    /// Solves a Downward turn, which only maximizes its forced category.
+    ///
+    /// @param round               the Downward round (0-3), equal to its category
+    /// @param downwardExpected    receives the expected points of the round
+    /// @param downwardOneRollLeft receives the value of every roll with one roll left
+    private static void solveDownward(int round, double[] downwardExpected, float[] downwardOneRollLeft) {
+        TurnSolver solver = new TurnSolver();
+        double[] finalValues = new double[RollIndex.NUM_SORTED];
+        double[] oneLeft = new double[RollIndex.NUM_SORTED];
+        double[] twoLeft = new double[RollIndex.NUM_SORTED];
+
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            finalValues[id] = ScoreTable.getScore(round, id);
+        }
+        solver.rerollStage(finalValues, oneLeft);
+        solver.rerollStage(oneLeft, twoLeft);
+
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            downwardOneRollLeft[round * RollIndex.NUM_SORTED + id] = (float) oneLeft[id];
+        }
+        downwardExpected[round] = TurnSolver.firstRoll(twoLeft);
+    }
+
+    /// Solves the turn played from a compact state after the Downward phase.
+    ///
+    /// @param state       the used free categories (bit i set means category i + 4)
+    /// @param expected    expected values by state; read for larger states, written for this one
+    /// @param noRollLeft  values of final rolls, written for this state
+    /// @param oneRollLeft values of rolls with one roll left, written for this state
+    private static void solveState(int state, double[] expected, float[] noRollLeft, float[] oneRollLeft) {
+        double[] finalValues = new double[RollIndex.NUM_SORTED];
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            finalValues[id] = finalValue(state, id, expected);
+        }
+
+        int offset = state * RollIndex.NUM_SORTED;
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            noRollLeft[offset + id] = (float) finalValues[id];
+        }
+
+        int round = DOWNWARD_ROUNDS + Integer.bitCount(state);
+        if (GameEngine.getMaxRolls(true, round) == 1) {
+            expected[state] = TurnSolver.firstRoll(finalValues);
+            return;
+        }
+
+        TurnSolver solver = new TurnSolver();
+        double[] oneLeft = new double[RollIndex.NUM_SORTED];
+        double[] twoLeft = new double[RollIndex.NUM_SORTED];
+        solver.rerollStage(finalValues, oneLeft);
+        solver.rerollStage(oneLeft, twoLeft);
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            oneRollLeft[offset + id] = (float) oneLeft[id];
+        }
+        expected[state] = TurnSolver.firstRoll(twoLeft);
+    }
+
+    /// Returns the value of scoring a final roll in its best open free category.
+    ///
+    /// @param state    the used free categories
+    /// @param sortedId the final roll (0-251)
+    /// @param expected expected rest-of-game values by state
+    /// @return the points of the best category plus the value of the rest of the game
+    static double finalValue(int state, int sortedId, double[] expected) {
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < FREE_CATEGORIES; i++) {
+            int bit = 1 << i;
+            if ((state & bit) == 0) {
+                best = Math.max(best, ScoreTable.getScore(DOWNWARD_ROUNDS + i, sortedId) + expected[state | bit]);
+            }
+        }
+        return best;
+    }
+
+    /// Lists the compact states with the given number of used free categories.
+    ///
+    /// @param bitCount the number of used free categories
+    /// @return the states with exactly that many bits set
+    private static int[] statesWithBitCount(int bitCount) {
+        return IntStream.range(0, NUM_STATES)
+                .filter(state -> Integer.bitCount(state) == bitCount)
+                .toArray();
+    }
+}
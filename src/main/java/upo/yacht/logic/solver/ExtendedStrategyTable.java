@@ -0,0 +1,205 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.ScoreTable;
+import upo.yacht.util.RollIndex;
+
+/// Optimal Extended-mode policy produced by `ExtendedSolver`.
+///
+/// Queries take the usual 12-bit mask of used categories, from which the
+/// round and the phase are derived, and translate it to the compact state
+/// used by the solver. Like `ClassicStrategyTable`, a query only combines
+/// the outcomes of the distinct keeps of one roll and does not allocate.
+///
+/// Instances are immutable and safe to share between threads.
+public class ExtendedStrategyTable implements StrategyTable {
+    private static final int DOWNWARD_MASK = (1 << ExtendedSolver.DOWNWARD_ROUNDS) - 1;
+
+    private final double[] expected;
+    private final float[] noRollLeft;
+    private final float[] oneRollLeft;
+    private final double[] downwardExpected;
+    private final float[] downwardOneRollLeft;
+
+    /// Creates a table from the solver's results.
+    ///
+    /// @param expected            expected rest-of-game score by compact state
+    /// @param noRollLeft          value of every final roll, by state then sorted id
+    /// @param oneRollLeft         value of every roll with one roll left, by state then sorted id
+    /// @param downwardExpected    expected points of each Downward round
+    /// @param downwardOneRollLeft value of every roll with one roll left, by Downward round then sorted id
+    ExtendedStrategyTable(double[] expected, float[] noRollLeft, float[] oneRollLeft,
+                          double[] downwardExpected, float[] downwardOneRollLeft) {
+        this.expected = expected;
+        this.noRollLeft = noRollLeft;
+        this.oneRollLeft = oneRollLeft;
+        this.downwardExpected = downwardExpected;
+        this.downwardOneRollLeft = downwardOneRollLeft;
+    }
+
+    /// Returns the expected final score of a game played optimally.
+    ///
+    /// @return the expected score from an empty scoreboard
+    @Override
+    public double getExpectedScore() {
+        return getExpectedRemaining(0);
+    }
+
+    /// Returns the expected score still to be made from a scoreboard.
+    ///
+    /// @param usedMask the categories already used (bit i set means category i)
+    /// @return the expected points of the remaining turns under optimal play
+    /// @throws IllegalArgumentException if the mask cannot occur in Extended mode
+    @Override
+    public double getExpectedRemaining(int usedMask) {
+        int round = checkMask(usedMask);
+        if (round >= ExtendedSolver.DOWNWARD_ROUNDS) {
+            return expected[toState(usedMask)];
+        }
+        double remaining = expected[0];
+        for (int r = round; r < ExtendedSolver.DOWNWARD_ROUNDS; r++) {
+            remaining += downwardExpected[r];
+        }
+        return remaining;
+    }
+
+    /// Returns the best category to score a final roll in.
+    ///
+    /// During the Downward phase this is the forced category of the round.
+    ///
+    /// @param usedMask the categories already used; at least one must be open
+    /// @param dice     the final dice values (5 values, 1-6)
+    /// @return the index of the category maximizing points plus expected rest of game
+    /// @throws IllegalArgumentException if the mask cannot occur, is full, or the dice are invalid
+    @Override
+    public int bestCategory(int usedMask, int[] dice) {
+        int round = checkOpenMask(usedMask);
+        int sortedId = checkDice(dice);
+        int forced = GameEngine.getForcedCategory(true, round);
+        if (forced >= 0) {
+            return forced;
+        }
+
+        int state = toState(usedMask);
+        int best = -1;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < ExtendedSolver.FREE_CATEGORIES; i++) {
+            int bit = 1 << i;
+            if ((state & bit) == 0) {
+                double value = ScoreTable.getScore(ExtendedSolver.DOWNWARD_ROUNDS + i, sortedId)
+                        + expected[state | bit];
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = ExtendedSolver.DOWNWARD_ROUNDS + i;
+                }
+            }
+        }
+        return best;
+    }
+
+    /// Returns the best dice to reroll.
+    ///
+    /// @param usedMask  the categories already used; at least one must be open
+    /// @param dice      the current dice values (5 values, 1-6)
+    /// @param rollsLeft the rolls still allowed in the turn; must be allowed by the round's phase
+    /// @return the reroll mask (bit i set means die i is rerolled; 0 keeps all dice)
+    /// @throws IllegalArgumentException if an argument is out of range for the round
+    @Override
+    public int bestRerollMask(int usedMask, int[] dice, int rollsLeft) {
+        int round = checkOpenMask(usedMask);
+        int sortedId = checkDice(dice);
+        int maxRerolls = GameEngine.getMaxRolls(true, round) - 1;
+        if (rollsLeft < 1 || rollsLeft > maxRerolls) {
+            throw new IllegalArgumentException("Rolls left must be between 1 and " + maxRerolls +
+                    " in round " + (round + 1) + ", got " + rollsLeft);
+        }
+
+        int bestKeep = KeepTransitions.fullKeep(sortedId);
+        double bestValue = keepValue(usedMask, round, bestKeep, rollsLeft);
+        for (int j = KeepTransitions.getDistinctStart(sortedId); j < KeepTransitions.getDistinctStart(sortedId + 1); j++) {
+            int keep = KeepTransitions.getDistinctKeep(j);
+            double value = keepValue(usedMask, round, keep, rollsLeft);
+            if (value > bestValue) {
+                bestValue = value;
+                bestKeep = keep;
+            }
+        }
+        return KeepTransitions.rerollMaskFor(dice, bestKeep);
+    }
+
+    /// Returns the expected value of holding a keep and rerolling the rest.
+    ///
+    /// @param usedMask  the categories already used
+    /// @param round     the current round
+    /// @param keep      the keep id (0-461)
+    /// @param rollsLeft the rolls still allowed before the reroll (1 or 2)
+    /// @return the expected value of the turn after the reroll
+    private double keepValue(int usedMask, int round, int keep, int rollsLeft) {
+        if (round < ExtendedSolver.DOWNWARD_ROUNDS) {
+            if (rollsLeft == 2) {
+                return KeepTransitions.expectation(keep, downwardOneRollLeft, round * RollIndex.NUM_SORTED);
+            }
+            double sum = 0;
+            for (int i = KeepTransitions.getOutcomeStart(keep); i < KeepTransitions.getOutcomeStart(keep + 1); i++) {
+                sum += KeepTransitions.getOutcomeProbability(i)
+                        * ScoreTable.getScore(round, KeepTransitions.getOutcomeId(i));
+            }
+            return sum;
+        }
+        float[] values = (rollsLeft == 2) ? oneRollLeft : noRollLeft;
+        return KeepTransitions.expectation(keep, values, toState(usedMask) * RollIndex.NUM_SORTED);
+    }
+
+    /// Converts a 12-bit mask of the free phases to the compact state.
+    ///
+    /// @param usedMask a mask including the 4 Downward categories
+    /// @return the mask of the used free categories (0-255)
+    private static int toState(int usedMask) {
+        return usedMask >>> ExtendedSolver.DOWNWARD_ROUNDS;
+    }
+
+    /// Validates a mask and returns its round.
+    ///
+    /// @param usedMask the mask to check
+    /// @return the round the mask belongs to (0-12)
+    /// @throws IllegalArgumentException if the mask cannot occur in Extended mode
+    private static int checkMask(int usedMask) {
+        if (usedMask < 0 || usedMask > ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Invalid category mask: " + usedMask);
+        }
+        int round = Integer.bitCount(usedMask);
+        boolean reachable = (round < ExtendedSolver.DOWNWARD_ROUNDS)
+                ? usedMask == (1 << round) - 1
+                : (usedMask & DOWNWARD_MASK) == DOWNWARD_MASK;
+        if (!reachable) {
+            throw new IllegalArgumentException("Category mask " + usedMask + " cannot occur in Extended mode");
+        }
+        return round;
+    }
+
+    /// Validates a mask with at least one open category and returns its round.
+    ///
+    /// @param usedMask the mask to check
+    /// @return the round the mask belongs to (0-11)
+    /// @throws IllegalArgumentException if the mask is invalid or full
+    private static int checkOpenMask(int usedMask) {
+        int round = checkMask(usedMask);
+        if (usedMask == ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Every category is already used");
+        }
+        return round;
+    }
+
+    /// Validates dice values and returns their sorted id.
+    ///
+    /// @param dice the dice to check
+    /// @return the sorted id of the dice
+    /// @throws IllegalArgumentException if the dice are not 5 values between 1 and 6
+    private static int checkDice(int[] dice) {
+        int sortedId = RollIndex.sortedIdOf(dice);
+        if (sortedId < 0) {
+            throw new IllegalArgumentException("Dice must be 5 values between 1 and 6");
+        }
+        return sortedId;
+    }
+}
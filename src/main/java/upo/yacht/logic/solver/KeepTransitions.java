@@ -0,0 +1,338 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.util.RollIndex;
+
+import java.util.Arrays;
+
+/// Exact transition model for keeping some dice and rerolling the rest.
+///
+/// A *keep* is the multiset of 0 to 5 faces a player holds before a
+/// reroll; there are 462 of them. For every keep the model stores the
+/// exact probability of each sorted roll (see `RollIndex`) that can come
+/// out of rerolling the other dice. For every sorted roll it also lists
+/// the distinct keeps reachable by holding a subset of its dice, so a
+/// search never evaluates the same keep twice for one roll.
+///
+/// All tables are flat primitive arrays built once at class
+/// initialization. This class is final and cannot be instantiated.
+public final class KeepTransitions {
+    /// Number of distinct keeps (multisets of 0 to 5 faces).
+    public static final int NUM_KEEPS = 462;
+    /// Keep id of holding no dice, i.e. rolling all five.
+    public static final int EMPTY_KEEP = 0;
+
+    private static final int DICE = RollIndex.DICE;
+    private static final int FACES = RollIndex.FACES;
+    private static final int[] POW6 = {1, 6, 36, 216, 1296, 7776, 46656};
+
+    private static final int[] KEEP_BY_KEY = new int[POW6[FACES]];
+    private static final int[] KEEP_KEY = new int[NUM_KEEPS];
+    private static final int[] KEEP_SIZE = new int[NUM_KEEPS];
+    private static final int[] SORTED_BY_KEY = new int[POW6[FACES]];
+
+    private static final int[] OUTCOME_START = new int[NUM_KEEPS + 1];
+    private static final short[] OUTCOME_ID;
+    private static final double[] OUTCOME_PROBABILITY;
+
+    private static final int[] DISTINCT_START = new int[RollIndex.NUM_SORTED + 1];
+    private static final short[] DISTINCT_KEEP;
+    private static final byte[] DISTINCT_MASK;
+
+    static {
+        Arrays.fill(KEEP_BY_KEY, -1);
+        Arrays.fill(SORTED_BY_KEY, -1);
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            int key = 0;
+            for (int face = 1; face <= FACES; face++) {
+                key += RollIndex.getCount(id, face) * POW6[face - 1];
+            }
+            SORTED_BY_KEY[key] = id;
+        }
+
+        // Number every keep, smallest first
+        int[] counts = new int[FACES + 1];
+        int[] next = {0};
+        for (int size = 0; size <= DICE; size++) {
+            final int keepSize = size;
+            forEachMultiset(size, 1, counts, () -> {
+                int key = keyOf(counts);
+                KEEP_BY_KEY[key] = next[0];
+                KEEP_KEY[next[0]] = key;
+                KEEP_SIZE[next[0]] = keepSize;
+                next[0]++;
+            });
+        }
+
+        // Outcome distribution of every keep
+        int totalOutcomes = 0;
+        for (int k = 0; k < NUM_KEEPS; k++) {
+            totalOutcomes += multisetCount(DICE - KEEP_SIZE[k]);
+        }
+        OUTCOME_ID = new short[totalOutcomes];
+        OUTCOME_PROBABILITY = new double[totalOutcomes];
+        int[] position = {0};
+        for (int k = 0; k < NUM_KEEPS; k++) {
+            OUTCOME_START[k] = position[0];
+            int rerolled = DICE - KEEP_SIZE[k];
+            int keepKey = KEEP_KEY[k];
+            double denominator = Math.pow(FACES, rerolled);
+            Arrays.fill(counts, 0);
+            forEachMultiset(rerolled, 1, counts, () -> {
+                double arrangements = factorial(rerolled);
+                for (int face = 1; face <= FACES; face++) {
+                    arrangements /= factorial(counts[face]);
+                }
+                OUTCOME_ID[position[0]] = (short) SORTED_BY_KEY[keepKey + keyOf(counts)];
+                OUTCOME_PROBABILITY[position[0]] = arrangements / denominator;
+                position[0]++;
+            });
+        }
+        OUTCOME_START[NUM_KEEPS] = position[0];
+
+        // Distinct keeps of every sorted roll, with one sorted-position mask each
+        short[] keeps = new short[RollIndex.NUM_SORTED * 32];
+        byte[] masks = new byte[RollIndex.NUM_SORTED * 32];
+        int distinct = 0;
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            DISTINCT_START[id] = distinct;
+            for (int keepMask = 0; keepMask < 32; keepMask++) {
+                int key = 0;
+                for (int i = 0; i < DICE; i++) {
+                    if ((keepMask & (1 << i)) != 0) {
+                        key += POW6[RollIndex.getFace(id, i) - 1];
+                    }
+                }
+                int keep = KEEP_BY_KEY[key];
+                boolean seen = false;
+                for (int j = DISTINCT_START[id]; j < distinct; j++) {
+                    if (keeps[j] == keep) {
+                        seen = true;
+                        break;
+                    }
+                }
+                if (!seen) {
+                    keeps[distinct] = (short) keep;
+                    masks[distinct] = (byte) keepMask;
+                    distinct++;
+                }
+            }
+        }
+        DISTINCT_START[RollIndex.NUM_SORTED] = distinct;
+        DISTINCT_KEEP = Arrays.copyOf(keeps, distinct);
+        DISTINCT_MASK = Arrays.copyOf(masks, distinct);
+    }
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private KeepTransitions() {
+    }
+
+    /// Returns the keep obtained by holding some dice of an ordered roll.
+    ///
+    /// Uses the same convention as `PlayerStrategy`: bit i of the mask set
+    /// means die i is rerolled, so the keep holds every other die.
+    ///
+    /// @param dice       the ordered dice values (5 values, 1-6)
+    /// @param rerollMask the dice to reroll (0-31)
+    /// @return the keep id (0-461)
+    public static int keepIdOf(int[] dice, int rerollMask) {
+        int key = 0;
+        for (int i = 0; i < DICE; i++) {
+            if ((rerollMask & (1 << i)) == 0) {
+                key += POW6[dice[i] - 1];
+            }
+        }
+        return KEEP_BY_KEY[key];
+    }
+
+    /// Returns the dice of an ordered roll to reroll in order to hold a keep.
+    ///
+    /// When a face appears more often than the keep needs, the first dice
+    /// showing it are held.
+    ///
+    /// @param dice   the ordered dice values (5 values, 1-6)
+    /// @param keepId a keep reachable from the roll (0-461)
+    /// @return the reroll mask (bit i set means die i is rerolled)
+    public static int rerollMaskFor(int[] dice, int keepId) {
+        int remaining = KEEP_KEY[keepId];
+        int rerollMask = 0;
+        for (int i = 0; i < DICE; i++) {
+            int weight = POW6[dice[i] - 1];
+            if ((remaining / weight) % FACES > 0) {
+                remaining -= weight;
+            } else {
+                rerollMask |= 1 << i;
+            }
+        }
+        return rerollMask;
+    }
+
+    /// Returns the number of dice held by a keep.
+    ///
+    /// @param keepId the keep id (0-461)
+    /// @return the number of held dice (0-5)
+    public static int getKeepSize(int keepId) {
+        return KEEP_SIZE[keepId];
+    }
+
+    /// Returns how many held dice of a keep show the given face.
+    ///
+    /// @param keepId the keep id (0-461)
+    /// @param face   the face value (1-6)
+    /// @return the number of held dice showing that face
+    public static int getKeepCount(int keepId, int face) {
+        return (KEEP_KEY[keepId] / POW6[face - 1]) % FACES;
+    }
+
+    /// Returns the keep that holds all five dice of a sorted roll.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    /// @return the keep id whose only outcome is the roll itself
+    public static int fullKeep(int sortedId) {
+        int key = 0;
+        for (int face = 1; face <= FACES; face++) {
+            key += RollIndex.getCount(sortedId, face) * POW6[face - 1];
+        }
+        return KEEP_BY_KEY[key];
+    }
+
+    /// Returns the index of the first outcome of a keep.
+    ///
+    /// The outcomes of keep k are stored at indices
+    /// `getOutcomeStart(k)` (inclusive) to `getOutcomeStart(k + 1)` (exclusive).
+    ///
+    /// @param keepId the keep id (0-462; 462 returns the end of the last keep)
+    /// @return the index of the first outcome
+    public static int getOutcomeStart(int keepId) {
+        return OUTCOME_START[keepId];
+    }
+
+    /// Returns the sorted roll produced by an outcome.
+    ///
+    /// @param outcome the outcome index
+    /// @return the sorted id of the resulting roll (0-251)
+    public static int getOutcomeId(int outcome) {
+        return OUTCOME_ID[outcome];
+    }
+
+    /// Returns the probability of an outcome.
+    ///
+    /// @param outcome the outcome index
+    /// @return the probability of reaching that roll from its keep
+    public static double getOutcomeProbability(int outcome) {
+        return OUTCOME_PROBABILITY[outcome];
+    }
+
+    /// Computes the expected value of a per-roll quantity after a reroll.
+    ///
+    /// @param keepId the keep id (0-461)
+    /// @param values array indexed by sorted id (252 values)
+    /// @return the expected value over the outcomes of the keep
+    public static double expectation(int keepId, double[] values) {
+        double sum = 0;
+        for (int i = OUTCOME_START[keepId]; i < OUTCOME_START[keepId + 1]; i++) {
+            sum += OUTCOME_PROBABILITY[i] * values[OUTCOME_ID[i]];
+        }
+        return sum;
+    }
+
+    /// Computes the expected value of a per-roll quantity after a reroll.
+    ///
+    /// @param keepId the keep id (0-461)
+    /// @param values array holding 252 values indexed by sorted id, starting at `offset`
+    /// @param offset index of the value of sorted id 0
+    /// @return the expected value over the outcomes of the keep
+    public static double expectation(int keepId, float[] values, int offset) {
+        double sum = 0;
+        for (int i = OUTCOME_START[keepId]; i < OUTCOME_START[keepId + 1]; i++) {
+            sum += OUTCOME_PROBABILITY[i] * values[offset + OUTCOME_ID[i]];
+        }
+        return sum;
+    }
+
+    /// Returns the index of the first distinct keep of a sorted roll.
+    ///
+    /// The distinct keeps of roll s are stored at indices
+    /// `getDistinctStart(s)` (inclusive) to `getDistinctStart(s + 1)` (exclusive).
+    ///
+    /// @param sortedId the sorted id (0-252; 252 returns the end of the last roll)
+    /// @return the index of the first distinct keep
+    public static int getDistinctStart(int sortedId) {
+        return DISTINCT_START[sortedId];
+    }
+
+    /// Returns the keep id of a distinct keep.
+    ///
+    /// @param index the distinct keep index
+    /// @return the keep id (0-461)
+    public static int getDistinctKeep(int index) {
+        return DISTINCT_KEEP[index];
+    }
+
+    /// Returns a mask of sorted positions that produces a distinct keep.
+    ///
+    /// Bit i set means the die at sorted position i is held.
+    ///
+    /// @param index the distinct keep index
+    /// @return the hold mask over the sorted faces of the roll (0-31)
+    public static int getDistinctHoldMask(int index) {
+        return DISTINCT_MASK[index];
+    }
+
+    /// Packs face counts into a base-6 key.
+    ///
+    /// @param counts array where index i holds the count of face i (index 0 unused)
+    /// @return the packed key
+    private static int keyOf(int[] counts) {
+        int key = 0;
+        for (int face = 1; face <= FACES; face++) {
+            key += counts[face] * POW6[face - 1];
+        }
+        return key;
+    }
+
+    /// Calls the action once for every multiset of the given size.
+    ///
+    /// The counts array holds the current multiset during each call.
+    ///
+    /// @param size   the number of faces left to place
+    /// @param face   the smallest face that may still be used
+    /// @param counts array receiving the face counts (index 0 unused)
+    /// @param action the action to run for each multiset
+    private static void forEachMultiset(int size, int face, int[] counts, Runnable action) {
+        if (face == FACES) {
+            counts[face] = size;
+            action.run();
+            counts[face] = 0;
+            return;
+        }
+        for (int n = size; n >= 0; n--) {
+            counts[face] = n;
+            forEachMultiset(size - n, face + 1, counts, action);
+        }
+        counts[face] = 0;
+    }
+
+    /// Returns the number of multisets of the given size over 6 faces.
+    ///
+    /// @param size the multiset size (0-5)
+    /// @return the binomial coefficient C(size + 5, 5)
+    private static int multisetCount(int size) {
+        int count = 1;
+        for (int i = 1; i <= FACES - 1; i++) {
+            count = count * (size + i) / i;
+        }
+        return count;
+    }
+
+    /// Returns n factorial for small n.
+    ///
+    /// @param n the value (0-5)
+    /// @return n!
+    private static double factorial(int n) {
+        double result = 1;
+        for (int i = 2; i <= n; i++) {
+            result *= i;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,38 @@
+package upo.yacht.logic.solver;
+
+/// Optimal solitaire policy of one game mode.
+///
+/// Implemented by the tables returned by the solvers and by a `Tablebase`
+/// mapped from disk, so `OptimalStrategy` plays the same way whichever
+/// one backs it. Queries take the 12-bit mask of used categories of the
+/// player's scoreboard.
+public interface StrategyTable {
+    /// Returns the expected final score of a game played optimally.
+    ///
+    /// @return the expected score from an empty scoreboard
+    double getExpectedScore();
+
+    /// Returns the expected score still to be made from a scoreboard.
+    ///
+    /// @param usedMask the categories already used (bit i set means category i)
+    /// @return the expected points of the remaining turns under optimal play
+    /// @throws IllegalArgumentException if the mask cannot occur in the mode
+    double getExpectedRemaining(int usedMask);
+
+    /// Returns the best category to score a final roll in.
+    ///
+    /// @param usedMask the categories already used; at least one must be open
+    /// @param dice     the final dice values (5 values, 1-6)
+    /// @return the index of the category maximizing points plus expected rest of game
+    /// @throws IllegalArgumentException if the mask cannot occur, is full, or the dice are invalid
+    int bestCategory(int usedMask, int[] dice);
+
+    /// Returns the best dice to reroll.
+    ///
+    /// @param usedMask  the categories already used; at least one must be open
+    /// @param dice      the current dice values (5 values, 1-6)
+    /// @param rollsLeft the rolls still allowed in the turn
+    /// @return the reroll mask (bit i set means die i is rerolled; 0 keeps all dice)
+    /// @throws IllegalArgumentException if an argument is out of range
+    int bestRerollMask(int usedMask, int[] dice, int rollsLeft);
+}
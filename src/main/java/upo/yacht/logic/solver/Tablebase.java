@@ -0,0 +1,338 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.logic.ScoreTable;
+import upo.yacht.logic.Scorer;
+import upo.yacht.util.RollIndex;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/// Classic-mode optimal policy stored in a file and memory-mapped.
+///
+/// `build` solves Classic mode once and writes, for every state of a turn
+/// (subset of used categories, sorted roll and rolls left), the expected
+/// rest-of-game score and the best action. `open` only maps the file:
+/// nothing is solved or copied onto the heap, the pages are loaded by the
+/// operating system on first access and shared between the processes
+/// mapping the same file. Every query is one or two absolute reads from
+/// the mapping, so it takes nanoseconds, where `ClassicStrategyTable`
+/// evaluates the keeps of the roll.
+///
+/// The file is little-endian: a 64-byte header (int magic "YTBL", int
+/// version, int categories, int sorted rolls, int keeps, int reserved,
+/// long CRC-32 of the rest of the file, then zeros) followed by
+///
+/// - the expected score of every subset, as 4096 doubles;
+/// - the value of every roll with 0, 1 and 2 rolls left, as floats indexed
+///   by rolls left, then subset, then sorted id;
+/// - the best category of every final roll, as bytes by subset then sorted
+///   id (-1 when every category is used);
+/// - the best keep of every roll with 1 and 2 rolls left, as shorts indexed
+///   by rolls left, then subset, then sorted id.
+///
+/// `open` only checks the header and the size, so startup does not read
+/// the 17 MB of the file; `verify` checks the CRC when needed. Instances
+/// are immutable and safe to share between threads.
+public final class Tablebase implements StrategyTable {
+    /// Version of the file format written by `build` and read by `open`.
+    public static final int VERSION = 1;
+    /// Number of turn states of each kind: subsets of used categories times sorted rolls.
+    public static final int NUM_STATES = ClassicSolver.NUM_MASKS * RollIndex.NUM_SORTED;
+
+    private static final int MAGIC = 0x5954424C; // "YTBL"
+    private static final int HEADER_SIZE = 64;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int EXPECTED_OFFSET = HEADER_SIZE;
+    private static final int VALUE_OFFSET = EXPECTED_OFFSET + ClassicSolver.NUM_MASKS * Double.BYTES;
+    private static final int CATEGORY_OFFSET = VALUE_OFFSET + 3 * NUM_STATES * Float.BYTES;
+    private static final int KEEP_OFFSET = CATEGORY_OFFSET + NUM_STATES;
+    private static final int FILE_SIZE = KEEP_OFFSET + 2 * NUM_STATES * Short.BYTES;
+    private static final byte NO_CATEGORY = -1;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+
+    /// Creates a tablebase over a mapped file whose header was checked.
+    ///
+    /// @param path   the tablebase file
+    /// @param buffer the read-only mapping of the whole file, little-endian
+    private Tablebase(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    /// Solves Classic mode and writes its tablebase.
+    ///
+    /// The file is written under a temporary name and then moved in place,
+    /// so a crash never leaves a partial tablebase behind.
+    ///
+    /// @param path    the tablebase file, replaced if it exists
+    /// @param threads number of worker threads (minimum 1)
+    /// @return the expected score of an optimal game, as stored in the file
+    /// @throws IOException              if the file cannot be written
+    /// @throws IllegalArgumentException if the number of threads is not positive
+    public static double build(Path path, int threads) throws IOException {
+        ClassicStrategyTable table = ClassicSolver.solve(threads);
+        double[] expected = new double[ClassicSolver.NUM_MASKS];
+        for (int mask = 0; mask < ClassicSolver.NUM_MASKS; mask++) {
+            expected[mask] = table.getExpectedRemaining(mask);
+        }
+
+        // Every subset writes its own disjoint ranges of the buffer
+        ByteBuffer out = ByteBuffer.allocate(FILE_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            pool.submit(() -> IntStream.range(0, ClassicSolver.NUM_MASKS).parallel()
+                    .forEach(mask -> writeMask(mask, expected, out))).join();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(out.slice(HEADER_SIZE, FILE_SIZE - HEADER_SIZE));
+        out.putInt(MAGIC).putInt(VERSION).putInt(Scorer.NUM_CATEGORIES).putInt(RollIndex.NUM_SORTED)
+                .putInt(KeepTransitions.NUM_KEEPS).putInt(0).putLong(crc.getValue());
+        out.clear();
+
+        Path parentDir = path.toAbsolutePath().getParent();
+        if (parentDir != null) {
+            Files.createDirectories(parentDir);
+        }
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return expected[0];
+    }
+
+    /// Maps a tablebase file.
+    ///
+    /// Only the header and the size of the file are checked; see `verify`.
+    ///
+    /// @param path the tablebase file
+    /// @return the mapped tablebase
+    /// @throws IOException if the file cannot be read, is not a tablebase or has another version or layout
+    public static Tablebase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new StreamCorruptedException(path + " is not a tablebase");
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new StreamCorruptedException("Unsupported tablebase version " + version + " in " + path);
+            }
+            if (header.getInt() != Scorer.NUM_CATEGORIES || header.getInt() != RollIndex.NUM_SORTED ||
+                    header.getInt() != KeepTransitions.NUM_KEEPS || channel.size() != FILE_SIZE) {
+                throw new StreamCorruptedException("Corrupt tablebase " + path + ": unexpected layout or size");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return new Tablebase(path, buffer);
+        }
+    }
+
+    /// Checks the whole file against the checksum of its header.
+    ///
+    /// Reads every page of the mapping, which also preloads them.
+    ///
+    /// @throws IOException if the checksum does not match
+    public void verify() throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, FILE_SIZE - HEADER_SIZE));
+        if (crc.getValue() != buffer.getLong(CHECKSUM_OFFSET)) {
+            throw new StreamCorruptedException("Corrupt tablebase " + path + ": checksum mismatch");
+        }
+    }
+
+    @Override
+    public double getExpectedScore() {
+        return buffer.getDouble(EXPECTED_OFFSET);
+    }
+
+    @Override
+    public double getExpectedRemaining(int usedMask) {
+        checkMask(usedMask);
+        return buffer.getDouble(EXPECTED_OFFSET + usedMask * Double.BYTES);
+    }
+
+    /// Returns the value of a roll under optimal play.
+    ///
+    /// @param usedMask  the categories already used (bit i set means category i)
+    /// @param sortedId  the sorted id of the roll (0-251)
+    /// @param rollsLeft the rolls still allowed in the turn (0-2)
+    /// @return the expected points of the rest of the game, this turn included
+    /// @throws IllegalArgumentException if an argument is out of range
+    public float getValue(int usedMask, int sortedId, int rollsLeft) {
+        checkMask(usedMask);
+        checkSortedId(sortedId);
+        if (rollsLeft < 0 || rollsLeft > 2) {
+            throw new IllegalArgumentException("Rolls left must be between 0 and 2, got " + rollsLeft);
+        }
+        return buffer.getFloat(VALUE_OFFSET + stateIndex(rollsLeft, usedMask, sortedId) * Float.BYTES);
+    }
+
+    /// Returns the best category to score a final roll in.
+    ///
+    /// @param usedMask the categories already used; at least one must be open
+    /// @param sortedId the sorted id of the roll (0-251)
+    /// @return the index of the open category maximizing points plus expected rest of game
+    /// @throws IllegalArgumentException if the mask is invalid or full, or the id is out of range
+    public int getBestCategory(int usedMask, int sortedId) {
+        checkOpenMask(usedMask);
+        checkSortedId(sortedId);
+        return buffer.get(CATEGORY_OFFSET + stateIndex(0, usedMask, sortedId));
+    }
+
+    /// Returns the best dice to hold before a reroll.
+    ///
+    /// @param usedMask  the categories already used; at least one must be open
+    /// @param sortedId  the sorted id of the roll (0-251)
+    /// @param rollsLeft the rolls still allowed in the turn (1 or 2)
+    /// @return the id of the best keep (see `KeepTransitions`); the whole roll when stopping is best
+    /// @throws IllegalArgumentException if an argument is out of range
+    public int getBestKeep(int usedMask, int sortedId, int rollsLeft) {
+        checkOpenMask(usedMask);
+        checkSortedId(sortedId);
+        if (rollsLeft < 1 || rollsLeft > 2) {
+            throw new IllegalArgumentException("Rolls left must be 1 or 2, got " + rollsLeft);
+        }
+        return buffer.getShort(KEEP_OFFSET + stateIndex(rollsLeft - 1, usedMask, sortedId) * Short.BYTES);
+    }
+
+    @Override
+    public int bestCategory(int usedMask, int[] dice) {
+        return getBestCategory(usedMask, checkDice(dice));
+    }
+
+    @Override
+    public int bestRerollMask(int usedMask, int[] dice, int rollsLeft) {
+        return KeepTransitions.rerollMaskFor(dice, getBestKeep(usedMask, checkDice(dice), rollsLeft));
+    }
+
+    /// Computes and stores every state of the turn played with the given categories used.
+    ///
+    /// @param usedMask the categories already used
+    /// @param expected expected rest-of-game values by subset
+    /// @param out      the whole file being built, little-endian
+    private static void writeMask(int usedMask, double[] expected, ByteBuffer out) {
+        out.putDouble(EXPECTED_OFFSET + usedMask * Double.BYTES, expected[usedMask]);
+        if (usedMask == ClassicSolver.FULL_MASK) {
+            for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                out.put(CATEGORY_OFFSET + stateIndex(0, usedMask, id), NO_CATEGORY);
+            }
+            return;
+        }
+
+        double[][] values = new double[3][RollIndex.NUM_SORTED];
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            int best = -1;
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+                int bit = 1 << c;
+                if ((usedMask & bit) == 0) {
+                    double value = ScoreTable.getScore(c, id) + expected[usedMask | bit];
+                    if (value > bestValue) {
+                        bestValue = value;
+                        best = c;
+                    }
+                }
+            }
+            values[0][id] = bestValue;
+            out.put(CATEGORY_OFFSET + stateIndex(0, usedMask, id), (byte) best);
+        }
+
+        TurnSolver solver = new TurnSolver();
+        double[] stored = new double[RollIndex.NUM_SORTED];
+        double[] storedResult = new double[RollIndex.NUM_SORTED];
+        int[] bestKeeps = new int[RollIndex.NUM_SORTED];
+        for (int rollsLeft = 1; rollsLeft <= 2; rollsLeft++) {
+            // Keeps are ranked on the float values kept by ClassicStrategyTable, so both make the same choices
+            for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                stored[id] = (float) values[rollsLeft - 1][id];
+            }
+            solver.rerollStage(stored, storedResult, bestKeeps);
+            solver.rerollStage(values[rollsLeft - 1], values[rollsLeft]);
+            for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                out.putShort(KEEP_OFFSET + stateIndex(rollsLeft - 1, usedMask, id) * Short.BYTES,
+                        (short) bestKeeps[id]);
+            }
+        }
+        for (int rollsLeft = 0; rollsLeft <= 2; rollsLeft++) {
+            for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+                out.putFloat(VALUE_OFFSET + stateIndex(rollsLeft, usedMask, id) * Float.BYTES,
+                        (float) values[rollsLeft][id]);
+            }
+        }
+    }
+
+    /// Returns the position of a state within a section of the file.
+    ///
+    /// @param block    the block of the section (rolls left, or rolls left minus 1 for keeps)
+    /// @param usedMask the categories already used
+    /// @param sortedId the sorted id of the roll
+    /// @return the index of the state, in entries from the start of the section
+    private static int stateIndex(int block, int usedMask, int sortedId) {
+        return block * NUM_STATES + usedMask * RollIndex.NUM_SORTED + sortedId;
+    }
+
+    /// Validates a subset mask.
+    ///
+    /// @param usedMask the mask to check
+    /// @throws IllegalArgumentException if the mask is not a subset of the 12 categories
+    private static void checkMask(int usedMask) {
+        if (usedMask < 0 || usedMask > ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Invalid category mask: " + usedMask);
+        }
+    }
+
+    /// Validates a subset mask with at least one open category.
+    ///
+    /// @param usedMask the mask to check
+    /// @throws IllegalArgumentException if the mask is invalid or full
+    private static void checkOpenMask(int usedMask) {
+        checkMask(usedMask);
+        if (usedMask == ClassicSolver.FULL_MASK) {
+            throw new IllegalArgumentException("Every category is already used");
+        }
+    }
+
+    /// Validates a sorted id.
+    ///
+    /// @param sortedId the id to check
+    /// @throws IllegalArgumentException if the id is not between 0 and 251
+    private static void checkSortedId(int sortedId) {
+        if (sortedId < 0 || sortedId >= RollIndex.NUM_SORTED) {
+            throw new IllegalArgumentException("Invalid sorted id: " + sortedId);
+        }
+    }
+
+    /// Validates dice values and returns their sorted id.
+    ///
+    /// @param dice the dice to check
+    /// @return the sorted id of the dice
+    /// @throws IllegalArgumentException if the dice are not 5 values between 1 and 6
+    private static int checkDice(int[] dice) {
+        int sortedId = RollIndex.sortedIdOf(dice);
+        if (sortedId < 0) {
+            throw new IllegalArgumentException("Dice must be 5 values between 1 and 6");
+        }
+        return sortedId;
+    }
+}
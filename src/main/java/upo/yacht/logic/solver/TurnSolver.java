@@ -0,0 +1,67 @@
+package upo.yacht.logic.solver;
+
+import upo.yacht.util.RollIndex;
+
+/// Backward pass over the rolls of a single turn.
+///
+/// Given the value of every final roll, computes the value of every roll
+/// seen with rerolls still available, assuming the player always holds
+/// the keep with the best expected value. Holding all five dice is one
+/// of the keeps, so stopping early is covered.
+///
+/// Instances hold scratch buffers and must not be shared between threads.
+final class TurnSolver {
+    private final double[] keepValues = new double[KeepTransitions.NUM_KEEPS];
+
+    /// Computes the value of every roll one reroll earlier.
+    ///
+    /// @param next   the value of every roll after the reroll, indexed by sorted id
+    /// @param result receives the value of every roll before the reroll
+    void rerollStage(double[] next, double[] result) {
+        for (int k = 0; k < KeepTransitions.NUM_KEEPS; k++) {
+            keepValues[k] = KeepTransitions.expectation(k, next);
+        }
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            double best = Double.NEGATIVE_INFINITY;
+            for (int j = KeepTransitions.getDistinctStart(id); j < KeepTransitions.getDistinctStart(id + 1); j++) {
+                best = Math.max(best, keepValues[KeepTransitions.getDistinctKeep(j)]);
+            }
+            result[id] = best;
+        }
+    }
+
+    /// Computes the value of every roll one reroll earlier and the keep achieving it.
+    ///
+    /// Like `ClassicStrategyTable.bestRerollMask`, holding all five dice
+    /// is preferred among keeps of equal value.
+    ///
+    /// @param next      the value of every roll after the reroll, indexed by sorted id
+    /// @param result    receives the value of every roll before the reroll
+    /// @param bestKeeps receives the best keep id of every roll, indexed by sorted id
+    void rerollStage(double[] next, double[] result, int[] bestKeeps) {
+        for (int k = 0; k < KeepTransitions.NUM_KEEPS; k++) {
+            keepValues[k] = KeepTransitions.expectation(k, next);
+        }
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            int bestKeep = KeepTransitions.fullKeep(id);
+            double best = keepValues[bestKeep];
+            for (int j = KeepTransitions.getDistinctStart(id); j < KeepTransitions.getDistinctStart(id + 1); j++) {
+                int keep = KeepTransitions.getDistinctKeep(j);
+                if (keepValues[keep] > best) {
+                    best = keepValues[keep];
+                    bestKeep = keep;
+                }
+            }
+            result[id] = best;
+            bestKeeps[id] = bestKeep;
+        }
+    }
+
+    /// Computes the expected value of a turn before its first roll.
+    ///
+    /// @param values the value of every roll after the first roll, indexed by sorted id
+    /// @return the expected value over all five dice being rolled
+    static double firstRoll(double[] values) {
+        return KeepTransitions.expectation(KeepTransitions.EMPTY_KEEP, values);
+    }
+}
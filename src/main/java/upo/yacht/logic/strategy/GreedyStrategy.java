@@ -0,0 +1,88 @@
+package upo.yacht.logic.strategy;
+
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+import upo.yacht.model.Scoreboard;
+
+/// Automated strategy that maximizes the points of the current turn.
+///
+/// Scores in the open category worth the most points right now. While
+/// rolls are left, it stops as soon as a fixed-score pattern (Full House,
+/// a straight or Yacht) is available in an open category; otherwise it
+/// keeps the most frequent face and rerolls the other dice.
+///
+/// Instances keep a scratch buffer and must not be shared between threads.
+public class GreedyStrategy implements PlayerStrategy {
+    private static final int FULL_HOUSE = 6;
+    private static final int SMALL_STRAIGHT = 8;
+    private static final int BIG_STRAIGHT = 9;
+    private static final int YACHT = 11;
+
+    private final int[] scores = new int[Scorer.NUM_CATEGORIES];
+
+    /// Keeps a finished pattern or chases the most frequent face.
+    ///
+    /// @return 0 to keep a pattern, otherwise the mask of dice not showing
+    ///         the most frequent face (higher faces win ties)
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        int best = bestOpenCategory(player.getScoreboard(), dice);
+        if (scores[best] > 0 && (best == FULL_HOUSE || best == SMALL_STRAIGHT
+                || best == BIG_STRAIGHT || best == YACHT)) {
+            return 0;
+        }
+
+        int target = 0;
+        int targetCount = 0;
+        for (int face = 6; face >= 1; face--) {
+            int count = 0;
+            for (int value : dice) {
+                if (value == face) {
+                    count++;
+                }
+            }
+            if (count > targetCount) {
+                target = face;
+                targetCount = count;
+            }
+        }
+
+        int rerollMask = 0;
+        for (int i = 0; i < dice.length; i++) {
+            if (dice[i] != target) {
+                rerollMask |= 1 << i;
+            }
+        }
+        return rerollMask;
+    }
+
+    /// Scores in the open category worth the most points.
+    ///
+    /// @return the index of the best open category (lowest index wins ties)
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        return bestOpenCategory(player.getScoreboard(), dice);
+    }
+
+    /// Finds the open category with the highest score for the dice.
+    ///
+    /// Fills the scratch buffer with the score of every category as a side effect.
+    ///
+    /// @param board the scoreboard of the player
+    /// @param dice  the dice values to score
+    /// @return the index of the best open category
+    private int bestOpenCategory(Scoreboard board, int[] dice) {
+        Scorer.getAllScores(dice, scores);
+        int best = -1;
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            if (!board.isCategoryUsed(i) && (best < 0 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            throw new IllegalStateException("The scoreboard has no open category left");
+        }
+        return best;
+    }
+}
@@ -0,0 +1,50 @@
+package upo.yacht.logic.strategy;
+
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.solver.StrategyTable;
+import upo.yacht.model.Player;
+
+/// Automated strategy that follows the exact solver tables.
+///
+/// Every decision is looked up in the Classic or the Extended
+/// `StrategyTable`, depending on the game mode, and maximizes the expected
+/// final score of a solitaire game. The Classic table may be the solved
+/// `ClassicStrategyTable` or a `Tablebase` mapped from disk. The tables
+/// ignore the other players.
+public class OptimalStrategy implements PlayerStrategy {
+    private final StrategyTable classicTable;
+    private final StrategyTable extendedTable;
+
+    /// Creates a strategy following the given tables.
+    ///
+    /// @param classicTable  the Classic strategy table
+    /// @param extendedTable the Extended strategy table
+    public OptimalStrategy(StrategyTable classicTable, StrategyTable extendedTable) {
+        this.classicTable = classicTable;
+        this.extendedTable = extendedTable;
+    }
+
+    /// Rerolls the dice that maximize the expected final score.
+    ///
+    /// @return the optimal reroll mask, or 0 to keep every die
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        int usedMask = player.getScoreboard().getUsedMask();
+        if (isExtended) {
+            return extendedTable.bestRerollMask(usedMask, dice, rollsLeft);
+        }
+        return classicTable.bestRerollMask(usedMask, dice, rollsLeft);
+    }
+
+    /// Scores in the category that maximizes the expected final score.
+    ///
+    /// @return the optimal open category
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        int usedMask = player.getScoreboard().getUsedMask();
+        if (isExtended) {
+            return extendedTable.bestCategory(usedMask, dice);
+        }
+        return classicTable.bestCategory(usedMask, dice);
+    }
+}
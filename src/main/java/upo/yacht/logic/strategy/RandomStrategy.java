@@ -0,0 +1,51 @@
+package upo.yacht.logic.strategy;
+
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+
+import java.util.random.RandomGenerator;
+
+/// Automated strategy that makes uniformly random decisions.
+///
+/// Rerolls a random subset of the dice after each roll and scores in a
+/// random open category. Useful as a baseline for simulations and
+/// benchmarks.
+public class RandomStrategy implements PlayerStrategy {
+    private final RandomGenerator random;
+
+    /// Creates a random strategy drawing from the given generator.
+    ///
+    /// @param random the random generator used for every decision
+    public RandomStrategy(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /// Picks one of the 32 reroll masks at random.
+    ///
+    /// @return a random reroll mask (0-31)
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        return random.nextInt(32);
+    }
+
+    /// Picks one of the open categories at random.
+    ///
+    /// @return the index of a random unused category
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        int open = 0;
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            if (!player.getScoreboard().isCategoryUsed(i)) {
+                open++;
+            }
+        }
+        int pick = random.nextInt(open);
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            if (!player.getScoreboard().isCategoryUsed(i) && pick-- == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No open category left for " + player.getName());
+    }
+}
@@ -0,0 +1,82 @@
+package upo.yacht.logic.strategy;
+
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.solver.ClassicSolver;
+import upo.yacht.logic.solver.ClassicStrategyTable;
+import upo.yacht.logic.solver.ExtendedSolver;
+import upo.yacht.logic.solver.ExtendedStrategyTable;
+import upo.yacht.logic.solver.StrategyTable;
+
+import java.util.random.RandomGenerator;
+
+/// Factory for the automated strategies, selected by name.
+///
+/// Used by the command-line modes that run games without human players.
+/// This class is final and cannot be instantiated.
+public final class Strategies {
+    /// Names accepted by `create`, in the order they are listed to the user.
+    public static final String[] NAMES = {"random", "greedy", "optimal"};
+
+    private static volatile StrategyTable classicTable;
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private Strategies() {
+    }
+
+    /// Returns the shared Classic strategy table.
+    ///
+    /// This is the table set by `setClassicTable` if any, so a mapped
+    /// `Tablebase` replaces the solver; otherwise the table is solved on
+    /// first use.
+    ///
+    /// @return the table, solved at most once per JVM on all cores
+    public static StrategyTable getClassicTable() {
+        StrategyTable table = classicTable;
+        return (table != null) ? table : ClassicTableHolder.TABLE;
+    }
+
+    /// Sets the Classic strategy table of the optimal strategies created from now on.
+    ///
+    /// @param table the table to use instead of solving Classic mode, such as a `Tablebase`
+    public static void setClassicTable(StrategyTable table) {
+        classicTable = table;
+    }
+
+    /// Returns the shared Extended strategy table, solving it on first use.
+    ///
+    /// @return the solved table, computed once per JVM on all cores
+    public static ExtendedStrategyTable getExtendedTable() {
+        return ExtendedTableHolder.TABLE;
+    }
+
+    /// Creates a new strategy instance by name.
+    ///
+    /// Every call returns a fresh instance, so strategies with internal
+    /// buffers are never shared between games running in parallel.
+    ///
+    /// @param name   the strategy name, case-insensitive (see `NAMES`)
+    /// @param random the random generator used by randomized strategies
+    /// @return the new strategy
+    /// @throws IllegalArgumentException if the name is unknown
+    public static PlayerStrategy create(String name, RandomGenerator random) {
+        return switch (name.toLowerCase()) {
+            case "random" -> new RandomStrategy(random);
+            case "greedy" -> new GreedyStrategy();
+            case "optimal" -> new OptimalStrategy(getClassicTable(), getExtendedTable());
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name +
+                    ". Must be one of " + String.join(", ", NAMES) + ".");
+        };
+    }
+
+    /// Lazily solves the Classic table the first time it is needed.
+    private static final class ClassicTableHolder {
+        private static final ClassicStrategyTable TABLE =
+                ClassicSolver.solve(Runtime.getRuntime().availableProcessors());
+    }
+
+    /// Lazily solves the Extended table the first time it is needed.
+    private static final class ExtendedTableHolder {
+        private static final ExtendedStrategyTable TABLE =
+                ExtendedSolver.solve(Runtime.getRuntime().availableProcessors());
+    }
+}
@@ -0,0 +1,31 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/// JDK Flight Recorder event spanning a whole game, committed when it finishes.
+///
+/// The event begins when the turn order is drawn, so its duration is the
+/// length of the game. A game resumed from a snapshot has no duration.
+@Name("upo.yacht.GameFinish")
+@Label("Game Finish")
+@Category({"Yacht", "Game"})
+@Description("A game finished; the duration covers the whole game")
+public final class GameFinishEvent extends Event {
+    @Label("Mode")
+    @Description("Classic or Extended")
+    public String mode;
+
+    @Label("Player Count")
+    public int playerCount;
+
+    @Label("Winner")
+    @Description("Name of the first player in the final ranking")
+    public String winner;
+
+    @Label("Winning Score")
+    public int winningScore;
+}
@@ -0,0 +1,264 @@
+package upo.yacht.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/// Runtime metrics of every game played by this JVM.
+///
+/// Counts turns, rolls and rerolls, and keeps latency histograms of whole
+/// turns, of scoring (computing the points of the chosen category and
+/// registering them, without the choice, which may be a human thinking)
+/// and of the time spent waiting for a human or remote player to answer. Turn and
+/// scoring latencies are sampled (see `sampleTurn`); the counters and the
+/// input waits are exact. Counters are `LongAdder`s and histograms are
+/// `LatencyHistogram`s, so recording from many games at once never takes
+/// a lock.
+///
+/// Metrics are off unless the JVM is started with `-Dyacht.metrics=true`
+/// (or `--metrics` on the command line). The flag is read once into a
+/// `static final` field, so with metrics off the JIT compiler removes the
+/// instrumentation entirely, clock reads included. When on, they are
+/// published as the MXBean `upo.yacht:type=GameMetrics` and can also be
+/// printed periodically with `startDump`.
+///
+/// A turn is instrumented as follows:
+/// ```java
+/// long start = GameMetrics.sampleTurn();
+/// // ... rolls, choice of the category ...
+/// long scoringStart = GameMetrics.lap(start);
+/// // ... scoring ...
+/// GameMetrics.recordScoring(scoringStart);
+/// // ...
+/// GameMetrics.recordTurn(start, rolls);
+/// ```
+public final class GameMetrics {
+    /// Name of the system property that turns metrics on.
+    public static final String PROPERTY = "yacht.metrics";
+    /// Name the MXBean is registered under.
+    public static final String OBJECT_NAME = "upo.yacht:type=GameMetrics";
+    /// Whether metrics are recorded, fixed when the class is initialized.
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+    /// One turn in this many has its latencies timed.
+    public static final int SAMPLE_RATE = 16;
+    /// Value of a turn start whose latencies are not timed.
+    public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static final LongAdder TURNS = new LongAdder();
+    private static final LongAdder ROLLS = new LongAdder();
+    private static final LongAdder REROLLS = new LongAdder();
+    private static final LatencyHistogram TURN_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram SCORING_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram INPUT_WAIT = new LatencyHistogram();
+    private static volatile long resetNanos = System.nanoTime();
+
+    static {
+        if (ENABLED) {
+            register();
+        }
+    }
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private GameMetrics() {
+    }
+
+    /// Returns whether metrics are recorded.
+    ///
+    /// @return true if the JVM was started with metrics on
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /// Starts a turn, deciding whether its latencies are sampled.
+    ///
+    /// A clock read costs tens of nanoseconds, a sizeable share of an
+    /// automated turn, so only one turn in `SAMPLE_RATE`, picked at random,
+    /// is timed. The counters still count every turn.
+    ///
+    /// @return the current `System.nanoTime()` if the turn is timed, else `NOT_SAMPLED`
+    public static long sampleTurn() {
+        if (ENABLED && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    /// Reads the clock in the middle of a sampled turn.
+    ///
+    /// @param start the value of `sampleTurn()` when the turn began
+    /// @return the current `System.nanoTime()` if the turn is timed, else `NOT_SAMPLED`
+    public static long lap(long start) {
+        return (ENABLED && start != NOT_SAMPLED) ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    /// Records the scoring of a sampled turn.
+    ///
+    /// @param scoringStart the value of `lap(start)` once the category was chosen
+    public static void recordScoring(long scoringStart) {
+        if (ENABLED && scoringStart != NOT_SAMPLED) {
+            SCORING_LATENCY.record(System.nanoTime() - scoringStart);
+        }
+    }
+
+    /// Records a finished turn.
+    ///
+    /// @param start the value of `sampleTurn()` when the turn began
+    /// @param rolls the number of rolls of the turn, the first one included
+    public static void recordTurn(long start, int rolls) {
+        if (ENABLED) {
+            TURNS.increment();
+            ROLLS.add(rolls);
+            REROLLS.add(rolls - 1);
+            if (start != NOT_SAMPLED) {
+                TURN_LATENCY.record(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /// Reads the clock before waiting for player input.
+    ///
+    /// @return the current `System.nanoTime()`, or 0 without reading the clock if metrics are off
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /// Records the wait for one answer of a human or remote player.
+    ///
+    /// @param start the value of `start()` when the wait began
+    public static void recordInputWait(long start) {
+        if (ENABLED) {
+            INPUT_WAIT.record(System.nanoTime() - start);
+        }
+    }
+
+    /// Returns the number of turns played since the last reset.
+    ///
+    /// @return the number of turns
+    public static long getTurns() {
+        return TURNS.sum();
+    }
+
+    /// Returns the number of rolls since the last reset.
+    ///
+    /// @return the number of rolls
+    public static long getRolls() {
+        return ROLLS.sum();
+    }
+
+    /// Returns the number of rerolls since the last reset.
+    ///
+    /// @return the number of rolls that rerolled some dice
+    public static long getRerolls() {
+        return REROLLS.sum();
+    }
+
+    /// Returns the latency histogram of whole turns.
+    ///
+    /// @return the histogram, in nanoseconds
+    public static LatencyHistogram getTurnLatency() {
+        return TURN_LATENCY;
+    }
+
+    /// Returns the latency histogram of scoring.
+    ///
+    /// @return the histogram, in nanoseconds
+    public static LatencyHistogram getScoringLatency() {
+        return SCORING_LATENCY;
+    }
+
+    /// Returns the histogram of the time spent waiting for player input.
+    ///
+    /// @return the histogram, in nanoseconds
+    public static LatencyHistogram getInputWait() {
+        return INPUT_WAIT;
+    }
+
+    /// Returns the time since the metrics were last reset.
+    ///
+    /// @return the elapsed time in nanoseconds
+    public static long getElapsedNanos() {
+        return System.nanoTime() - resetNanos;
+    }
+
+    /// Clears every counter and histogram.
+    public static void reset() {
+        TURNS.reset();
+        ROLLS.reset();
+        REROLLS.reset();
+        TURN_LATENCY.reset();
+        SCORING_LATENCY.reset();
+        INPUT_WAIT.reset();
+        resetNanos = System.nanoTime();
+    }
+
+    /// Formats the metrics as one line of text.
+    ///
+    /// @return the formatted metrics
+    public static String format() {
+        double seconds = getElapsedNanos() / 1e9;
+        long turns = getTurns();
+        return String.format("turns %d (%.0f/s) | rolls %d (%.0f/s) | rerolls/turn %.2f | " +
+                        "turn p50 %s p99 %s | scoring p50 %s p99 %s | input wait p50 %s p99 %s",
+                turns, turns / seconds, getRolls(), getRolls() / seconds,
+                turns > 0 ? (double) getRerolls() / turns : 0,
+                formatNanos(TURN_LATENCY.getPercentile(50)), formatNanos(TURN_LATENCY.getPercentile(99)),
+                formatNanos(SCORING_LATENCY.getPercentile(50)), formatNanos(SCORING_LATENCY.getPercentile(99)),
+                formatNanos(INPUT_WAIT.getPercentile(50)), formatNanos(INPUT_WAIT.getPercentile(99)));
+    }
+
+    /// Prints the metrics periodically on a daemon thread.
+    ///
+    /// Does nothing if metrics are off.
+    ///
+    /// @param periodSeconds seconds between two lines (minimum 1)
+    /// @param out           the stream receiving the lines
+    /// @throws IllegalArgumentException if the period is not positive
+    public static void startDump(long periodSeconds, PrintStream out) {
+        if (periodSeconds < 1) {
+            throw new IllegalArgumentException("The dump period must be at least 1 second, got " + periodSeconds);
+        }
+        if (!ENABLED) {
+            return;
+        }
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "yacht-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> out.println("[metrics] " + format()), periodSeconds, periodSeconds,
+                TimeUnit.SECONDS);
+    }
+
+    /// Formats a latency with a readable unit.
+    ///
+    /// @param nanos the latency in nanoseconds
+    /// @return the latency in ns, us, ms or s
+    static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        }
+        if (nanos < 1_000_000) {
+            return String.format("%.1f us", nanos / 1e3);
+        }
+        if (nanos < 1_000_000_000) {
+            return String.format("%.1f ms", nanos / 1e6);
+        }
+        return String.format("%.2f s", nanos / 1e9);
+    }
+
+    /// Registers the MXBean with the platform MBean server.
+    private static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new GameMetricsBean(),
+                    new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            System.err.println("Error: metrics not published over JMX: " + e.getMessage());
+        }
+    }
+}
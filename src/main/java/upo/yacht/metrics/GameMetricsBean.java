@@ -0,0 +1,90 @@
+package upo.yacht.metrics;
+
+/// MXBean publishing the static `GameMetrics` over JMX.
+final class GameMetricsBean implements GameMetricsMXBean {
+    @Override
+    public long getTurns() {
+        return GameMetrics.getTurns();
+    }
+
+    @Override
+    public long getRolls() {
+        return GameMetrics.getRolls();
+    }
+
+    @Override
+    public long getRerolls() {
+        return GameMetrics.getRerolls();
+    }
+
+    @Override
+    public double getTurnsPerSecond() {
+        return GameMetrics.getTurns() / (GameMetrics.getElapsedNanos() / 1e9);
+    }
+
+    @Override
+    public double getRollsPerSecond() {
+        return GameMetrics.getRolls() / (GameMetrics.getElapsedNanos() / 1e9);
+    }
+
+    @Override
+    public double getRerollsPerTurn() {
+        long turns = GameMetrics.getTurns();
+        return turns > 0 ? (double) GameMetrics.getRerolls() / turns : 0;
+    }
+
+    @Override
+    public double getTurnMeanNanos() {
+        return GameMetrics.getTurnLatency().getMean();
+    }
+
+    @Override
+    public long getTurnP50Nanos() {
+        return GameMetrics.getTurnLatency().getPercentile(50);
+    }
+
+    @Override
+    public long getTurnP99Nanos() {
+        return GameMetrics.getTurnLatency().getPercentile(99);
+    }
+
+    @Override
+    public double getScoringMeanNanos() {
+        return GameMetrics.getScoringLatency().getMean();
+    }
+
+    @Override
+    public long getScoringP50Nanos() {
+        return GameMetrics.getScoringLatency().getPercentile(50);
+    }
+
+    @Override
+    public long getScoringP99Nanos() {
+        return GameMetrics.getScoringLatency().getPercentile(99);
+    }
+
+    @Override
+    public long getInputWaits() {
+        return GameMetrics.getInputWait().getCount();
+    }
+
+    @Override
+    public double getInputWaitMeanNanos() {
+        return GameMetrics.getInputWait().getMean();
+    }
+
+    @Override
+    public long getInputWaitP50Nanos() {
+        return GameMetrics.getInputWait().getPercentile(50);
+    }
+
+    @Override
+    public long getInputWaitP99Nanos() {
+        return GameMetrics.getInputWait().getPercentile(99);
+    }
+
+    @Override
+    public void reset() {
+        GameMetrics.reset();
+    }
+}
@@ -0,0 +1,59 @@
+package upo.yacht.metrics;
+
+/// Management interface of `GameMetrics`, published as `upo.yacht:type=GameMetrics`.
+///
+/// Rates are averaged since the metrics were last reset; latencies are in
+/// nanoseconds, with percentiles within 12.5% of the true value. Turn and
+/// scoring latencies are sampled from one turn in `GameMetrics.SAMPLE_RATE`.
+public interface GameMetricsMXBean {
+    /// @return the number of turns played
+    long getTurns();
+
+    /// @return the number of rolls
+    long getRolls();
+
+    /// @return the number of rolls that rerolled some dice
+    long getRerolls();
+
+    /// @return the turns played per second
+    double getTurnsPerSecond();
+
+    /// @return the rolls per second
+    double getRollsPerSecond();
+
+    /// @return the mean number of rerolls per turn
+    double getRerollsPerTurn();
+
+    /// @return the mean latency of a turn
+    double getTurnMeanNanos();
+
+    /// @return the median latency of a turn
+    long getTurnP50Nanos();
+
+    /// @return the 99th percentile latency of a turn
+    long getTurnP99Nanos();
+
+    /// @return the mean latency of scoring the chosen category of a turn
+    double getScoringMeanNanos();
+
+    /// @return the median latency of scoring a turn
+    long getScoringP50Nanos();
+
+    /// @return the 99th percentile latency of scoring a turn
+    long getScoringP99Nanos();
+
+    /// @return the number of answers awaited from human or remote players
+    long getInputWaits();
+
+    /// @return the mean wait for an answer
+    double getInputWaitMeanNanos();
+
+    /// @return the median wait for an answer
+    long getInputWaitP50Nanos();
+
+    /// @return the 99th percentile wait for an answer
+    long getInputWaitP99Nanos();
+
+    /// Clears every counter and histogram.
+    void reset();
+}
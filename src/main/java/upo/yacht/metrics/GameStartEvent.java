@@ -0,0 +1,27 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/// JDK Flight Recorder event marking the start of a game.
+///
+/// Committed when the turn order has been drawn.
+@Name("upo.yacht.GameStart")
+@Label("Game Start")
+@Category({"Yacht", "Game"})
+@Description("A game started and its turn order was drawn")
+public final class GameStartEvent extends Event {
+    @Label("Mode")
+    @Description("Classic or Extended")
+    public String mode;
+
+    @Label("Players")
+    @Description("Player names in turn order")
+    public String players;
+
+    @Label("Player Count")
+    public int playerCount;
+}
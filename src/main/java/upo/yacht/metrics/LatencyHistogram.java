@@ -0,0 +1,141 @@
+package upo.yacht.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/// Lock-free histogram of latencies in nanoseconds.
+///
+/// Values below 16 ns have a bucket each; larger values fall in one of 8
+/// buckets per power of two, so every value is reported within 12.5% of
+/// its true value. Recording is a single atomic increment and never blocks.
+/// To keep threads from contending for the same counters, the buckets are
+/// striped: each thread records into the stripe picked by its id, and
+/// reads add the stripes together. Reads taken while values are being
+/// recorded are not an atomic snapshot, but every count is eventually
+/// exact.
+public final class LatencyHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int LINEAR = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = LINEAR + (63 - (SUB_BITS + 1)) * SUB_BUCKETS;
+    /// Slots of one stripe: the buckets followed by the sum of the recorded values.
+    private static final int STRIPE_SLOTS = BUCKETS + 1;
+    private static final int MAX_STRIPES = 16;
+
+    private final int stripeMask;
+    private final AtomicLongArray slots;
+
+    /// Creates an empty histogram with one stripe per core, up to 16.
+    public LatencyHistogram() {
+        int stripes = Integer.highestOneBit(Math.min(MAX_STRIPES, Runtime.getRuntime().availableProcessors()));
+        this.stripeMask = stripes - 1;
+        this.slots = new AtomicLongArray(stripes * STRIPE_SLOTS);
+    }
+
+    /// Records one latency.
+    ///
+    /// @param nanos the latency in nanoseconds; negative values are recorded as 0
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        int stripe = (int) Thread.currentThread().threadId() & stripeMask;
+        int base = stripe * STRIPE_SLOTS;
+        slots.getAndIncrement(base + bucketOf(value));
+        slots.getAndAdd(base + BUCKETS, value);
+    }
+
+    /// Returns the number of recorded values.
+    ///
+    /// @return the count
+    public long getCount() {
+        long count = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int base = stripe * STRIPE_SLOTS;
+            for (int b = 0; b < BUCKETS; b++) {
+                count += slots.get(base + b);
+            }
+        }
+        return count;
+    }
+
+    /// Returns the exact mean of the recorded values.
+    ///
+    /// @return the mean in nanoseconds, or 0 if nothing was recorded
+    public double getMean() {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            sum += slots.get(stripe * STRIPE_SLOTS + BUCKETS);
+        }
+        return (double) sum / count;
+    }
+
+    /// Returns a percentile of the recorded values.
+    ///
+    /// @param percentile the percentile (0-100)
+    /// @return the largest value of the bucket holding the percentile, in
+    ///         nanoseconds, or 0 if nothing was recorded
+    public long getPercentile(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int stripe = 0; stripe <= stripeMask; stripe++) {
+            int base = stripe * STRIPE_SLOTS;
+            for (int b = 0; b < BUCKETS; b++) {
+                counts[b] += slots.get(base + b);
+            }
+        }
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += counts[b];
+            if (seen >= rank) {
+                return highestValueOf(b);
+            }
+        }
+        return highestValueOf(BUCKETS - 1);
+    }
+
+    /// Clears every recorded value.
+    ///
+    /// Values recorded while the histogram is being cleared may be lost.
+    public void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    /// Returns the bucket of a value.
+    ///
+    /// @param value the non-negative value
+    /// @return the bucket index
+    private static int bucketOf(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR + (exponent - (SUB_BITS + 1)) * SUB_BUCKETS + sub;
+    }
+
+    /// Returns the largest value that falls in a bucket.
+    ///
+    /// @param bucket the bucket index
+    /// @return the largest value of the bucket
+    private static long highestValueOf(int bucket) {
+        if (bucket < LINEAR) {
+            return bucket;
+        }
+        int exponent = (bucket - LINEAR) / SUB_BUCKETS + SUB_BITS + 1;
+        int sub = (bucket - LINEAR) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BITS);
+        long lowest = (SUB_BUCKETS + sub) * width;
+        return lowest + width - 1;
+    }
+}
@@ -0,0 +1,37 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/// JDK Flight Recorder event spanning a player's choice of the dice to reroll.
+///
+/// The duration is the time the strategy took to decide, which for a
+/// human or remote player includes waiting for the answer.
+@Name("upo.yacht.RerollDecision")
+@Label("Reroll Decision")
+@Category({"Yacht", "Game"})
+@Description("A player chose which dice to reroll")
+@StackTrace(false)
+public final class RerollDecisionEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Round")
+    @Description("Round of the game, from 1 to 12")
+    public int round;
+
+    @Label("Dice")
+    @Description("Face of every die before the reroll, first die first")
+    public String dice;
+
+    @Label("Reroll Mask")
+    @Description("Bit i set means die i is rerolled; 0 keeps the dice")
+    public int rerollMask;
+
+    @Label("Rerolled Dice")
+    public int rerolled;
+}
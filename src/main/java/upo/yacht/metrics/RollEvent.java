@@ -0,0 +1,30 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/// JDK Flight Recorder event for one roll of the dice.
+@Name("upo.yacht.Roll")
+@Label("Roll")
+@Category({"Yacht", "Game"})
+@Description("The unlocked dice were rolled")
+@StackTrace(false)
+public final class RollEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Round")
+    @Description("Round of the game, from 1 to 12")
+    public int round;
+
+    @Label("Dice")
+    @Description("Face of every die after the roll, first die first")
+    public String dice;
+
+    @Label("Rolls Left")
+    public int rollsLeft;
+}
@@ -0,0 +1,25 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/// JDK Flight Recorder event spanning the save of the final results to a file.
+@Name("upo.yacht.Save")
+@Label("Results Save")
+@Category({"Yacht", "I/O"})
+@Description("The final scoreboard of a game was written to a file")
+public final class SaveEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
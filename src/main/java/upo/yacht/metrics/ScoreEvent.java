@@ -0,0 +1,36 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/// JDK Flight Recorder event for a score registered during a game.
+///
+/// Committed by the game engine, which knows the player and the round,
+/// once the points are on the player's scoreboard.
+@Name("upo.yacht.Score")
+@Label("Score")
+@Category({"Yacht", "Game"})
+@Description("Points were registered in a category of a player's scoreboard")
+@StackTrace(false)
+public final class ScoreEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Round")
+    @Description("Round of the game, from 1 to 12")
+    public int round;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Points")
+    public int points;
+
+    @Label("Total Score")
+    @Description("Total of the scoreboard after the registration")
+    public int totalScore;
+}
@@ -0,0 +1,37 @@
+package upo.yacht.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/// JDK Flight Recorder event spanning one turn, from the first roll to the registered score.
+@Name("upo.yacht.Turn")
+@Label("Turn")
+@Category({"Yacht", "Game"})
+@Description("A player rolled and scored one category")
+@StackTrace(false)
+public final class TurnEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Round")
+    @Description("Round of the game, from 1 to 12")
+    public int round;
+
+    @Label("Phase")
+    @Description("Classic, or the Extended phase: Downward, 1st Roll or Free")
+    public String phase;
+
+    @Label("Rolls")
+    @Description("Rolls of the turn, the first one included")
+    public int rolls;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Points")
+    public int points;
+}
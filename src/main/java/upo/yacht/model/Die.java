@@ -1,26 +1,26 @@
 package upo.yacht.model;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /// Represents a single die in the Yacht game.
 ///
 /// Each die can show values from 1 to 6 and can be locked to prevent
-/// rolling. The die uses a shared Random instance to ensure consistent
+/// rolling. The die uses a shared random generator to ensure consistent
 /// randomness across all dice in the game.
 public class Die {
     private static final int FACES = 6;
-    private final Random random;
+    private final RandomGenerator random;
     private int value;
     private boolean isLocked;
 
     /// Creates a new die with the given random number generator.
     ///
     /// The die is initialized with a value of 1 and unlocked state.
-    /// All dice in the game should share the same Random instance
+    /// All dice in the game should share the same generator
     /// to maintain consistent randomness behavior.
     ///
-    /// @param random the Random instance to use for generating die rolls
-    public Die(Random random) {
+    /// @param random the random generator to use for generating die rolls
+    public Die(RandomGenerator random) {
         this.random = random;
         this.value = 1;
         this.isLocked = false;
@@ -37,6 +37,20 @@ public class Die {
         }
     }
 
+    /// Sets the face value of the die directly.
+    ///
+    /// Used when the value was drawn elsewhere, such as by the bulk rolls
+    /// of `DiceManager`. The lock state is not checked.
+    ///
+    /// @param value the new face value (1-6)
+    /// @throws IllegalArgumentException if the value is not between 1 and 6
+    public void setValue(int value) {
+        if (value < 1 || value > FACES) {
+            throw new IllegalArgumentException("Die value must be between 1 and " + FACES + ": " + value);
+        }
+        this.value = value;
+    }
+
     /// Returns the current face value of the die.
     ///
     /// @return the current value (1-6)
@@ -0,0 +1,269 @@
+package upo.yacht.model;
+
+/// An immutable scoreboard packed into two `long` values.
+///
+/// The 12 scores take one byte each: categories 0-7 fill the low word and
+/// categories 8-11 the lowest 32 bits of the high word. The rest of the
+/// high word holds the mask of used categories (bits 32-43) and the total
+/// score (bits 48-63), which `withScore` updates as it adds a score:
+/// ```text
+/// low:  | cat 7 | cat 6 | cat 5 | cat 4 | cat 3 | cat 2 | cat 1 | cat 0 |
+/// high: |     total     |  -  | used mask | cat 11 | cat 10 | cat 9 | cat 8 |
+/// ```
+/// An open category always holds 0, so two boards are equal exactly when
+/// their words are. Search code that keeps millions of boards can store
+/// the two words (see `getLow` and `getHigh`) in primitive arrays or
+/// open-addressing tables, read them with the static accessors, hash them
+/// with `hash` and rebuild a board with `fromBits` only when needed.
+///
+/// Scores range from 0 to 255, far above the best score of any category.
+public final class PackedScoreboard {
+    /// The board with every category open.
+    public static final PackedScoreboard EMPTY = new PackedScoreboard(0L, 0L);
+    /// Highest score a category can hold.
+    public static final int MAX_SCORE = 0xFF;
+
+    private static final int NUM_CATEGORIES = 12;
+    private static final int LOW_CATEGORIES = 8;
+    private static final int MASK_SHIFT = 32;
+    private static final int TOTAL_SHIFT = 48;
+    private static final int ALL_USED = (1 << NUM_CATEGORIES) - 1;
+    private static final long SCORES_HIGH = 0xFFFF_FFFFL;
+
+    private final long low;
+    private final long high;
+
+    /// Creates a board from its two words, assumed consistent.
+    ///
+    /// @param low  the scores of categories 0-7
+    /// @param high the scores of categories 8-11, the used mask and the total
+    private PackedScoreboard(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /// Packs the scores of a scoreboard.
+    ///
+    /// @param board the scoreboard to pack
+    /// @return the packed scoreboard
+    /// @throws IllegalArgumentException if a score is outside 0-255
+    public static PackedScoreboard of(Scoreboard board) {
+        long low = 0L;
+        long high = 0L;
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            if (board.isCategoryUsed(i)) {
+                int points = checkPoints(board.getScore(i));
+                high += ((long) points << TOTAL_SHIFT) | (1L << (MASK_SHIFT + i));
+                if (i < LOW_CATEGORIES) {
+                    low |= (long) points << (8 * i);
+                } else {
+                    high |= (long) points << (8 * (i - LOW_CATEGORIES));
+                }
+            }
+        }
+        return (high == 0L) ? EMPTY : new PackedScoreboard(low, high);
+    }
+
+    /// Rebuilds a board from the words returned by `getLow` and `getHigh`.
+    ///
+    /// @param low  the low word
+    /// @param high the high word
+    /// @return the packed scoreboard
+    /// @throws IllegalArgumentException if the words are not those of a board
+    public static PackedScoreboard fromBits(long low, long high) {
+        int usedMask = getUsedMask(high);
+        int total = 0;
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            int score = getScore(low, high, i);
+            if (score != 0 && (usedMask & (1 << i)) == 0) {
+                throw new IllegalArgumentException("Open category " + i + " holds a score: " + score);
+            }
+            total += score;
+        }
+        if (((high >>> MASK_SHIFT) & ~ALL_USED & 0xFFFF) != 0 || total != getTotalScore(high)) {
+            throw new IllegalArgumentException("Invalid packed scoreboard: " + Long.toHexString(low) + " " +
+                    Long.toHexString(high));
+        }
+        return (usedMask == 0) ? EMPTY : new PackedScoreboard(low, high);
+    }
+
+    /// Returns this board with one more category filled.
+    ///
+    /// @param categoryIndex the index of an open category (0-11)
+    /// @param points        the points scored in that category (0-255)
+    /// @return a new packed scoreboard
+    /// @throws IllegalArgumentException if the category index or the points are out of range,
+    ///                                  or the category is already filled
+    public PackedScoreboard withScore(int categoryIndex, int points) {
+        checkCategory(categoryIndex);
+        checkPoints(points);
+        if (isCategoryUsed(categoryIndex)) {
+            throw new IllegalArgumentException("Category " + categoryIndex + " is already filled!");
+        }
+        long newLow = low;
+        long newHigh = high + ((long) points << TOTAL_SHIFT) | (1L << (MASK_SHIFT + categoryIndex));
+        if (categoryIndex < LOW_CATEGORIES) {
+            newLow |= (long) points << (8 * categoryIndex);
+        } else {
+            newHigh |= (long) points << (8 * (categoryIndex - LOW_CATEGORIES));
+        }
+        return new PackedScoreboard(newLow, newHigh);
+    }
+
+    /// Unpacks this board into a new scoreboard.
+    ///
+    /// @return a scoreboard with the same scores
+    public Scoreboard toScoreboard() {
+        return new Scoreboard(this);
+    }
+
+    /// Returns the low word: the scores of categories 0-7.
+    ///
+    /// @return the low word
+    public long getLow() {
+        return low;
+    }
+
+    /// Returns the high word: the scores of categories 8-11, the used mask and the total.
+    ///
+    /// @return the high word
+    public long getHigh() {
+        return high;
+    }
+
+    /// Checks if a category has been used.
+    ///
+    /// @param categoryIndex the index to check (0-11)
+    /// @return true if the category has been filled, false otherwise
+    /// @throws IllegalArgumentException if the category index is invalid
+    public boolean isCategoryUsed(int categoryIndex) {
+        checkCategory(categoryIndex);
+        return (getUsedMask(high) & (1 << categoryIndex)) != 0;
+    }
+
+    /// Returns the set of used categories as a bit mask.
+    ///
+    /// @return the mask of used categories (0-4095)
+    public int getUsedMask() {
+        return getUsedMask(high);
+    }
+
+    /// Gets the score for a specific category.
+    ///
+    /// @param categoryIndex the category index (0-11)
+    /// @return the score for that category, or 0 if not yet filled
+    /// @throws IllegalArgumentException if the category index is invalid
+    public int getScore(int categoryIndex) {
+        checkCategory(categoryIndex);
+        return getScore(low, high, categoryIndex);
+    }
+
+    /// Returns the total score across all filled categories.
+    ///
+    /// @return the sum of all scores
+    public int getTotalScore() {
+        return getTotalScore(high);
+    }
+
+    /// Returns the used mask stored in a high word.
+    ///
+    /// @param high the high word of a board
+    /// @return the mask of used categories (0-4095)
+    public static int getUsedMask(long high) {
+        return (int) (high >>> MASK_SHIFT) & ALL_USED;
+    }
+
+    /// Returns the total score stored in a high word.
+    ///
+    /// @param high the high word of a board
+    /// @return the total score
+    public static int getTotalScore(long high) {
+        return (int) (high >>> TOTAL_SHIFT);
+    }
+
+    /// Returns the score of a category stored in the words of a board.
+    ///
+    /// @param low           the low word of the board
+    /// @param high          the high word of the board
+    /// @param categoryIndex the category index (0-11), not checked
+    /// @return the score for that category, or 0 if not yet filled
+    public static int getScore(long low, long high, int categoryIndex) {
+        if (categoryIndex < LOW_CATEGORIES) {
+            return (int) (low >>> (8 * categoryIndex)) & MAX_SCORE;
+        }
+        return (int) ((high & SCORES_HIGH) >>> (8 * (categoryIndex - LOW_CATEGORIES))) & MAX_SCORE;
+    }
+
+    /// Hashes the words of a board, mixing every bit of both.
+    ///
+    /// Gives the same value as `hashCode`, so tables storing the raw words
+    /// and tables of instances spread boards alike.
+    ///
+    /// @param low  the low word of the board
+    /// @param high the high word of the board
+    /// @return the hash code
+    public static int hash(long low, long high) {
+        long h = low * 0x9E37_79B9_7F4A_7C15L ^ high;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    /// Compares this board with another object.
+    ///
+    /// @param o the object to compare with
+    /// @return true if the object is a packed scoreboard with the same scores
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PackedScoreboard other && low == other.low && high == other.high;
+    }
+
+    /// Returns the hash code of this board (see `hash`).
+    ///
+    /// @return the hash code
+    @Override
+    public int hashCode() {
+        return hash(low, high);
+    }
+
+    /// Returns the used categories and their scores, such as `{0=3, 11=50} total 53`.
+    ///
+    /// @return the text of this board
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            if (isCategoryUsed(i)) {
+                if (sb.length() > 1) {
+                    sb.append(", ");
+                }
+                sb.append(i).append('=').append(getScore(low, high, i));
+            }
+        }
+        return sb.append("} total ").append(getTotalScore()).toString();
+    }
+
+    /// Checks a category index.
+    ///
+    /// @param categoryIndex the category index
+    /// @throws IllegalArgumentException if the category index is invalid
+    private static void checkCategory(int categoryIndex) {
+        if (categoryIndex < 0 || categoryIndex >= NUM_CATEGORIES) {
+            throw new IllegalArgumentException("Invalid category index: " + categoryIndex + ". Must " +
+                    "be between 0 and " + (NUM_CATEGORIES - 1));
+        }
+    }
+
+    /// Checks that points fit in one byte.
+    ///
+    /// @param points the points of a category
+    /// @return the points, for convenience
+    /// @throws IllegalArgumentException if the points are outside 0-255
+    private static int checkPoints(int points) {
+        if (points < 0 || points > MAX_SCORE) {
+            throw new IllegalArgumentException("Invalid points: " + points + ". Must be between 0 and " + MAX_SCORE);
+        }
+        return points;
+    }
+}
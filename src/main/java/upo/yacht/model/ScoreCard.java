@@ -0,0 +1,60 @@
+package upo.yacht.model;
+
+/// Read-only view of the scores of one player, whatever the categories of the game.
+///
+/// Implemented by the `Scoreboard` of the built-in game and by the
+/// `VariantScoreboard` of a house variant, so that the console renderer
+/// and the simulation statistics handle both the same way. A card without
+/// an upper bonus keeps the default bonus methods.
+public interface ScoreCard {
+    /// Returns the number of categories of the game.
+    ///
+    /// @return the number of categories, each filled once per game
+    int getNumCategories();
+
+    /// Returns the name of a category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the display name of the category
+    String getCategoryName(int categoryIndex);
+
+    /// Checks if a category has been used.
+    ///
+    /// @param categoryIndex the category index
+    /// @return true if the category has been filled, false otherwise
+    /// @throws IllegalArgumentException if the category index is invalid
+    boolean isCategoryUsed(int categoryIndex);
+
+    /// Gets the score for a specific category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the score for that category, or 0 if not yet filled
+    /// @throws IllegalArgumentException if the category index is invalid
+    int getScore(int categoryIndex);
+
+    /// Returns the total score, bonus included.
+    ///
+    /// @return the sum of all scores and the bonus
+    int getTotalScore();
+
+    /// Returns the upper score needed for the bonus.
+    ///
+    /// @return the threshold, or 0 if the game has no upper bonus
+    default int getBonusThreshold() {
+        return 0;
+    }
+
+    /// Returns the points scored in the upper categories.
+    ///
+    /// @return the sum of the upper scores, or 0 if the game has no upper bonus
+    default int getUpperScore() {
+        return 0;
+    }
+
+    /// Returns the upper bonus earned so far.
+    ///
+    /// @return the bonus points, or 0 if the threshold is not reached
+    default int getBonus() {
+        return 0;
+    }
+}
@@ -1,8 +1,7 @@
 package upo.yacht.model;
 
 import upo.yacht.exceptions.YachtGameException;
-import upo.yacht.logic.Scorer;
-import upo.yacht.util.DiceUtils;
+import upo.yacht.util.ConsoleRenderer;
 
 /// Manages the scoring for a single player in Yacht.
 ///
@@ -10,10 +9,15 @@ import upo.yacht.util.DiceUtils;
 /// across all 12 scoring categories. Each category can only be filled once,
 /// and the class provides methods to register scores, check availability,
 /// and display the current state.
-public class Scoreboard {
+///
+/// The total is kept up to date as scores are registered, so reading it
+/// costs nothing. Solvers and bulk storage can use the compact
+/// `PackedScoreboard` form instead (see `toPacked`).
+public class Scoreboard implements ScoreCard {
     private static final int NUM_CATEGORIES = 12;
     private final int[] scores;
     private final boolean[] categoryUsed;
+    private int totalScore;
 
     /// Creates an empty scoreboard with all categories available.
     ///
@@ -24,6 +28,18 @@ public class Scoreboard {
         this.categoryUsed = new boolean[NUM_CATEGORIES];
     }
 
+    /// Creates a scoreboard holding the scores of a packed scoreboard.
+    ///
+    /// @param packed the packed scoreboard to unpack
+    Scoreboard(PackedScoreboard packed) {
+        this();
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            scores[i] = packed.getScore(i);
+            categoryUsed[i] = packed.isCategoryUsed(i);
+        }
+        totalScore = packed.getTotalScore();
+    }
+
     /// Registers a score for a specific category.
     ///
     /// Validates that the category index is valid and that the category
@@ -44,6 +60,15 @@ public class Scoreboard {
         }
         scores[categoryIndex] = points;
         categoryUsed[categoryIndex] = true;
+        totalScore += points;
+    }
+
+    /// Returns the number of categories of the game.
+    ///
+    /// @return 12
+    @Override
+    public int getNumCategories() {
+        return NUM_CATEGORIES;
     }
 
     /// Checks if a category has been used.
@@ -51,6 +76,7 @@ public class Scoreboard {
     /// @param categoryIndex the index to check (0-11)
     /// @return true if the category has been filled, false otherwise
     /// @throws IllegalArgumentException if the category index is invalid
+    @Override
     public boolean isCategoryUsed(int categoryIndex) {
         if (categoryIndex < 0 || categoryIndex >= NUM_CATEGORIES) {
             throw new IllegalArgumentException("Invalid category index: " + categoryIndex + ". Must " +
@@ -59,11 +85,28 @@ public class Scoreboard {
         return categoryUsed[categoryIndex];
     }
 
+    /// Returns the set of used categories as a bit mask.
+    ///
+    /// Bit i is set when category i has been filled. Used by the solvers
+    /// and automated strategies to index precomputed tables.
+    ///
+    /// @return the mask of used categories (0-4095)
+    public int getUsedMask() {
+        int mask = 0;
+        for (int i = 0; i < NUM_CATEGORIES; i++) {
+            if (categoryUsed[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
     /// Gets the score for a specific category.
     ///
     /// @param categoryIndex the category index (0-11)
     /// @return the score for that category, or 0 if not yet filled
     /// @throws IllegalArgumentException if the category index is invalid
+    @Override
     public int getScore(int categoryIndex) {
         if (categoryIndex < 0 || categoryIndex >= NUM_CATEGORIES) {
             throw new IllegalArgumentException("Invalid category index: " + categoryIndex + ". Must " +
@@ -72,50 +115,43 @@ public class Scoreboard {
         return scores[categoryIndex];
     }
 
-    /// Calculates the total score across all filled categories.
+    /// Returns the total score across all filled categories.
     ///
     /// @return the sum of all scores in the scoreboard
+    @Override
     public int getTotalScore() {
-        return DiceUtils.sumDice(scores);
+        return totalScore;
+    }
+
+    /// Packs this scoreboard into its compact form.
+    ///
+    /// @return a packed scoreboard with the same scores
+    /// @throws IllegalArgumentException if a score does not fit the packed form (0-255)
+    public PackedScoreboard toPacked() {
+        return PackedScoreboard.of(this);
     }
 
     /// Displays the current scoreboard state to the console.
     ///
     /// Shows which categories are filled (with checkmarks) and which are available.
     /// For available categories, displays potential points if current dice values
-    /// are provided. Includes a running total at the bottom.
+    /// are provided, scoring every category from a single pass over the dice.
+    /// Includes a running total at the bottom. The board is written in one
+    /// call through the standard `ConsoleRenderer`.
     ///
     /// @param CurrentDice optional array of current dice values to show potential scores; null to hide predictions
     public void displayBoard(int[] CurrentDice) {
-        System.out.println("\n|| ========== SCOREBOARD ==========");
-
-        for (int i = 0; i < NUM_CATEGORIES; i++) {
-            String categoryName = getCategoryName(i);
-
-            if (categoryUsed[i]) {
-                System.out.printf("[%2d] %-20s (Points: %3d) : %3d ✓\n",
-                        i, categoryName, 0, scores[i]);
-            } else {
-                if (CurrentDice != null) {
-                    System.out.printf("[%2d] %-20s (Points: %3d) : ---\n",
-                            i, categoryName, Scorer.getScore(i, CurrentDice));
-                } else {
-                    System.out.printf("|| [%2d] %-20s : ---\n", i, categoryName);
-                }
-            }
-        }
-        System.out.println("|| --------------------------------");
-        System.out.printf("|| TOTAL                    : %3d\n", getTotalScore());
-        System.out.println("|| ================================\n");
+        ConsoleRenderer.standard().renderBoard(this, CurrentDice);
     }
 
-    /// Helper method to get category names by index.
+    /// Returns the name of a category.
     ///
     /// Uses the Scorer class to maintain consistency across the application.
     ///
     /// @param index the category index (0-11)
     /// @return the category name as a string
-    private String getCategoryName(int index) {
+    @Override
+    public String getCategoryName(int index) {
         return upo.yacht.logic.Scorer.getCategoryName(index);
     }
 }
@@ -0,0 +1,123 @@
+package upo.yacht.results;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/// Bounded top-K ranking of results, maintained incrementally.
+///
+/// Holds at most `capacity` entries sorted by descending score; among
+/// equal scores the earlier result ranks first. A result that does not
+/// beat the last entry of a full board is rejected with a single
+/// comparison, so offering millions of results costs almost nothing once
+/// the board has filled up, and memory never grows past the capacity.
+///
+/// With `bestPerPlayer`, every name appears at most once with its best
+/// score. Only the names on the board are tracked: a name pushed off the
+/// board can only return with a score above the last entry, and that
+/// threshold never goes down, so the older scores of that name can never
+/// matter again. The ranking is therefore exact with O(capacity) memory.
+///
+/// Instances are not thread-safe.
+public class Leaderboard {
+    private final int capacity;
+    private final boolean bestPerPlayer;
+    private final LeaderboardEntry[] entries;
+    private final HashMap<String, LeaderboardEntry> byName;
+    private int size;
+
+    /// Creates an empty leaderboard.
+    ///
+    /// @param capacity      the maximum number of entries (minimum 1)
+    /// @param bestPerPlayer true to keep only the best result of each name
+    /// @throws IllegalArgumentException if the capacity is not positive
+    public Leaderboard(int capacity, boolean bestPerPlayer) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Leaderboard capacity must be at least 1, got " + capacity);
+        }
+        this.capacity = capacity;
+        this.bestPerPlayer = bestPerPlayer;
+        this.entries = new LeaderboardEntry[capacity];
+        this.byName = bestPerPlayer ? new HashMap<>() : null;
+    }
+
+    /// Offers a result to the leaderboard.
+    ///
+    /// @param entry the result
+    /// @return true if the entry was added to the board
+    public boolean offer(LeaderboardEntry entry) {
+        int score = entry.getScore();
+        if (size == capacity && score <= entries[size - 1].getScore()) {
+            return false;
+        }
+        if (bestPerPlayer) {
+            LeaderboardEntry current = byName.get(entry.getName());
+            if (current != null) {
+                if (score <= current.getScore()) {
+                    return false;
+                }
+                remove(current);
+            }
+        }
+
+        int position = size;
+        while (position > 0 && entries[position - 1].getScore() < score) {
+            position--;
+        }
+        if (size == capacity) {
+            LeaderboardEntry evicted = entries[--size];
+            if (bestPerPlayer) {
+                byName.remove(evicted.getName());
+            }
+        }
+        System.arraycopy(entries, position, entries, position + 1, size - position);
+        entries[position] = entry;
+        size++;
+        if (bestPerPlayer) {
+            byName.put(entry.getName(), entry);
+        }
+        return true;
+    }
+
+    /// Returns the best entries.
+    ///
+    /// @param n the maximum number of entries to return
+    /// @return an unmodifiable list of at most `n` entries, best first
+    public List<LeaderboardEntry> getTop(int n) {
+        return List.of(Arrays.copyOf(entries, Math.max(0, Math.min(n, size))));
+    }
+
+    /// Returns the number of entries on the board.
+    ///
+    /// @return the number of entries, at most the capacity
+    public int size() {
+        return size;
+    }
+
+    /// Returns the maximum number of entries.
+    ///
+    /// @return the capacity
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// Returns whether the board keeps only the best result of each name.
+    ///
+    /// @return true for a board of players, false for a board of results
+    public boolean isBestPerPlayer() {
+        return bestPerPlayer;
+    }
+
+    /// Removes an entry that is on the board.
+    ///
+    /// @param entry the entry to remove
+    private void remove(LeaderboardEntry entry) {
+        int position = 0;
+        while (entries[position] != entry) {
+            position++;
+        }
+        System.arraycopy(entries, position + 1, entries, position, size - position - 1);
+        entries[--size] = null;
+        byName.remove(entry.getName());
+    }
+}
@@ -0,0 +1,57 @@
+package upo.yacht.results;
+
+/// One result on a `Leaderboard`: a player's final score in one game.
+///
+/// Instances are immutable.
+public final class LeaderboardEntry {
+    private final String name;
+    private final int score;
+    private final long game;
+    private final long timestamp;
+
+    /// Creates an entry.
+    ///
+    /// @param name      the player name
+    /// @param score     the final score
+    /// @param game      the number of the game in the results store, starting at 0
+    /// @param timestamp the time the game finished, in milliseconds since the epoch
+    public LeaderboardEntry(String name, int score, long game, long timestamp) {
+        this.name = name;
+        this.score = score;
+        this.game = game;
+        this.timestamp = timestamp;
+    }
+
+    /// Returns the player name.
+    ///
+    /// @return the name
+    public String getName() {
+        return name;
+    }
+
+    /// Returns the final score.
+    ///
+    /// @return the total score of the player in that game
+    public int getScore() {
+        return score;
+    }
+
+    /// Returns the number of the game in the results store.
+    ///
+    /// @return the game number, starting at 0
+    public long getGame() {
+        return game;
+    }
+
+    /// Returns when the game finished.
+    ///
+    /// @return milliseconds since the epoch
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + score + ")";
+    }
+}
@@ -0,0 +1,451 @@
+package upo.yacht.results;
+
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.model.Player;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/// Append-only store of the final results of every finished game.
+///
+/// Every game added to the store is appended to its file and offered to
+/// four bounded `Leaderboard`s: the best results and the best player of
+/// each mode. The leaderboards are updated as games are added, so a top-K
+/// query copies at most K entries whatever the size of the history, and
+/// memory stays bounded by the leaderboard capacity.
+///
+/// When the store is closed, the leaderboards are written to a small
+/// checkpoint file next to it (the store path followed by `.top`) along
+/// with the length of the store they cover. Opening the store loads the
+/// checkpoint and reads only the games appended after it, such as games
+/// recorded before a crash; the whole file is read only if the
+/// checkpoint is missing or does not match.
+///
+/// The store is a header (int magic "YRES", byte version) followed by one
+/// frame per game: an int length, then the long finish time in
+/// milliseconds since the epoch, a flags byte (1 = Extended mode), a short
+/// player count, and for every player in ranking order an int score, a
+/// short name length and the name in UTF-8. A frame left incomplete by a
+/// crash is cut off when the store is opened.
+///
+/// All methods are thread-safe, so the games of many threads can be
+/// added to one store.
+public class ResultStore implements Closeable {
+    /// Default number of entries of each leaderboard.
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private static final int MAGIC = 0x59524553; // "YRES"
+    private static final int CHECKPOINT_MAGIC = 0x59524C42; // "YRLB"
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+    private static final int FRAME_HEADER_SIZE = 4;
+    private static final int FLAG_EXTENDED = 1;
+    private static final int BATCH_SIZE = 64 * 1024;
+    private static final int READ_SIZE = 1024 * 1024;
+
+    private final Path path;
+    private final Path checkpointPath;
+    private final int capacity;
+    private final FileChannel channel;
+    private final ByteBuffer batch;
+    private final Leaderboard[] topResults = new Leaderboard[2];
+    private final Leaderboard[] topPlayers = new Leaderboard[2];
+    private ByteBuffer record = ByteBuffer.allocate(256);
+    private long games;
+    private long results;
+
+    /// Opens a store with leaderboards of the default capacity, creating it if it does not exist.
+    ///
+    /// @param path the store file
+    /// @throws IOException if the file cannot be opened or is not a results store
+    public ResultStore(Path path) throws IOException {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    /// Opens a store, creating it if it does not exist.
+    ///
+    /// @param path     the store file
+    /// @param capacity the number of entries of each leaderboard (minimum 1)
+    /// @throws IOException              if the file cannot be opened or is not a results store
+    /// @throws IllegalArgumentException if the capacity is not positive
+    public ResultStore(Path path, int capacity) throws IOException {
+        for (int mode = 0; mode < 2; mode++) {
+            topResults[mode] = new Leaderboard(capacity, false);
+            topPlayers[mode] = new Leaderboard(capacity, true);
+        }
+        this.path = path;
+        this.checkpointPath = path.resolveSibling(path.getFileName() + ".top");
+        this.capacity = capacity;
+        Path parentDir = path.toAbsolutePath().getParent();
+        if (parentDir != null) {
+            Files.createDirectories(parentDir);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.batch = ByteBuffer.allocateDirect(BATCH_SIZE);
+        try {
+            if (channel.size() == 0) {
+                batch.putInt(MAGIC).put(VERSION);
+            } else {
+                checkHeader();
+                long from = loadCheckpoint();
+                channel.truncate(scan(from));
+            }
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /// Creates a listener adding the games it sees end to this store.
+    ///
+    /// The listener learns the mode of each game from its start, so it
+    /// must be attached before the game starts; one listener can record
+    /// many games one after the other.
+    ///
+    /// @return a new recording listener
+    public GameEventListener newGame() {
+        return new GameEventListener() {
+            private boolean isExtended;
+
+            @Override
+            public void onGameStart(Player[] turnOrder, boolean isExtended) {
+                this.isExtended = isExtended;
+            }
+
+            @Override
+            public void onGameEnd(Player[] ranking) {
+                add(isExtended, ranking);
+            }
+        };
+    }
+
+    /// Adds the final results of one game.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param ranking    the players sorted by total score (descending)
+    /// @throws UncheckedIOException if writing to the file fails
+    public synchronized void add(boolean isExtended, Player[] ranking) {
+        long timestamp = System.currentTimeMillis();
+        int length = encode(isExtended, ranking, timestamp);
+        try {
+            if (batch.remaining() < FRAME_HEADER_SIZE + length) {
+                writeBatch();
+            }
+            if (batch.remaining() < FRAME_HEADER_SIZE + length) {
+                ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + length);
+                frame.putInt(length).put(record.array(), 0, length).flip();
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            } else {
+                batch.putInt(length).put(record.array(), 0, length);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int mode = isExtended ? 1 : 0;
+        for (Player player : ranking) {
+            addResult(mode, new LeaderboardEntry(player.getName(), player.getTotalScore(), games, timestamp));
+        }
+        games++;
+    }
+
+    /// Returns the best results of a mode.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param n          the maximum number of results
+    /// @return an unmodifiable list of at most `n` results, best first
+    public synchronized List<LeaderboardEntry> getTopResults(boolean isExtended, int n) {
+        return topResults[isExtended ? 1 : 0].getTop(n);
+    }
+
+    /// Returns the players with the best result in a mode, each with that result.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param n          the maximum number of players
+    /// @return an unmodifiable list of at most `n` results of distinct names, best first
+    public synchronized List<LeaderboardEntry> getTopPlayers(boolean isExtended, int n) {
+        return topPlayers[isExtended ? 1 : 0].getTop(n);
+    }
+
+    /// Returns the number of games in the store.
+    ///
+    /// @return the number of recorded games
+    public synchronized long getGames() {
+        return games;
+    }
+
+    /// Returns the number of player results in the store.
+    ///
+    /// @return the number of recorded results
+    public synchronized long getResults() {
+        return results;
+    }
+
+    /// Returns the number of entries of each leaderboard.
+    ///
+    /// @return the leaderboard capacity
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /// Writes every added game to the file.
+    ///
+    /// @throws IOException if writing fails
+    public synchronized void flush() throws IOException {
+        writeBatch();
+    }
+
+    /// Writes the added games and the leaderboard checkpoint, then closes the file.
+    ///
+    /// @throws IOException if writing fails
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writeBatch();
+            writeCheckpoint(channel.size());
+        } finally {
+            channel.close();
+        }
+    }
+
+    /// Counts a result and offers it to both leaderboards of a mode.
+    ///
+    /// @param mode  0 for Classic mode, 1 for Extended mode
+    /// @param entry the result
+    private void addResult(int mode, LeaderboardEntry entry) {
+        topResults[mode].offer(entry);
+        topPlayers[mode].offer(entry);
+        results++;
+    }
+
+    /// Encodes the frame body of one game into the record buffer.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param ranking    the players sorted by total score (descending)
+    /// @param timestamp  the finish time in milliseconds since the epoch
+    /// @return the number of bytes encoded
+    private int encode(boolean isExtended, Player[] ranking, long timestamp) {
+        record.clear();
+        record = grow(record, 8 + 1 + 2);
+        record.putLong(timestamp).put((byte) (isExtended ? FLAG_EXTENDED : 0)).putShort((short) ranking.length);
+        for (Player player : ranking) {
+            byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+            int nameLength = Math.min(name.length, 0xFFFF);
+            record = grow(record, 4 + 2 + nameLength);
+            record.putInt(player.getTotalScore()).putShort((short) nameLength).put(name, 0, nameLength);
+        }
+        return record.position();
+    }
+
+    /// Checks that the file starts with a results store header of a supported version.
+    ///
+    /// @throws IOException if the header is missing or unsupported
+    private void checkHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // Keep reading until the header is complete or the file ends
+        }
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new StreamCorruptedException(path + " is not a results store");
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported results store version " + version + " in " + path);
+        }
+    }
+
+    /// Loads the leaderboards from the checkpoint file, if it matches the store.
+    ///
+    /// @return the file offset of the first game not covered by the checkpoint
+    /// @throws IOException if the store size cannot be read
+    private long loadCheckpoint() throws IOException {
+        if (!Files.isRegularFile(checkpointPath)) {
+            return HEADER_SIZE;
+        }
+        try {
+            ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(checkpointPath));
+            if (in.getInt() != CHECKPOINT_MAGIC || in.get() != VERSION || in.getInt() != capacity) {
+                return HEADER_SIZE;
+            }
+            long covered = in.getLong();
+            long checkpointGames = in.getLong();
+            long checkpointResults = in.getLong();
+            if (covered < HEADER_SIZE || covered > channel.size()) {
+                return HEADER_SIZE;
+            }
+            Leaderboard[][] boards = {topResults, topPlayers};
+            for (Leaderboard[] kind : boards) {
+                for (Leaderboard board : kind) {
+                    int count = in.getInt();
+                    for (int i = 0; i < count; i++) {
+                        byte[] name = new byte[in.getShort() & 0xFFFF];
+                        in.get(name);
+                        board.offer(new LeaderboardEntry(new String(name, StandardCharsets.UTF_8), in.getInt(),
+                                in.getLong(), in.getLong()));
+                    }
+                }
+            }
+            games = checkpointGames;
+            results = checkpointResults;
+            return covered;
+        } catch (IOException | BufferUnderflowException e) {
+            // An unreadable checkpoint only costs a full scan
+            for (int mode = 0; mode < 2; mode++) {
+                topResults[mode] = new Leaderboard(capacity, false);
+                topPlayers[mode] = new Leaderboard(capacity, true);
+            }
+            return HEADER_SIZE;
+        }
+    }
+
+    /// Reads the games from the given offset to the end of the file.
+    ///
+    /// @param from the file offset of the first game frame to read
+    /// @return the file offset just after the last complete game
+    /// @throws IOException if reading fails or a frame is malformed
+    private long scan(long from) throws IOException {
+        long size = channel.size();
+        long position = from;
+        ReadWindow window = new ReadWindow(channel);
+        while (position + FRAME_HEADER_SIZE <= size) {
+            int length = window.load(position, FRAME_HEADER_SIZE).getInt();
+            long next = position + FRAME_HEADER_SIZE + length;
+            if (length <= 0 || next > size) {
+                break; // The last game was only partly written
+            }
+            ByteBuffer frame = window.load(position, FRAME_HEADER_SIZE + length);
+            frame.position(frame.position() + FRAME_HEADER_SIZE);
+            try {
+                decodeFrame(frame);
+            } catch (BufferUnderflowException e) {
+                throw new StreamCorruptedException("Corrupt results store " + path + " at offset " + position);
+            }
+            position = next;
+        }
+        return position;
+    }
+
+    /// Decodes one game frame and offers its results to the leaderboards.
+    ///
+    /// @param in the buffer positioned at the frame body
+    private void decodeFrame(ByteBuffer in) {
+        long timestamp = in.getLong();
+        int mode = ((in.get() & FLAG_EXTENDED) != 0) ? 1 : 0;
+        int count = in.getShort() & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int score = in.getInt();
+            byte[] name = new byte[in.getShort() & 0xFFFF];
+            in.get(name);
+            addResult(mode, new LeaderboardEntry(new String(name, StandardCharsets.UTF_8), score, games, timestamp));
+        }
+        games++;
+    }
+
+    /// Writes the leaderboards to the checkpoint file.
+    ///
+    /// The checkpoint is written to a temporary file first and then moved
+    /// over the old one, so a crash never leaves a half-written checkpoint.
+    ///
+    /// @param covered the length of the store covered by the leaderboards
+    /// @throws IOException if writing fails
+    private void writeCheckpoint(long covered) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(64);
+        out.putInt(CHECKPOINT_MAGIC).put(VERSION).putInt(capacity);
+        out.putLong(covered).putLong(games).putLong(results);
+        Leaderboard[][] boards = {topResults, topPlayers};
+        for (Leaderboard[] kind : boards) {
+            for (Leaderboard board : kind) {
+                List<LeaderboardEntry> entries = board.getTop(board.size());
+                out = grow(out, 4);
+                out.putInt(entries.size());
+                for (LeaderboardEntry entry : entries) {
+                    byte[] name = entry.getName().getBytes(StandardCharsets.UTF_8);
+                    int nameLength = Math.min(name.length, 0xFFFF);
+                    out = grow(out, 2 + nameLength + 4 + 8 + 8);
+                    out.putShort((short) nameLength).put(name, 0, nameLength);
+                    out.putInt(entry.getScore()).putLong(entry.getGame()).putLong(entry.getTimestamp());
+                }
+            }
+        }
+        Path temporary = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        Files.write(temporary, Arrays.copyOf(out.array(), out.position()));
+        Files.move(temporary, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /// Returns a buffer with room for more bytes, copying the content if it must grow.
+    ///
+    /// @param out   the buffer being written
+    /// @param extra the number of bytes about to be written
+    /// @return the same buffer, or a larger copy
+    private static ByteBuffer grow(ByteBuffer out, int extra) {
+        if (out.remaining() >= extra) {
+            return out;
+        }
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(out.capacity() * 2, out.position() + extra));
+        return larger.put(out.flip());
+    }
+
+    /// Writes the batch buffer to the channel and empties it.
+    ///
+    /// @throws IOException if writing fails
+    private void writeBatch() throws IOException {
+        batch.flip();
+        while (batch.hasRemaining()) {
+            channel.write(batch);
+        }
+        batch.clear();
+    }
+
+    /// Sequential reader keeping a large window of the file in memory.
+    private static class ReadWindow {
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocateDirect(READ_SIZE);
+        private long offset;
+
+        /// Creates an empty window over a file.
+        ///
+        /// @param channel the open file
+        ReadWindow(FileChannel channel) {
+            this.channel = channel;
+            buffer.limit(0);
+        }
+
+        /// Makes a range of the file available, reading it if the window does not hold it.
+        ///
+        /// @param start  the file offset of the range
+        /// @param length the length of the range
+        /// @return the window, positioned at the start of the range
+        /// @throws IOException if reading fails
+        ByteBuffer load(long start, int length) throws IOException {
+            if (start < offset || start + length > offset + buffer.limit()) {
+                if (length > buffer.capacity()) {
+                    buffer = ByteBuffer.allocate(length);
+                }
+                buffer.clear();
+                offset = start;
+                while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) > 0) {
+                    // Fill the window with as many frames as fit
+                }
+                buffer.flip();
+            }
+            buffer.position((int) (start - offset));
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package upo.yacht.script;
+
+import upo.yacht.logic.ChoiceParser;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/// Strategy for players whose decisions are read from a game script.
+///
+/// Every decision is the next line of the script, written exactly as a
+/// player would type it on the console: the dice to reroll (`0 2 4`, or
+/// `x` to keep them) or a category index. All players of a scripted game
+/// share one instance, so the lines follow the turn order. A line that
+/// is not a valid answer fails the game instead of prompting again.
+class ScriptPlayerStrategy implements PlayerStrategy {
+    private final ScriptReader reader;
+
+    /// Creates a strategy reading the decisions from the given script.
+    ///
+    /// @param reader the script, positioned before the first decision of a game
+    ScriptPlayerStrategy(ScriptReader reader) {
+        this.reader = reader;
+    }
+
+    /// Reads the dice to reroll from the next line.
+    ///
+    /// @return the reroll mask, or 0 if the player keeps the dice
+    /// @throws IllegalArgumentException if the line is not a valid reroll choice
+    /// @throws UncheckedIOException     if the script cannot be read
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        nextDecision(player, "dice to reroll");
+        int rerollMask = ChoiceParser.parseRerollMask(reader);
+        if (rerollMask < 0) {
+            throw error("Invalid! Use 0-4 or X");
+        }
+        return rerollMask;
+    }
+
+    /// Reads the category to score from the next line.
+    ///
+    /// @return the index of an unused category
+    /// @throws IllegalArgumentException if the line is not the index of an unused category
+    /// @throws UncheckedIOException     if the script cannot be read
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        nextDecision(player, "category");
+        int categoryIndex = ChoiceParser.parseIndex(reader, Scorer.NUM_CATEGORIES);
+        if (categoryIndex == ChoiceParser.OUT_OF_RANGE) {
+            throw error("Number must be between 0 and 11.");
+        }
+        if (categoryIndex < 0) {
+            throw error("'" + reader + "' is not a valid number.");
+        }
+        if (player.getScoreboard().isCategoryUsed(categoryIndex)) {
+            throw error("Category already filled! Choose another one.");
+        }
+        return categoryIndex;
+    }
+
+    /// Moves the script to the line of the next decision.
+    ///
+    /// A game line is left for the runner, which starts the next game with it.
+    ///
+    /// @param player   the player deciding
+    /// @param decision what the player decides, for the error message
+    /// @throws IllegalArgumentException if the script has no more decisions for this game
+    /// @throws UncheckedIOException     if the script cannot be read
+    private void nextDecision(Player player, String decision) {
+        try {
+            if (!reader.next()) {
+                throw error("Script ends before " + player.getName() + " chooses the " + decision);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (reader.isKeyword(ScriptRunner.GAME) || reader.isKeyword(ScriptRunner.PLAYER)) {
+            reader.pushBack();
+            throw error("Game ends before " + player.getName() + " chooses the " + decision);
+        }
+    }
+
+    /// Creates the exception failing the game, located at the current line.
+    ///
+    /// @param message what is wrong
+    /// @return the exception to throw
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("line " + reader.getLineNumber() + ": " + message);
+    }
+}
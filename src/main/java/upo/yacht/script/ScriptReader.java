@@ -0,0 +1,178 @@
+package upo.yacht.script;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/// Streaming reader of the lines of a game script.
+///
+/// Reads the file through a large byte buffer and keeps the current line,
+/// trimmed, in a reused byte array. The reader itself is a `CharSequence`
+/// view of that line, one byte per character, so the decisions can be
+/// handed to `ChoiceParser` without decoding them into a `String`. Only
+/// the text that is kept, such as player names, is decoded as UTF-8.
+///
+/// Blank lines and comments (lines starting with `#`) are skipped.
+final class ScriptReader implements CharSequence, Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[128];
+    private int start;
+    private int length;
+    private int lineNumber;
+    private int lastLineNumber;
+    private boolean pushedBack;
+
+    /// Creates a reader of the given stream.
+    ///
+    /// @param in the script, which the reader closes
+    ScriptReader(InputStream in) {
+        this.in = in;
+    }
+
+    /// Moves to the next line that is neither blank nor a comment.
+    ///
+    /// @return true if there is such a line, false at the end of the script
+    /// @throws IOException if the script cannot be read
+    boolean next() throws IOException {
+        if (pushedBack) {
+            pushedBack = false;
+            return true;
+        }
+        while (readLine()) {
+            if (length > 0 && line[start] != '#') {
+                lineNumber = lastLineNumber;
+                return true;
+            }
+        }
+        length = 0;
+        lineNumber = lastLineNumber;
+        return false;
+    }
+
+    /// Makes the next call of `next()` stay on the current line.
+    void pushBack() {
+        pushedBack = true;
+    }
+
+    /// Returns the number of the current line.
+    ///
+    /// @return the line number, counting from 1; at the end of the script, the number of lines
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /// Returns whether the current line starts with a keyword.
+    ///
+    /// @param keyword the keyword, in upper case
+    /// @return true if the first word of the line is the keyword, in any case
+    boolean isKeyword(String keyword) {
+        int n = keyword.length();
+        if (length < n || (length > n && (line[start + n] & 0xFF) > ' ')) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            if (Character.toUpperCase((char) line[start + i]) != keyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// Returns the text following the first word of the current line.
+    ///
+    /// @return the rest of the line, trimmed and decoded as UTF-8
+    String getArguments() {
+        int i = start;
+        int end = start + length;
+        while (i < end && (line[i] & 0xFF) > ' ') {
+            i++;
+        }
+        return new String(line, i, end - i, StandardCharsets.UTF_8).trim();
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (line[start + index] & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+        return toString().subSequence(from, to);
+    }
+
+    /// Returns the current line.
+    ///
+    /// @return the line, trimmed and decoded as UTF-8
+    @Override
+    public String toString() {
+        return new String(line, start, length, StandardCharsets.UTF_8);
+    }
+
+    /// Closes the script.
+    ///
+    /// @throws IOException if closing fails
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /// Reads the next physical line into the line array, trimmed.
+    ///
+    /// @return false at the end of the script
+    /// @throws IOException if the script cannot be read
+    private boolean readLine() throws IOException {
+        int end = 0;
+        boolean found = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer, 0, BUFFER_SIZE);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    break;
+                }
+            }
+            found = true;
+            int from = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int count = position - from;
+            if (end + count > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, end + count));
+            }
+            System.arraycopy(buffer, from, line, end, count);
+            end += count;
+            if (position < limit) {
+                position++; // Skip the line feed
+                break;
+            }
+        }
+        if (!found) {
+            return false;
+        }
+        lastLineNumber++;
+        int first = 0;
+        while (first < end && (line[first] & 0xFF) <= ' ') {
+            first++;
+        }
+        while (end > first && (line[end - 1] & 0xFF) <= ' ') {
+            end--;
+        }
+        start = first;
+        length = end - first;
+        return true;
+    }
+}
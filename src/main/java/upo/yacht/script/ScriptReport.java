@@ -0,0 +1,88 @@
+package upo.yacht.script;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/// Result of a scripted run.
+///
+/// Holds the files of the run, how many games it played, why the failed
+/// ones failed and how long it took, and formats them as a plain-text
+/// summary for the console. The scores themselves are in the results file.
+public class ScriptReport {
+    private static final int MAX_ERRORS_SHOWN = 10;
+
+    private final Path script;
+    private final Path results;
+    private final String rngAlgorithm;
+    private final int games;
+    private final List<String> errors;
+    private final long elapsedNanos;
+
+    /// Creates a report.
+    ///
+    /// @param script       the script file
+    /// @param results      the results file
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param games        number of games in the script, failed ones included
+    /// @param errors       the error of every failed game, in script order
+    /// @param elapsedNanos wall-clock time spent reading and playing the script
+    public ScriptReport(Path script, Path results, String rngAlgorithm, int games, List<String> errors,
+                        long elapsedNanos) {
+        this.script = script;
+        this.results = results;
+        this.rngAlgorithm = rngAlgorithm;
+        this.games = games;
+        this.errors = List.copyOf(errors);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /// Returns the number of games in the script.
+    ///
+    /// @return the number of games, failed ones included
+    public int getGames() {
+        return games;
+    }
+
+    /// Returns the errors of the failed games.
+    ///
+    /// @return one message per failed game, in script order
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /// Returns the wall-clock time spent on the script.
+    ///
+    /// @return the elapsed time in nanoseconds
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /// Formats the report as plain text.
+    ///
+    /// @return the formatted report
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = elapsedNanos / 1e9;
+
+        sb.append("\n").append("=".repeat(50)).append("\n");
+        sb.append("SCRIPT RESULTS\n");
+        sb.append("=".repeat(50)).append("\n");
+        sb.append("Script: ").append(script).append(" | RNG: ").append(rngAlgorithm).append("\n");
+        sb.append(String.format("Games: %d | Played: %d | Failed: %d%n", games, games - errors.size(),
+                errors.size()));
+        sb.append(String.format("Elapsed: %.3f s (%.0f games/s)%n", seconds, seconds > 0 ? games / seconds : 0));
+        sb.append("Results: ").append(results).append("\n");
+
+        if (!errors.isEmpty()) {
+            sb.append("\nERRORS:\n");
+            sb.append("-".repeat(40)).append("\n");
+            for (int i = 0; i < Math.min(errors.size(), MAX_ERRORS_SHOWN); i++) {
+                sb.append("  ").append(errors.get(i)).append("\n");
+            }
+            if (errors.size() > MAX_ERRORS_SHOWN) {
+                sb.append("  ... and ").append(errors.size() - MAX_ERRORS_SHOWN).append(" more\n");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,324 @@
+package upo.yacht.script;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+import upo.yacht.model.Scoreboard;
+import upo.yacht.util.RandomGenerators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.StringTokenizer;
+import java.util.function.Supplier;
+
+/// Plays the games of a script file back to back, without any console I/O.
+///
+/// A script is a text file listing games. Each game starts with a `GAME`
+/// line, optionally followed by the mode and the seed of the game, then
+/// one `PLAYER` line per player, then the decisions of the players in turn
+/// order, one per line, exactly as they would be typed on the console:
+/// ```text
+/// # Two players, Classic mode, seed 42
+/// GAME classic 42
+/// PLAYER Alice
+/// PLAYER Bob
+/// 0 1
+/// x
+/// 11
+/// ...
+/// ```
+/// Keywords are case-insensitive; blank lines and lines starting with `#`
+/// are ignored. A game without a mode or seed uses the runner's; without
+/// any seed it is played with a random one. A game replays exactly the
+/// console game of the same seed and random algorithm, so the lines typed
+/// in a console session can be pasted into a script.
+///
+/// A game with an invalid line fails: the error is reported, the rest of
+/// the game is skipped up to the next `GAME` line, and the following games
+/// are played normally. Every game, played or failed, adds rows to a CSV
+/// results file (see `run`).
+///
+/// The script is streamed through `ScriptReader` and the decisions are
+/// parsed by `ChoiceParser` straight from its buffer, so reading a
+/// decision allocates nothing and the runner's speed is that of the game
+/// logic.
+public class ScriptRunner {
+    /// Keyword starting a game.
+    static final String GAME = "GAME";
+    /// Keyword adding a player to a game.
+    static final String PLAYER = "PLAYER";
+
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+
+    private final boolean isExtended;
+    private final Long seed;
+    private final String rngAlgorithm;
+
+    /// Creates a runner whose games default to the given settings.
+    ///
+    /// @param isExtended   default mode of the games: true for Extended, false for Classic
+    /// @param seed         default seed of the games; null to draw a random seed for each game
+    /// @param rngAlgorithm name of the random algorithm of every game (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public ScriptRunner(boolean isExtended, Long seed, String rngAlgorithm) {
+        RandomGenerators.create(rngAlgorithm, 0L); // Fail fast on unknown names
+        this.isExtended = isExtended;
+        this.seed = seed;
+        this.rngAlgorithm = rngAlgorithm;
+    }
+
+    /// Plays every game of a script.
+    ///
+    /// @param script  the script file
+    /// @param results the CSV file receiving the results, replaced if it exists
+    /// @return the report of the run
+    /// @throws IOException if the script cannot be read or the results cannot be written
+    public ScriptReport run(Path script, Path results) throws IOException {
+        return run(script, results, null);
+    }
+
+    /// Plays every game of a script and records every one of them.
+    ///
+    /// The results file starts with a header line. A played game adds one
+    /// row per player, best first, with the game number, the line of its
+    /// `GAME`, the mode, the seed, the rank (tied players share a rank),
+    /// the name, the total and the score of each category. A failed game
+    /// adds a single row with the game columns and the error in the last
+    /// column.
+    ///
+    /// Every game gets its own listener from the supplier, such as
+    /// `GameJournal::newGame`; a failed game never reaches its end.
+    ///
+    /// @param script    the script file
+    /// @param results   the CSV file receiving the results, replaced if it exists
+    /// @param recorders creates the listener of each game; null for none
+    /// @return the report of the run
+    /// @throws IOException if the script cannot be read or the results cannot be written
+    public ScriptReport run(Path script, Path results, Supplier<GameEventListener> recorders)
+            throws IOException {
+        long start = System.nanoTime();
+        SplittableRandom seeds = new SplittableRandom();
+        List<String> errors = new ArrayList<>();
+        int games = 0;
+        try (ScriptReader reader = new ScriptReader(Files.newInputStream(script));
+             Writer out = Files.newBufferedWriter(results, StandardCharsets.UTF_8)) {
+            ScriptPlayerStrategy strategy = new ScriptPlayerStrategy(reader);
+            StringBuilder rows = new StringBuilder(FLUSH_THRESHOLD + 1024);
+            appendHeader(rows);
+            while (reader.next()) {
+                games++;
+                long gameSeed = (seed != null) ? seed : seeds.nextLong();
+                String error = playGame(reader, strategy, games, gameSeed, recorders, rows);
+                if (error != null) {
+                    errors.add("game " + games + ", " + error);
+                }
+                if (rows.length() >= FLUSH_THRESHOLD) {
+                    out.append(rows);
+                    rows.setLength(0);
+                }
+            }
+            out.append(rows);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new ScriptReport(script, results, rngAlgorithm, games, errors, System.nanoTime() - start);
+    }
+
+    /// Plays the game starting at the current line of the script.
+    ///
+    /// @param reader    the script, on the line of the game
+    /// @param strategy  the strategy reading the decisions from the script
+    /// @param game      the number of the game, counting from 1
+    /// @param gameSeed  the seed of the game, unless its line gives one
+    /// @param recorders creates the listener of the game; null for none
+    /// @param rows      the results being written
+    /// @return null if the game was played, else the error that failed it
+    /// @throws IOException if the script cannot be read
+    private String playGame(ScriptReader reader, ScriptPlayerStrategy strategy, int game, long gameSeed,
+                            Supplier<GameEventListener> recorders, StringBuilder rows) throws IOException {
+        int line = reader.getLineNumber();
+        boolean extended = isExtended;
+        try {
+            if (!reader.isKeyword(GAME)) {
+                throw new IllegalArgumentException("line " + line + ": Expected GAME, got '" + reader + "'");
+            }
+            StringTokenizer options = new StringTokenizer(reader.getArguments());
+            while (options.hasMoreTokens()) {
+                String option = options.nextToken();
+                if (option.equalsIgnoreCase("classic")) {
+                    extended = false;
+                } else if (option.equalsIgnoreCase("extended")) {
+                    extended = true;
+                } else {
+                    gameSeed = parseSeed(option, line);
+                }
+            }
+
+            List<Player> players = new ArrayList<>();
+            while (reader.next()) {
+                if (!reader.isKeyword(PLAYER)) {
+                    reader.pushBack();
+                    break;
+                }
+                String name = reader.getArguments();
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("line " + reader.getLineNumber() + ": PLAYER needs a name");
+                }
+                players.add(new Player(name));
+            }
+            if (players.isEmpty()) {
+                throw new IllegalArgumentException("line " + line + ": The game requires at least 1 player to start.");
+            }
+
+            PlayerStrategy[] strategies = new PlayerStrategy[players.size()];
+            Arrays.fill(strategies, strategy);
+            GameEngine engine = new GameEngine(extended, players.toArray(new Player[0]), strategies,
+                    RandomGenerators.create(rngAlgorithm, gameSeed), (recorders != null) ? recorders.get() : null);
+            Player[] ranking = engine.play();
+            appendResults(rows, game, line, extended, gameSeed, ranking);
+            return null;
+        } catch (YachtGameException | IllegalArgumentException e) {
+            skipToNextGame(reader);
+            appendFailure(rows, game, line, extended, gameSeed, e.getMessage());
+            return e.getMessage();
+        }
+    }
+
+    /// Parses the seed given on a `GAME` line.
+    ///
+    /// @param option the option that is neither mode
+    /// @param line   the line of the game, for the error message
+    /// @return the seed
+    /// @throws IllegalArgumentException if the option is not a `long`
+    private static long parseSeed(String option, int line) {
+        try {
+            return Long.parseLong(option);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("line " + line + ": Invalid GAME option '" + option +
+                    "'. Must be 'classic', 'extended' or a seed.");
+        }
+    }
+
+    /// Skips the lines of a failed game, up to the next `GAME` line.
+    ///
+    /// @param reader the script
+    /// @throws IOException if the script cannot be read
+    private static void skipToNextGame(ScriptReader reader) throws IOException {
+        while (reader.next()) {
+            if (reader.isKeyword(GAME)) {
+                reader.pushBack();
+                return;
+            }
+        }
+    }
+
+    /// Appends the header line of the results.
+    ///
+    /// @param rows the results being written
+    private static void appendHeader(StringBuilder rows) {
+        rows.append("game,line,mode,seed,rank,player,total");
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            rows.append(',').append(Scorer.getCategoryName(i).toLowerCase().replace(' ', '_'));
+        }
+        rows.append(",error\n");
+    }
+
+    /// Appends the rows of a played game, one per player.
+    ///
+    /// @param rows     the results being written
+    /// @param game     the number of the game
+    /// @param line     the line of the game
+    /// @param extended true for Extended mode, false for Classic mode
+    /// @param gameSeed the seed of the game
+    /// @param ranking  the players sorted by total score (descending)
+    private static void appendResults(StringBuilder rows, int game, int line, boolean extended, long gameSeed,
+                                      Player[] ranking) {
+        int rank = 1;
+        for (int i = 0; i < ranking.length; i++) {
+            Player player = ranking[i];
+            if (i > 0 && player.getTotalScore() < ranking[i - 1].getTotalScore()) {
+                rank = i + 1;
+            }
+            appendGame(rows, game, line, extended, gameSeed);
+            rows.append(rank).append(',');
+            appendQuoted(rows, player.getName());
+            rows.append(',').append(player.getTotalScore());
+            Scoreboard board = player.getScoreboard();
+            for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+                rows.append(',');
+                if (board.isCategoryUsed(c)) {
+                    rows.append(board.getScore(c));
+                }
+            }
+            rows.append(",\n");
+        }
+    }
+
+    /// Appends the row of a failed game.
+    ///
+    /// @param rows     the results being written
+    /// @param game     the number of the game
+    /// @param line     the line of the game
+    /// @param extended true for Extended mode, false for Classic mode
+    /// @param gameSeed the seed of the game
+    /// @param error    why the game failed
+    private static void appendFailure(StringBuilder rows, int game, int line, boolean extended, long gameSeed,
+                                      String error) {
+        appendGame(rows, game, line, extended, gameSeed);
+        rows.append(",,");
+        for (int c = 0; c < Scorer.NUM_CATEGORIES; c++) {
+            rows.append(',');
+        }
+        rows.append(',');
+        appendQuoted(rows, error);
+        rows.append('\n');
+    }
+
+    /// Appends the columns identifying a game, followed by a comma.
+    ///
+    /// @param rows     the results being written
+    /// @param game     the number of the game
+    /// @param line     the line of the game
+    /// @param extended true for Extended mode, false for Classic mode
+    /// @param gameSeed the seed of the game
+    private static void appendGame(StringBuilder rows, int game, int line, boolean extended, long gameSeed) {
+        rows.append(game).append(',').append(line).append(',')
+                .append(extended ? "extended" : "classic").append(',').append(gameSeed).append(',');
+    }
+
+    /// Appends a text column, quoted only if it contains a comma, a quote or a line break.
+    ///
+    /// @param rows the results being written
+    /// @param text the text of the column
+    private static void appendQuoted(StringBuilder rows, String text) {
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            rows.append(text);
+            return;
+        }
+        rows.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                rows.append('"');
+            }
+            rows.append(c);
+        }
+        rows.append('"');
+    }
+}
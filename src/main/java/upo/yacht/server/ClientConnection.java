@@ -0,0 +1,140 @@
+package upo.yacht.server;
+
+import upo.yacht.metrics.GameMetrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/// Line-oriented text connection to one client of the `GameServer`.
+///
+/// Outgoing lines are buffered and only written to the socket on
+/// `flush()`, which the table calls once per prompt: every event of a
+/// turn then leaves in a single packet. Buffers are kept small because a
+/// server holds one connection per table. Incoming lines end with `\n`
+/// and are limited to the buffer size: a longer line is answered with an
+/// `ERROR` and breaks the connection, so a client that never ends its line
+/// cannot make the server buffer without bound.
+///
+/// Methods throw `UncheckedIOException` so they can be used from
+/// `PlayerStrategy` and `GameEventListener` callbacks, which declare no
+/// checked exceptions.
+class ClientConnection implements Closeable {
+    private static final int BUFFER_SIZE = 1024;
+    private static final int MAX_LINE_LENGTH = BUFFER_SIZE;
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private final StringBuilder line = new StringBuilder(80);
+
+    /// Wraps a connected socket.
+    ///
+    /// @param socket the client socket
+    /// @throws IOException if the socket streams cannot be opened
+    ClientConnection(Socket socket) throws IOException {
+        this.socket = socket;
+        this.reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.writer = new BufferedWriter(
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /// Queues one line for the client.
+    ///
+    /// @param line the line to send, without the line terminator
+    /// @throws UncheckedIOException if the connection is broken
+    void send(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Writes every queued line to the socket.
+    ///
+    /// @throws UncheckedIOException if the connection is broken
+    void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Flushes the queued lines and waits for the next non-blank line of the client.
+    ///
+    /// @return the line, without leading and trailing whitespace
+    /// @throws UncheckedIOException if the client disconnected, sent a line longer than
+    ///                              the limit, or the connection is broken
+    String readLine() {
+        flush();
+        long start = GameMetrics.start();
+        try {
+            while (true) {
+                String text = readBoundedLine().trim();
+                if (!text.isEmpty()) {
+                    GameMetrics.recordInputWait(start);
+                    return text;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Reads one line of at most `MAX_LINE_LENGTH` characters.
+    ///
+    /// A last line without terminator is returned like `BufferedReader.readLine`
+    /// would. A longer line is answered with an `ERROR` before failing.
+    ///
+    /// @return the line, without its terminator
+    /// @throws EOFException if the client disconnected
+    /// @throws IOException  if the line is too long or the connection is broken
+    private String readBoundedLine() throws IOException {
+        line.setLength(0);
+        while (true) {
+            int c = reader.read();
+            if (c == '\n') {
+                return line.toString();
+            }
+            if (c < 0) {
+                if (line.length() == 0) {
+                    throw new EOFException("Client disconnected");
+                }
+                return line.toString();
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                String message = "Line longer than " + MAX_LINE_LENGTH + " characters";
+                send("ERROR " + message);
+                throw new IOException(message);
+            }
+            line.append((char) c);
+        }
+    }
+
+    /// Closes the connection, flushing what can still be sent.
+    @Override
+    public void close() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            // The client is gone; nothing more can be delivered
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
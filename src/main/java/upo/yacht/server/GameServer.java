@@ -0,0 +1,158 @@
+package upo.yacht.server;
+
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.util.RandomGenerators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/// TCP server hosting many Yacht tables at once.
+///
+/// Every accepted connection is one table, played on its own virtual
+/// thread by a `TableSession` over a line-based text protocol. A blocked
+/// table only holds a small virtual-thread stack and two 1 KB buffers, so
+/// tens of thousands of tables fit in one JVM.
+///
+/// A session looks like this (`>` client, `<` server):
+/// ```
+/// < WELCOME YACHT 1
+/// > START classic 1 Ann
+/// < TABLE 1 CLASSIC 2
+/// < PLAYER 1 Bot 1
+/// < PLAYER 2 Ann
+/// < ROUND 1
+/// < TURN Bot 1
+/// < ...
+/// < TURN Ann
+/// < DICE 3 3 5 1 3 2
+/// < ASK REROLL 2
+/// > REROLL 2 3
+/// < DICE 3 3 3 6 3 1
+/// < ASK REROLL 1
+/// > KEEP
+/// < ASK CATEGORY
+/// > SCORE 7
+/// < SCORED 7 12 Ann
+/// < ...
+/// < RESULT 1 180 Ann
+/// < RESULT 2 151 Bot 1
+/// < END
+/// ```
+/// See `RemotePlayerStrategy` for the commands and `RemoteGameListener`
+/// for the event lines.
+public class GameServer implements Closeable {
+    private static final int BACKLOG = 4096;
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService tables;
+    private final String rngAlgorithm;
+    private final SplittableRandom seeds;
+    private final Supplier<GameEventListener> recorders;
+    private final AtomicInteger activeTables = new AtomicInteger();
+    private final AtomicLong tablesOpened = new AtomicLong();
+
+    /// Creates a server listening on the given port.
+    ///
+    /// With a seed, the games of the tables are seeded in the order the
+    /// connections are accepted, so a single client replays the same games.
+    ///
+    /// @param port         the TCP port, or 0 for any free port
+    /// @param rngAlgorithm name of the random algorithm of every table (see `RandomGenerators`)
+    /// @param seed         optional root seed; null for random games
+    /// @throws IOException              if the port cannot be bound
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameServer(int port, String rngAlgorithm, Long seed) throws IOException {
+        this(port, rngAlgorithm, seed, null);
+    }
+
+    /// Creates a server listening on the given port that records every game.
+    ///
+    /// Every table's game gets its own listener from the supplier, such as
+    /// `GameJournal::newGame`, called from the table's virtual thread. A
+    /// game abandoned by its client never reaches its end event.
+    ///
+    /// @param port         the TCP port, or 0 for any free port
+    /// @param rngAlgorithm name of the random algorithm of every table (see `RandomGenerators`)
+    /// @param seed         optional root seed; null for random games
+    /// @param recorders    creates the extra listener of each table's game; null for none
+    /// @throws IOException              if the port cannot be bound
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public GameServer(int port, String rngAlgorithm, Long seed, Supplier<GameEventListener> recorders)
+            throws IOException {
+        RandomGenerators.create(rngAlgorithm, 0L); // Fail fast on unknown names
+        this.rngAlgorithm = rngAlgorithm;
+        this.seeds = (seed != null) ? new SplittableRandom(seed) : null;
+        this.recorders = recorders;
+        this.serverSocket = new ServerSocket(port, BACKLOG);
+        this.tables = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("table-", 1).factory());
+    }
+
+    /// Returns the port the server listens on.
+    ///
+    /// @return the bound TCP port
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /// Returns the number of tables currently being played.
+    ///
+    /// @return the number of open tables
+    public int getActiveTables() {
+        return activeTables.get();
+    }
+
+    /// Returns the number of tables opened since the server started.
+    ///
+    /// @return the number of accepted connections
+    public long getTablesOpened() {
+        return tablesOpened.get();
+    }
+
+    /// Accepts connections until the server is closed.
+    ///
+    /// Blocks the calling thread; every table runs on its own virtual thread.
+    ///
+    /// @throws IOException if accepting a connection fails for another reason than `close()`
+    public void serve() throws IOException {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                throw e;
+            }
+            long tableId = tablesOpened.incrementAndGet();
+            Long tableSeed = (seeds != null) ? seeds.nextLong() : null;
+            activeTables.incrementAndGet();
+            try {
+                tables.execute(new TableSession(tableId, socket,
+                        RandomGenerators.create(rngAlgorithm, tableSeed), recorders, activeTables::decrementAndGet));
+            } catch (RejectedExecutionException e) {
+                activeTables.decrementAndGet();
+                socket.close();
+            }
+        }
+    }
+
+    /// Stops accepting connections and interrupts every open table.
+    ///
+    /// @throws IOException if the server socket cannot be closed
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        tables.shutdownNow();
+    }
+}
@@ -0,0 +1,205 @@
+package upo.yacht.server;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.strategy.GreedyStrategy;
+import upo.yacht.model.Player;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringTokenizer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/// Local client that plays many tables of a `GameServer` at once.
+///
+/// Opens one connection per table, each on its own virtual thread, and
+/// plays every table to the end with the greedy strategy. All tables are
+/// open at the same time. The client measures the round trip of every
+/// action, from sending a command to receiving the next prompt, which
+/// bounds the server-side latency from above, and prints a summary.
+///
+/// Usage:
+/// ```bash
+/// java upo.yacht.server.LoadTestClient <host> <port> <tables> [classic|extended]
+/// ```
+public class LoadTestClient {
+    private final String host;
+    private final int port;
+    private final boolean isExtended;
+
+    /// Creates a client for the given server.
+    ///
+    /// @param host       the server host
+    /// @param port       the server port
+    /// @param isExtended true to play Extended tables, false for Classic
+    public LoadTestClient(String host, int port, boolean isExtended) {
+        this.host = host;
+        this.port = port;
+        this.isExtended = isExtended;
+    }
+
+    /// Runs the client from the command line.
+    ///
+    /// @param args host, port, number of tables and optional mode
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: LoadTestClient <host> <port> <tables> [classic|extended]");
+            System.exit(1);
+        }
+        boolean isExtended = args.length > 3 && args[3].equalsIgnoreCase("extended");
+        LoadTestClient client = new LoadTestClient(args[0], Integer.parseInt(args[1]), isExtended);
+        client.run(Integer.parseInt(args[2]));
+    }
+
+    /// Plays the given number of concurrent tables and prints a summary.
+    ///
+    /// @param tables number of tables to play at the same time
+    public void run(int tables) {
+        long start = System.nanoTime();
+        List<Future<long[]>> results = new ArrayList<>(tables);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < tables; i++) {
+                String name = "client-" + (i + 1);
+                results.add(executor.submit(() -> playTable(name)));
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        int failures = 0;
+        long[] latencies = new long[0];
+        int count = 0;
+        for (Future<long[]> result : results) {
+            try {
+                long[] table = result.get();
+                if (count + table.length > latencies.length) {
+                    latencies = Arrays.copyOf(latencies, Math.max(count + table.length, latencies.length * 2));
+                }
+                System.arraycopy(table, 0, latencies, count, table.length);
+                count += table.length;
+            } catch (Exception e) {
+                failures++;
+                if (failures == 1) {
+                    System.err.println("Error: " + e.getMessage());
+                }
+            }
+        }
+        Arrays.sort(latencies, 0, count);
+
+        System.out.printf("Tables: %d (%d failed) | Actions: %d | Elapsed: %.3f s (%.0f games/s)%n",
+                tables, failures, count, seconds, (tables - failures) / seconds);
+        if (count > 0) {
+            System.out.printf("Round trip per action: p50 %.1f us | p99 %.1f us | max %.1f us%n",
+                    latencies[(int) (count * 0.50)] / 1e3, latencies[(int) (count * 0.99)] / 1e3,
+                    latencies[count - 1] / 1e3);
+        }
+    }
+
+    /// Plays one table to the end.
+    ///
+    /// @param name the player name of this table
+    /// @return the round trip of every action, in nanoseconds
+    /// @throws IOException        if the connection fails or the server reports an error
+    /// @throws YachtGameException if the server reports a score the local board rejects
+    private long[] playTable(String name) throws IOException, YachtGameException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8), 1024);
+            Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+
+            Player me = new Player(name);
+            GreedyStrategy strategy = new GreedyStrategy();
+            int[] dice = new int[5];
+            int round = 0;
+            long[] latencies = new long[64];
+            int actions = 0;
+            long sentAt = send(out, "START " + (isExtended ? "extended" : "classic") + " 0 " + name);
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                StringTokenizer tokens = new StringTokenizer(line);
+                String event = tokens.nextToken();
+                switch (event) {
+                    case "ROUND" -> round = Integer.parseInt(tokens.nextToken()) - 1;
+                    case "DICE" -> {
+                        for (int i = 0; i < dice.length; i++) {
+                            dice[i] = Integer.parseInt(tokens.nextToken());
+                        }
+                    }
+                    case "SCORED" -> {
+                        int category = Integer.parseInt(tokens.nextToken());
+                        int points = Integer.parseInt(tokens.nextToken());
+                        if (tokens.nextToken("").trim().equals(name)) {
+                            me.getScoreboard().registerScore(category, points);
+                        }
+                    }
+                    case "ASK", "END" -> {
+                        if (actions == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, actions * 2);
+                        }
+                        latencies[actions++] = System.nanoTime() - sentAt;
+                        if (event.equals("END")) {
+                            return Arrays.copyOf(latencies, actions);
+                        }
+                        sentAt = send(out, answer(tokens.nextToken(), tokens, me, strategy, dice, round));
+                    }
+                    case "ERROR" -> throw new IOException("Server error: " + line);
+                    default -> {
+                        // WELCOME, TABLE, PLAYER, TURN and RESULT need no answer
+                    }
+                }
+            }
+            throw new IOException("Connection closed before the end of the game");
+        }
+    }
+
+    /// Builds the answer to a prompt with the greedy strategy.
+    ///
+    /// @param prompt   `REROLL` or `CATEGORY`
+    /// @param tokens   the remaining tokens of the prompt
+    /// @param me       the local mirror of the player
+    /// @param strategy the strategy taking the decisions
+    /// @param dice     the current dice
+    /// @param round    the current round (0-11)
+    /// @return the command to send
+    private String answer(String prompt, StringTokenizer tokens, Player me, GreedyStrategy strategy,
+                          int[] dice, int round) {
+        if (prompt.equals("CATEGORY")) {
+            return "SCORE " + strategy.chooseCategory(me, dice, round, isExtended);
+        }
+        int rollsLeft = Integer.parseInt(tokens.nextToken());
+        int rerollMask = strategy.chooseRerollMask(me, dice, rollsLeft, round, isExtended);
+        if (rerollMask == 0) {
+            return "KEEP";
+        }
+        StringBuilder sb = new StringBuilder("REROLL");
+        for (int i = 0; i < dice.length; i++) {
+            if ((rerollMask & (1 << i)) != 0) {
+                sb.append(' ').append(i);
+            }
+        }
+        return sb.toString();
+    }
+
+    /// Sends one command line.
+    ///
+    /// @param out  the socket writer
+    /// @param line the command
+    /// @return the time the command was sent, in nanoseconds
+    /// @throws IOException if the connection fails
+    private static long send(Writer out, String line) throws IOException {
+        out.write(line);
+        out.write('\n');
+        out.flush();
+        return System.nanoTime();
+    }
+}
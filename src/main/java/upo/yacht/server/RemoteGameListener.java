@@ -0,0 +1,65 @@
+package upo.yacht.server;
+
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.model.Player;
+
+/// Listener that reports the events of a table to its client.
+///
+/// Each event becomes one line; the lines are queued and reach the client
+/// with the next prompt, or when the game ends:
+/// - `PLAYER <seat> <name>` for each player, in turn order
+/// - `ROUND <round>` (1-12)
+/// - `TURN <name>`
+/// - `DICE <d0> <d1> <d2> <d3> <d4> <rollsLeft>`
+/// - `SCORED <category> <points> <name>`
+/// - `RESULT <rank> <total> <name>` for each player, then `END`
+class RemoteGameListener implements GameEventListener {
+    private final ClientConnection connection;
+
+    /// Creates a listener writing to the given connection.
+    ///
+    /// @param connection the connection of the table's client
+    RemoteGameListener(ClientConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void onGameStart(Player[] turnOrder, boolean isExtended) {
+        for (int i = 0; i < turnOrder.length; i++) {
+            connection.send("PLAYER " + (i + 1) + " " + turnOrder[i].getName());
+        }
+    }
+
+    @Override
+    public void onRoundStart(int round) {
+        connection.send("ROUND " + (round + 1));
+    }
+
+    @Override
+    public void onTurnStart(Player player, int round) {
+        connection.send("TURN " + player.getName());
+    }
+
+    @Override
+    public void onRoll(Player player, int[] dice, int rollsLeft) {
+        StringBuilder sb = new StringBuilder("DICE");
+        for (int value : dice) {
+            sb.append(' ').append(value);
+        }
+        connection.send(sb.append(' ').append(rollsLeft).toString());
+    }
+
+    @Override
+    public void onScore(Player player, int round, int categoryIndex, int points, boolean forced) {
+        connection.send("SCORED " + categoryIndex + " " + points + " " + player.getName());
+    }
+
+    @Override
+    public void onGameEnd(Player[] ranking) {
+        for (int i = 0; i < ranking.length; i++) {
+            connection.send("RESULT " + (i + 1) + " " + ranking[i].getTotalScore() + " " + ranking[i].getName());
+        }
+        connection.send("END");
+        connection.flush();
+    }
+}
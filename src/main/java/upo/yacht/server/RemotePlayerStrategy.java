@@ -0,0 +1,156 @@
+package upo.yacht.server;
+
+import upo.yacht.logic.ChoiceParser;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.Player;
+import upo.yacht.model.Scoreboard;
+
+import java.io.EOFException;
+import java.io.UncheckedIOException;
+import java.util.StringTokenizer;
+
+/// Strategy for a player connected to the `GameServer`.
+///
+/// Sends a prompt line and blocks the table's virtual thread until the
+/// client answers with a valid command. Invalid commands are answered
+/// with an `ERROR` line and the prompt stays open. The commands are:
+/// - `ROLL`: reroll every die
+/// - `REROLL <die> ...`: reroll the listed dice (0-4)
+/// - `KEEP`: keep the dice and end the rolling phase
+/// - `SCORE <category>`: score the dice in a category (0-11)
+/// - `BOARD`: show the player's scoreboard, then keep waiting
+/// - `QUIT`: leave the table
+class RemotePlayerStrategy implements PlayerStrategy {
+    private static final int ALL_DICE_MASK = (1 << 5) - 1;
+
+    private final ClientConnection connection;
+
+    /// Creates a strategy answering through the given connection.
+    ///
+    /// @param connection the connection of the player
+    RemotePlayerStrategy(ClientConnection connection) {
+        this.connection = connection;
+    }
+
+    /// Sends `ASK REROLL <rollsLeft>` and waits for `ROLL`, `REROLL` or `KEEP`.
+    ///
+    /// @return the reroll mask, or 0 if the player keeps the dice
+    /// @throws UncheckedIOException if the client quits or disconnects
+    @Override
+    public int chooseRerollMask(Player player, int[] dice, int rollsLeft, int round, boolean isExtended) {
+        connection.send("ASK REROLL " + rollsLeft);
+        while (true) {
+            StringTokenizer tokens = new StringTokenizer(nextCommand(player));
+            String command = tokens.nextToken().toUpperCase();
+            switch (command) {
+                case "ROLL" -> {
+                    return ALL_DICE_MASK;
+                }
+                case "KEEP" -> {
+                    return 0;
+                }
+                case "REROLL" -> {
+                    int rerollMask = parseDice(tokens);
+                    if (rerollMask > 0) {
+                        return rerollMask;
+                    }
+                    connection.send("ERROR Usage: REROLL <die> ... with dice from 0 to 4");
+                }
+                default -> connection.send("ERROR Expected ROLL, REROLL <die> ..., KEEP or BOARD");
+            }
+        }
+    }
+
+    /// Sends `ASK CATEGORY` and waits for `SCORE <category>` on an unused category.
+    ///
+    /// @return the index of an unused category
+    /// @throws UncheckedIOException if the client quits or disconnects
+    @Override
+    public int chooseCategory(Player player, int[] dice, int round, boolean isExtended) {
+        connection.send("ASK CATEGORY");
+        while (true) {
+            StringTokenizer tokens = new StringTokenizer(nextCommand(player));
+            String command = tokens.nextToken().toUpperCase();
+            if (!command.equals("SCORE") || tokens.countTokens() != 1) {
+                connection.send("ERROR Expected SCORE <category> or BOARD");
+                continue;
+            }
+            int categoryIndex = parseIndex(tokens.nextToken(), Scorer.NUM_CATEGORIES);
+            if (categoryIndex < 0) {
+                connection.send("ERROR Number must be between 0 and 11.");
+            } else if (player.getScoreboard().isCategoryUsed(categoryIndex)) {
+                connection.send("ERROR Category already filled! Choose another one.");
+            } else {
+                return categoryIndex;
+            }
+        }
+    }
+
+    /// Reads the next game command, answering `BOARD` and `QUIT` on the way.
+    ///
+    /// @param player the player whose board is shown
+    /// @return a command line other than `BOARD` or `QUIT`
+    /// @throws UncheckedIOException if the client quits or disconnects
+    private String nextCommand(Player player) {
+        while (true) {
+            String line = connection.readLine();
+            if (line.equalsIgnoreCase("BOARD")) {
+                connection.send(formatBoard(player.getScoreboard()));
+            } else if (line.equalsIgnoreCase("QUIT")) {
+                throw new UncheckedIOException(new EOFException("Client left the table"));
+            } else {
+                return line;
+            }
+        }
+    }
+
+    /// Formats a scoreboard as a `BOARD` line.
+    ///
+    /// The line holds the score of each category in index order, `-` for
+    /// unused ones, followed by the total.
+    ///
+    /// @param board the scoreboard to format
+    /// @return the `BOARD` line
+    static String formatBoard(Scoreboard board) {
+        StringBuilder sb = new StringBuilder("BOARD");
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            sb.append(' ');
+            if (board.isCategoryUsed(i)) {
+                sb.append(board.getScore(i));
+            } else {
+                sb.append('-');
+            }
+        }
+        return sb.append(' ').append(board.getTotalScore()).toString();
+    }
+
+    /// Parses the die indices of a `REROLL` command into a mask.
+    ///
+    /// @param tokens the remaining tokens of the command
+    /// @return the reroll mask, or -1 if there are no indices or one is invalid
+    private static int parseDice(StringTokenizer tokens) {
+        if (!tokens.hasMoreTokens()) {
+            return -1;
+        }
+        int rerollMask = 0;
+        while (tokens.hasMoreTokens()) {
+            int die = parseIndex(tokens.nextToken(), 5);
+            if (die < 0) {
+                return -1;
+            }
+            rerollMask |= 1 << die;
+        }
+        return rerollMask;
+    }
+
+    /// Parses a small non-negative index.
+    ///
+    /// @param token the text to parse
+    /// @param limit the exclusive upper bound
+    /// @return the index, or -1 if the token is not a number below the limit
+    private static int parseIndex(String token, int limit) {
+        int index = ChoiceParser.parseIndex(token, limit);
+        return (index >= 0) ? index : -1;
+    }
+}
@@ -0,0 +1,147 @@
+package upo.yacht.server;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.model.Player;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.util.StringTokenizer;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/// One table of the `GameServer`, played by one connected client.
+///
+/// Runs on its own virtual thread: it greets the client, waits for
+/// `START <classic|extended> <opponents> <name>`, then plays a complete
+/// headless `GameEngine` in which the client is the first player and the
+/// opponents are greedy bots. The thread blocks while the client thinks,
+/// which costs no platform thread.
+class TableSession implements Runnable {
+    /// Maximum number of bots a client may ask to play against.
+    static final int MAX_OPPONENTS = 7;
+    private static final int IDLE_TIMEOUT_MILLIS = 10 * 60 * 1000;
+
+    private final long tableId;
+    private final Socket socket;
+    private final RandomGenerator random;
+    private final Supplier<GameEventListener> recorders;
+    private final Runnable onClose;
+
+    /// Creates the session of a newly accepted connection.
+    ///
+    /// @param tableId   identifier of the table, sent to the client
+    /// @param socket    the client socket
+    /// @param random    the random generator of the table's game
+    /// @param recorders creates the extra listener of the table's game; null for none
+    /// @param onClose   called once when the session ends, whatever the reason
+    TableSession(long tableId, Socket socket, RandomGenerator random, Supplier<GameEventListener> recorders,
+                 Runnable onClose) {
+        this.tableId = tableId;
+        this.socket = socket;
+        this.random = random;
+        this.recorders = recorders;
+        this.onClose = onClose;
+    }
+
+    /// Plays the table until the game ends or the client leaves.
+    @Override
+    public void run() {
+        ClientConnection connection = null;
+        try {
+            socket.setTcpNoDelay(true); // Every prompt is one small packet; do not delay it
+            socket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            connection = new ClientConnection(socket);
+            connection.send("WELCOME YACHT 1");
+            GameEngine engine = openTable(connection);
+            if (engine != null) {
+                engine.play();
+            }
+        } catch (YachtGameException e) {
+            connection.send("ERROR " + e.getMessage());
+        } catch (IOException | UncheckedIOException e) {
+            // The client quit, disconnected or went idle; the table is dropped
+        } finally {
+            if (connection != null) {
+                connection.close();
+            } else {
+                closeSocket();
+            }
+            onClose.run();
+        }
+    }
+
+    /// Waits for a valid `START` command and creates the table's game.
+    ///
+    /// @param connection the client connection
+    /// @return the game, or null if the client sent `QUIT`
+    private GameEngine openTable(ClientConnection connection) {
+        while (true) {
+            String line = connection.readLine();
+            StringTokenizer tokens = new StringTokenizer(line);
+            String command = tokens.nextToken().toUpperCase();
+            if (command.equals("QUIT")) {
+                return null;
+            }
+            if (command.equals("START") && tokens.countTokens() >= 3) {
+                String mode = tokens.nextToken().toLowerCase();
+                int opponents = parseOpponents(tokens.nextToken());
+                String name = tokens.nextToken("").trim();
+                if ((mode.equals("classic") || mode.equals("extended")) && opponents >= 0) {
+                    return createGame(connection, mode.equals("extended"), opponents, name);
+                }
+            }
+            connection.send("ERROR Usage: START <classic|extended> <opponents 0-" + MAX_OPPONENTS + "> <name>");
+        }
+    }
+
+    /// Creates the game of the table and announces it.
+    ///
+    /// @param connection the client connection
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param opponents  number of greedy bots
+    /// @param name       name of the client's player
+    /// @return the game, ready to play
+    private GameEngine createGame(ClientConnection connection, boolean isExtended, int opponents, String name) {
+        Player[] players = new Player[opponents + 1];
+        PlayerStrategy[] strategies = new PlayerStrategy[opponents + 1];
+        players[0] = new Player(name);
+        strategies[0] = new RemotePlayerStrategy(connection);
+        for (int i = 1; i <= opponents; i++) {
+            players[i] = new Player("Bot " + i);
+            strategies[i] = Strategies.create("greedy", random);
+        }
+        connection.send("TABLE " + tableId + " " + (isExtended ? "EXTENDED" : "CLASSIC") + " " + players.length);
+        GameEventListener listener = new RemoteGameListener(connection);
+        if (recorders != null) {
+            listener = listener.andThen(recorders.get());
+        }
+        return new GameEngine(isExtended, players, strategies, random, listener);
+    }
+
+    /// Parses the number of opponents of a `START` command.
+    ///
+    /// @param token the text to parse
+    /// @return the number of opponents, or -1 if it is invalid
+    private static int parseOpponents(String token) {
+        try {
+            int opponents = Integer.parseInt(token);
+            return (opponents >= 0 && opponents <= MAX_OPPONENTS) ? opponents : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /// Closes the socket when no connection could be created for it.
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+    }
+}
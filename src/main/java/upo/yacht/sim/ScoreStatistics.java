@@ -0,0 +1,172 @@
+package upo.yacht.sim;
+
+import upo.yacht.logic.Scorer;
+import upo.yacht.model.ScoreCard;
+
+import java.util.Arrays;
+
+/// Aggregate statistics over the final scoreboards of many games.
+///
+/// Tracks the distribution of final scores in an exact histogram, so
+/// percentiles need no sorting, and counts how often each category was
+/// filled with a non-zero score. Instances are not thread-safe: every
+/// worker fills its own instance and the results are combined with
+/// `merge`, which gives the same totals in any order.
+public class ScoreStatistics {
+    private long games;
+    private long results;
+    private long sum;
+    private long sumOfSquares;
+    private int[] histogram;
+    private final long[] categoryHits;
+    private final long[] categoryPoints;
+
+    /// Creates empty statistics for the 12 categories of the built-in game.
+    public ScoreStatistics() {
+        this(Scorer.NUM_CATEGORIES);
+    }
+
+    /// Creates empty statistics for a game with the given number of categories.
+    ///
+    /// @param numCategories the number of categories of every scoreboard added
+    public ScoreStatistics(int numCategories) {
+        this.histogram = new int[512];
+        this.categoryHits = new long[numCategories];
+        this.categoryPoints = new long[numCategories];
+    }
+
+    /// Counts one finished game.
+    public void addGame() {
+        games++;
+    }
+
+    /// Adds the final scoreboard of one player.
+    ///
+    /// @param board the scoreboard at the end of the game
+    /// @throws IllegalArgumentException if the total is negative or the board has other categories
+    public void addResult(ScoreCard board) {
+        if (board.getNumCategories() != categoryHits.length) {
+            throw new IllegalArgumentException("Expected " + categoryHits.length + " categories, got " +
+                    board.getNumCategories());
+        }
+        int total = board.getTotalScore();
+        if (total < 0) {
+            throw new IllegalArgumentException("Negative total score: " + total);
+        }
+        if (total >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(total + 1, histogram.length * 2));
+        }
+        histogram[total]++;
+        results++;
+        sum += total;
+        sumOfSquares += (long) total * total;
+
+        for (int i = 0; i < categoryHits.length; i++) {
+            int points = board.getScore(i);
+            categoryPoints[i] += points;
+            if (points > 0) {
+                categoryHits[i]++;
+            }
+        }
+    }
+
+    /// Adds all the data collected by another instance to this one.
+    ///
+    /// @param other the statistics to merge into this instance
+    public void merge(ScoreStatistics other) {
+        games += other.games;
+        results += other.results;
+        sum += other.sum;
+        sumOfSquares += other.sumOfSquares;
+        if (other.histogram.length > histogram.length) {
+            histogram = Arrays.copyOf(histogram, other.histogram.length);
+        }
+        for (int i = 0; i < other.histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+        for (int i = 0; i < categoryHits.length; i++) {
+            categoryHits[i] += other.categoryHits[i];
+            categoryPoints[i] += other.categoryPoints[i];
+        }
+    }
+
+    /// Returns the number of categories of the scoreboards.
+    ///
+    /// @return the number of categories tracked
+    public int getNumCategories() {
+        return categoryHits.length;
+    }
+
+    /// Returns the number of games counted.
+    ///
+    /// @return the number of finished games
+    public long getGames() {
+        return games;
+    }
+
+    /// Returns the number of final scoreboards added.
+    ///
+    /// @return the number of player results
+    public long getResults() {
+        return results;
+    }
+
+    /// Returns the mean final score.
+    ///
+    /// @return the mean, or 0 if no result was added
+    public double getMean() {
+        return results == 0 ? 0 : (double) sum / results;
+    }
+
+    /// Returns the population standard deviation of the final score.
+    ///
+    /// @return the standard deviation, or 0 if no result was added
+    public double getStandardDeviation() {
+        if (results == 0) {
+            return 0;
+        }
+        double mean = getMean();
+        double variance = (double) sumOfSquares / results - mean * mean;
+        return Math.sqrt(Math.max(0, variance));
+    }
+
+    /// Returns a percentile of the final score (nearest-rank method).
+    ///
+    /// @param percentile the percentile, between 0 and 100
+    /// @return the smallest score such that at least that percentage of
+    ///         results is less than or equal to it, or 0 if no result was added
+    /// @throws IllegalArgumentException if the percentile is out of range
+    public int getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (results == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * results));
+        long seen = 0;
+        for (int score = 0; score < histogram.length; score++) {
+            seen += histogram[score];
+            if (seen >= rank) {
+                return score;
+            }
+        }
+        return histogram.length - 1;
+    }
+
+    /// Returns how often a category was filled with a non-zero score.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the fraction of results scoring in that category, between 0 and 1
+    public double getHitRate(int categoryIndex) {
+        return results == 0 ? 0 : (double) categoryHits[categoryIndex] / results;
+    }
+
+    /// Returns the mean points scored in a category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the mean points of that category per result
+    public double getCategoryMean(int categoryIndex) {
+        return results == 0 ? 0 : (double) categoryPoints[categoryIndex] / results;
+    }
+}
@@ -0,0 +1,130 @@
+package upo.yacht.sim;
+
+import upo.yacht.logic.Scorer;
+import upo.yacht.variant.Variant;
+
+/// Result of a Monte Carlo simulation.
+///
+/// Holds the settings the simulation ran with, how long it took and the
+/// aggregate statistics of the final scores, and formats them as a
+/// plain-text report for the console. The report of a house variant
+/// describes the variant and lists its own categories.
+public class SimulationReport {
+    private static final double[] PERCENTILES = {1, 10, 25, 50, 75, 90, 99};
+
+    private final Variant variant;
+    private final boolean isExtended;
+    private final int numPlayers;
+    private final String strategyName;
+    private final int threads;
+    private final long seed;
+    private final String rngAlgorithm;
+    private final long elapsedNanos;
+    private final ScoreStatistics statistics;
+
+    /// Creates a report.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in each game
+    /// @param strategyName name of the strategy driving every player
+    /// @param threads      number of worker threads used
+    /// @param seed         root seed of the simulation
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param elapsedNanos wall-clock time spent playing the games
+    /// @param statistics   aggregate statistics of all games
+    public SimulationReport(boolean isExtended, int numPlayers, String strategyName, int threads,
+                            long seed, String rngAlgorithm, long elapsedNanos, ScoreStatistics statistics) {
+        this(null, isExtended, numPlayers, strategyName, threads, seed, rngAlgorithm, elapsedNanos, statistics);
+    }
+
+    /// Creates the report of a simulation of a house variant played by greedy bots.
+    ///
+    /// @param variant      the variant of every game
+    /// @param numPlayers   number of players in each game
+    /// @param threads      number of worker threads used
+    /// @param seed         root seed of the simulation
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param elapsedNanos wall-clock time spent playing the games
+    /// @param statistics   aggregate statistics of all games, over the categories of the variant
+    public SimulationReport(Variant variant, int numPlayers, int threads, long seed, String rngAlgorithm,
+                            long elapsedNanos, ScoreStatistics statistics) {
+        this(variant, false, numPlayers, "greedy", threads, seed, rngAlgorithm, elapsedNanos, statistics);
+    }
+
+    /// Creates a report of the built-in game or of a variant.
+    ///
+    /// @param variant      the variant of every game; null for the built-in game
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in each game
+    /// @param strategyName name of the strategy driving every player
+    /// @param threads      number of worker threads used
+    /// @param seed         root seed of the simulation
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param elapsedNanos wall-clock time spent playing the games
+    /// @param statistics   aggregate statistics of all games
+    private SimulationReport(Variant variant, boolean isExtended, int numPlayers, String strategyName, int threads,
+                             long seed, String rngAlgorithm, long elapsedNanos, ScoreStatistics statistics) {
+        this.variant = variant;
+        this.isExtended = isExtended;
+        this.numPlayers = numPlayers;
+        this.strategyName = strategyName;
+        this.threads = threads;
+        this.seed = seed;
+        this.rngAlgorithm = rngAlgorithm;
+        this.elapsedNanos = elapsedNanos;
+        this.statistics = statistics;
+    }
+
+    /// Returns the aggregate statistics of the simulation.
+    ///
+    /// @return the statistics of all games
+    public ScoreStatistics getStatistics() {
+        return statistics;
+    }
+
+    /// Returns the wall-clock time spent playing the games.
+    ///
+    /// @return the elapsed time in nanoseconds
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /// Formats the report as plain text.
+    ///
+    /// @return the formatted report
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = elapsedNanos / 1e9;
+
+        sb.append("\n").append("=".repeat(50)).append("\n");
+        sb.append("SIMULATION RESULTS\n");
+        sb.append("=".repeat(50)).append("\n");
+        sb.append(String.format("Mode: %s | Strategy: %s | Players per game: %d%n",
+                (variant != null) ? variant.getName() : isExtended ? "Extended" : "Classic", strategyName,
+                numPlayers));
+        sb.append(String.format("Games: %d | Threads: %d | Seed: %d | RNG: %s%n",
+                statistics.getGames(), threads, seed, rngAlgorithm));
+        sb.append(String.format("Elapsed: %.3f s (%.0f games/s)%n", seconds,
+                seconds > 0 ? statistics.getGames() / seconds : 0));
+
+        sb.append("\nFINAL SCORE:\n");
+        sb.append("-".repeat(40)).append("\n");
+        sb.append(String.format("  Mean   : %8.2f%n", statistics.getMean()));
+        sb.append(String.format("  Stddev : %8.2f%n", statistics.getStandardDeviation()));
+        sb.append(String.format("  Min    : %5d%n", statistics.getPercentile(0)));
+        for (double p : PERCENTILES) {
+            sb.append(String.format("  p%-5s : %5d%n", (int) p, statistics.getPercentile(p)));
+        }
+        sb.append(String.format("  Max    : %5d%n", statistics.getPercentile(100)));
+
+        sb.append("\nCATEGORIES:\n");
+        sb.append("-".repeat(40)).append("\n");
+        sb.append(String.format("  %-18s %9s %12s%n", "Category", "Hit rate", "Mean points"));
+        for (int i = 0; i < statistics.getNumCategories(); i++) {
+            String categoryName = (variant != null) ? variant.getCategoryName(i) : Scorer.getCategoryName(i);
+            sb.append(String.format("  %-18s %8.2f%% %12.2f%n", categoryName,
+                    statistics.getHitRate(i) * 100, statistics.getCategoryMean(i)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,269 @@
+package upo.yacht.sim;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.model.Player;
+import upo.yacht.util.ConsoleRenderer;
+import upo.yacht.util.RandomGenerators;
+import upo.yacht.variant.GreedyVariantStrategy;
+import upo.yacht.variant.Variant;
+import upo.yacht.variant.VariantGame;
+import upo.yacht.variant.VariantScoreboard;
+import upo.yacht.variant.VariantStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/// Monte Carlo runner that plays many headless games in parallel.
+///
+/// The games are split into fixed-size blocks. Every block receives its
+/// own generator split from the root seed, in block order, before any work
+/// starts, and every game of a block is seeded from that generator. The
+/// blocks are then played on a fork/join pool. Because the seeds depend
+/// only on the block index, the results for a given seed are identical
+/// whatever the number of threads. House variants are simulated the same
+/// way, with `VariantGame` and greedy bots.
+public class Simulator {
+    /// Number of games played from one split generator.
+    static final int BLOCK_SIZE = 1024;
+
+    private final Variant variant;
+    private final boolean isExtended;
+    private final int numPlayers;
+    private final String strategyName;
+    private final int threads;
+    private final String rngAlgorithm;
+
+    /// Creates a simulator for the given game settings.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in each game (minimum 1)
+    /// @param strategyName name of the strategy driving every player (see `Strategies`)
+    /// @param threads      number of worker threads (minimum 1)
+    /// @throws IllegalArgumentException if a setting is invalid or the strategy is unknown
+    public Simulator(boolean isExtended, int numPlayers, String strategyName, int threads) {
+        this(isExtended, numPlayers, strategyName, threads, RandomGenerators.DEFAULT_ALGORITHM);
+    }
+
+    /// Creates a simulator whose games use the given random algorithm.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in each game (minimum 1)
+    /// @param strategyName name of the strategy driving every player (see `Strategies`)
+    /// @param threads      number of worker threads (minimum 1)
+    /// @param rngAlgorithm name of the random algorithm of every game (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if a setting is invalid, or the strategy or algorithm is unknown
+    public Simulator(boolean isExtended, int numPlayers, String strategyName, int threads, String rngAlgorithm) {
+        this(null, isExtended, numPlayers, strategyName, threads, rngAlgorithm);
+    }
+
+    /// Creates a simulator of a house variant, every player driven by a `GreedyVariantStrategy`.
+    ///
+    /// @param variant      the variant of every game
+    /// @param numPlayers   number of players in each game (minimum 1)
+    /// @param threads      number of worker threads (minimum 1)
+    /// @param rngAlgorithm name of the random algorithm of every game (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if a setting is invalid or the algorithm is unknown
+    public Simulator(Variant variant, int numPlayers, int threads, String rngAlgorithm) {
+        this(variant, false, numPlayers, "greedy", threads, rngAlgorithm);
+    }
+
+    /// Creates a simulator of the built-in game or of a variant.
+    ///
+    /// @param variant      the variant of every game; null for the built-in game
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param numPlayers   number of players in each game (minimum 1)
+    /// @param strategyName name of the strategy driving every player (see `Strategies`)
+    /// @param threads      number of worker threads (minimum 1)
+    /// @param rngAlgorithm name of the random algorithm of every game (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if a setting is invalid, or the strategy or algorithm is unknown
+    private Simulator(Variant variant, boolean isExtended, int numPlayers, String strategyName, int threads,
+                      String rngAlgorithm) {
+        if (numPlayers < 1) {
+            throw new IllegalArgumentException("The game requires at least 1 player to start.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least 1 thread is required, got " + threads);
+        }
+        RandomGenerator check = RandomGenerators.create(rngAlgorithm, 0L); // Fail fast on unknown names
+        Strategies.create(strategyName, check);
+        this.variant = variant;
+        this.isExtended = isExtended;
+        this.numPlayers = numPlayers;
+        this.strategyName = strategyName;
+        this.threads = threads;
+        this.rngAlgorithm = rngAlgorithm;
+    }
+
+    /// Plays the requested number of games and aggregates the results.
+    ///
+    /// @param games number of games to play (minimum 1)
+    /// @param seed  root seed of the simulation
+    /// @return the report with the aggregate statistics
+    /// @throws IllegalArgumentException if the number of games is not positive
+    public SimulationReport run(long games, long seed) {
+        return run(games, seed, null);
+    }
+
+    /// Plays the requested number of games and records every one of them.
+    ///
+    /// Every game gets its own listener from the supplier, such as
+    /// `GameJournal::newGame`. The listeners are called from the worker
+    /// threads, and games finish in an order that depends on their
+    /// scheduling. Games of a variant cannot be recorded, since the
+    /// listeners only know the built-in game.
+    ///
+    /// @param games     number of games to play (minimum 1)
+    /// @param seed      root seed of the simulation
+    /// @param recorders creates the listener of each game; null for none
+    /// @return the report with the aggregate statistics
+    /// @throws IllegalArgumentException if the number of games is not positive, or recorders
+    ///                                  are given for a variant
+    public SimulationReport run(long games, long seed, Supplier<GameEventListener> recorders) {
+        if (games < 1) {
+            throw new IllegalArgumentException("At least 1 game must be simulated, got " + games);
+        }
+        if (variant != null && recorders != null) {
+            throw new IllegalArgumentException("Games of the variant " + variant.getName() +
+                    " cannot be recorded");
+        }
+        int blocks = Math.toIntExact((games + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        SplittableRandom root = new SplittableRandom(seed);
+        long[] blockSeeds = new long[blocks];
+        for (int i = 0; i < blocks; i++) {
+            blockSeeds[i] = root.split().nextLong();
+        }
+
+        long start = System.nanoTime();
+        ScoreStatistics statistics;
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            statistics = pool.invoke(new BlockTask(blockSeeds, games, recorders, 0, blocks));
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (variant != null) {
+            return new SimulationReport(variant, numPlayers, threads, seed, rngAlgorithm, elapsed, statistics);
+        }
+        return new SimulationReport(isExtended, numPlayers, strategyName, threads, seed, rngAlgorithm,
+                elapsed, statistics);
+    }
+
+    /// Plays every game of one block.
+    ///
+    /// @param blockSeed  the seed split from the root generator for this block
+    /// @param blockGames the number of games in this block
+    /// @param recorders  creates the listener of each game; null for none
+    /// @return the statistics of the block
+    private ScoreStatistics playBlock(long blockSeed, int blockGames, Supplier<GameEventListener> recorders) {
+        if (variant != null) {
+            return playVariantBlock(blockSeed, blockGames);
+        }
+        ScoreStatistics statistics = new ScoreStatistics();
+        SplittableRandom blockRandom = new SplittableRandom(blockSeed);
+        Player[] players = new Player[numPlayers];
+        PlayerStrategy[] strategies = new PlayerStrategy[numPlayers];
+
+        for (int game = 0; game < blockGames; game++) {
+            RandomGenerator random = RandomGenerators.create(rngAlgorithm, blockRandom.nextLong());
+            for (int i = 0; i < numPlayers; i++) {
+                players[i] = new Player("Bot " + (i + 1));
+                strategies[i] = Strategies.create(strategyName, random);
+            }
+            GameEventListener listener = (recorders != null) ? recorders.get() : null;
+            try {
+                new GameEngine(isExtended, players, strategies, random, listener).play();
+            } catch (YachtGameException e) {
+                throw new IllegalStateException("Strategy " + strategyName + " broke the rules: " +
+                        e.getMessage(), e);
+            }
+            statistics.addGame();
+            for (Player p : players) {
+                statistics.addResult(p.getScoreboard());
+            }
+        }
+        return statistics;
+    }
+
+    /// Plays every game of one block of a variant.
+    ///
+    /// Seeds the games like `playBlock`. The block renders through its own
+    /// quiet renderer, so the workers never share a lock.
+    ///
+    /// @param blockSeed  the seed split from the root generator for this block
+    /// @param blockGames the number of games in this block
+    /// @return the statistics of the block
+    private ScoreStatistics playVariantBlock(long blockSeed, int blockGames) {
+        ScoreStatistics statistics = new ScoreStatistics(variant.getNumCategories());
+        SplittableRandom blockRandom = new SplittableRandom(blockSeed);
+        ConsoleRenderer silent = new ConsoleRenderer(System.out, true);
+        String[] names = new String[numPlayers];
+        VariantStrategy[] strategies = new VariantStrategy[numPlayers];
+        for (int i = 0; i < numPlayers; i++) {
+            names[i] = "Bot " + (i + 1);
+            strategies[i] = new GreedyVariantStrategy(variant);
+        }
+
+        for (int game = 0; game < blockGames; game++) {
+            RandomGenerator random = RandomGenerators.create(rngAlgorithm, blockRandom.nextLong());
+            VariantScoreboard[] boards;
+            try {
+                boards = new VariantGame(variant, names, strategies, random, silent).play();
+            } catch (YachtGameException e) {
+                throw new IllegalStateException("Strategy greedy broke the rules of " + variant.getName() + ": " +
+                        e.getMessage(), e);
+            }
+            statistics.addGame();
+            for (VariantScoreboard board : boards) {
+                statistics.addResult(board);
+            }
+        }
+        return statistics;
+    }
+
+    /// Fork/join task playing a range of blocks, split in halves until one block is left.
+    private class BlockTask extends RecursiveTask<ScoreStatistics> {
+        private final long[] blockSeeds;
+        private final long games;
+        private final Supplier<GameEventListener> recorders;
+        private final int fromBlock;
+        private final int toBlock;
+
+        /// Creates a task for the blocks in `[fromBlock, toBlock)`.
+        ///
+        /// @param blockSeeds the seed of every block
+        /// @param games      the total number of games of the simulation
+        /// @param recorders  creates the listener of each game; null for none
+        /// @param fromBlock  the first block, inclusive
+        /// @param toBlock    the last block, exclusive
+        BlockTask(long[] blockSeeds, long games, Supplier<GameEventListener> recorders, int fromBlock,
+                  int toBlock) {
+            this.blockSeeds = blockSeeds;
+            this.games = games;
+            this.recorders = recorders;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected ScoreStatistics compute() {
+            if (toBlock - fromBlock == 1) {
+                long firstGame = (long) fromBlock * BLOCK_SIZE;
+                int blockGames = (int) Math.min(BLOCK_SIZE, games - firstGame);
+                return playBlock(blockSeeds[fromBlock], blockGames, recorders);
+            }
+            int middle = (fromBlock + toBlock) >>> 1;
+            BlockTask left = new BlockTask(blockSeeds, games, recorders, fromBlock, middle);
+            BlockTask right = new BlockTask(blockSeeds, games, recorders, middle, toBlock);
+            left.fork();
+            ScoreStatistics statistics = right.compute();
+            statistics.merge(left.join());
+            return statistics;
+        }
+    }
+}
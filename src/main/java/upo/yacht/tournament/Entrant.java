@@ -0,0 +1,58 @@
+package upo.yacht.tournament;
+
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.util.RandomGenerators;
+
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/// A competitor of a `Tournament`: a name and the strategy it plays with.
+///
+/// A new strategy is created for every game from the random generator of
+/// that game, so strategies that draw random numbers stay reproducible.
+/// Instances are immutable.
+public final class Entrant {
+    private final String name;
+    private final Function<RandomGenerator, PlayerStrategy> strategies;
+
+    /// Creates an entrant.
+    ///
+    /// @param name       the name shown in the standings and given to its players
+    /// @param strategies creates the strategy of each game from the generator of that game
+    /// @throws IllegalArgumentException if the name is blank
+    public Entrant(String name, Function<RandomGenerator, PlayerStrategy> strategies) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Entrant name cannot be empty.");
+        }
+        this.name = name;
+        this.strategies = strategies;
+    }
+
+    /// Creates an entrant playing one of the built-in strategies.
+    ///
+    /// @param name         the name shown in the standings
+    /// @param strategyName the strategy (see `Strategies`)
+    /// @return the entrant
+    /// @throws IllegalArgumentException if the name is blank or the strategy is unknown
+    public static Entrant of(String name, String strategyName) {
+        // Fail fast on unknown names
+        Strategies.create(strategyName, RandomGenerators.create(RandomGenerators.DEFAULT_ALGORITHM, 0L));
+        return new Entrant(name, random -> Strategies.create(strategyName, random));
+    }
+
+    /// Returns the name of the entrant.
+    ///
+    /// @return the name
+    public String getName() {
+        return name;
+    }
+
+    /// Creates the strategy of one game.
+    ///
+    /// @param random the random generator of the game
+    /// @return a new strategy
+    public PlayerStrategy createStrategy(RandomGenerator random) {
+        return strategies.apply(random);
+    }
+}
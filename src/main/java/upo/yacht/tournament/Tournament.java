@@ -0,0 +1,425 @@
+package upo.yacht.tournament;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.PlayerStrategy;
+import upo.yacht.model.Player;
+import upo.yacht.util.RandomGenerators;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/// Plays automated strategies against each other and ranks them.
+///
+/// Entrants meet at tables with a fixed number of seats, and every table
+/// plays the same number of headless games. A *round robin* plays one
+/// table for every combination of entrants. A *Swiss* tournament plays
+/// several rounds; each round seats entrants of similar standing together,
+/// avoiding tables that already met, and when the entrants cannot fill
+/// every table the lowest ranked ones with the fewest byes sit the round
+/// out.
+///
+/// The games of a round are numbered table by table and split into
+/// fixed-size blocks, and every block receives its own generator split
+/// from the root seed before any work starts, as in `Simulator`. The
+/// blocks are played on a fork/join pool, whose work stealing keeps every
+/// worker busy when some tables are slower than others. The seed of every
+/// game depends only on its number and all statistics are exact counts,
+/// so the results for a given seed are identical whatever the number of
+/// threads.
+public class Tournament {
+    /// Number of games played from one split generator.
+    static final int BLOCK_SIZE = 1024;
+
+    private final boolean isExtended;
+    private final Entrant[] entrants;
+    private final int seats;
+    private final int threads;
+    private final String rngAlgorithm;
+
+    /// Creates a tournament between the given entrants.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param entrants     the competitors, with distinct names (minimum 2)
+    /// @param seats        number of players in each game (2 to the number of entrants)
+    /// @param threads      number of worker threads (minimum 1)
+    /// @param rngAlgorithm name of the random algorithm of every game (see `RandomGenerators`)
+    /// @throws IllegalArgumentException if a setting is invalid, two entrants share a name or
+    ///                                  the algorithm is unknown
+    public Tournament(boolean isExtended, List<Entrant> entrants, int seats, int threads, String rngAlgorithm) {
+        if (entrants.size() < 2) {
+            throw new IllegalArgumentException("A tournament requires at least 2 entrants, got " +
+                    entrants.size());
+        }
+        if (seats < 2 || seats > entrants.size()) {
+            throw new IllegalArgumentException("Seats per game must be between 2 and " + entrants.size() +
+                    ", got " + seats);
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least 1 thread is required, got " + threads);
+        }
+        Set<String> names = new HashSet<>();
+        for (Entrant entrant : entrants) {
+            if (!names.add(entrant.getName())) {
+                throw new IllegalArgumentException("Duplicate entrant: " + entrant.getName());
+            }
+        }
+        RandomGenerators.create(rngAlgorithm, 0L); // Fail fast on unknown names
+        this.isExtended = isExtended;
+        this.entrants = entrants.toArray(new Entrant[0]);
+        this.seats = seats;
+        this.threads = threads;
+        this.rngAlgorithm = rngAlgorithm;
+    }
+
+    /// Plays a round robin: every combination of entrants plays the same number of games.
+    ///
+    /// @param gamesPerTable number of games of every table (minimum 1)
+    /// @param seed          root seed of the tournament
+    /// @return the report with the standings
+    /// @throws IllegalArgumentException if the number of games is not positive
+    public TournamentReport roundRobin(int gamesPerTable, long seed) {
+        return roundRobin(gamesPerTable, seed, null);
+    }
+
+    /// Plays a round robin and records every game.
+    ///
+    /// Every game gets its own listener from the supplier, such as
+    /// `GameJournal::newGame`. The listeners are called from the worker
+    /// threads, and games finish in an order that depends on their
+    /// scheduling.
+    ///
+    /// @param gamesPerTable number of games of every table (minimum 1)
+    /// @param seed          root seed of the tournament
+    /// @param recorders     creates the listener of each game; null for none
+    /// @return the report with the standings
+    /// @throws IllegalArgumentException if the number of games is not positive or there are too many tables
+    public TournamentReport roundRobin(int gamesPerTable, long seed, Supplier<GameEventListener> recorders) {
+        checkGames(gamesPerTable);
+        int[][] tables = combinations();
+        SplittableRandom root = new SplittableRandom(seed);
+
+        long start = System.nanoTime();
+        TournamentStatistics statistics;
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            statistics = playRound(pool, tables, gamesPerTable, root.split(), recorders);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return report("Round robin", seed, elapsed, statistics);
+    }
+
+    /// Plays a Swiss tournament of the given number of rounds.
+    ///
+    /// @param rounds        number of rounds (minimum 1)
+    /// @param gamesPerTable number of games of every table in each round (minimum 1)
+    /// @param seed          root seed of the tournament
+    /// @return the report with the standings
+    /// @throws IllegalArgumentException if the number of rounds or games is not positive
+    public TournamentReport swiss(int rounds, int gamesPerTable, long seed) {
+        return swiss(rounds, gamesPerTable, seed, null);
+    }
+
+    /// Plays a Swiss tournament and records every game.
+    ///
+    /// The first round seats the entrants in an order drawn from the seed;
+    /// that order also breaks ties in the standings of later rounds. The
+    /// rounds are played one after the other, since each one is paired
+    /// from the standings of the previous ones.
+    ///
+    /// @param rounds        number of rounds (minimum 1)
+    /// @param gamesPerTable number of games of every table in each round (minimum 1)
+    /// @param seed          root seed of the tournament
+    /// @param recorders     creates the listener of each game; null for none
+    /// @return the report with the standings
+    /// @throws IllegalArgumentException if the number of rounds or games is not positive
+    public TournamentReport swiss(int rounds, int gamesPerTable, long seed, Supplier<GameEventListener> recorders) {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("At least 1 round must be played, got " + rounds);
+        }
+        checkGames(gamesPerTable);
+        SplittableRandom root = new SplittableRandom(seed);
+        int[] tiebreak = shuffledOrder(root.split());
+        int[][] meetings = new int[entrants.length][entrants.length];
+        int[] byes = new int[entrants.length];
+
+        long start = System.nanoTime();
+        TournamentStatistics statistics = new TournamentStatistics(entrants.length);
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            for (int round = 0; round < rounds; round++) {
+                int[][] tables = swissPairings(statistics, tiebreak, meetings, byes);
+                statistics.merge(playRound(pool, tables, gamesPerTable, root.split(), recorders));
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return report("Swiss (" + rounds + (rounds == 1 ? " round)" : " rounds)"), seed, elapsed, statistics);
+    }
+
+    /// Rejects a non-positive number of games per table.
+    ///
+    /// @param gamesPerTable the requested number of games
+    /// @throws IllegalArgumentException if the number is not positive
+    private static void checkGames(int gamesPerTable) {
+        if (gamesPerTable < 1) {
+            throw new IllegalArgumentException("Every table must play at least 1 game, got " + gamesPerTable);
+        }
+    }
+
+    /// Creates the report of a finished tournament.
+    ///
+    /// @param format     the description of the format
+    /// @param seed       root seed of the tournament
+    /// @param elapsed    wall-clock time spent playing, in nanoseconds
+    /// @param statistics the results of all games
+    /// @return the report
+    private TournamentReport report(String format, long seed, long elapsed, TournamentStatistics statistics) {
+        String[] names = new String[entrants.length];
+        for (int i = 0; i < entrants.length; i++) {
+            names[i] = entrants[i].getName();
+        }
+        return new TournamentReport(format, isExtended, seats, threads, seed, rngAlgorithm, elapsed, names,
+                statistics);
+    }
+
+    /// Lists every combination of entrants that fills one table, in lexicographic order.
+    ///
+    /// @return the entrant indices of every table
+    /// @throws IllegalArgumentException if there are too many combinations
+    private int[][] combinations() {
+        long count = 1;
+        for (int i = 0; i < seats; i++) {
+            count = count * (entrants.length - i) / (i + 1);
+        }
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many tables for a round robin: " + count);
+        }
+        int[][] tables = new int[(int) count][];
+        int[] table = new int[seats];
+        for (int i = 0; i < seats; i++) {
+            table[i] = i;
+        }
+        for (int t = 0; t < tables.length; t++) {
+            tables[t] = table.clone();
+            // Advance to the next combination
+            int i = seats - 1;
+            while (i >= 0 && table[i] == entrants.length - seats + i) {
+                i--;
+            }
+            if (i >= 0) {
+                table[i]++;
+                for (int j = i + 1; j < seats; j++) {
+                    table[j] = table[j - 1] + 1;
+                }
+            }
+        }
+        return tables;
+    }
+
+    /// Draws a random order of the entrants.
+    ///
+    /// @param random the generator drawing the order
+    /// @return the position of every entrant in the order
+    private int[] shuffledOrder(SplittableRandom random) {
+        int[] order = new int[entrants.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        for (int i = order.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        int[] position = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+        }
+        return position;
+    }
+
+    /// Seats the entrants for the next Swiss round.
+    ///
+    /// Entrants are ranked by win rate, ties broken by the drawn order. The
+    /// leftover entrants that cannot fill a table sit out, chosen among the
+    /// lowest ranked with the fewest byes. Each table is then opened by the
+    /// best ranked entrant still standing and filled with the best ranked
+    /// ones that met the seated entrants the fewest times.
+    ///
+    /// @param standings the results of the previous rounds
+    /// @param tiebreak  the drawn position of every entrant
+    /// @param meetings  how many tables every pair of entrants shared, updated with the new tables
+    /// @param byes      how many rounds every entrant sat out, updated with the new byes
+    /// @return the entrant indices of every table
+    private int[][] swissPairings(TournamentStatistics standings, int[] tiebreak, int[][] meetings, int[] byes) {
+        List<Integer> remaining = new ArrayList<>();
+        for (int i = 0; i < entrants.length; i++) {
+            remaining.add(i);
+        }
+        remaining.sort(Comparator.comparingDouble((Integer e) -> -standings.getWinRate(e))
+                .thenComparingInt(e -> tiebreak[e]));
+
+        for (int sitting = entrants.length % seats; sitting > 0; sitting--) {
+            int bye = remaining.size() - 1;
+            for (int i = remaining.size() - 2; i >= 0; i--) {
+                if (byes[remaining.get(i)] < byes[remaining.get(bye)]) {
+                    bye = i;
+                }
+            }
+            byes[remaining.remove(bye)]++;
+        }
+
+        int[][] tables = new int[entrants.length / seats][seats];
+        for (int[] table : tables) {
+            table[0] = remaining.remove(0);
+            for (int seat = 1; seat < seats; seat++) {
+                int best = 0;
+                int fewest = Integer.MAX_VALUE;
+                for (int i = 0; i < remaining.size(); i++) {
+                    int met = 0;
+                    for (int s = 0; s < seat; s++) {
+                        met += meetings[remaining.get(i)][table[s]];
+                    }
+                    if (met < fewest) {
+                        best = i;
+                        fewest = met;
+                    }
+                }
+                table[seat] = remaining.remove(best);
+            }
+            for (int a : table) {
+                for (int b : table) {
+                    if (a != b) {
+                        meetings[a][b]++;
+                    }
+                }
+            }
+        }
+        return tables;
+    }
+
+    /// Plays every game of one round on the pool.
+    ///
+    /// @param pool          the pool running the blocks
+    /// @param tables        the entrant indices of every table
+    /// @param gamesPerTable number of games of every table
+    /// @param roundRandom   the generator the block seeds are split from
+    /// @param recorders     creates the listener of each game; null for none
+    /// @return the statistics of the round
+    private TournamentStatistics playRound(ForkJoinPool pool, int[][] tables, int gamesPerTable,
+                                           SplittableRandom roundRandom, Supplier<GameEventListener> recorders) {
+        long games = (long) tables.length * gamesPerTable;
+        int blocks = Math.toIntExact((games + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        long[] blockSeeds = new long[blocks];
+        for (int i = 0; i < blocks; i++) {
+            blockSeeds[i] = roundRandom.split().nextLong();
+        }
+        return pool.invoke(new BlockTask(tables, gamesPerTable, blockSeeds, recorders, 0, blocks));
+    }
+
+    /// Plays every game of one block.
+    ///
+    /// @param tables        the entrant indices of every table of the round
+    /// @param gamesPerTable number of games of every table
+    /// @param firstGame     the number of the first game of the block within the round
+    /// @param blockGames    the number of games in this block
+    /// @param blockSeed     the seed split from the round generator for this block
+    /// @param recorders     creates the listener of each game; null for none
+    /// @return the statistics of the block
+    private TournamentStatistics playBlock(int[][] tables, int gamesPerTable, long firstGame, int blockGames,
+                                           long blockSeed, Supplier<GameEventListener> recorders) {
+        TournamentStatistics statistics = new TournamentStatistics(entrants.length);
+        SplittableRandom blockRandom = new SplittableRandom(blockSeed);
+        Player[] players = new Player[seats];
+        PlayerStrategy[] strategies = new PlayerStrategy[seats];
+        int[] scores = new int[seats];
+
+        for (long game = firstGame; game < firstGame + blockGames; game++) {
+            int[] table = tables[(int) (game / gamesPerTable)];
+            RandomGenerator random = RandomGenerators.create(rngAlgorithm, blockRandom.nextLong());
+            for (int i = 0; i < seats; i++) {
+                players[i] = new Player(entrants[table[i]].getName());
+                strategies[i] = entrants[table[i]].createStrategy(random);
+            }
+            GameEventListener listener = (recorders != null) ? recorders.get() : null;
+            try {
+                new GameEngine(isExtended, players, strategies, random, listener).play();
+            } catch (YachtGameException e) {
+                throw new IllegalStateException("A strategy at the table " + Arrays.toString(tableNames(table)) +
+                        " broke the rules: " + e.getMessage(), e);
+            }
+            for (int i = 0; i < seats; i++) {
+                scores[i] = players[i].getTotalScore();
+            }
+            statistics.addGame(table, scores);
+        }
+        return statistics;
+    }
+
+    /// Returns the names of the entrants at a table.
+    ///
+    /// @param table the entrant indices of the table
+    /// @return their names
+    private String[] tableNames(int[] table) {
+        String[] names = new String[table.length];
+        for (int i = 0; i < table.length; i++) {
+            names[i] = entrants[table[i]].getName();
+        }
+        return names;
+    }
+
+    /// Fork/join task playing a range of blocks, split in halves until one block is left.
+    private class BlockTask extends RecursiveTask<TournamentStatistics> {
+        private final int[][] tables;
+        private final int gamesPerTable;
+        private final long[] blockSeeds;
+        private final Supplier<GameEventListener> recorders;
+        private final int fromBlock;
+        private final int toBlock;
+
+        /// Creates a task for the blocks in `[fromBlock, toBlock)`.
+        ///
+        /// @param tables        the entrant indices of every table of the round
+        /// @param gamesPerTable number of games of every table
+        /// @param blockSeeds    the seed of every block
+        /// @param recorders     creates the listener of each game; null for none
+        /// @param fromBlock     the first block, inclusive
+        /// @param toBlock       the last block, exclusive
+        BlockTask(int[][] tables, int gamesPerTable, long[] blockSeeds, Supplier<GameEventListener> recorders,
+                  int fromBlock, int toBlock) {
+            this.tables = tables;
+            this.gamesPerTable = gamesPerTable;
+            this.blockSeeds = blockSeeds;
+            this.recorders = recorders;
+            this.fromBlock = fromBlock;
+            this.toBlock = toBlock;
+        }
+
+        @Override
+        protected TournamentStatistics compute() {
+            if (toBlock - fromBlock == 1) {
+                long games = (long) tables.length * gamesPerTable;
+                long firstGame = (long) fromBlock * BLOCK_SIZE;
+                int blockGames = (int) Math.min(BLOCK_SIZE, games - firstGame);
+                return playBlock(tables, gamesPerTable, firstGame, blockGames, blockSeeds[fromBlock], recorders);
+            }
+            int middle = (fromBlock + toBlock) >>> 1;
+            BlockTask left = new BlockTask(tables, gamesPerTable, blockSeeds, recorders, fromBlock, middle);
+            BlockTask right = new BlockTask(tables, gamesPerTable, blockSeeds, recorders, middle, toBlock);
+            left.fork();
+            TournamentStatistics statistics = right.compute();
+            statistics.merge(left.join());
+            return statistics;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package upo.yacht.tournament;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/// Result of a tournament.
+///
+/// Holds the settings the tournament ran with, how long it took and the
+/// results of every game, and formats the standings and the head-to-head
+/// matrix as a plain-text report for the console. The standings show how
+/// many games each entrant finished first (ties included) next to its
+/// head-to-head wins, draws and losses.
+public class TournamentReport {
+    private final String format;
+    private final boolean isExtended;
+    private final int seats;
+    private final int threads;
+    private final long seed;
+    private final String rngAlgorithm;
+    private final long elapsedNanos;
+    private final String[] names;
+    private final TournamentStatistics statistics;
+
+    /// Creates a report.
+    ///
+    /// @param format       description of the tournament format
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param seats        number of players in each game
+    /// @param threads      number of worker threads used
+    /// @param seed         root seed of the tournament
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param elapsedNanos wall-clock time spent playing the games
+    /// @param names        name of every entrant, by entrant index
+    /// @param statistics   results of all games
+    public TournamentReport(String format, boolean isExtended, int seats, int threads, long seed,
+                            String rngAlgorithm, long elapsedNanos, String[] names,
+                            TournamentStatistics statistics) {
+        this.format = format;
+        this.isExtended = isExtended;
+        this.seats = seats;
+        this.threads = threads;
+        this.seed = seed;
+        this.rngAlgorithm = rngAlgorithm;
+        this.elapsedNanos = elapsedNanos;
+        this.names = names.clone();
+        this.statistics = statistics;
+    }
+
+    /// Returns the results of all games.
+    ///
+    /// @return the statistics of the tournament
+    public TournamentStatistics getStatistics() {
+        return statistics;
+    }
+
+    /// Returns the wall-clock time spent playing the games.
+    ///
+    /// @return the elapsed time in nanoseconds
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /// Returns the entrants from first to last.
+    ///
+    /// Entrants are ranked by win rate, then by mean score, then in the
+    /// order they were given.
+    ///
+    /// @return the entrant indices in standings order
+    public List<Integer> getStandings() {
+        List<Integer> standings = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            standings.add(i);
+        }
+        standings.sort(Comparator.comparingDouble((Integer e) -> -statistics.getWinRate(e))
+                .thenComparingDouble(e -> -statistics.getMeanScore(e)));
+        return standings;
+    }
+
+    /// Formats the report as plain text.
+    ///
+    /// @return the formatted report
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        double seconds = elapsedNanos / 1e9;
+        List<Integer> standings = getStandings();
+
+        sb.append("\n").append("=".repeat(50)).append("\n");
+        sb.append("TOURNAMENT RESULTS\n");
+        sb.append("=".repeat(50)).append("\n");
+        sb.append(String.format("Format: %s | Mode: %s | Players per game: %d%n", format,
+                isExtended ? "Extended" : "Classic", seats));
+        sb.append(String.format("Entrants: %d | Games: %d | Threads: %d | Seed: %d | RNG: %s%n",
+                names.length, statistics.getGames(), threads, seed, rngAlgorithm));
+        sb.append(String.format("Elapsed: %.3f s (%.0f games/s)%n", seconds,
+                seconds > 0 ? statistics.getGames() / seconds : 0));
+
+        sb.append("\nSTANDINGS:\n");
+        sb.append("-".repeat(40)).append("\n");
+        sb.append(String.format("  %3s %-20s %9s %9s %9s %8s %9s %8s %17s %10s%n", "#", "Entrant", "Games", "1st",
+                "Wins", "Draws", "Losses", "Win rate", "95% CI", "Mean score"));
+        for (int rank = 0; rank < standings.size(); rank++) {
+            int e = standings.get(rank);
+            sb.append(String.format("  %3d %-20s %9d %9d %9d %8d %9d %7.2f%% [%6.2f%%, %6.2f%%] %10.2f%n", rank + 1,
+                    names[e], statistics.getPlayed(e), statistics.getFirsts(e), statistics.getWins(e),
+                    statistics.getDraws(e), statistics.getLosses(e), statistics.getWinRate(e) * 100,
+                    statistics.getWinRateLower(e) * 100, statistics.getWinRateUpper(e) * 100,
+                    statistics.getMeanScore(e)));
+        }
+
+        sb.append("\nHEAD-TO-HEAD (win rate of each row against each column):\n");
+        sb.append("-".repeat(40)).append("\n");
+        sb.append(String.format("  %3s %-20s", "#", "Entrant"));
+        for (int rank = 0; rank < standings.size(); rank++) {
+            sb.append(String.format(" %7s", "#" + (rank + 1)));
+        }
+        sb.append("\n");
+        for (int row = 0; row < standings.size(); row++) {
+            int a = standings.get(row);
+            sb.append(String.format("  %3d %-20s", row + 1, names[a]));
+            for (int b : standings) {
+                if (a == b || statistics.getMeetings(a, b) == 0) {
+                    sb.append(String.format(" %7s", "-"));
+                } else {
+                    sb.append(String.format(" %6.1f%%", statistics.getHeadToHead(a, b) * 100));
+                }
+            }
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+}
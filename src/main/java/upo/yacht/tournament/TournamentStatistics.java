@@ -0,0 +1,235 @@
+package upo.yacht.tournament;
+
+/// Aggregate results of the games of a tournament.
+///
+/// Every game is scored as a set of head-to-head comparisons: each pair
+/// of entrants at the table wins, draws or loses against each other by
+/// final score. An entrant's win rate counts a draw as half a win, so in
+/// two-seat games it is the usual share of games won.
+///
+/// All counters are integers, so the totals are exact and independent of
+/// the order games are added in. Instances are not thread-safe: every
+/// worker fills its own instance and the results are combined with
+/// `merge`.
+public class TournamentStatistics {
+    /// Two-sided 95% quantile of the standard normal distribution.
+    private static final double Z_95 = 1.959964;
+
+    private final int entrants;
+    private long games;
+    private final long[] played;
+    private final long[] firsts;
+    private final long[] scoreSum;
+    private final long[] pairWins;
+    private final long[] pairDraws;
+
+    /// Creates empty statistics.
+    ///
+    /// @param entrants the number of entrants of the tournament
+    public TournamentStatistics(int entrants) {
+        this.entrants = entrants;
+        this.played = new long[entrants];
+        this.firsts = new long[entrants];
+        this.scoreSum = new long[entrants];
+        this.pairWins = new long[entrants * entrants];
+        this.pairDraws = new long[entrants * entrants];
+    }
+
+    /// Adds the final scores of one game.
+    ///
+    /// @param seats  the entrant of each seat at the table
+    /// @param scores the final score of each seat, in the same order
+    public void addGame(int[] seats, int[] scores) {
+        games++;
+        int best = Integer.MIN_VALUE;
+        for (int score : scores) {
+            best = Math.max(best, score);
+        }
+        for (int i = 0; i < seats.length; i++) {
+            int a = seats[i];
+            played[a]++;
+            scoreSum[a] += scores[i];
+            if (scores[i] == best) {
+                firsts[a]++;
+            }
+            for (int j = i + 1; j < seats.length; j++) {
+                int b = seats[j];
+                if (scores[i] > scores[j]) {
+                    pairWins[a * entrants + b]++;
+                } else if (scores[i] < scores[j]) {
+                    pairWins[b * entrants + a]++;
+                } else {
+                    pairDraws[a * entrants + b]++;
+                    pairDraws[b * entrants + a]++;
+                }
+            }
+        }
+    }
+
+    /// Adds all the data collected by another instance to this one.
+    ///
+    /// @param other the statistics to merge into this instance
+    public void merge(TournamentStatistics other) {
+        games += other.games;
+        for (int i = 0; i < entrants; i++) {
+            played[i] += other.played[i];
+            firsts[i] += other.firsts[i];
+            scoreSum[i] += other.scoreSum[i];
+        }
+        for (int i = 0; i < pairWins.length; i++) {
+            pairWins[i] += other.pairWins[i];
+            pairDraws[i] += other.pairDraws[i];
+        }
+    }
+
+    /// Returns the number of entrants.
+    ///
+    /// @return the number of entrants
+    public int getEntrants() {
+        return entrants;
+    }
+
+    /// Returns the number of games played in the tournament.
+    ///
+    /// @return the number of games
+    public long getGames() {
+        return games;
+    }
+
+    /// Returns the number of games an entrant played.
+    ///
+    /// @param entrant the entrant index
+    /// @return the number of games
+    public long getPlayed(int entrant) {
+        return played[entrant];
+    }
+
+    /// Returns how many games an entrant finished with the best score, ties included.
+    ///
+    /// @param entrant the entrant index
+    /// @return the number of first places
+    public long getFirsts(int entrant) {
+        return firsts[entrant];
+    }
+
+    /// Returns the mean final score of an entrant.
+    ///
+    /// @param entrant the entrant index
+    /// @return the mean score, or 0 if the entrant played no games
+    public double getMeanScore(int entrant) {
+        return played[entrant] > 0 ? (double) scoreSum[entrant] / played[entrant] : 0;
+    }
+
+    /// Returns how many head-to-head comparisons an entrant won.
+    ///
+    /// @param entrant the entrant index
+    /// @return the number of wins against all opponents
+    public long getWins(int entrant) {
+        long wins = 0;
+        for (int b = 0; b < entrants; b++) {
+            wins += pairWins[entrant * entrants + b];
+        }
+        return wins;
+    }
+
+    /// Returns how many head-to-head comparisons an entrant drew.
+    ///
+    /// @param entrant the entrant index
+    /// @return the number of draws against all opponents
+    public long getDraws(int entrant) {
+        long draws = 0;
+        for (int b = 0; b < entrants; b++) {
+            draws += pairDraws[entrant * entrants + b];
+        }
+        return draws;
+    }
+
+    /// Returns how many head-to-head comparisons an entrant lost.
+    ///
+    /// @param entrant the entrant index
+    /// @return the number of losses against all opponents
+    public long getLosses(int entrant) {
+        long losses = 0;
+        for (int b = 0; b < entrants; b++) {
+            losses += pairWins[b * entrants + entrant];
+        }
+        return losses;
+    }
+
+    /// Returns the win rate of an entrant over all its comparisons.
+    ///
+    /// @param entrant the entrant index
+    /// @return the win rate in [0, 1], draws counting as half, or 0 if it played no one
+    public double getWinRate(int entrant) {
+        long wins = getWins(entrant);
+        long draws = getDraws(entrant);
+        return rate(wins, draws, wins + draws + getLosses(entrant));
+    }
+
+    /// Returns the lower bound of the 95% confidence interval of a win rate.
+    ///
+    /// Uses the Wilson score interval, which stays inside [0, 1] and holds
+    /// up for win rates close to 0 or 1. With more than two seats the
+    /// comparisons of one game are not independent, so the interval is
+    /// then somewhat too narrow.
+    ///
+    /// @param entrant the entrant index
+    /// @return the lower bound in [0, 1]
+    public double getWinRateLower(int entrant) {
+        return wilson(getWinRate(entrant), getWins(entrant) + getDraws(entrant) + getLosses(entrant), -1);
+    }
+
+    /// Returns the upper bound of the 95% confidence interval of a win rate.
+    ///
+    /// @param entrant the entrant index
+    /// @return the upper bound in [0, 1]
+    /// @see #getWinRateLower(int)
+    public double getWinRateUpper(int entrant) {
+        return wilson(getWinRate(entrant), getWins(entrant) + getDraws(entrant) + getLosses(entrant), 1);
+    }
+
+    /// Returns how many games two entrants played at the same table.
+    ///
+    /// @param a the first entrant index
+    /// @param b the second entrant index
+    /// @return the number of meetings
+    public long getMeetings(int a, int b) {
+        return pairWins[a * entrants + b] + pairWins[b * entrants + a] + pairDraws[a * entrants + b];
+    }
+
+    /// Returns the win rate of one entrant against another.
+    ///
+    /// @param a the entrant whose win rate is returned
+    /// @param b the opponent
+    /// @return the win rate of `a` against `b`, draws counting as half, or 0 if they never met
+    public double getHeadToHead(int a, int b) {
+        return rate(pairWins[a * entrants + b], pairDraws[a * entrants + b], getMeetings(a, b));
+    }
+
+    /// Computes a win rate from counts.
+    ///
+    /// @param wins   the number of wins
+    /// @param draws  the number of draws
+    /// @param trials the number of comparisons
+    /// @return the win rate, or 0 without comparisons
+    private static double rate(long wins, long draws, long trials) {
+        return trials > 0 ? (wins + draws * 0.5) / trials : 0;
+    }
+
+    /// Computes one bound of the Wilson score interval.
+    ///
+    /// @param p      the observed win rate
+    /// @param n      the number of comparisons
+    /// @param signum -1 for the lower bound, 1 for the upper bound
+    /// @return the bound, or 0 and 1 without comparisons
+    private static double wilson(double p, long n, int signum) {
+        if (n == 0) {
+            return signum < 0 ? 0 : 1;
+        }
+        double z2 = Z_95 * Z_95;
+        double center = p + z2 / (2.0 * n);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4.0 * n * n));
+        double bound = (center + signum * margin) / (1 + z2 / n);
+        return Math.min(1, Math.max(0, bound));
+    }
+}
@@ -2,10 +2,18 @@ package upo.yacht.ui;
 
 import upo.yacht.exceptions.YachtGameException;
 import upo.yacht.logic.GameEngine;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.util.ConsoleRenderer;
+import upo.yacht.util.RandomGenerators;
+import upo.yacht.variant.ConsoleVariantStrategy;
+import upo.yacht.variant.Variant;
+import upo.yacht.variant.VariantGame;
+import upo.yacht.variant.VariantStrategy;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Scanner;
 
 /// Console-based user interface for the Yacht dice game.
@@ -16,6 +24,9 @@ import java.util.Scanner;
 public class ConsoleUI {
     private final Scanner scanner;
     private final boolean isExtended;
+    private final String rngAlgorithm;
+    private final GameEventListener recorder;
+    private final ConsoleRenderer renderer;
     private Long seed;
 
     /// Constructs a new ConsoleUI with specified game settings.
@@ -23,24 +34,91 @@ public class ConsoleUI {
     /// @param seed       optional seed for deterministic random number generation; null for random gameplay
     /// @param isExtended true for Extended mode, false for Classic mode
     public ConsoleUI(Long seed, boolean isExtended) {
+        this(seed, isExtended, RandomGenerators.DEFAULT_ALGORITHM);
+    }
+
+    /// Constructs a new ConsoleUI whose game uses the given random algorithm.
+    ///
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    public ConsoleUI(Long seed, boolean isExtended, String rngAlgorithm) {
+        this(seed, isExtended, rngAlgorithm, null);
+    }
+
+    /// Constructs a new ConsoleUI whose game also reports its events to a listener.
+    ///
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @param recorder     extra listener of the game, for example to record it; null for none
+    public ConsoleUI(Long seed, boolean isExtended, String rngAlgorithm, GameEventListener recorder) {
+        this(seed, isExtended, rngAlgorithm, recorder, ConsoleRenderer.standard());
+    }
+
+    /// Constructs a new ConsoleUI whose game is drawn with the given renderer.
+    ///
+    /// @param seed         optional seed for deterministic random number generation; null for random gameplay
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param rngAlgorithm name of the random algorithm (see `RandomGenerators`)
+    /// @param recorder     extra listener of the game, for example to record it; null for none
+    /// @param renderer     the renderer of the dice, scoreboards and progress; a quiet one hides them
+    public ConsoleUI(Long seed, boolean isExtended, String rngAlgorithm, GameEventListener recorder,
+                     ConsoleRenderer renderer) {
         this.scanner = new Scanner(System.in);
         this.seed = seed;
         this.isExtended = isExtended;
+        this.rngAlgorithm = rngAlgorithm;
+        this.recorder = recorder;
+        this.renderer = renderer;
     }
 
     /// Starts the console interface flow and initializes the game.
     ///
     /// Displays the welcome message, handles rule display, collects player count,
     /// and creates and starts the GameEngine with the configured settings.
+    /// The engine reads the rest of the input through the same scanner.
     public void start() {
         printWelcome();
         handleRules();
         int playerCount = askPlayerCount();
         System.out.println("Mode: " + (isExtended ? "Extended" : "Classic"));
-        GameEngine engine = new GameEngine(isExtended, playerCount, seed);
+        GameEngine engine = new GameEngine(isExtended, playerCount, seed, rngAlgorithm, recorder, renderer,
+                scanner);
         engine.startGame();
     }
 
+    /// Starts a console game of a house variant instead of the built-in game.
+    ///
+    /// Shows the dice and categories of the variant in place of the rules,
+    /// collects the player count and names, plays the variant and prints
+    /// the final results. Variant games are not recorded.
+    ///
+    /// @param variant the variant to play
+    public void startVariant(Variant variant) {
+        printWelcome();
+        System.out.println("\n--- " + variant.getName().toUpperCase() + " ---");
+        System.out.print(variant.describe());
+        System.out.println("-------------\n");
+        int playerCount = askPlayerCount();
+        String[] names = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            System.out.print("Type player " + (i + 1) + "'s name: ");
+            names[i] = scanner.nextLine();
+        }
+        VariantStrategy[] strategies = new VariantStrategy[playerCount];
+        Arrays.fill(strategies, new ConsoleVariantStrategy(variant, scanner, renderer));
+        VariantGame game = new VariantGame(variant, names, strategies, RandomGenerators.create(rngAlgorithm, seed),
+                renderer);
+        try {
+            game.play();
+        } catch (YachtGameException e) {
+            System.out.println("Error: " + e.getMessage());
+            return;
+        }
+        System.out.print(game.formatResults());
+    }
+
     /// Displays the welcome banner to the console.
     private void printWelcome() {
         System.out.println("╔════════════════════════════════╗");
@@ -1,9 +1,47 @@
 package upo.yacht.ui;
 
+import upo.yacht.journal.GameJournal;
+import upo.yacht.journal.JournalReplayer;
+import upo.yacht.logic.strategy.Strategies;
+import upo.yacht.metrics.GameMetrics;
+import upo.yacht.logic.GameEventListener;
+import upo.yacht.logic.solver.ClassicSolver;
+import upo.yacht.logic.solver.ClassicStrategyTable;
+import upo.yacht.logic.solver.ExtendedSolver;
+import upo.yacht.logic.solver.ExtendedStrategyTable;
+import upo.yacht.logic.solver.Tablebase;
+import upo.yacht.results.LeaderboardEntry;
+import upo.yacht.results.ResultStore;
+import upo.yacht.script.ScriptReport;
+import upo.yacht.script.ScriptRunner;
+import upo.yacht.sim.SimulationReport;
+import upo.yacht.server.GameServer;
+import upo.yacht.sim.Simulator;
+import upo.yacht.tournament.Entrant;
+import upo.yacht.tournament.Tournament;
+import upo.yacht.tournament.TournamentReport;
+import upo.yacht.util.ConsoleRenderer;
+import upo.yacht.util.RandomGenerators;
+import upo.yacht.variant.Variant;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
 /// Entry point for the **Yacht Dice Game**.
 ///
 /// This class parses command-line arguments to configure the game mode and random seed,
-/// then launches the console-based user interface.
+/// then launches the console-based user interface, or runs a simulation of
+/// automated games when `--simulate` is given, or a tournament between
+/// strategies when `--tournament` is given, or the games of a script file
+/// when `--script` is given. With `--variant`, the console game or the
+/// simulation plays a house variant instead (see `Variant`).
 ///
 /// ## Command-Line Arguments
 ///
@@ -12,6 +50,30 @@ package upo.yacht.ui;
 /// | `--seed`   | `<long>`   | Sets the random number generator seed          |
 /// | `--mode`   | `classic`  | Plays standard Yacht rules                     |
 /// | `--mode`   | `extended` | Plays with extended scoring categories         |
+/// | `--simulate` | `<games>` | Plays the given number of automated games and prints statistics |
+/// | `--threads`  | `<count>` | Worker threads for `--simulate` (default: all cores)            |
+/// | `--players`  | `<count>` | Players per simulated game (default: 1)                          |
+/// | `--strategy` | `<name>`  | Strategy of the simulated players: `random`, `greedy` (default) or `optimal` |
+/// | `--solve`    |           | Solves the selected mode exactly and prints the optimal expected score |
+/// | `--build-tablebase` | `<file>` | Solves Classic mode and writes its tablebase (see `Tablebase`)     |
+/// | `--tablebase` | `<file>` | Maps a tablebase for the optimal Classic players instead of solving; verifies it with `--solve` |
+/// | `--rng`      | `<name>`  | Random algorithm, e.g. `L64X128MixRandom` (default: `Random`)          |
+/// | `--serve`    | `<port>`  | Hosts tables for network clients instead of the console game (see `GameServer`) |
+/// | `--journal`  | `<file>`  | Appends every game of `--simulate` or `--serve` to a binary journal            |
+/// | `--replay`   | `<file>`  | Replays and audits a journal, then prints how many games and events it holds   |
+/// | `--results`  | `<file>`  | Adds every finished game of the console, `--simulate` or `--serve` to a results store |
+/// | `--leaderboard` | `<file>` | Prints the top results and players of a results store                      |
+/// | `--tournament` | `round-robin` / `swiss` | Plays the `--entrants` against each other and prints the standings |
+/// | `--entrants`   | `<list>`  | Comma-separated strategies of the tournament (default: `random,greedy,optimal`) |
+/// | `--seats`      | `<count>` | Players per tournament game (default: 2)                          |
+/// | `--games`      | `<count>` | Games played by every tournament table (default: 1000)            |
+/// | `--rounds`     | `<count>` | Rounds of a Swiss tournament (default: 5)                         |
+/// | `--script`     | `<file>`  | Plays the games of a script back to back, without prompts (see `ScriptRunner`) |
+/// | `--script-results` | `<file>` | CSV file receiving the results of `--script` (default: the script name + `.csv`) |
+/// | `--quiet`      |           | Hides the dice, scoreboards and progress of the console game    |
+/// | `--hints`      |           | Shows the odds of completing each open category before every reroll choice |
+/// | `--variant`    | `<name>` / `<file>` | Plays a house variant: `yacht`, `yahtzee`, `maxi`, `d8` or a variant file |
+/// | `--metrics`    | `<seconds>` | Records runtime metrics, publishes them over JMX and prints them periodically |
 ///
 /// ## Usage Examples
 ///
@@ -29,24 +91,120 @@ package upo.yacht.ui;
 /// ```bash
 /// java upo.yacht.ui.YachtGame --mode extended --seed 12345
 /// ```
+///
+/// One million simulated Classic games on 8 threads:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --simulate 1000000 --threads 8 --seed 42
+/// ```
+///
+/// The same simulation with a faster random algorithm:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --simulate 1000000 --threads 8 --seed 42 --rng L64X128MixRandom
+/// ```
+///
+/// Recording a simulation and replaying it:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --simulate 100000 --journal games.yj
+/// java upo.yacht.ui.YachtGame --replay games.yj
+/// ```
+///
+/// Keeping the results of every game and showing the leaderboards:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --results results.yr
+/// java upo.yacht.ui.YachtGame --leaderboard results.yr
+/// ```
+///
+/// A round robin of the built-in strategies, 100000 games per pairing:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --tournament round-robin --games 100000 --seed 42
+/// ```
+///
+/// Yahtzee on the console, and a simulation of Maxi Yacht:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --variant yahtzee
+/// java upo.yacht.ui.YachtGame --variant maxi --simulate 100000 --seed 42
+/// ```
+///
+/// Building the Classic tablebase once, then simulating optimal players from it:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --build-tablebase classic.ytb
+/// java upo.yacht.ui.YachtGame --tablebase classic.ytb --simulate 1000000 --strategy optimal
+/// ```
+///
+/// Replaying the recorded games of a regression script:
+/// ```bash
+/// java upo.yacht.ui.YachtGame --script regression.txt --script-results regression.csv
+/// ```
 
 public class YachtGame {
+    private static final int LEADERBOARD_SIZE = 10;
+    private static final int MAX_PORT = 65535;
+    private static final String DEFAULT_ENTRANTS = "random,greedy,optimal";
+    private static final List<String> NOT_FOR_VARIANTS = List.of("--mode", "--journal", "--results", "--hints",
+            "--solve", "--serve", "--tournament", "--script", "--replay", "--leaderboard", "--build-tablebase",
+            "--tablebase");
 
     /// Parses command-line arguments and starts the Yacht game.
     ///
     /// Recognized arguments:
     /// - `--seed <value>`: Sets the random seed (must be a valid `long`)
     /// - `--mode <classic|extended>`: Selects game variant
+    /// - `--simulate <games>`: Runs automated games instead of the console UI
+    /// - `--threads <count>`, `--players <count>`, `--strategy <name>`: Simulation settings
+    /// - `--solve`: Solves the selected mode and prints the optimal expected score
+    /// - `--rng <name>`: Selects the `java.util.random` algorithm of the game or simulation
+    /// - `--serve <port>`: Runs the multi-table game server
+    /// - `--journal <file>`: Records the games of the simulation or server
+    /// - `--replay <file>`: Replays a journal instead of playing
+    /// - `--results <file>`: Adds every finished game to a results store
+    /// - `--leaderboard <file>`: Prints the leaderboards of a results store instead of playing
+    /// - `--tournament <round-robin|swiss>`: Runs a tournament between strategies instead of playing
+    /// - `--entrants <list>`, `--seats <count>`, `--games <count>`, `--rounds <count>`: Tournament settings
+    /// - `--script <file>`: Plays the games of a script file instead of the console game
+    /// - `--script-results <file>`: Writes the results of the script to the given CSV file
+    /// - `--quiet`: Plays the console game without drawing the dice, scoreboards and progress
+    /// - `--hints`: Shows the odds of every open category when the console asks for the dice to reroll
+    /// - `--variant <name|file>`: Plays a built-in or file-defined house variant on the console or in `--simulate`
+    /// - `--metrics <seconds>`: Turns on runtime metrics and prints them at the given period and on exit
+    /// - `--build-tablebase <file>`: Solves Classic mode, writes its tablebase to the file and exits
+    /// - `--tablebase <file>`: Maps a tablebase as the Classic table of the optimal strategy
     ///
-    /// The program exits with status `1` if invalid arguments are provided.
+    /// The program exits with status `1` if invalid or unknown arguments are
+    /// provided, if an option does not apply to `--variant`, if a tablebase
+    /// cannot be written or opened, or if a game of a script fails.
     ///
     /// @param args Command-line arguments
     public static void main(String[] args) {
         Long seed = null;           // Default to null (standard random)
         boolean isExtended = false;  // Default to normal mode (false)
+        long simulatedGames = 0;     // Default to the interactive game
+        int threads = Runtime.getRuntime().availableProcessors();
+        int simulatedPlayers = 1;
+        String strategy = "greedy";
+        boolean solve = false;
+        String rngAlgorithm = RandomGenerators.DEFAULT_ALGORITHM;
+        int serverPort = 0;          // Default to no server
+        Path journalPath = null;     // Default to no journal
+        Path replayPath = null;
+        Path resultsPath = null;     // Default to no results store
+        Path leaderboardPath = null;
+        String tournamentFormat = null; // Default to no tournament
+        String entrants = DEFAULT_ENTRANTS;
+        int seats = 2;
+        int gamesPerTable = 1000;
+        int rounds = 5;
+        boolean quiet = false;
+        boolean hints = false;
+        Path scriptPath = null;      // Default to no script
+        Path scriptResultsPath = null;
+        String variantName = null;   // Default to the built-in game
+        Path buildTablebasePath = null;
+        Path tablebasePath = null;   // Default to solving the optimal strategy on first use
 
         // Parse command line arguments
+        Set<String> options = new HashSet<>();
         for (int i = 0; i < args.length; i++) {
+            options.add(args[i]);
             switch (args[i]) {
                 case "--seed" -> {
                     if (i + 1 < args.length) {
@@ -73,11 +231,649 @@ public class YachtGame {
                         i++; // Advance index to skip the value
                     }
                 }
+                case "--simulate" -> {
+                    simulatedGames = parsePositive(args, i, "number of games");
+                    i++;
+                }
+                case "--threads" -> {
+                    threads = parsePositiveInt(args, i, "number of threads");
+                    i++;
+                }
+                case "--players" -> {
+                    simulatedPlayers = parsePositiveInt(args, i, "number of players");
+                    i++;
+                }
+                case "--solve" -> solve = true;
+                case "--quiet" -> quiet = true;
+                case "--hints" -> hints = true;
+                case "--serve" -> {
+                    serverPort = (int) parsePositive(args, i, "port", MAX_PORT);
+                    i++;
+                }
+                case "--journal" -> {
+                    if (i + 1 < args.length) {
+                        journalPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--replay" -> {
+                    if (i + 1 < args.length) {
+                        replayPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--results" -> {
+                    if (i + 1 < args.length) {
+                        resultsPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--leaderboard" -> {
+                    if (i + 1 < args.length) {
+                        leaderboardPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--tournament" -> {
+                    if (i + 1 < args.length) {
+                        tournamentFormat = args[i + 1];
+                        if (!tournamentFormat.equalsIgnoreCase("round-robin") &&
+                                !tournamentFormat.equalsIgnoreCase("swiss")) {
+                            System.err.println("Invalid tournament format: " + tournamentFormat +
+                                    ". Must be 'round-robin' or 'swiss'.");
+                            System.exit(1);
+                        }
+                        i++;
+                    }
+                }
+                case "--entrants" -> {
+                    if (i + 1 < args.length) {
+                        entrants = args[i + 1];
+                        i++;
+                    }
+                }
+                case "--seats" -> {
+                    seats = parsePositiveInt(args, i, "number of seats");
+                    i++;
+                }
+                case "--games" -> {
+                    gamesPerTable = parsePositiveInt(args, i, "number of games");
+                    i++;
+                }
+                case "--rounds" -> {
+                    rounds = parsePositiveInt(args, i, "number of rounds");
+                    i++;
+                }
+                case "--script" -> {
+                    if (i + 1 < args.length) {
+                        scriptPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--script-results" -> {
+                    if (i + 1 < args.length) {
+                        scriptResultsPath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--variant" -> {
+                    if (i + 1 < args.length) {
+                        variantName = args[i + 1];
+                        i++;
+                    }
+                }
+                case "--build-tablebase" -> {
+                    if (i + 1 < args.length) {
+                        buildTablebasePath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--tablebase" -> {
+                    if (i + 1 < args.length) {
+                        tablebasePath = Path.of(args[i + 1]);
+                        i++;
+                    }
+                }
+                case "--metrics" -> {
+                    long period = parsePositive(args, i, "metrics period");
+                    // Must be set before GameMetrics is initialized, which reads it once
+                    System.setProperty(GameMetrics.PROPERTY, "true");
+                    GameMetrics.startDump(period, System.err);
+                    Runtime.getRuntime().addShutdownHook(new Thread(
+                            () -> System.err.println("[metrics] " + GameMetrics.format())));
+                    i++;
+                }
+                case "--strategy" -> {
+                    if (i + 1 < args.length) {
+                        strategy = args[i + 1];
+                        i++;
+                    }
+                }
+                case "--rng" -> {
+                    if (i + 1 < args.length) {
+                        rngAlgorithm = args[i + 1];
+                        try {
+                            RandomGenerators.create(rngAlgorithm, 0L);
+                        } catch (IllegalArgumentException e) {
+                            System.err.println("Invalid random algorithm: " + rngAlgorithm);
+                            System.exit(1);
+                        }
+                        i++;
+                    }
+                }
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(1);
+                }
+            }
+        }
+
+        if (variantName != null) {
+            checkVariantOptions(options, strategy);
+        }
+
+        if (replayPath != null) {
+            runReplay(replayPath);
+            return;
+        }
+
+        if (leaderboardPath != null) {
+            printLeaderboards(leaderboardPath);
+            return;
+        }
+
+        if (buildTablebasePath != null) {
+            buildTablebase(buildTablebasePath, threads);
+            return;
+        }
+
+        if (tablebasePath != null) {
+            Tablebase tablebase = openTablebase(tablebasePath, solve);
+            if (solve) {
+                System.out.printf("Optimal expected score (Classic): %.4f%n", tablebase.getExpectedScore());
+                return;
             }
+            Strategies.setClassicTable(tablebase);
+        }
+
+        if (serverPort > 0) {
+            runServer(serverPort, seed, rngAlgorithm, journalPath, resultsPath);
+            return;
+        }
+
+        if (solve) {
+            runSolver(isExtended, threads);
+            return;
+        }
+
+        if (tournamentFormat != null) {
+            runTournament(isExtended, tournamentFormat, entrants, seats, gamesPerTable, rounds, threads, seed,
+                    rngAlgorithm, journalPath, resultsPath);
+            return;
+        }
+
+        if (scriptPath != null) {
+            Path results = (scriptResultsPath != null) ? scriptResultsPath
+                    : Path.of(scriptPath + ".csv");
+            runScript(scriptPath, results, isExtended, seed, rngAlgorithm, journalPath, resultsPath);
+            return;
+        }
+
+        if (variantName != null) {
+            runVariant(variantName, simulatedGames, threads, simulatedPlayers, seed, rngAlgorithm, quiet);
+            return;
+        }
+
+        if (simulatedGames > 0) {
+            runSimulation(isExtended, simulatedGames, threads, simulatedPlayers, strategy, seed, rngAlgorithm,
+                    journalPath, resultsPath);
+            return;
         }
 
         // Create UI with seed and start the game
-        ConsoleUI ui = new ConsoleUI(seed, isExtended);
-        ui.start();
+        ConsoleRenderer renderer = (quiet || hints) ? new ConsoleRenderer(System.out, quiet, hints)
+                : ConsoleRenderer.standard();
+        if (resultsPath == null) {
+            ConsoleUI ui = new ConsoleUI(seed, isExtended, rngAlgorithm, null, renderer);
+            ui.start();
+            return;
+        }
+        try (ResultStore results = new ResultStore(resultsPath)) {
+            ConsoleUI ui = new ConsoleUI(seed, isExtended, rngAlgorithm, results.newGame(), renderer);
+            ui.start();
+        } catch (IOException e) {
+            System.err.println("Results error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Runs a simulation of automated games and prints the report.
+    ///
+    /// Without a seed, a random one is drawn and printed in the report so
+    /// the run can be reproduced.
+    ///
+    /// @param isExtended   true for Extended mode, false for Classic mode
+    /// @param games        number of games to play
+    /// @param threads      number of worker threads
+    /// @param players      number of players in each game
+    /// @param strategy     name of the strategy driving every player
+    /// @param seed         root seed; null for a random one
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param journalPath  journal receiving every game; null for none
+    /// @param resultsPath  results store receiving every game; null for none
+    private static void runSimulation(boolean isExtended, long games, int threads, int players,
+                                      String strategy, Long seed, String rngAlgorithm, Path journalPath,
+                                      Path resultsPath) {
+        long rootSeed = (seed != null) ? seed : new SplittableRandom().nextLong();
+        try {
+            Simulator simulator = new Simulator(isExtended, players, strategy, threads, rngAlgorithm);
+            SimulationReport report;
+            try (GameJournal journal = (journalPath != null) ? new GameJournal(journalPath) : null;
+                 ResultStore results = (resultsPath != null) ? new ResultStore(resultsPath) : null) {
+                report = simulator.run(games, rootSeed, recorders(journal, results));
+            }
+            System.out.print(report.format());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Recording error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Plays a house variant: a console game, or a simulation of greedy games.
+    ///
+    /// The variant is loaded and its score tables are built before the
+    /// first game. A simulation runs on the `Simulator` like the built-in
+    /// game, and prints the same report. The program exits with status `1`
+    /// if the variant cannot be loaded.
+    ///
+    /// @param nameOrPath   a built-in variant name or the path of a variant file
+    /// @param games        number of simulated games; 0 for a console game
+    /// @param threads      number of worker threads of the simulation
+    /// @param players      number of players in each simulated game
+    /// @param seed         seed of the game or simulation; null for a random one
+    /// @param rngAlgorithm name of the random algorithm
+    /// @param quiet        true to hide the dice and turns of the console game
+    private static void runVariant(String nameOrPath, long games, int threads, int players, Long seed,
+                                   String rngAlgorithm, boolean quiet) {
+        Variant variant;
+        try {
+            variant = Variant.forName(nameOrPath);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+            return;
+        } catch (IOException e) {
+            System.err.println("Variant error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        if (games == 0) {
+            ConsoleRenderer renderer = quiet ? new ConsoleRenderer(System.out, true) : ConsoleRenderer.standard();
+            new ConsoleUI(seed, false, rngAlgorithm, null, renderer).startVariant(variant);
+            return;
+        }
+
+        long rootSeed = (seed != null) ? seed : new SplittableRandom().nextLong();
+        try {
+            SimulationReport report = new Simulator(variant, players, threads, rngAlgorithm).run(games, rootSeed);
+            System.out.print(report.format());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Exits with status `1` if an option given with `--variant` does not apply to variants.
+    ///
+    /// Variant games are played by greedy bots and are not recorded, and
+    /// the modes, solvers, server, tournaments and scripts only know the
+    /// built-in game.
+    ///
+    /// @param options  the options given on the command line
+    /// @param strategy the strategy given with `--strategy`, or the default one
+    private static void checkVariantOptions(Set<String> options, String strategy) {
+        for (String option : NOT_FOR_VARIANTS) {
+            if (options.contains(option)) {
+                System.err.println(option + " does not apply to --variant");
+                System.exit(1);
+            }
+        }
+        if (!strategy.equalsIgnoreCase("greedy")) {
+            System.err.println("Variants are played by greedy bots: --strategy " + strategy +
+                    " does not apply to --variant");
+            System.exit(1);
+        }
+    }
+
+    /// Runs a tournament between strategies and prints the standings.
+    ///
+    /// An entrant is named after its strategy; a strategy listed more than
+    /// once enters under numbered names, such as `greedy#2`. Without a
+    /// seed, a random one is drawn and printed in the report.
+    ///
+    /// @param isExtended    true for Extended mode, false for Classic mode
+    /// @param format        `round-robin` or `swiss`
+    /// @param strategies    comma-separated strategy of every entrant
+    /// @param seats         number of players in each game
+    /// @param gamesPerTable number of games of every table
+    /// @param rounds        number of rounds of a Swiss tournament
+    /// @param threads       number of worker threads
+    /// @param seed          root seed; null for a random one
+    /// @param rngAlgorithm  name of the random algorithm of every game
+    /// @param journalPath   journal receiving every game; null for none
+    /// @param resultsPath   results store receiving every game; null for none
+    private static void runTournament(boolean isExtended, String format, String strategies, int seats,
+                                      int gamesPerTable, int rounds, int threads, Long seed, String rngAlgorithm,
+                                      Path journalPath, Path resultsPath) {
+        long rootSeed = (seed != null) ? seed : new SplittableRandom().nextLong();
+        try {
+            List<Entrant> entrants = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            for (String strategy : strategies.split(",")) {
+                String name = strategy.trim().toLowerCase();
+                int copies = 1;
+                while (names.contains(copies == 1 ? name : name + "#" + copies)) {
+                    copies++;
+                }
+                String label = (copies == 1) ? name : name + "#" + copies;
+                names.add(label);
+                entrants.add(Entrant.of(label, name));
+            }
+            Tournament tournament = new Tournament(isExtended, entrants, seats, threads, rngAlgorithm);
+            TournamentReport report;
+            try (GameJournal journal = (journalPath != null) ? new GameJournal(journalPath) : null;
+                 ResultStore results = (resultsPath != null) ? new ResultStore(resultsPath) : null) {
+                Supplier<GameEventListener> recorders = recorders(journal, results);
+                report = format.equalsIgnoreCase("swiss")
+                        ? tournament.swiss(rounds, gamesPerTable, rootSeed, recorders)
+                        : tournament.roundRobin(gamesPerTable, rootSeed, recorders);
+            }
+            System.out.print(report.format());
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Recording error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Plays the games of a script file and prints the summary of the run.
+    ///
+    /// The program exits with status `1` if the script cannot be read, the
+    /// results cannot be written, or a game of the script fails.
+    ///
+    /// @param scriptPath   the script file
+    /// @param resultsFile  the CSV file receiving the results of every game
+    /// @param isExtended   default mode of the games
+    /// @param seed         default seed of the games; null for a random seed per game
+    /// @param rngAlgorithm name of the random algorithm of every game
+    /// @param journalPath  journal receiving every game; null for none
+    /// @param resultsPath  results store receiving every game; null for none
+    private static void runScript(Path scriptPath, Path resultsFile, boolean isExtended, Long seed,
+                                  String rngAlgorithm, Path journalPath, Path resultsPath) {
+        ScriptReport report = null;
+        try {
+            ScriptRunner runner = new ScriptRunner(isExtended, seed, rngAlgorithm);
+            try (GameJournal journal = (journalPath != null) ? new GameJournal(journalPath) : null;
+                 ResultStore results = (resultsPath != null) ? new ResultStore(resultsPath) : null) {
+                report = runner.run(scriptPath, resultsFile, recorders(journal, results));
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Script error: " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.print(report.format());
+        if (!report.getErrors().isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /// Runs the multi-table game server until the process is stopped.
+    ///
+    /// The program exits with status `1` if the port cannot be bound.
+    ///
+    /// @param port         the TCP port to listen on
+    /// @param seed         optional root seed of the tables; null for random games
+    /// @param rngAlgorithm name of the random algorithm of every table
+    /// @param journalPath  journal receiving every finished game; null for none
+    /// @param resultsPath  results store receiving every finished game; null for none
+    private static void runServer(int port, Long seed, String rngAlgorithm, Path journalPath, Path resultsPath) {
+        GameJournal journal = null;
+        ResultStore results = null;
+        try {
+            if (journalPath != null) {
+                journal = new GameJournal(journalPath);
+                Runtime.getRuntime().addShutdownHook(new Thread(closeOnExit(journal)));
+            }
+            if (resultsPath != null) {
+                results = new ResultStore(resultsPath);
+                Runtime.getRuntime().addShutdownHook(new Thread(closeOnExit(results)));
+            }
+            try (GameServer server = new GameServer(port, rngAlgorithm, seed, recorders(journal, results))) {
+                System.out.println("Yacht server listening on port " + server.getPort());
+                server.serve();
+            }
+        } catch (IOException e) {
+            System.err.println("Server error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Creates the shutdown action that writes the last games of a journal or results store.
+    ///
+    /// @param recording the journal or results store to close
+    /// @return the action closing it, reporting errors
+    private static Runnable closeOnExit(Closeable recording) {
+        return () -> {
+            try {
+                recording.close();
+            } catch (IOException e) {
+                System.err.println("Recording error: " + e.getMessage());
+            }
+        };
+    }
+
+    /// Combines the recording listeners of each game.
+    ///
+    /// @param journal the journal receiving every game; null for none
+    /// @param results the results store receiving every game; null for none
+    /// @return the supplier of the listeners of each game, or null if nothing is recorded
+    private static Supplier<GameEventListener> recorders(GameJournal journal, ResultStore results) {
+        if (journal == null && results == null) {
+            return null;
+        }
+        if (results == null) {
+            return journal::newGame;
+        }
+        if (journal == null) {
+            return results::newGame;
+        }
+        return () -> journal.newGame().andThen(results.newGame());
+    }
+
+    /// Prints the top results and players of both modes of a results store.
+    ///
+    /// The program exits with status `1` if the store cannot be read.
+    ///
+    /// @param path the results store
+    private static void printLeaderboards(Path path) {
+        try (ResultStore results = new ResultStore(path)) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("\n").append("=".repeat(50)).append("\n");
+            sb.append("LEADERBOARDS (").append(results.getGames()).append(" games)\n");
+            sb.append("=".repeat(50)).append("\n");
+            for (boolean isExtended : new boolean[]{false, true}) {
+                String mode = isExtended ? "EXTENDED" : "CLASSIC";
+                appendLeaderboard(sb, mode + " - TOP RESULTS", results.getTopResults(isExtended, LEADERBOARD_SIZE));
+                appendLeaderboard(sb, mode + " - TOP PLAYERS", results.getTopPlayers(isExtended, LEADERBOARD_SIZE));
+            }
+            System.out.print(sb);
+        } catch (IOException e) {
+            System.err.println("Results error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Appends one leaderboard to a report.
+    ///
+    /// @param sb      the report being built
+    /// @param title   the title of the leaderboard
+    /// @param entries the entries, best first
+    private static void appendLeaderboard(StringBuilder sb, String title, List<LeaderboardEntry> entries) {
+        sb.append("\n").append(title).append(":\n");
+        sb.append("-".repeat(40)).append("\n");
+        if (entries.isEmpty()) {
+            sb.append("  (no games)\n");
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            sb.append(String.format("  %2d. %-20s %5d  (game %d)%n", i + 1, entry.getName(), entry.getScore(),
+                    entry.getGame() + 1));
+        }
+    }
+
+    /// Replays a journal and prints how many games and events it holds.
+    ///
+    /// The program exits with status `1` if the journal cannot be read or
+    /// fails the audit.
+    ///
+    /// @param path the journal file
+    private static void runReplay(Path path) {
+        JournalReplayer replayer = new JournalReplayer(path);
+        long start = System.nanoTime();
+        try {
+            replayer.replay(game -> { });
+        } catch (IOException e) {
+            System.err.println("Journal error: " + e.getMessage());
+            System.exit(1);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Replayed %d games, %d events in %.3f s (%.1f M events/s)%n", replayer.getGames(),
+                replayer.getEvents(), seconds, replayer.getEvents() / seconds / 1e6);
+    }
+
+    /// Solves the selected mode exactly and prints the optimal expected score.
+    ///
+    /// @param isExtended true for Extended mode, false for Classic mode
+    /// @param threads    number of worker threads
+    private static void runSolver(boolean isExtended, int threads) {
+        long start = System.nanoTime();
+        double expectedScore;
+        if (isExtended) {
+            ExtendedStrategyTable table = ExtendedSolver.solve(threads);
+            expectedScore = table.getExpectedScore();
+        } else {
+            ClassicStrategyTable table = ClassicSolver.solve(threads);
+            expectedScore = table.getExpectedScore();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Optimal expected score (%s): %.4f%n", isExtended ? "Extended" : "Classic", expectedScore);
+        System.out.printf("Solved in %.3f s on %d threads%n", seconds, threads);
+    }
+
+    /// Solves Classic mode and writes its tablebase.
+    ///
+    /// The program exits with status `1` if the file cannot be written.
+    ///
+    /// @param path    the tablebase file
+    /// @param threads number of worker threads
+    private static void buildTablebase(Path path, int threads) {
+        long start = System.nanoTime();
+        try {
+            double expectedScore = Tablebase.build(path, threads);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Optimal expected score (Classic): %.4f%n", expectedScore);
+            System.out.printf("Wrote tablebase %s in %.3f s on %d threads%n", path, seconds, threads);
+        } catch (IOException e) {
+            System.err.println("Tablebase error: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /// Maps a tablebase and prints how long it took.
+    ///
+    /// The program exits with status `1` if the file cannot be opened or
+    /// fails the verification.
+    ///
+    /// @param path   the tablebase file
+    /// @param verify true to check the checksum of the whole file
+    /// @return the mapped tablebase
+    private static Tablebase openTablebase(Path path, boolean verify) {
+        long start = System.nanoTime();
+        try {
+            Tablebase tablebase = Tablebase.open(path);
+            if (verify) {
+                tablebase.verify();
+            }
+            double millis = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%s tablebase %s in %.3f ms%n", verify ? "Verified" : "Mapped", path, millis);
+            return tablebase;
+        } catch (IOException e) {
+            System.err.println("Tablebase error: " + e.getMessage());
+            System.exit(1);
+            return null;
+        }
+    }
+
+    /// Parses the positive number following an option.
+    ///
+    /// The program exits with status `1` if the value is missing, not a
+    /// number, or not positive.
+    ///
+    /// @param args        command-line arguments
+    /// @param optionIndex index of the option whose value is parsed
+    /// @param description what the value represents, for the error message
+    /// @return the parsed value
+    private static long parsePositive(String[] args, int optionIndex, String description) {
+        return parsePositive(args, optionIndex, description, Long.MAX_VALUE);
+    }
+
+    /// Parses the positive `int` following an option.
+    ///
+    /// The program exits with status `1` if the value is missing, not a
+    /// number, not positive, or larger than `Integer.MAX_VALUE`.
+    ///
+    /// @param args        command-line arguments
+    /// @param optionIndex index of the option whose value is parsed
+    /// @param description what the value represents, for the error message
+    /// @return the parsed value
+    private static int parsePositiveInt(String[] args, int optionIndex, String description) {
+        return (int) parsePositive(args, optionIndex, description, Integer.MAX_VALUE);
+    }
+
+    /// Parses the positive number following an option, up to a maximum.
+    ///
+    /// The program exits with status `1` if the value is missing, not a
+    /// number, not positive, or larger than the maximum.
+    ///
+    /// @param args        command-line arguments
+    /// @param optionIndex index of the option whose value is parsed
+    /// @param description what the value represents, for the error message
+    /// @param max         the largest accepted value
+    /// @return the parsed value
+    private static long parsePositive(String[] args, int optionIndex, String description, long max) {
+        if (optionIndex + 1 >= args.length) {
+            System.err.println("Missing " + description + " after " + args[optionIndex]);
+            System.exit(1);
+        }
+        String value = args[optionIndex + 1];
+        try {
+            long parsed = Long.parseLong(value);
+            if (parsed >= 1 && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values
+        }
+        System.err.println("Invalid " + description + ": " + value);
+        System.exit(1);
+        return 0;
     }
 }
@@ -0,0 +1,344 @@
+package upo.yacht.util;
+
+import upo.yacht.logic.Scorer;
+import upo.yacht.logic.solver.CategoryOdds;
+import upo.yacht.model.ScoreCard;
+import upo.yacht.model.Scoreboard;
+
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+
+/// Renders the dice table, scoreboards and game messages to a console.
+///
+/// Every frame is composed into a reused character buffer, encoded into a
+/// reused byte buffer and written to the stream in a single call, instead
+/// of one synchronized `print` per value. Numbers are padded by hand, so
+/// no format strings are parsed. A quiet renderer skips rendering
+/// entirely, for automated runs where nobody watches the console. A
+/// renderer with hints also shows the odds of completing each category
+/// (see `CategoryOdds`) before the player chooses the dice to reroll.
+/// Scoreboards and final results are drawn from any `ScoreCard`, so the
+/// built-in game and the house variants look the same.
+///
+/// Each method renders one whole frame atomically, so a renderer can be
+/// shared by several threads.
+public final class ConsoleRenderer {
+    private static final String NEWLINE = System.lineSeparator();
+    private static final String DICE_RULE = "-------------------------------------------------------";
+    private static final ConsoleRenderer STANDARD = new ConsoleRenderer(System.out, false);
+
+    private final PrintStream out;
+    private final boolean quiet;
+    private final boolean hints;
+    private final StringBuilder frame = new StringBuilder(1024);
+    private final int[] potential = new int[Scorer.NUM_CATEGORIES];
+    private final double[] odds = new double[Scorer.NUM_CATEGORIES];
+    private final CharsetEncoder encoder;
+    private ByteBuffer bytes = ByteBuffer.allocate(2048);
+
+    /// Creates a renderer writing to the given stream.
+    ///
+    /// @param out   the stream receiving the frames, encoded with its charset
+    /// @param quiet true to skip rendering entirely
+    public ConsoleRenderer(PrintStream out, boolean quiet) {
+        this(out, quiet, false);
+    }
+
+    /// Creates a renderer writing to the given stream, showing the odds of the categories if asked.
+    ///
+    /// @param out   the stream receiving the frames, encoded with its charset
+    /// @param quiet true to skip rendering entirely, hints included
+    /// @param hints true to render the odds of completing each category
+    public ConsoleRenderer(PrintStream out, boolean quiet, boolean hints) {
+        this.out = out;
+        this.quiet = quiet;
+        this.hints = hints;
+        this.encoder = out.charset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    /// Returns the renderer of the standard output.
+    ///
+    /// @return the shared renderer writing to `System.out`
+    public static ConsoleRenderer standard() {
+        return STANDARD;
+    }
+
+    /// Returns whether this renderer skips rendering.
+    ///
+    /// @return true for a quiet renderer
+    public boolean isQuiet() {
+        return quiet;
+    }
+
+    /// Renders the dice table.
+    ///
+    /// @param dice the values of the dice, first die first
+    public synchronized void renderDice(int[] dice) {
+        if (quiet) {
+            return;
+        }
+        frame.setLength(0);
+        frame.append('\n').append("------------------CURRENT DICE TABLE-------------------").append('\n');
+        frame.append("            ((   ");
+        for (int value : dice) {
+            frame.append(value).append("    ");
+        }
+        frame.append("))").append('\n').append(DICE_RULE).append(NEWLINE);
+        flushFrame();
+    }
+
+    /// Renders a scoreboard.
+    ///
+    /// Filled categories show their score with a checkmark. Available
+    /// categories show the points the current dice would score, when
+    /// given. A running total closes the board.
+    ///
+    /// @param board the scoreboard to render
+    /// @param dice  the current dice values to show potential scores; null to hide them
+    public synchronized void renderBoard(Scoreboard board, int[] dice) {
+        if (quiet) {
+            return;
+        }
+        if (dice != null) {
+            Scorer.getAllScores(dice, potential);
+        }
+        renderScoreCard(board, (dice != null) ? potential : null);
+    }
+
+    /// Renders the scoreboard of any game, with the points of the current dice.
+    ///
+    /// Lays the board out like `renderBoard(Scoreboard, int[])`, with the
+    /// upper score and bonus above the total when the game has a bonus.
+    /// The caller scores the dice, since only it knows the rules.
+    ///
+    /// @param board     the scoreboard to render
+    /// @param potential the points of the current dice in every category; null to hide them
+    public synchronized void renderScoreCard(ScoreCard board, int[] potential) {
+        if (quiet) {
+            return;
+        }
+        frame.setLength(0);
+        frame.append(NEWLINE).append("|| ========== SCOREBOARD ==========").append(NEWLINE);
+        for (int i = 0; i < board.getNumCategories(); i++) {
+            String categoryName = board.getCategoryName(i);
+            if (board.isCategoryUsed(i)) {
+                appendIndex(frame, i);
+                appendLeft(frame, categoryName, 20);
+                frame.append(" (Points: ");
+                appendRight(frame, 0, 3);
+                frame.append(") : ");
+                appendRight(frame, board.getScore(i), 3);
+                frame.append(" ✓\n");
+            } else if (potential != null) {
+                appendIndex(frame, i);
+                appendLeft(frame, categoryName, 20);
+                frame.append(" (Points: ");
+                appendRight(frame, potential[i], 3);
+                frame.append(") : ---\n");
+            } else {
+                frame.append("|| ");
+                appendIndex(frame, i);
+                appendLeft(frame, categoryName, 20);
+                frame.append(" : ---\n");
+            }
+        }
+        frame.append("|| --------------------------------").append(NEWLINE);
+        if (board.getBonusThreshold() > 0) {
+            frame.append("|| UPPER ");
+            appendRight(frame, board.getUpperScore(), 4);
+            frame.append(" / ");
+            appendLeft(frame, Integer.toString(board.getBonusThreshold()), 4);
+            frame.append(" BONUS  : ");
+            appendRight(frame, board.getBonus(), 3);
+            frame.append(NEWLINE);
+        }
+        frame.append("|| TOTAL                    : ");
+        appendRight(frame, board.getTotalScore(), 3);
+        frame.append('\n');
+        frame.append("|| ================================\n").append(NEWLINE);
+        flushFrame();
+    }
+
+    /// Renders the odds of completing the open categories, if this renderer shows hints.
+    ///
+    /// Lists each open category with its target score and the probability
+    /// of reaching it within the rerolls left, keeping the best dice for
+    /// that category.
+    ///
+    /// @param board          the scoreboard of the player
+    /// @param dice           the current dice values (5 values, 1-6)
+    /// @param rerollsLeft    how many rerolls are still allowed (1-2)
+    /// @param forcedCategory the category the turn must score, or -1 if the player chooses
+    public synchronized void renderOdds(Scoreboard board, int[] dice, int rerollsLeft, int forcedCategory) {
+        if (quiet || !hints) {
+            return;
+        }
+        CategoryOdds.getOpenOdds(board, dice, rerollsLeft, odds);
+        frame.setLength(0);
+        frame.append("|| ODDS WITH ").append(rerollsLeft).append(rerollsLeft == 1 ? " REROLL" : " REROLLS")
+                .append(NEWLINE);
+        for (int i = 0; i < Scorer.NUM_CATEGORIES; i++) {
+            if (Double.isNaN(odds[i]) || (forcedCategory >= 0 && i != forcedCategory)) {
+                continue;
+            }
+            appendIndex(frame, i);
+            appendLeft(frame, Scorer.getCategoryName(i), 20);
+            frame.append(" (Target: ");
+            appendRight(frame, CategoryOdds.getTarget(i), 3);
+            frame.append(") : ");
+            int tenths = (int) Math.round(odds[i] * 1000);
+            appendRight(frame, tenths / 10, 3);
+            frame.append('.').append(tenths % 10).append('%').append(NEWLINE);
+        }
+        flushFrame();
+    }
+
+    /// Renders a line of text.
+    ///
+    /// @param text the text, without the line separator
+    public synchronized void renderLine(CharSequence text) {
+        if (quiet) {
+            return;
+        }
+        frame.setLength(0);
+        frame.append(text).append(NEWLINE);
+        flushFrame();
+    }
+
+    /// Formats the final results of a game, best player first.
+    ///
+    /// Lists every player with their total and filled categories, and the
+    /// upper bonus when the game has one, then congratulates the winners.
+    /// The text is returned rather than rendered, so that the console can
+    /// also save it to a file.
+    ///
+    /// @param title  the title of the results, such as `GAME OVER - FINAL RESULTS`
+    /// @param names  the name of every player, best first
+    /// @param boards the final scoreboard of every player, in the same order
+    /// @return the formatted results
+    public static String formatResults(String title, String[] names, ScoreCard[] boards) {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("\n").append("=".repeat(50)).append("\n");
+        sb.append(title).append("\n");
+        sb.append("=".repeat(50)).append("\n");
+
+        sb.append("\nFINAL SCOREBOARD:\n");
+        sb.append("-".repeat(40)).append("\n");
+
+        int topScore = boards[0].getTotalScore();
+        for (int i = 0; i < boards.length; i++) {
+            ScoreCard board = boards[i];
+            sb.append(board.getTotalScore() == topScore ? "#1 " : "   ");
+            appendLeft(sb, names[i], 20);
+            sb.append(": ");
+            appendRight(sb, board.getTotalScore(), 5);
+            sb.append(" points").append(NEWLINE);
+            sb.append("  Categories:\n");
+            for (int cat = 0; cat < board.getNumCategories(); cat++) {
+                if (board.isCategoryUsed(cat)) {
+                    appendResultLine(sb, board.getCategoryName(cat), board.getScore(cat));
+                }
+            }
+            if (board.getBonusThreshold() > 0) {
+                appendResultLine(sb, "Upper Bonus", board.getBonus());
+            }
+            sb.append("\n");
+        }
+
+        sb.append("\n").append("*".repeat(20)).append("\n");
+        if (boards.length > 1 && boards[1].getTotalScore() == topScore) {
+            sb.append("CONGRATULATIONS: ");
+            for (int i = 0; i < boards.length && boards[i].getTotalScore() == topScore; i++) {
+                sb.append(names[i]).append(" ");
+            }
+            sb.append("\nYOU ARE ALL YACHT CHAMPIONS!\n");
+        } else {
+            sb.append("CONGRATULATIONS ").append(names[0]).append("! \n");
+            sb.append("YOU ARE THE YACHT CHAMPION!\n");
+        }
+        sb.append("*".repeat(20)).append("\n");
+        return sb.toString();
+    }
+
+    /// Appends a category of the final results as `    <name>: <points>`.
+    ///
+    /// @param sb     the text being built
+    /// @param name   the category name
+    /// @param points the points of the category
+    private static void appendResultLine(StringBuilder sb, String name, int points) {
+        sb.append("    ");
+        appendLeft(sb, name, 18);
+        sb.append(": ");
+        appendRight(sb, points, 3);
+        sb.append(NEWLINE);
+    }
+
+    /// Appends a category index as `[ n] `.
+    ///
+    /// @param sb    the text being built
+    /// @param index the category index
+    private static void appendIndex(StringBuilder sb, int index) {
+        sb.append('[');
+        appendRight(sb, index, 2);
+        sb.append("] ");
+    }
+
+    /// Appends a number right-aligned in a field, like `%<width>d`.
+    ///
+    /// @param sb    the text being built
+    /// @param value the number
+    /// @param width the minimum field width
+    private static void appendRight(StringBuilder sb, int value, int width) {
+        int digits = (value < 0) ? 2 : 1;
+        for (int rest = Math.abs(value); rest >= 10; rest /= 10) {
+            digits++;
+        }
+        for (int pad = width - digits; pad > 0; pad--) {
+            sb.append(' ');
+        }
+        sb.append(value);
+    }
+
+    /// Appends text left-aligned in a field, like `%-<width>s`.
+    ///
+    /// @param sb    the text being built
+    /// @param text  the text
+    /// @param width the minimum field width
+    private static void appendLeft(StringBuilder sb, String text, int width) {
+        sb.append(text);
+        for (int pad = width - text.length(); pad > 0; pad--) {
+            sb.append(' ');
+        }
+    }
+
+    /// Encodes the composed frame and writes it to the stream in one call.
+    private void flushFrame() {
+        CharBuffer chars = CharBuffer.wrap(frame);
+        encoder.reset();
+        bytes.clear();
+        while (encoder.encode(chars, bytes, true).isOverflow()) {
+            bytes = grow(bytes);
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            bytes = grow(bytes);
+        }
+        out.write(bytes.array(), 0, bytes.position());
+        out.flush();
+    }
+
+    /// Doubles the capacity of a buffer, keeping its content.
+    ///
+    /// @param buffer the full buffer
+    /// @return a larger buffer holding the same bytes, positioned after them
+    private static ByteBuffer grow(ByteBuffer buffer) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+}
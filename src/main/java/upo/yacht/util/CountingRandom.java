@@ -0,0 +1,79 @@
+package upo.yacht.util;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/// Seeded `java.util.random` generator that counts its draws.
+///
+/// Every number is produced by the `nextInt()` or `nextLong()` of the
+/// wrapped generator, the two methods the default implementations of all
+/// other methods build on, so the sequence is the same as the unwrapped
+/// generator's. Each of these calls advances the state of the JDK
+/// algorithms by a fixed number of steps, so the state is fully described
+/// by the seed and the two call counts: a restored generator is created
+/// from the seed and skips the same number of calls.
+final class CountingRandom implements RestorableRandom {
+    private final String algorithm;
+    private final long seed;
+    private final RandomGenerator delegate;
+    private long intDraws;
+    private long longDraws;
+
+    /// Creates a generator of the given algorithm.
+    ///
+    /// @param algorithm the algorithm name
+    /// @param factory   the factory of that algorithm
+    /// @param seed      the seed
+    CountingRandom(String algorithm, RandomGeneratorFactory<RandomGenerator> factory, long seed) {
+        this.algorithm = algorithm;
+        this.seed = seed;
+        this.delegate = factory.create(seed);
+    }
+
+    /// Creates a generator continuing from a saved state.
+    ///
+    /// @param algorithm the algorithm name
+    /// @param factory   the factory of that algorithm
+    /// @param state     the state returned by `getState()`
+    /// @return the restored generator
+    /// @throws IllegalArgumentException if the state is invalid
+    static CountingRandom restore(String algorithm, RandomGeneratorFactory<RandomGenerator> factory,
+                                  long[] state) {
+        if (state.length != 3 || state[1] < 0 || state[2] < 0) {
+            throw new IllegalArgumentException("Invalid state for " + algorithm);
+        }
+        CountingRandom random = new CountingRandom(algorithm, factory, state[0]);
+        for (long i = 0; i < state[1]; i++) {
+            random.nextInt();
+        }
+        for (long i = 0; i < state[2]; i++) {
+            random.nextLong();
+        }
+        return random;
+    }
+
+    @Override
+    public int nextInt() {
+        intDraws++;
+        return delegate.nextInt();
+    }
+
+    @Override
+    public long nextLong() {
+        longDraws++;
+        return delegate.nextLong();
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /// Returns the seed followed by the number of `nextInt()` and `nextLong()` calls.
+    ///
+    /// @return a new array of 3 values
+    @Override
+    public long[] getState() {
+        return new long[]{seed, intDraws, longDraws};
+    }
+}
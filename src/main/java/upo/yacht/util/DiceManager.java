@@ -3,14 +3,24 @@ package upo.yacht.util;
 import upo.yacht.model.Die;
 
 import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /// Manager class for handling a collection of dice in the Yacht game.
 ///
 /// This class manages an array of 5 dice, providing methods to roll,
 /// lock, unlock, and access individual dice. Each die can be independently
 /// locked to prevent it from being rolled.
+///
+/// Dice can be rolled one draw per die, or in bulk: all unlocked dice are
+/// then decoded from a single draw below 6^k, where k is the number of
+/// unlocked dice, one base-6 digit per die.
 public class DiceManager {
+    private static final int FACES = 6;
+    private static final int[] POW6 = {1, 6, 36, 216, 1296, 7776};
+
     private final Die[] dice;
+    private final RandomGenerator random;
+    private final boolean bulkRolls;
 
     /// Constructs a new DiceManager with 5 dice.
     ///
@@ -20,7 +30,31 @@ public class DiceManager {
     ///
     /// @param seed optional seed for random number generation; null for non-seeded randomness
     public DiceManager(Long seed) {
-        Random random = (seed != null) ? new Random(seed) : new Random();
+        this((seed != null) ? new Random(seed) : new Random());
+    }
+
+    /// Constructs a new DiceManager with 5 dice sharing the given generator.
+    ///
+    /// Lets the caller share one generator between the dice and other
+    /// random decisions of the game, such as the turn order. Each die is
+    /// rolled with its own draw.
+    ///
+    /// @param random the random generator used by all dice
+    public DiceManager(RandomGenerator random) {
+        this(random, false);
+    }
+
+    /// Constructs a new DiceManager with 5 dice sharing the given generator.
+    ///
+    /// Bulk rolls consume a single draw per roll instead of one per die,
+    /// which is faster but yields a different sequence of values for the
+    /// same seed. Both modes are deterministic for a seeded generator.
+    ///
+    /// @param random    the random generator used by all dice
+    /// @param bulkRolls true to roll all unlocked dice from one draw
+    public DiceManager(RandomGenerator random, boolean bulkRolls) {
+        this.random = random;
+        this.bulkRolls = bulkRolls;
         this.dice = new Die[5];
         for (int i = 0; i < dice.length; i++) {
             dice[i] = new Die(random);
@@ -32,6 +66,10 @@ public class DiceManager {
     /// Iterates through all dice and rolls only those with their lock flag set to false.
     /// Locked dice retain their current value.
     public void rollAvailableDice() {
+        if (bulkRolls) {
+            rollAvailableDiceBulk();
+            return;
+        }
         for (Die d : dice) {
             if (!d.isLocked()) {
                 d.roll();
@@ -39,6 +77,30 @@ public class DiceManager {
         }
     }
 
+    /// Rolls all unlocked dice from a single draw of the generator.
+    ///
+    /// A uniform draw below 6^k is uniform over the 6^k outcomes of k dice;
+    /// its base-6 digits, least significant first, are the values of the
+    /// unlocked dice in index order.
+    private void rollAvailableDiceBulk() {
+        int unlocked = 0;
+        for (Die d : dice) {
+            if (!d.isLocked()) {
+                unlocked++;
+            }
+        }
+        if (unlocked == 0) {
+            return;
+        }
+        int draw = random.nextInt(POW6[unlocked]);
+        for (Die d : dice) {
+            if (!d.isLocked()) {
+                d.setValue(draw % FACES + 1);
+                draw /= FACES;
+            }
+        }
+    }
+
     /// Locks all dice to prevent them from being rolled.
     public void lockAll() {
         for (Die d : dice) {
@@ -63,6 +125,9 @@ public class DiceManager {
 
     /// Returns an array containing the current values of all dice.
     ///
+    /// Allocates a new array on every call; prefer `getRoll()` when the
+    /// order of the dice does not matter, or `getDiceValues(int[])`.
+    ///
     /// @return integer array with the face values of all 5 dice
     public int[] getDiceValues() {
         int[] values = new int[dice.length];
@@ -72,24 +137,39 @@ public class DiceManager {
         return values;
     }
 
+    /// Copies the current values of all dice into an existing array.
+    ///
+    /// Avoids allocating a new array on every call in hot loops.
+    ///
+    /// @param values destination array with room for at least 5 values
+    /// @return the `values` array, for convenience
+    public int[] getDiceValues(int[] values) {
+        for (int i = 0; i < dice.length; i++) {
+            values[i] = dice[i].getValue();
+        }
+        return values;
+    }
+
+    /// Returns the current roll as an interned, sorted `DiceRoll`.
+    ///
+    /// Reads the dice without allocating: the roll is one of the 252
+    /// shared instances.
+    ///
+    /// @return the roll showing the current values of the dice
+    public DiceRoll getRoll() {
+        int index = 0;
+        for (int i = dice.length - 1; i >= 0; i--) {
+            index = index * FACES + (dice[i].getValue() - 1);
+        }
+        return DiceRoll.ofSortedId(RollIndex.sortedId(index));
+    }
+
     /// Displays the current dice values to the console.
     ///
     /// Prints a formatted table showing all dice values in a visually
-    /// clear format for the player.
+    /// clear format for the player, in one write through the standard
+    /// `ConsoleRenderer`.
     public void displayDice() {
-        System.out.print(
-                "\n" +
-                        "------------------CURRENT DICE TABLE-------------------" +
-                        "\n" +
-                        "            ((   "
-        );
-        for (int i = 0; i < dice.length; i++) {
-            System.out.print(dice[i].getValue() + "    ");
-        }
-        System.out.println(
-                "))" +
-                        "\n" +
-                        "-------------------------------------------------------"
-        );
+        ConsoleRenderer.standard().renderDice(getDiceValues(new int[dice.length]));
     }
 }
@@ -0,0 +1,115 @@
+package upo.yacht.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/// An immutable roll of five dice, with its faces in ascending order.
+///
+/// There is exactly one instance for each of the 252 sorted rolls (see
+/// `RollIndex`), created at class initialization: rolls are obtained with
+/// `of` or `ofSortedId` and never constructed, so two rolls are equal if
+/// and only if they are the same object. Passing a `DiceRoll` around
+/// therefore allocates nothing, and its sorted id gives any table-driven
+/// code, such as `ScoreTable` or a memoized `ScoringRule`, its row
+/// directly.
+///
+/// A roll forgets which die shows which face; code that needs the dice
+/// positions, such as a reroll choice, keeps using the ordered values.
+public final class DiceRoll {
+    private static final DiceRoll[] ROLLS = new DiceRoll[RollIndex.NUM_SORTED];
+
+    static {
+        for (int id = 0; id < RollIndex.NUM_SORTED; id++) {
+            ROLLS[id] = new DiceRoll(id);
+        }
+    }
+
+    private final int sortedId;
+    private final int[] faces;
+    private final int sum;
+
+    /// Creates the roll of a sorted id; only called to fill the table of instances.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    private DiceRoll(int sortedId) {
+        this.sortedId = sortedId;
+        this.faces = RollIndex.getFaces(sortedId);
+        this.sum = Arrays.stream(faces).sum();
+    }
+
+    /// Returns the roll showing the given dice values, in any order.
+    ///
+    /// @param dice the dice values (5 values, 1-6)
+    /// @return the shared instance of that roll
+    /// @throws IllegalArgumentException if the array does not hold exactly 5 values between 1 and 6
+    public static DiceRoll of(int[] dice) {
+        int sortedId = RollIndex.sortedIdOf(dice);
+        if (sortedId < 0) {
+            throw new IllegalArgumentException("Expected 5 dice between 1 and 6, got " + Arrays.toString(dice));
+        }
+        return ROLLS[sortedId];
+    }
+
+    /// Returns the roll with the given sorted id.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    /// @return the shared instance of that roll
+    /// @throws IndexOutOfBoundsException if the sorted id is out of range
+    public static DiceRoll ofSortedId(int sortedId) {
+        return ROLLS[Objects.checkIndex(sortedId, RollIndex.NUM_SORTED)];
+    }
+
+    /// Returns the sorted id of this roll.
+    ///
+    /// @return the sorted id (0-251)
+    public int getSortedId() {
+        return sortedId;
+    }
+
+    /// Returns one face of this roll.
+    ///
+    /// @param position the position in ascending order (0-4)
+    /// @return the face value (1-6) at that position
+    public int getFace(int position) {
+        return faces[position];
+    }
+
+    /// Returns how many dice of this roll show the given face.
+    ///
+    /// @param face the face value (1-6)
+    /// @return the number of dice showing that face
+    public int getCount(int face) {
+        return RollIndex.getCount(sortedId, face);
+    }
+
+    /// Returns the sum of the dice.
+    ///
+    /// @return the sum of the five faces
+    public int getSum() {
+        return sum;
+    }
+
+    /// Copies the faces of this roll into a buffer.
+    ///
+    /// @param buffer destination array of at least 5 elements
+    /// @return the `buffer` array, for convenience
+    public int[] copyFaces(int[] buffer) {
+        System.arraycopy(faces, 0, buffer, 0, RollIndex.DICE);
+        return buffer;
+    }
+
+    /// Returns the faces of this roll.
+    ///
+    /// @return a new array with the 5 face values in ascending order
+    public int[] toArray() {
+        return faces.clone();
+    }
+
+    /// Returns the faces of this roll, such as `[1, 2, 2, 5, 6]`.
+    ///
+    /// @return the faces in ascending order
+    @Override
+    public String toString() {
+        return Arrays.toString(faces);
+    }
+}
@@ -0,0 +1,62 @@
+package upo.yacht.util;
+
+import java.util.Random;
+
+/// Legacy `java.util.Random` whose state can be saved.
+///
+/// Implements the linear congruential generator specified by
+/// `java.util.Random` on a plain field instead of an atomic one, so it
+/// produces exactly the same numbers for the same seed while exposing its
+/// 48-bit state. Unlike `java.util.Random`, it is not thread-safe. The
+/// games replayed by a seed are only unchanged for a single player (see
+/// `RandomGenerators`).
+final class LegacyRandom extends Random implements RestorableRandom {
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    private long state;
+
+    /// Creates a generator with the given seed, like `new Random(seed)`.
+    ///
+    /// @param seed the initial seed
+    LegacyRandom(long seed) {
+        super(seed);
+    }
+
+    /// Creates a generator continuing from a saved state.
+    ///
+    /// @param state the state returned by `getState()`
+    /// @return the restored generator
+    /// @throws IllegalArgumentException if the state does not hold exactly one value
+    static LegacyRandom restore(long[] state) {
+        if (state.length != 1) {
+            throw new IllegalArgumentException("Expected 1 state value for Random, got " + state.length);
+        }
+        LegacyRandom random = new LegacyRandom(0);
+        random.state = state[0] & MASK;
+        return random;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        this.state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    @Override
+    protected int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return RandomGenerators.DEFAULT_ALGORITHM;
+    }
+
+    @Override
+    public long[] getState() {
+        return new long[]{state};
+    }
+}
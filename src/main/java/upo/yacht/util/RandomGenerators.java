@@ -0,0 +1,85 @@
+package upo.yacht.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/// Utility class for creating the random number generators of a game.
+///
+/// Generators are selected by their `java.util.random` algorithm name,
+/// such as `L64X128MixRandom`, `Xoshiro256PlusPlus` or `SplittableRandom`.
+/// The default, `Random`, is the legacy `java.util.Random`: single-player
+/// games keep the dice of every seed used before generators became
+/// selectable. Games with several players draw their turn order from the
+/// same generator before the first roll, so their dice differ from the
+/// games of the same seed in earlier versions.
+///
+/// Generators of deterministic algorithms are `RestorableRandom`, so a
+/// running game can save their state and `restore` them later.
+/// This class is final and cannot be instantiated.
+public final class RandomGenerators {
+    /// Name of the default algorithm, the legacy `java.util.Random`.
+    public static final String DEFAULT_ALGORITHM = "Random";
+
+    // RandomGeneratorFactory.of looks the constructors up again on every call
+    private static final ConcurrentHashMap<String, RandomGeneratorFactory<RandomGenerator>> FACTORIES =
+            new ConcurrentHashMap<>();
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private RandomGenerators() {
+    }
+
+    /// Creates a generator of the given algorithm.
+    ///
+    /// Without a seed, a random one is drawn so that the generator can
+    /// still be saved and restored. Stochastic algorithms such as
+    /// `SecureRandom` are returned as they are and cannot be restored.
+    ///
+    /// @param algorithm the algorithm name (see `RandomGeneratorFactory`)
+    /// @param seed      optional seed for reproducible results; null for a random seed
+    /// @return a new generator
+    /// @throws IllegalArgumentException if the algorithm is unknown
+    public static RandomGenerator create(String algorithm, Long seed) {
+        RandomGeneratorFactory<RandomGenerator> factory =
+                FACTORIES.computeIfAbsent(algorithm, RandomGeneratorFactory::of);
+        if (factory.isStochastic()) {
+            return (seed != null) ? factory.create(seed) : factory.create();
+        }
+        long initialSeed = (seed != null) ? seed : new SplittableRandom().nextLong();
+        if (algorithm.equals(DEFAULT_ALGORITHM)) {
+            return new LegacyRandom(initialSeed);
+        }
+        return new CountingRandom(algorithm, factory, initialSeed);
+    }
+
+    /// Creates a generator continuing from a saved state.
+    ///
+    /// @param algorithm the algorithm name returned by `RestorableRandom.getAlgorithm()`
+    /// @param state     the state returned by `RestorableRandom.getState()`
+    /// @return a generator producing the same numbers the saved one would have produced
+    /// @throws IllegalArgumentException if the algorithm is unknown or stochastic, or the state is invalid
+    public static RandomGenerator restore(String algorithm, long[] state) {
+        RandomGeneratorFactory<RandomGenerator> factory =
+                FACTORIES.computeIfAbsent(algorithm, RandomGeneratorFactory::of);
+        if (factory.isStochastic()) {
+            throw new IllegalArgumentException("The state of " + algorithm + " cannot be restored");
+        }
+        if (algorithm.equals(DEFAULT_ALGORITHM)) {
+            return LegacyRandom.restore(state);
+        }
+        return CountingRandom.restore(algorithm, factory, state);
+    }
+
+    /// Returns whether a generator is the legacy `java.util.Random`.
+    ///
+    /// Dice rolled from such a generator keep one draw per die, so that
+    /// seeded games replay exactly as they always did.
+    ///
+    /// @param random the generator to check
+    /// @return true if it is a `java.util.Random` (or a subclass)
+    public static boolean isLegacy(RandomGenerator random) {
+        return random instanceof Random;
+    }
+}
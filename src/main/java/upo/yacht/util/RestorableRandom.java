@@ -0,0 +1,21 @@
+package upo.yacht.util;
+
+import java.util.random.RandomGenerator;
+
+/// Random generator whose state can be saved and restored.
+///
+/// The generators returned by `RandomGenerators.create` implement this
+/// interface for every deterministic algorithm. Passing the algorithm and
+/// the state to `RandomGenerators.restore` creates a generator that
+/// continues with exactly the same sequence.
+public interface RestorableRandom extends RandomGenerator {
+    /// Returns the name of the algorithm of this generator.
+    ///
+    /// @return the algorithm name (see `RandomGenerators`)
+    String getAlgorithm();
+
+    /// Returns the current state of this generator.
+    ///
+    /// @return a new array holding the state
+    long[] getState();
+}
@@ -0,0 +1,153 @@
+package upo.yacht.util;
+
+import java.util.Arrays;
+
+/// Canonical numbering of five-dice rolls for table-driven lookups.
+///
+/// Every ordered roll of 5 six-sided dice has an *ordered index* in
+/// `0..7775`, obtained by reading the dice as a base-6 number. Rolls that
+/// contain the same faces in a different order share a *sorted id* in
+/// `0..251`, which identifies the underlying multiset of faces.
+///
+/// All tables are built once at class initialization, so every lookup
+/// is a plain array access with no allocation. This class is final and
+/// cannot be instantiated.
+///
+/// # Example
+/// The rolls `[5, 2, 2, 5, 5]` and `[2, 2, 5, 5, 5]` have different
+/// ordered indices but the same sorted id.
+public final class RollIndex {
+    /// Number of dice in a roll.
+    public static final int DICE = 5;
+    /// Number of faces on each die.
+    public static final int FACES = 6;
+    /// Number of distinct ordered rolls (6^5).
+    public static final int NUM_ROLLS = 7776;
+    /// Number of distinct sorted rolls (multisets of 5 faces out of 6).
+    public static final int NUM_SORTED = 252;
+
+    private static final short[] SORTED_ID_BY_ROLL = new short[NUM_ROLLS];
+    private static final byte[] SORTED_FACES = new byte[NUM_SORTED * DICE];
+    private static final byte[] SORTED_COUNTS = new byte[NUM_SORTED * (FACES + 1)];
+
+    static {
+        // Enumerate the multisets in lexicographic order of their sorted faces
+        short[] idBySortedKey = new short[NUM_ROLLS];
+        int id = 0;
+        for (int a = 1; a <= FACES; a++) {
+            for (int b = a; b <= FACES; b++) {
+                for (int c = b; c <= FACES; c++) {
+                    for (int d = c; d <= FACES; d++) {
+                        for (int e = d; e <= FACES; e++) {
+                            int[] faces = {a, b, c, d, e};
+                            for (int i = 0; i < DICE; i++) {
+                                SORTED_FACES[id * DICE + i] = (byte) faces[i];
+                                SORTED_COUNTS[id * (FACES + 1) + faces[i]]++;
+                            }
+                            idBySortedKey[encode(faces)] = (short) id;
+                            id++;
+                        }
+                    }
+                }
+            }
+        }
+
+        // Map every ordered roll to the multiset it belongs to
+        int[] faces = new int[DICE];
+        for (int roll = 0; roll < NUM_ROLLS; roll++) {
+            int rest = roll;
+            for (int i = 0; i < DICE; i++) {
+                faces[i] = rest % FACES + 1;
+                rest /= FACES;
+            }
+            Arrays.sort(faces);
+            SORTED_ID_BY_ROLL[roll] = idBySortedKey[encode(faces)];
+        }
+    }
+
+    /// Private constructor to prevent instantiation of this utility class.
+    private RollIndex() {
+    }
+
+    /// Computes the ordered index of a roll.
+    ///
+    /// The first die is the least significant base-6 digit.
+    ///
+    /// @param diceValues array of dice values
+    /// @return the ordered index (0-7775), or -1 if the array does not hold
+    ///         exactly 5 values between 1 and 6
+    public static int orderedIndex(int[] diceValues) {
+        if (diceValues == null || diceValues.length != DICE) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = DICE - 1; i >= 0; i--) {
+            int value = diceValues[i];
+            if (value < 1 || value > FACES) {
+                return -1;
+            }
+            index = index * FACES + (value - 1);
+        }
+        return index;
+    }
+
+    /// Returns the sorted id of the multiset that an ordered roll belongs to.
+    ///
+    /// @param orderedIndex the ordered index (0-7775)
+    /// @return the sorted id (0-251)
+    public static int sortedId(int orderedIndex) {
+        return SORTED_ID_BY_ROLL[orderedIndex];
+    }
+
+    /// Computes the sorted id of the given dice values.
+    ///
+    /// @param diceValues array of dice values
+    /// @return the sorted id (0-251), or -1 if the array does not hold
+    ///         exactly 5 values between 1 and 6
+    public static int sortedIdOf(int[] diceValues) {
+        int index = orderedIndex(diceValues);
+        return index < 0 ? -1 : SORTED_ID_BY_ROLL[index];
+    }
+
+    /// Returns one face of a sorted roll.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    /// @param position the position in ascending order (0-4)
+    /// @return the face value (1-6) at that position
+    public static int getFace(int sortedId, int position) {
+        return SORTED_FACES[sortedId * DICE + position];
+    }
+
+    /// Returns the faces of a sorted roll in ascending order.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    /// @return a new array with the 5 face values in ascending order
+    public static int[] getFaces(int sortedId) {
+        int[] faces = new int[DICE];
+        for (int i = 0; i < DICE; i++) {
+            faces[i] = SORTED_FACES[sortedId * DICE + i];
+        }
+        return faces;
+    }
+
+    /// Returns how many dice of a sorted roll show the given face.
+    ///
+    /// @param sortedId the sorted id (0-251)
+    /// @param face     the face value (1-6)
+    /// @return the number of dice showing that face
+    public static int getCount(int sortedId, int face) {
+        return SORTED_COUNTS[sortedId * (FACES + 1) + face];
+    }
+
+    /// Packs five faces into a base-6 key, first die least significant.
+    ///
+    /// @param faces array of 5 face values (1-6)
+    /// @return the packed key (0-7775)
+    private static int encode(int[] faces) {
+        int key = 0;
+        for (int i = DICE - 1; i >= 0; i--) {
+            key = key * FACES + (faces[i] - 1);
+        }
+        return key;
+    }
+}
@@ -0,0 +1,77 @@
+package upo.yacht.variant;
+
+import upo.yacht.logic.ChoiceParser;
+import upo.yacht.util.ConsoleRenderer;
+
+import java.util.Scanner;
+
+/// Strategy for a human player of a variant typing decisions on the console.
+///
+/// Prompts like the console of the built-in game, with die numbers and
+/// category indices ranging over the dice and categories of the variant.
+/// All players of a console game share one instance and therefore one
+/// Scanner. Prompts are always printed; the scoreboard is drawn through a
+/// `ConsoleRenderer`, with the upper bonus when the variant has one.
+public class ConsoleVariantStrategy implements VariantStrategy {
+    private final Variant variant;
+    private final Scanner scanner;
+    private final ConsoleRenderer renderer;
+    private final int[] potential;
+
+    /// Creates a console strategy reading from the given scanner.
+    ///
+    /// @param variant  the variant being played
+    /// @param scanner  the scanner to read player input from
+    /// @param renderer the renderer of the scoreboard
+    public ConsoleVariantStrategy(Variant variant, Scanner scanner, ConsoleRenderer renderer) {
+        this.variant = variant;
+        this.scanner = scanner;
+        this.renderer = renderer;
+        this.potential = new int[variant.getNumCategories()];
+    }
+
+    /// Asks the player which dice to reroll.
+    ///
+    /// @return the reroll mask, or 0 if the player keeps the dice
+    @Override
+    public int chooseRerollMask(String player, VariantScoreboard board, int[] dice, int rollsLeft) {
+        int lastDie = variant.getDice() - 1;
+        System.out.println("Rolls left: " + rollsLeft);
+        System.out.print("Which dice do you want to REROLL?\n" +
+                "type the dice numbers from 0 to " + lastDie + " or x to keep the values:   ");
+        while (true) {
+            int rerollMask = ChoiceParser.parseRerollMask(scanner.nextLine(), variant.getDice());
+            if (rerollMask >= 0) {
+                return rerollMask;
+            }
+            if (rerollMask == ChoiceParser.INVALID) {
+                System.out.print("Invalid! Use 0-" + lastDie + " or X: ");
+            }
+        }
+    }
+
+    /// Shows the scoreboard with the potential points and asks for a category.
+    ///
+    /// Asks again if the player picks a category that is already filled.
+    ///
+    /// @return the index of an unused category
+    @Override
+    public int chooseCategory(String player, VariantScoreboard board, int[] dice) {
+        int last = variant.getNumCategories() - 1;
+        while (true) {
+            renderer.renderScoreCard(board, variant.getScorer().getScores(dice, potential));
+            System.out.print("Choose a category index (0-" + last + "): ");
+            String input = scanner.nextLine();
+            int categoryIndex = ChoiceParser.parseIndex(input, variant.getNumCategories());
+            if (categoryIndex == ChoiceParser.OUT_OF_RANGE) {
+                System.out.println("Error: Number must be between 0 and " + last + ".");
+            } else if (categoryIndex < 0) {
+                System.out.println("Error: '" + input + "' is not a valid number.");
+            } else if (board.isCategoryUsed(categoryIndex)) {
+                System.out.println("Error: Category already filled! Choose another one.");
+            } else {
+                return categoryIndex;
+            }
+        }
+    }
+}
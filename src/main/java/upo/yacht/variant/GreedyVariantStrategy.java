@@ -0,0 +1,88 @@
+package upo.yacht.variant;
+
+/// Automated variant strategy that maximizes the points of the current turn.
+///
+/// Plays like `GreedyStrategy`: scores in the open category worth the most
+/// points right now, stops rolling as soon as an open fixed-score pattern
+/// (a pattern scored with `points`) is made, and otherwise keeps the most
+/// frequent face and rerolls the other dice. Scores come from the tables
+/// of the variant.
+///
+/// Instances keep a scratch buffer and must not be shared between threads.
+public class GreedyVariantStrategy implements VariantStrategy {
+    private final Variant variant;
+    private final int[] scores;
+
+    /// Creates a greedy strategy for a variant.
+    ///
+    /// @param variant the variant being played
+    public GreedyVariantStrategy(Variant variant) {
+        this.variant = variant;
+        this.scores = new int[variant.getNumCategories()];
+    }
+
+    /// Keeps a finished pattern or chases the most frequent face.
+    ///
+    /// @return 0 to keep a pattern, otherwise the mask of dice not showing
+    ///         the most frequent face (higher faces win ties)
+    @Override
+    public int chooseRerollMask(String player, VariantScoreboard board, int[] dice, int rollsLeft) {
+        int best = bestOpenCategory(board, dice);
+        if (scores[best] > 0 && (variant.getFixedMask() & (1 << best)) != 0) {
+            return 0;
+        }
+
+        int target = 0;
+        int targetCount = 0;
+        for (int face = variant.getFaces(); face >= 1; face--) {
+            int count = 0;
+            for (int value : dice) {
+                if (value == face) {
+                    count++;
+                }
+            }
+            if (count > targetCount) {
+                target = face;
+                targetCount = count;
+            }
+        }
+
+        int rerollMask = 0;
+        for (int i = 0; i < dice.length; i++) {
+            if (dice[i] != target) {
+                rerollMask |= 1 << i;
+            }
+        }
+        return rerollMask;
+    }
+
+    /// Scores in the open category worth the most points.
+    ///
+    /// @return the index of the best open category (lowest index wins ties)
+    @Override
+    public int chooseCategory(String player, VariantScoreboard board, int[] dice) {
+        return bestOpenCategory(board, dice);
+    }
+
+    /// Finds the open category with the highest score for the dice.
+    ///
+    /// Fills the scratch buffer with the score of every category as a side effect.
+    ///
+    /// @param board the scoreboard of the player
+    /// @param dice  the dice values to score
+    /// @return the index of the best open category
+    private int bestOpenCategory(VariantScoreboard board, int[] dice) {
+        variant.getScorer().getScores(dice, scores);
+        int usedMask = board.getUsedMask();
+        int best = -1;
+        for (int i = 0; i < scores.length; i++) {
+            if ((usedMask & (1 << i)) == 0 && (best < 0 || scores[i] > scores[best])) {
+                best = i;
+            }
+        }
+        if (best < 0) {
+            throw new IllegalStateException("The scoreboard has no open category left");
+        }
+        return best;
+    }
+}
@@ -0,0 +1,307 @@
+package upo.yacht.variant;
+
+import upo.yacht.logic.rules.ScoringRule;
+
+import java.util.Arrays;
+
+/// A scoring rule of a variant, declared by the pattern the dice must show.
+///
+/// Every pattern is evaluated on the histogram of the dice, so a rule works
+/// for any number of dice and faces. The patterns are:
+///
+/// | Pattern             | The dice must show                                   | Held dice         |
+/// |---------------------|------------------------------------------------------|-------------------|
+/// | `upper F`           | anything; scores the dice showing face F             | the dice showing F |
+/// | `chance`            | anything; scores the sum of the dice                 | all the dice      |
+/// | `kind N`            | at least N dice of one face                          | N dice of the best face |
+/// | `groups A B ...`    | groups of at least A, B, ... dice of different faces | the dice of the groups |
+/// | `straight L`        | L consecutive faces                                  | one die of each face |
+/// | `run F T`           | every face from F to T                               | one die of each face |
+///
+/// The last four patterns end with how they score: `sum` for the sum of
+/// all the dice, `held` for the sum of the held dice (the highest ones
+/// when the dice show the pattern more than once), or `points P` for a
+/// fixed score. For example, the Full House of Yahtzee is
+/// `groups 3 2 points 25`.
+final class PatternRule implements ScoringRule {
+    private static final int UPPER = 0;
+    private static final int CHANCE = 1;
+    private static final int GROUPS = 2;
+    private static final int STRAIGHT = 3;
+    private static final int RUN = 4;
+
+    private static final int SUM = -1;
+    private static final int HELD = -2;
+
+    private final String name;
+    private final int pattern;
+    private final int[] arguments;
+    private final int points;
+
+    /// Creates a rule.
+    ///
+    /// @param name      the name of the category
+    /// @param pattern   the pattern the dice must show
+    /// @param arguments the arguments of the pattern
+    /// @param points    the fixed score, or `SUM` or `HELD`
+    private PatternRule(String name, int pattern, int[] arguments, int points) {
+        this.name = name;
+        this.pattern = pattern;
+        this.arguments = arguments;
+        this.points = points;
+    }
+
+    /// Parses the pattern of a category.
+    ///
+    /// @param name  the name of the category
+    /// @param spec  the pattern and how it scores, such as `straight 4 points 30`
+    /// @param dice  the number of dice of the variant
+    /// @param faces the number of faces of the variant
+    /// @return the rule
+    /// @throws IllegalArgumentException if the pattern is unknown or does not fit the dice
+    static PatternRule parse(String name, String spec, int dice, int faces) {
+        Tokens tokens = new Tokens(spec);
+        String keyword = tokens.next("pattern").toLowerCase();
+        PatternRule rule = switch (keyword) {
+            case "upper" -> new PatternRule(name, UPPER, new int[]{tokens.nextNumber("face", 1, faces)}, HELD);
+            case "chance" -> new PatternRule(name, CHANCE, new int[0], SUM);
+            case "kind" -> {
+                int size = tokens.nextNumber("number of dice", 1, dice);
+                yield new PatternRule(name, GROUPS, new int[]{size}, tokens.nextScoring());
+            }
+            case "groups" -> {
+                int[] sizes = new int[0];
+                int total = 0;
+                while (tokens.hasNumber()) {
+                    sizes = Arrays.copyOf(sizes, sizes.length + 1);
+                    sizes[sizes.length - 1] = tokens.nextNumber("group size", 1, dice);
+                    total += sizes[sizes.length - 1];
+                }
+                if (sizes.length == 0 || total > dice || sizes.length > faces) {
+                    throw new IllegalArgumentException("Groups do not fit " + dice + " dice of " + faces +
+                            " faces: " + spec);
+                }
+                yield new PatternRule(name, GROUPS, sizes, tokens.nextScoring());
+            }
+            case "straight" -> {
+                int length = tokens.nextNumber("length", 1, Math.min(dice, faces));
+                yield new PatternRule(name, STRAIGHT, new int[]{length}, tokens.nextScoring());
+            }
+            case "run" -> {
+                int from = tokens.nextNumber("first face", 1, faces);
+                int to = tokens.nextNumber("last face", from, Math.min(faces, from + dice - 1));
+                yield new PatternRule(name, RUN, new int[]{from, to}, tokens.nextScoring());
+            }
+            default -> throw new IllegalArgumentException("Unknown pattern '" + keyword + "'. Must be upper, " +
+                    "chance, kind, groups, straight, run or class.");
+        };
+        tokens.end();
+        return rule;
+    }
+
+    /// Returns whether the rule scores a fixed number of points.
+    ///
+    /// @return true for a pattern scored with `points`
+    boolean isFixed() {
+        return points >= 0;
+    }
+
+    /// Returns whether the rule belongs to the upper section.
+    ///
+    /// @return true for an `upper` pattern
+    boolean isUpper() {
+        return pattern == UPPER;
+    }
+
+    /// Builds the histogram of the dice and scores it.
+    ///
+    /// @param dice array of dice values to score
+    /// @return the score of the pattern, or 0 if the dice do not show it
+    @Override
+    public int calculate(int[] dice) {
+        int maxFace = 0;
+        int sum = 0;
+        for (int value : dice) {
+            maxFace = Math.max(maxFace, value);
+            sum += value;
+        }
+        int[] freq = new int[maxFace + 1];
+        for (int value : dice) {
+            if (value > 0) {
+                freq[value]++;
+            }
+        }
+        return calculateFromFrequency(freq, sum);
+    }
+
+    /// Scores the histogram of the dice.
+    ///
+    /// @param freq    array where index i contains the count of dice showing face value i
+    /// @param diceSum the sum of all dice values
+    /// @return the score of the pattern, or 0 if the dice do not show it
+    @Override
+    public int calculateFromFrequency(int[] freq, int diceSum) {
+        int held = switch (pattern) {
+            case UPPER -> (arguments[0] < freq.length) ? arguments[0] * freq[arguments[0]] : 0;
+            case CHANCE -> diceSum;
+            case GROUPS -> bestGroups(freq, 0, 0);
+            case STRAIGHT -> bestStraight(freq, arguments[0]);
+            default -> runSum(freq, arguments[0], arguments[1]);
+        };
+        if (held < 0 || pattern == UPPER || pattern == CHANCE) {
+            return Math.max(held, 0);
+        }
+        if (points == SUM) {
+            return diceSum;
+        }
+        return (points == HELD) ? held : points;
+    }
+
+    /// Returns the name of the category.
+    ///
+    /// @return the category name
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /// Finds the highest sum of the dice held by the groups, from a given group on.
+    ///
+    /// Each group takes a different face with enough dice; `used` marks the
+    /// faces taken by the earlier groups. Every assignment is tried, which
+    /// is cheap for the few groups and faces of a variant and only happens
+    /// while its tables are built.
+    ///
+    /// @param freq  the histogram of the dice
+    /// @param group the first group left to match
+    /// @param used  the faces taken, one bit per face
+    /// @return the highest sum, or -1 if the groups cannot all be matched
+    private int bestGroups(int[] freq, int group, int used) {
+        if (group == arguments.length) {
+            return 0;
+        }
+        int size = arguments[group];
+        int best = -1;
+        for (int face = 1; face < freq.length; face++) {
+            if (freq[face] >= size && (used & (1 << face)) == 0) {
+                int rest = bestGroups(freq, group + 1, used | (1 << face));
+                if (rest >= 0) {
+                    best = Math.max(best, size * face + rest);
+                }
+            }
+        }
+        return best;
+    }
+
+    /// Finds the highest sum of a run of consecutive faces.
+    ///
+    /// @param freq   the histogram of the dice
+    /// @param length the number of consecutive faces
+    /// @return the sum of the highest run, or -1 if there is none
+    private static int bestStraight(int[] freq, int length) {
+        int streak = 0;
+        int best = -1;
+        for (int face = 1; face < freq.length; face++) {
+            streak = (freq[face] > 0) ? streak + 1 : 0;
+            if (streak >= length) {
+                best = length * (2 * face - length + 1) / 2;
+            }
+        }
+        return best;
+    }
+
+    /// Sums the faces of a run, if the dice show all of them.
+    ///
+    /// @param freq the histogram of the dice
+    /// @param from the first face
+    /// @param to   the last face
+    /// @return the sum of the faces, or -1 if one is missing
+    private static int runSum(int[] freq, int from, int to) {
+        int sum = 0;
+        for (int face = from; face <= to; face++) {
+            if (face >= freq.length || freq[face] == 0) {
+                return -1;
+            }
+            sum += face;
+        }
+        return sum;
+    }
+
+    /// The tokens of a pattern, read from left to right.
+    private static final class Tokens {
+        private final String[] tokens;
+        private int next;
+
+        /// Splits a pattern into tokens.
+        ///
+        /// @param spec the pattern
+        Tokens(String spec) {
+            String trimmed = spec.trim();
+            this.tokens = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+        }
+
+        /// Returns whether the next token is a number.
+        ///
+        /// @return true if a token is left and starts with a digit
+        boolean hasNumber() {
+            return next < tokens.length && Character.isDigit(tokens[next].charAt(0));
+        }
+
+        /// Returns the next token.
+        ///
+        /// @param description what the token represents, for the error message
+        /// @return the token
+        /// @throws IllegalArgumentException if no token is left
+        String next(String description) {
+            if (next == tokens.length) {
+                throw new IllegalArgumentException("Missing " + description);
+            }
+            return tokens[next++];
+        }
+
+        /// Parses the next token as a number.
+        ///
+        /// @param description what the number represents, for the error message
+        /// @param min         the lowest allowed value
+        /// @param max         the highest allowed value
+        /// @return the number
+        /// @throws IllegalArgumentException if the number is missing, invalid or out of range
+        int nextNumber(String description, int min, int max) {
+            String token = next(description);
+            try {
+                int value = Integer.parseInt(token);
+                if (value >= min && value <= max) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below together with out-of-range values
+            }
+            throw new IllegalArgumentException("Invalid " + description + ": " + token + ". Must be between " +
+                    min + " and " + max + ".");
+        }
+
+        /// Parses how a pattern scores.
+        ///
+        /// @return the fixed score, or `SUM` or `HELD`
+        /// @throws IllegalArgumentException if the scoring is missing or invalid
+        int nextScoring() {
+            String scoring = next("scoring. Must be 'sum', 'held' or 'points <n>'.").toLowerCase();
+            return switch (scoring) {
+                case "sum" -> SUM;
+                case "held" -> HELD;
+                case "points" -> nextNumber("points", 0, Integer.MAX_VALUE);
+                default -> throw new IllegalArgumentException("Invalid scoring '" + scoring +
+                        "'. Must be 'sum', 'held' or 'points <n>'.");
+            };
+        }
+
+        /// Checks that no token is left.
+        ///
+        /// @throws IllegalArgumentException if a token is left
+        void end() {
+            if (next < tokens.length) {
+                throw new IllegalArgumentException("Unexpected '" + tokens[next] + "'");
+            }
+        }
+    }
+}
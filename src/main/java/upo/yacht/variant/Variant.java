@@ -0,0 +1,432 @@
+package upo.yacht.variant;
+
+import upo.yacht.logic.rules.ScoringRule;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/// A house variant of the game: its dice, categories and upper bonus.
+///
+/// A variant is defined in a text file, one setting per line; blank lines
+/// and lines starting with `#` are ignored:
+/// ```text
+/// name Yahtzee
+/// dice 5
+/// faces 6
+/// rolls 3
+/// bonus 63 35
+/// category Ones = upper 1
+/// ...
+/// category Full House = groups 3 2 points 25
+/// category Chance = chance
+/// ```
+/// `dice` (1-8) and `faces` (2-12) default to 5 and 6, `rolls` per turn
+/// (1-9) to 3, and there is no bonus unless `bonus` gives the points the
+/// `upper` categories must reach and the points they then add. A game
+/// lasts one round per category. Each category is either a pattern (see
+/// `PatternRule`) or `class` followed by the name of a `ScoringRule`
+/// implementation with a public no-argument constructor, which lets a
+/// variant reuse the built-in rules or add its own.
+///
+/// A variant is checked and compiled when it is loaded: the score of every
+/// category for every distinct roll is computed once into a
+/// `VariantScorer`, so scoring a variant costs a table lookup, as in the
+/// built-in game. A `class` rule is wrapped in a `MemoizedRule` for the
+/// dice and faces of the variant, so the check of the rule and the tables
+/// compute each distinct roll once. The built-in variants are `yacht` (the Classic game),
+/// `yahtzee`, `maxi` (Maxi Yacht, with 6 dice) and `d8` (8-sided dice).
+public final class Variant {
+    /// Largest number of dice of a variant.
+    public static final int MAX_DICE = 8;
+    /// Largest number of faces of the dice of a variant.
+    public static final int MAX_FACES = 12;
+    /// Largest number of categories of a variant.
+    public static final int MAX_CATEGORIES = 30;
+    /// Largest number of ordered rolls (faces to the power of dice) of a variant.
+    public static final int MAX_ORDERED_ROLLS = 1 << 20;
+
+    private static final List<String> BUILT_IN = List.of("yacht", "yahtzee", "maxi", "d8");
+
+    private final String name;
+    private final int dice;
+    private final int faces;
+    private final int rolls;
+    private final int bonusThreshold;
+    private final int bonusPoints;
+    private final String[] categoryNames;
+    private final ScoringRule[] rules;
+    private final int upperMask;
+    private final int fixedMask;
+    private final VariantScorer scorer;
+
+    /// Creates a checked variant and compiles its tables.
+    ///
+    /// @param name           the name of the variant
+    /// @param dice           the number of dice
+    /// @param faces          the number of faces of each die
+    /// @param rolls          the number of rolls per turn
+    /// @param bonusThreshold the upper points that earn the bonus; 0 for no bonus
+    /// @param bonusPoints    the points of the bonus
+    /// @param categoryNames  the name of every category
+    /// @param rules          the rule of every category
+    private Variant(String name, int dice, int faces, int rolls, int bonusThreshold, int bonusPoints,
+                    String[] categoryNames, ScoringRule[] rules) {
+        this.name = name;
+        this.dice = dice;
+        this.faces = faces;
+        this.rolls = rolls;
+        this.bonusThreshold = bonusThreshold;
+        this.bonusPoints = bonusPoints;
+        this.categoryNames = categoryNames;
+        this.rules = rules;
+        int upper = 0;
+        int fixed = 0;
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i] instanceof PatternRule pattern) {
+                upper |= pattern.isUpper() ? 1 << i : 0;
+                fixed |= pattern.isFixed() ? 1 << i : 0;
+            }
+        }
+        this.upperMask = upper;
+        this.fixedMask = fixed;
+        this.scorer = new VariantScorer(this);
+    }
+
+    /// Returns the names of the built-in variants.
+    ///
+    /// @return the names accepted by `forName`
+    public static List<String> getBuiltInNames() {
+        return BUILT_IN;
+    }
+
+    /// Loads a built-in variant by name, or else a variant file.
+    ///
+    /// @param nameOrPath the name of a built-in variant (case-insensitive) or the path of a file
+    /// @return the variant
+    /// @throws IOException              if the file cannot be read
+    /// @throws IllegalArgumentException if the definition is invalid
+    public static Variant forName(String nameOrPath) throws IOException {
+        String builtIn = nameOrPath.toLowerCase();
+        if (!BUILT_IN.contains(builtIn)) {
+            return load(Path.of(nameOrPath));
+        }
+        String resource = "/upo/yacht/variant/" + builtIn + ".txt";
+        try (InputStream in = Variant.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Missing built-in variant: " + resource);
+            }
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), builtIn);
+        }
+    }
+
+    /// Loads a variant file.
+    ///
+    /// @param file the variant file
+    /// @return the variant
+    /// @throws IOException              if the file cannot be read
+    /// @throws IllegalArgumentException if the definition is invalid
+    public static Variant load(Path file) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(in, file.toString());
+        }
+    }
+
+    /// Parses a variant definition.
+    ///
+    /// Errors name the source and the line, such as `house.txt line 7: ...`.
+    ///
+    /// @param in     the definition
+    /// @param source where the definition comes from, for the error messages
+    /// @return the variant
+    /// @throws IOException              if the definition cannot be read
+    /// @throws IllegalArgumentException if the definition is invalid
+    public static Variant parse(BufferedReader in, String source) throws IOException {
+        String name = source;
+        int dice = 5;
+        int faces = 6;
+        int rolls = 3;
+        int bonusThreshold = 0;
+        int bonusPoints = 0;
+        List<String> categories = new ArrayList<>();
+        List<Integer> categoryLines = new ArrayList<>();
+
+        int lineNumber = 0;
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int space = line.indexOf(' ');
+            String keyword = (space < 0) ? line : line.substring(0, space);
+            String value = (space < 0) ? "" : line.substring(space + 1).strip();
+            try {
+                switch (keyword.toLowerCase()) {
+                    case "name" -> name = requireValue(value, "name");
+                    case "dice" -> dice = parseNumber(value, "number of dice", 1, MAX_DICE);
+                    case "faces" -> faces = parseNumber(value, "number of faces", 2, MAX_FACES);
+                    case "rolls" -> rolls = parseNumber(value, "number of rolls", 1, 9);
+                    case "bonus" -> {
+                        String[] parts = value.split("\\s+");
+                        if (parts.length != 2) {
+                            throw new IllegalArgumentException("Expected 'bonus <threshold> <points>'");
+                        }
+                        bonusThreshold = parseNumber(parts[0], "bonus threshold", 1, Integer.MAX_VALUE);
+                        bonusPoints = parseNumber(parts[1], "bonus points", 0, Integer.MAX_VALUE);
+                    }
+                    case "category" -> {
+                        categories.add(value);
+                        categoryLines.add(lineNumber);
+                    }
+                    default -> throw new IllegalArgumentException("Unknown setting '" + keyword + "'. Must be " +
+                            "name, dice, faces, rolls, bonus or category.");
+                }
+            } catch (IllegalArgumentException e) {
+                throw error(source, lineNumber, e.getMessage());
+            }
+        }
+
+        if (Math.pow(faces, dice) > MAX_ORDERED_ROLLS) {
+            throw new IllegalArgumentException(source + ": " + dice + " dice of " + faces + " faces exceed " +
+                    MAX_ORDERED_ROLLS + " ordered rolls");
+        }
+        if (categories.isEmpty() || categories.size() > MAX_CATEGORIES) {
+            throw new IllegalArgumentException(source + ": A variant needs between 1 and " + MAX_CATEGORIES +
+                    " categories, got " + categories.size());
+        }
+        String[] categoryNames = new String[categories.size()];
+        ScoringRule[] rules = new ScoringRule[categories.size()];
+        boolean hasUpper = false;
+        for (int i = 0; i < rules.length; i++) {
+            String category = categories.get(i);
+            int equals = category.indexOf('=');
+            try {
+                if (equals <= 0) {
+                    throw new IllegalArgumentException("Expected 'category <name> = <pattern>'");
+                }
+                categoryNames[i] = category.substring(0, equals).strip();
+                rules[i] = parseRule(categoryNames[i], category.substring(equals + 1).strip(), dice, faces);
+            } catch (IllegalArgumentException e) {
+                throw error(source, categoryLines.get(i), e.getMessage());
+            }
+            hasUpper |= rules[i] instanceof PatternRule pattern && pattern.isUpper();
+        }
+        if (bonusThreshold > 0 && !hasUpper) {
+            throw new IllegalArgumentException(source + ": The bonus needs at least one 'upper' category");
+        }
+        return new Variant(name, dice, faces, rolls, bonusThreshold, bonusPoints, categoryNames, rules);
+    }
+
+    /// Returns the name of this variant.
+    ///
+    /// @return the name given by the definition
+    public String getName() {
+        return name;
+    }
+
+    /// Returns the number of dice.
+    ///
+    /// @return the number of dice (1-8)
+    public int getDice() {
+        return dice;
+    }
+
+    /// Returns the number of faces of each die.
+    ///
+    /// @return the number of faces (2-12)
+    public int getFaces() {
+        return faces;
+    }
+
+    /// Returns the number of rolls of a turn, the first one included.
+    ///
+    /// @return the rolls per turn (1-9)
+    public int getRolls() {
+        return rolls;
+    }
+
+    /// Returns the number of categories, which is also the number of rounds.
+    ///
+    /// @return the number of categories
+    public int getNumCategories() {
+        return rules.length;
+    }
+
+    /// Returns the name of a category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the category name
+    public String getCategoryName(int categoryIndex) {
+        return categoryNames[categoryIndex];
+    }
+
+    /// Returns the rule of a category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the rule the tables were compiled from
+    public ScoringRule getRule(int categoryIndex) {
+        return rules[categoryIndex];
+    }
+
+    /// Returns the categories of the upper section, which count towards the bonus.
+    ///
+    /// @return bit i is set when category i is an `upper` pattern
+    public int getUpperMask() {
+        return upperMask;
+    }
+
+    /// Returns the categories scoring a fixed number of points.
+    ///
+    /// @return bit i is set when category i is a pattern scored with `points`
+    public int getFixedMask() {
+        return fixedMask;
+    }
+
+    /// Returns the upper points that earn the bonus.
+    ///
+    /// @return the threshold, or 0 if the variant has no bonus
+    public int getBonusThreshold() {
+        return bonusThreshold;
+    }
+
+    /// Returns the points of the upper bonus.
+    ///
+    /// @return the bonus points, or 0 if the variant has no bonus
+    public int getBonusPoints() {
+        return bonusPoints;
+    }
+
+    /// Returns the compiled score tables of this variant.
+    ///
+    /// @return the scorer, shared by every game of the variant
+    public VariantScorer getScorer() {
+        return scorer;
+    }
+
+    /// Describes the variant for the console.
+    ///
+    /// @return the dice, rolls, bonus and categories, one per line
+    public String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(name).append(": ").append(dice).append(" dice of ").append(faces).append(" faces, ")
+                .append(rolls).append(rolls == 1 ? " roll" : " rolls").append(" per turn, ")
+                .append(rules.length).append(" rounds\n");
+        if (bonusThreshold > 0) {
+            sb.append("Upper bonus: ").append(bonusPoints).append(" points from ").append(bonusThreshold)
+                    .append(" upper points\n");
+        }
+        for (int i = 0; i < rules.length; i++) {
+            sb.append(String.format("  [%2d] %s%n", i, categoryNames[i]));
+        }
+        return sb.toString();
+    }
+
+    /// Parses the rule of a category.
+    ///
+    /// @param name  the name of the category
+    /// @param spec  a pattern, or `class` and the name of a `ScoringRule` class
+    /// @param dice  the number of dice
+    /// @param faces the number of faces
+    /// @return the rule, memoized for the dice and faces if it is a class
+    /// @throws IllegalArgumentException if the rule is invalid, its class cannot be created or it
+    ///                                  fails on a roll of the variant
+    private static ScoringRule parseRule(String name, String spec, int dice, int faces) {
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("A category needs a name");
+        }
+        if (!spec.regionMatches(true, 0, "class ", 0, 6)) {
+            return PatternRule.parse(name, spec, dice, faces);
+        }
+        String className = spec.substring(6).strip();
+        ScoringRule rule;
+        try {
+            rule = Class.forName(className).asSubclass(ScoringRule.class).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            throw new IllegalArgumentException("Cannot create the rule " + className + ": " + e);
+        }
+        // Cached before the check, so the score tables reuse the scores it computed
+        rule = ScoringRule.memoized(rule, dice, faces);
+        // The built-in rules expect 5 dice of 6 faces; any class must score every roll without failing
+        try {
+            checkRolls(rule, new int[faces + 1], 1, dice, 0);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("The rule " + className + " does not fit " + dice + " dice of " +
+                    faces + " faces: " + e);
+        }
+        return rule;
+    }
+
+    /// Evaluates a rule on every distinct roll with the given faces still to fill.
+    ///
+    /// @param rule     the rule to evaluate
+    /// @param freq     the count of each face so far, indexed by face value; restored on return
+    /// @param face     the next face to count
+    /// @param diceLeft the dice not yet counted
+    /// @param sum      the sum of the dice counted so far
+    /// @throws RuntimeException whatever the rule throws
+    private static void checkRolls(ScoringRule rule, int[] freq, int face, int diceLeft, int sum) {
+        if (face == freq.length - 1) {
+            freq[face] = diceLeft;
+            rule.calculateFromFrequency(freq.clone(), sum + face * diceLeft);
+            freq[face] = 0;
+            return;
+        }
+        for (int count = 0; count <= diceLeft; count++) {
+            freq[face] = count;
+            checkRolls(rule, freq, face + 1, diceLeft - count, sum + face * count);
+        }
+        freq[face] = 0;
+    }
+
+    /// Returns the value of a setting, which must not be blank.
+    ///
+    /// @param value       the value
+    /// @param description what the value represents, for the error message
+    /// @return the value
+    /// @throws IllegalArgumentException if the value is blank
+    private static String requireValue(String value, String description) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing " + description);
+        }
+        return value;
+    }
+
+    /// Parses a number of a setting.
+    ///
+    /// @param value       the text of the number
+    /// @param description what the number represents, for the error message
+    /// @param min         the lowest allowed value
+    /// @param max         the highest allowed value
+    /// @return the number
+    /// @throws IllegalArgumentException if the text is not a number in range
+    private static int parseNumber(String value, String description, int min, int max) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below together with out-of-range values
+        }
+        throw new IllegalArgumentException("Invalid " + description + ": '" + value + "'. Must be between " +
+                min + " and " + max + ".");
+    }
+
+    /// Creates the exception for an invalid line of a definition.
+    ///
+    /// @param source  where the definition comes from
+    /// @param line    the line number
+    /// @param message what is wrong
+    /// @return the exception to throw
+    private static IllegalArgumentException error(String source, int line, String message) {
+        return new IllegalArgumentException(source + " line " + line + ": " + message);
+    }
+}
@@ -0,0 +1,138 @@
+package upo.yacht.variant;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.logic.GameEngine;
+import upo.yacht.util.ConsoleRenderer;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.random.RandomGenerator;
+
+/// Plays one game of a variant.
+///
+/// The turn order is shuffled from the random generator before the first
+/// roll, like in `GameEngine`, then the players take their turns in that
+/// order, one round per category of the variant. A turn rolls all the
+/// dice, lets the player reroll any of them up to the rolls of the
+/// variant, then scores the dice in a category through the tables of its
+/// `VariantScorer`. The dice, the turns, the scoreboards and the results
+/// are drawn through a `ConsoleRenderer`; a quiet one plays headless,
+/// which is how variant simulations run.
+public class VariantGame {
+    private final Variant variant;
+    private final String[] names;
+    private final VariantStrategy[] strategies;
+    private final RandomGenerator random;
+    private final ConsoleRenderer renderer;
+    private final VariantScoreboard[] boards;
+    private final int[] dice;
+
+    /// Creates a game of a variant.
+    ///
+    /// @param variant    the variant to play
+    /// @param names      the name of every player, in seat order
+    /// @param strategies the strategy of every player, in the same order
+    /// @param random     the random generator rolling the dice
+    /// @param renderer   the renderer of the dice and turns
+    /// @throws IllegalArgumentException if there is no player, or not one strategy per player
+    public VariantGame(Variant variant, String[] names, VariantStrategy[] strategies, RandomGenerator random,
+                       ConsoleRenderer renderer) {
+        if (names.length == 0 || names.length != strategies.length) {
+            throw new IllegalArgumentException("Expected one strategy for each of at least 1 player, got " +
+                    names.length + " players and " + strategies.length + " strategies");
+        }
+        this.variant = variant;
+        this.names = names.clone();
+        this.strategies = strategies.clone();
+        this.random = random;
+        this.renderer = renderer;
+        this.boards = new VariantScoreboard[names.length];
+        for (int i = 0; i < boards.length; i++) {
+            boards[i] = new VariantScoreboard(variant);
+        }
+        this.dice = new int[variant.getDice()];
+    }
+
+    /// Shuffles the turn order and plays every round of the game.
+    ///
+    /// @return the scoreboard of every player, in seat order
+    /// @throws YachtGameException if a strategy returns an invalid reroll mask or category
+    public VariantScoreboard[] play() throws YachtGameException {
+        int[] turnOrder = GameEngine.shuffleTurnOrder(names.length, random);
+        renderer.renderLine("\n--- The players were shuffled !! ---");
+        for (int round = 0; round < variant.getNumCategories(); round++) {
+            for (int seat : turnOrder) {
+                if (!renderer.isQuiet()) {
+                    renderer.renderLine("\n=== " + names[seat] + "'s turn (Round " + (round + 1) + "/" +
+                            variant.getNumCategories() + ") ===");
+                }
+                executeTurn(seat);
+            }
+        }
+        return boards.clone();
+    }
+
+    /// Returns the scoreboard of a player.
+    ///
+    /// @param seat the position of the player in seat order
+    /// @return the scoreboard
+    public VariantScoreboard getScoreboard(int seat) {
+        return boards[seat];
+    }
+
+    /// Formats the final results, best player first.
+    ///
+    /// Players with the same total keep their seat order, as in `GameEngine`.
+    ///
+    /// @return the final scoreboard and the winners
+    public String formatResults() {
+        Integer[] ranking = new Integer[names.length];
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, Comparator.comparingInt((Integer seat) -> boards[seat].getTotalScore()).reversed());
+        String[] rankedNames = new String[ranking.length];
+        VariantScoreboard[] rankedBoards = new VariantScoreboard[ranking.length];
+        for (int i = 0; i < ranking.length; i++) {
+            rankedNames[i] = names[ranking[i]];
+            rankedBoards[i] = boards[ranking[i]];
+        }
+        return ConsoleRenderer.formatResults("GAME OVER - FINAL RESULTS (" + variant.getName() + ")", rankedNames,
+                rankedBoards);
+    }
+
+    /// Executes a complete turn for a player.
+    ///
+    /// @param seat the position of the player in seat order
+    /// @throws YachtGameException if the strategy returns an invalid reroll mask or category
+    private void executeTurn(int seat) throws YachtGameException {
+        VariantStrategy strategy = strategies[seat];
+        VariantScoreboard board = boards[seat];
+        int allDice = (1 << dice.length) - 1;
+        int rerollMask = allDice;
+        for (int rollsLeft = variant.getRolls() - 1; rollsLeft >= 0; rollsLeft--) {
+            for (int i = 0; i < dice.length; i++) {
+                if ((rerollMask & (1 << i)) != 0) {
+                    dice[i] = random.nextInt(variant.getFaces()) + 1;
+                }
+            }
+            renderer.renderDice(dice);
+            if (rollsLeft == 0) {
+                break;
+            }
+            rerollMask = strategy.chooseRerollMask(names[seat], board, dice, rollsLeft);
+            if (rerollMask < 0 || rerollMask > allDice) {
+                throw new YachtGameException("Invalid reroll mask " + rerollMask + " from " + names[seat]);
+            }
+            if (rerollMask == 0) {
+                break;
+            }
+        }
+
+        int category = strategy.chooseCategory(names[seat], board, dice);
+        if (category < 0 || category >= variant.getNumCategories()) {
+            throw new YachtGameException("Invalid category index " + category + " from " + names[seat]);
+        }
+        board.registerScore(category, variant.getScorer().getScore(category, dice));
+    }
+}
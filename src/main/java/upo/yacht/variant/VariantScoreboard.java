@@ -0,0 +1,135 @@
+package upo.yacht.variant;
+
+import upo.yacht.exceptions.YachtGameException;
+import upo.yacht.model.ScoreCard;
+
+/// Manages the scoring for a single player of a variant.
+///
+/// Works like `Scoreboard` for the categories of the variant, and adds the
+/// upper bonus once the `upper` categories reach the threshold. The upper
+/// points and the total are kept up to date as scores are registered.
+public class VariantScoreboard implements ScoreCard {
+    private final Variant variant;
+    private final int[] scores;
+    private int usedMask;
+    private int upperScore;
+    private int totalScore;
+
+    /// Creates an empty scoreboard with all categories of a variant available.
+    ///
+    /// @param variant the variant being played
+    public VariantScoreboard(Variant variant) {
+        this.variant = variant;
+        this.scores = new int[variant.getNumCategories()];
+    }
+
+    /// Registers a score for a specific category.
+    ///
+    /// @param categoryIndex the index of the category
+    /// @param points        the points to register for this category
+    /// @throws IllegalArgumentException if the category index is invalid
+    /// @throws YachtGameException       if the category is already filled
+    public void registerScore(int categoryIndex, int points) throws YachtGameException {
+        if (isCategoryUsed(categoryIndex)) {
+            throw new YachtGameException("Category " + variant.getCategoryName(categoryIndex) +
+                    " is already filled!");
+        }
+        scores[categoryIndex] = points;
+        usedMask |= 1 << categoryIndex;
+        totalScore += points;
+        if ((variant.getUpperMask() & (1 << categoryIndex)) != 0) {
+            int bonusBefore = getBonus();
+            upperScore += points;
+            totalScore += getBonus() - bonusBefore;
+        }
+    }
+
+    /// Returns the number of categories of the variant.
+    ///
+    /// @return the number of categories
+    @Override
+    public int getNumCategories() {
+        return scores.length;
+    }
+
+    /// Returns the name of a category of the variant.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the name given by the variant
+    @Override
+    public String getCategoryName(int categoryIndex) {
+        return variant.getCategoryName(categoryIndex);
+    }
+
+    /// Checks if a category has been used.
+    ///
+    /// @param categoryIndex the index to check
+    /// @return true if the category has been filled, false otherwise
+    /// @throws IllegalArgumentException if the category index is invalid
+    @Override
+    public boolean isCategoryUsed(int categoryIndex) {
+        if (categoryIndex < 0 || categoryIndex >= scores.length) {
+            throw new IllegalArgumentException("Invalid category index: " + categoryIndex + ". Must " +
+                    "be between 0 and " + (scores.length - 1));
+        }
+        return (usedMask & (1 << categoryIndex)) != 0;
+    }
+
+    /// Returns the set of used categories as a bit mask.
+    ///
+    /// @return bit i is set when category i has been filled
+    public int getUsedMask() {
+        return usedMask;
+    }
+
+    /// Returns whether every category has been filled.
+    ///
+    /// @return true at the end of the game
+    public boolean isFull() {
+        return usedMask == (1 << scores.length) - 1;
+    }
+
+    /// Gets the score for a specific category.
+    ///
+    /// @param categoryIndex the category index
+    /// @return the score for that category, or 0 if not yet filled
+    /// @throws IllegalArgumentException if the category index is invalid
+    @Override
+    public int getScore(int categoryIndex) {
+        isCategoryUsed(categoryIndex);
+        return scores[categoryIndex];
+    }
+
+    /// Returns the points scored in the upper categories.
+    ///
+    /// @return the sum of the upper scores, without the bonus
+    @Override
+    public int getUpperScore() {
+        return upperScore;
+    }
+
+    /// Returns the upper score needed for the bonus.
+    ///
+    /// @return the threshold of the variant, or 0 if it has no upper bonus
+    @Override
+    public int getBonusThreshold() {
+        return variant.getBonusThreshold();
+    }
+
+    /// Returns the upper bonus earned so far.
+    ///
+    /// @return the bonus points, or 0 if the threshold is not reached
+    @Override
+    public int getBonus() {
+        int threshold = getBonusThreshold();
+        return (threshold > 0 && upperScore >= threshold) ? variant.getBonusPoints() : 0;
+    }
+
+    /// Returns the total score, bonus included.
+    ///
+    /// @return the sum of all scores and the bonus
+    @Override
+    public int getTotalScore() {
+        return totalScore;
+    }
+}
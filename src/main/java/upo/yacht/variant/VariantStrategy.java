@@ -0,0 +1,25 @@
+package upo.yacht.variant;
+
+/// Decision-making for a player of a variant game.
+///
+/// The variant counterpart of `PlayerStrategy`: `VariantGame` asks the
+/// strategy which dice to reroll after every roll but the last, and which
+/// category to score at the end of the turn.
+public interface VariantStrategy {
+    /// Chooses which dice to reroll.
+    ///
+    /// @param player    the name of the player deciding
+    /// @param board     the scoreboard of the player
+    /// @param dice      the current dice values, first die first
+    /// @param rollsLeft how many rerolls are still allowed (at least 1)
+    /// @return the reroll mask (bit i set means die i is rerolled), or 0 to keep the dice
+    int chooseRerollMask(String player, VariantScoreboard board, int[] dice, int rollsLeft);
+
+    /// Chooses the category to score the final dice in.
+    ///
+    /// @param player the name of the player deciding
+    /// @param board  the scoreboard of the player
+    /// @param dice   the final dice values
+    /// @return the index of an unused category
+    int chooseCategory(String player, VariantScoreboard board, int[] dice);
+}